@@ -89,6 +89,18 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     """)
     List<Reservation> findMyTodayReservations(@Param("memberId") Long memberId, @Param("today") LocalDateTime today);
 
+    // 예매 공연이 열리는 공연장 ID (좌석까지 경로 안내용)
+    @Query("""
+        SELECT DISTINCT v.id
+        FROM Reservation r
+            JOIN r.concertDetail cd
+            JOIN cd.concert c
+            JOIN c.concertVenues cv
+            JOIN cv.venue v
+        WHERE r.id = :reservationId
+    """)
+    List<Long> findVenueIdsByReservationId(@Param("reservationId") Long reservationId);
+
     // 진단용 단순 쿼리 - cast나 venue 없어도 작동
     @Query("""
         SELECT r
@@ -0,0 +1,152 @@
+package com.umc.connext.domain.venue.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "pathfinding")
+@Getter
+@Setter
+public class PathFindingProperties {
+
+    private Search search = new Search();
+    private RouteCache routeCache = new RouteCache();
+    private RouteHandle routeHandle = new RouteHandle();
+    private Matrix matrix = new Matrix();
+    private Meetup meetup = new Meetup();
+    private Geometry geometry = new Geometry();
+    private CrossFloor crossFloor = new CrossFloor();
+    private Egress egress = new Egress();
+    private Congestion congestion = new Congestion();
+    private NavigationSession navigationSession = new NavigationSession();
+
+    public enum GridStrategy {
+        // 8방향 A* 후 시야 기반 직선화
+        A_STAR,
+        // 탐색 중에 시야 지름길을 만드는 any-angle 탐색 (직선화 불필요)
+        LAZY_THETA_STAR,
+        // 출발/도착 양쪽에서 동시에 넓히는 8방향 A* 후 직선화 (한쪽이 갇힌 경우 빨리 끝남)
+        BIDIRECTIONAL_A_STAR
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        // 격자 엔진의 같은 층 탐색 방식
+        private GridStrategy gridStrategy = GridStrategy.LAZY_THETA_STAR;
+        // 요청에 시간 한도가 없을 때 적용할 탐색 시간 한도 (0 이하면 무제한)
+        private long defaultTimeBudgetMs = 2000;
+        // 요청으로 지정할 수 있는 최대 탐색 시간 한도
+        private long maxTimeBudgetMs = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class RouteCache {
+        private boolean enabled = true;
+        // 캐시에 보관할 최대 경로 수 (초과 시 가장 오래 사용되지 않은 경로부터 제거)
+        private int maxEntries = 20000;
+    }
+
+    @Getter
+    @Setter
+    public static class RouteHandle {
+        // routeId로 보관할 최대 경로 수 (초과 시 가장 오래 사용되지 않은 경로부터 제거)
+        private int maxEntries = 5000;
+        // 마지막 조회/계산 이후 경로를 보관하는 시간
+        private long ttlSeconds = 600;
+    }
+
+    @Getter
+    @Setter
+    public static class Matrix {
+        private int maxSources = 50;
+        private int maxTargets = 200;
+        // includePaths 요청에서 경로를 만들어 줄 최대 쌍 수
+        private int maxRoutes = 100;
+        // 출발지별 탐색을 병렬로 수행할 스레드 수
+        private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        private long timeoutMs = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class Meetup {
+        private int maxMembers = 20;
+        // 임의 지점 모드에서 사람별 거리장을 병렬로 계산할 스레드 수
+        private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        private long timeoutMs = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class Geometry {
+        // SVG 적재 시 구역 폴리곤 단순화 허용 오차 (좌표 단위, 0이면 단순화하지 않음)
+        private double simplifyTolerance = 0.5;
+        // 이보다 면적이 작은 구역은 적재하지 않음
+        private double minArea = 1.0;
+    }
+
+    @Getter
+    @Setter
+    public static class CrossFloor {
+        // 층 간 경로에서 동시에 평가할 계단/엘리베이터 후보 수 (직선 거리 하한이 작은 순)
+        private int connectorCandidates = 4;
+        // 후보 구간 탐색을 병렬로 수행할 스레드 수
+        private int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        // 스레드가 모두 바쁠 때 대기시킬 구간 수 (가득 차면 요청 스레드가 직접 탐색한다)
+        private int queueCapacity = 64;
+    }
+
+    @Getter
+    @Setter
+    public static class Egress {
+        // 좌석표가 없는 좌석 구역에 구역 출입 지점으로 배치할 관객 수
+        private int agentsPerSection = 200;
+        private int maxAgents = 200000;
+        // 보행 속도 (좌표 단위/초)
+        private double walkingSpeed = 1.2;
+        private double timeStepSeconds = 0.5;
+        private double maxSeconds = 3600;
+        // 관문별 초당 통과 인원
+        private double exitFlowRate = 2.0;
+        private double stairFlowRate = 1.2;
+        private double elevatorFlowRate = 0.3;
+        // 관객 묶음 이동을 병렬로 수행할 스레드 수
+        private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    @Getter
+    @Setter
+    public static class Congestion {
+        // 혼잡도를 묶어 관리하는 블록 한 변의 셀 수
+        private int blockCells = 4;
+        // 보행 비용 배수가 최대가 되는 블록당 인원
+        private double saturationPerBlock = 8;
+        // 최대 추가 비용 비율 (3이면 가장 붐비는 블록을 4배 비용으로 본다)
+        private double maxPenalty = 3.0;
+        // 배수 발행 단위
+        private double quantum = 0.25;
+        // 밀도가 절반으로 줄어드는 시간
+        private long halfLifeSeconds = 120;
+        private long decayIntervalMs = 10000;
+        // 위치 ping 한 건이 더하는 인원, 세션당 ping 최소 간격
+        private double pingWeight = 1.0;
+        private long pingIntervalSeconds = 5;
+        // 세션이 따라잡을 수 있는 최대 블록 변경 수 (넘으면 처음부터 다시 계산)
+        private int changeLogSize = 4096;
+    }
+
+    @Getter
+    @Setter
+    public static class NavigationSession {
+        private int maxSessions = 500;
+        // 마지막 위치 갱신 이후 세션을 보관하는 시간
+        private long ttlSeconds = 900;
+        // 세션 하나가 가질 수 있는 최대 탐색 상태 수, 한 번의 재계산에서 펼칠 최대 노드 수
+        private int maxStates = 300000;
+        private int maxExpansions = 500000;
+    }
+}
@@ -1,10 +1,26 @@
 package com.umc.connext.domain.venue.controller;
 
 import com.umc.connext.common.code.SuccessCode;
+import com.umc.connext.common.enums.FacilityType;
 import com.umc.connext.common.response.Response;
+import com.umc.connext.domain.venue.dto.MeetupRequest;
+import com.umc.connext.domain.venue.dto.MeetupResponse;
+import com.umc.connext.domain.venue.dto.NavigationSessionResponse;
+import com.umc.connext.domain.venue.dto.NavigationStep;
+import com.umc.connext.domain.venue.dto.NearestFacilityResponse;
 import com.umc.connext.domain.venue.dto.PathFindingRequest;
 import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.dto.PathMatrixRequest;
+import com.umc.connext.domain.venue.dto.PathMatrixResponse;
+import com.umc.connext.domain.venue.dto.RouteSegmentResponse;
+import com.umc.connext.domain.venue.dto.SeatRouteResponse;
+import com.umc.connext.domain.venue.dto.SnapResponse;
+import com.umc.connext.domain.venue.service.MeetupService;
+import com.umc.connext.domain.venue.service.NavigationSessionService;
 import com.umc.connext.domain.venue.service.PathFindingService;
+import com.umc.connext.domain.venue.service.PathMatrixService;
+import com.umc.connext.domain.venue.service.SeatRouteService;
+import com.umc.connext.global.jwt.principal.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,19 +30,29 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Tag(name = "Path Finding", description = "공연장 내 경로 탐색 API")
 @RestController
+@Validated
 @RequestMapping("/venues/{venueId}/pathfinding")
 @RequiredArgsConstructor
 public class PathFindingController {
 
     private final PathFindingService pathFindingService;
+    private final PathMatrixService pathMatrixService;
+    private final SeatRouteService seatRouteService;
+    private final MeetupService meetupService;
+    private final NavigationSessionService navigationSessionService;
 
     @Operation(
             summary = "경로 찾기 (POST)",
@@ -84,18 +110,84 @@ public class PathFindingController {
             @Parameter(description = "도착 층", example = "2", required = true)
             @RequestParam Integer endFloor,
             @Parameter(description = "단계별 텍스트 안내 포함 여부")
-            @RequestParam(defaultValue = "false") boolean includeGuide
+            @RequestParam(defaultValue = "false") boolean includeGuide,
+            @Parameter(description = "탐색 시간 한도(ms). 넘기면 부분 경로를 반환하며, 비우면 서버 기본값", example = "1500")
+            @RequestParam(required = false) @Min(10) @Max(10000) Long timeBudgetMs
     ) {
         PathFindingRequest request = PathFindingRequest.builder()
                 .startX(startX).startY(startY).startFloor(startFloor)
                 .endX(endX).endY(endY).endFloor(endFloor)
                 .includeGuide(includeGuide)
+                .timeBudgetMs(timeBudgetMs)
                 .build();
 
         PathFindingResponse pathResponse = pathFindingService.findPath(venueId, request);
         return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, pathResponse));
     }
 
+    @Operation(
+            summary = "보관된 경로의 단계별 안내",
+            description = "경로 응답의 routeId로 턴바이턴 안내를 조회합니다. 경로를 다시 탐색하지 않으므로 "
+                    + "미리보기(includeGuide=false) 후 안내를 시작할 때 사용합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "경로 없음 (보관 기간 만료 또는 공연장 데이터 변경)")
+    })
+    @GetMapping("/routes/{routeId}/guide")
+    public ResponseEntity<Response<List<NavigationStep>>> getRouteGuide(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @Parameter(description = "경로 ID", required = true)
+            @PathVariable String routeId
+    ) {
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, pathFindingService.getRouteGuide(venueId, routeId)));
+    }
+
+    @Operation(
+            summary = "보관된 경로의 인코딩 폴리라인",
+            description = "경로 응답의 routeId로 층별 구간을 Encoded Polyline 문자열(x, y 순)로 조회합니다. "
+                    + "좌표 배열보다 응답이 작아 지도 위에 경로만 그릴 때 사용합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = RouteSegmentResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류"),
+            @ApiResponse(responseCode = "404", description = "경로 없음 (보관 기간 만료 또는 공연장 데이터 변경)")
+    })
+    @GetMapping("/routes/{routeId}/polyline")
+    public ResponseEntity<Response<RouteSegmentResponse>> getRoutePolyline(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @Parameter(description = "경로 ID", required = true)
+            @PathVariable String routeId,
+            @Parameter(description = "좌표 소수점 자릿수 (0~3)", example = "1")
+            @RequestParam(defaultValue = "1") @Min(0) @Max(3) int precision
+    ) {
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS,
+                pathFindingService.getRoutePolyline(venueId, routeId, precision)));
+    }
+
+    @Operation(
+            summary = "보관된 경로의 층별 구간",
+            description = "경로 응답의 routeId로 경로를 층별 구간(좌표 목록, 구간 거리)으로 나눠 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = RouteSegmentResponse.class))),
+            @ApiResponse(responseCode = "404", description = "경로 없음 (보관 기간 만료 또는 공연장 데이터 변경)")
+    })
+    @GetMapping("/routes/{routeId}/segments")
+    public ResponseEntity<Response<RouteSegmentResponse>> getRouteSegments(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @Parameter(description = "경로 ID", required = true)
+            @PathVariable String routeId
+    ) {
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS,
+                pathFindingService.getRouteSegments(venueId, routeId)));
+    }
+
     @Operation(
             summary = "좌표에서 특정 시설물까지 경로 찾기",
             description = "출발 좌표/층과 시설물 ID를 받아 해당 시설물까지의 경로를 탐색합니다."
@@ -128,4 +220,261 @@ public class PathFindingController {
         );
         return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, pathResponse));
     }
+
+    @Operation(
+            summary = "예매 좌석까지 경로 찾기",
+            description = "현재 좌표/층과 내 예매내역 ID를 받아 예매 좌석까지의 경로를 탐색합니다. "
+                    + "경로는 좌석으로 들어가는 통로 지점까지이며 마지막 구간은 좌표로 함께 내려줍니다. "
+                    + "좌석표에 없는 좌석이면 예매 구역의 출입 지점까지 안내합니다(matchType=SECTION)."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "경로 탐색 성공",
+                    content = @Content(schema = @Schema(implementation = SeatRouteResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증이 필요합니다"),
+            @ApiResponse(responseCode = "403", description = "본인의 예매내역이 아님"),
+            @ApiResponse(responseCode = "404", description = "예매내역 없음, 다른 공연장의 예매내역, 또는 좌석 위치 정보 없음")
+    })
+    @GetMapping("/to-seat/{reservationId}")
+    public ResponseEntity<Response<SeatRouteResponse>> findPathToReservedSeat(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @Parameter(description = "예매내역 ID", example = "42", required = true)
+            @PathVariable Long reservationId,
+
+            @Parameter(description = "출발 X 좌표", example = "123.45", required = true)
+            @RequestParam BigDecimal startX,
+            @Parameter(description = "출발 Y 좌표", example = "678.90", required = true)
+            @RequestParam BigDecimal startY,
+            @Parameter(description = "출발 층", example = "1", required = true)
+            @RequestParam Integer startFloor,
+            @Parameter(description = "단계별 텍스트 안내 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeGuide
+    ) {
+        if (userDetails == null) {
+            return ResponseEntity.status(401)
+                    .body(Response.fail(com.umc.connext.common.code.ErrorCode.UNAUTHORIZED));
+        }
+        SeatRouteResponse result = seatRouteService.routeToReservedSeat(
+                venueId, userDetails.getMemberId(), reservationId, startX, startY, startFloor, includeGuide
+        );
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, result));
+    }
+
+    @Operation(
+            summary = "가까운 시설물 조회",
+            description = "출발 좌표/층에서 보행 거리 기준으로 가장 가까운 특정 타입 시설물 N개를 조회합니다. "
+                    + "공연장 적재 시 미리 계산한 거리장을 사용하므로 후보마다 경로 탐색을 하지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류(파라미터 누락/형식 오류 등)"),
+            @ApiResponse(responseCode = "404", description = "공연장 또는 층 정보 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/nearest-facilities")
+    public ResponseEntity<Response<List<NearestFacilityResponse>>> findNearestFacilities(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+
+            @Parameter(description = "시설물 타입", example = "TOILET", required = true)
+            @RequestParam FacilityType type,
+            @Parameter(description = "출발 X 좌표", example = "123.45", required = true)
+            @RequestParam BigDecimal x,
+            @Parameter(description = "출발 Y 좌표", example = "678.90", required = true)
+            @RequestParam BigDecimal y,
+            @Parameter(description = "출발 층", example = "1", required = true)
+            @RequestParam Integer floor,
+            @Parameter(description = "조회 개수 (1~10)", example = "3")
+            @RequestParam(defaultValue = "3") @Min(1) @Max(10) int limit,
+            @Parameter(description = "각 시설물까지의 경로 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeRoute
+    ) {
+        List<NearestFacilityResponse> result = pathFindingService.findNearestFacilities(
+                venueId, type, x, y, floor, limit, includeRoute
+        );
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, result));
+    }
+
+    @Operation(
+            summary = "가장 가까운 출구 안내",
+            description = "현재 좌표/층에서 보행 거리 기준 가장 가까운 출구와 그 경로를 반환합니다. 위층에서는 계단/엘리베이터를 거쳐 안내합니다. "
+                    + "공연장 적재 시 미리 계산한 출구 흐름장을 따라가므로 경로 탐색 없이 응답하며, 관객이 동시에 요청해도 부담이 작습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = NearestFacilityResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류 또는 이동 가능한 영역 밖의 좌표"),
+            @ApiResponse(responseCode = "404", description = "공연장/층 정보 없음 또는 갈 수 있는 출구 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/to-exit")
+    public ResponseEntity<Response<NearestFacilityResponse>> findExitRoute(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+
+            @Parameter(description = "현재 X 좌표", example = "123.45", required = true)
+            @RequestParam BigDecimal x,
+            @Parameter(description = "현재 Y 좌표", example = "678.90", required = true)
+            @RequestParam BigDecimal y,
+            @Parameter(description = "현재 층", example = "1", required = true)
+            @RequestParam Integer floor
+    ) {
+        NearestFacilityResponse exit = pathFindingService.findExitRoute(venueId, x, y, floor);
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, exit));
+    }
+
+    @Operation(
+            summary = "좌표 보정 (snap)",
+            description = "좌표를 해당 층에서 가장 가까운 이동 가능 지점으로 보정합니다. 좌석 블록 안처럼 이동할 수 없는 곳을 가리키면 "
+                    + "가장 가까운 통로 지점을 돌려주며, 미리 계산한 표를 조회하므로 핀을 끄는 동안 반복 호출해도 됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "보정 성공",
+                    content = @Content(schema = @Schema(implementation = SnapResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류(파라미터 누락/형식 오류 등)"),
+            @ApiResponse(responseCode = "404", description = "공연장 또는 층 정보 없음")
+    })
+    @GetMapping("/snap")
+    public ResponseEntity<Response<SnapResponse>> snap(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+
+            @Parameter(description = "X 좌표", example = "345.7", required = true)
+            @RequestParam BigDecimal x,
+            @Parameter(description = "Y 좌표", example = "890.1", required = true)
+            @RequestParam BigDecimal y,
+            @Parameter(description = "층", example = "1", required = true)
+            @RequestParam Integer floor
+    ) {
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, pathFindingService.snap(venueId, x, y, floor)));
+    }
+
+    @Operation(
+            summary = "보행 거리 행렬 일괄 계산",
+            description = "여러 출발지 × 도착지 간 보행 거리를 한 번에 계산합니다. pairs를 지정하면 해당 쌍만 계산하며, "
+                    + "includePaths=true면 쌍별 경로도 함께 반환합니다. 요청 규모는 서버 설정 한도로 제한됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "계산 성공",
+                    content = @Content(schema = @Schema(implementation = PathMatrixResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류 또는 요청 규모 한도 초과"),
+            @ApiResponse(responseCode = "500", description = "서버 오류 또는 계산 시간 초과")
+    })
+    @PostMapping("/matrix")
+    public ResponseEntity<Response<PathMatrixResponse>> computeMatrix(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @RequestBody(
+                    description = "거리 행렬 요청 DTO",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = PathMatrixRequest.class))
+            )
+            @Valid @org.springframework.web.bind.annotation.RequestBody PathMatrixRequest request
+    ) {
+        PathMatrixResponse matrix = pathMatrixService.computeMatrix(venueId, request);
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, matrix));
+    }
+
+    @Operation(
+            summary = "일행 만남 장소 계산",
+            description = "일행 각자의 위치에서 함께 만나기 좋은 장소를 한 번에 계산합니다. facilityType을 주면 해당 타입 시설물 중에서, "
+                    + "없으면 이동 가능한 임의 지점 중에서 고르며, objective로 가장 오래 걷는 사람 기준(MIN_MAX) 또는 "
+                    + "전체 보행 거리 합 기준(MIN_SUM)을 선택합니다. concertDetailId를 주면 인터미션 안에 왕복할 수 있는지도 알려줍니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "계산 성공",
+                    content = @Content(schema = @Schema(implementation = MeetupResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류 또는 일행 수 한도 초과"),
+            @ApiResponse(responseCode = "404", description = "공연장/공연 회차 없음 또는 일행 모두가 갈 수 있는 장소 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류 또는 계산 시간 초과")
+    })
+    @PostMapping("/meetup")
+    public ResponseEntity<Response<MeetupResponse>> findMeetup(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @RequestBody(
+                    description = "만남 장소 계산 요청 DTO",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = MeetupRequest.class))
+            )
+            @Valid @org.springframework.web.bind.annotation.RequestBody MeetupRequest request
+    ) {
+        MeetupResponse meetup = meetupService.findMeetup(venueId, request);
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, meetup));
+    }
+
+    @Operation(
+            summary = "혼잡도 반영 안내 시작",
+            description = "출발/도착 좌표로 안내 세션을 만들고 현재 혼잡도를 반영한 경로를 반환합니다. "
+                    + "이후 위치 갱신 API로 현재 위치를 보내면 그 사이 혼잡도가 바뀐 구역만 다시 계산해 경로를 갱신합니다. "
+                    + "경로를 찾지 못하면 세션 없이 실패 경로만 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "세션 생성 성공",
+                    content = @Content(schema = @Schema(implementation = NavigationSessionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류 또는 이동 가능한 영역 밖의 좌표"),
+            @ApiResponse(responseCode = "404", description = "공연장/층 정보 없음 또는 서로 이어지지 않은 구역"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping("/sessions")
+    public ResponseEntity<Response<NavigationSessionResponse>> startNavigationSession(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @RequestBody(
+                    description = "경로 탐색 요청 DTO (includeGuide, timeBudgetMs는 사용하지 않음)",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = PathFindingRequest.class))
+            )
+            @Valid @org.springframework.web.bind.annotation.RequestBody PathFindingRequest request
+    ) {
+        NavigationSessionResponse session = navigationSessionService.start(venueId, request);
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, session));
+    }
+
+    @Operation(
+            summary = "안내 세션 위치 갱신",
+            description = "현재 위치를 보내고 목적지까지의 경로를 갱신합니다. 보낸 위치는 혼잡도 추정에도 쓰입니다. "
+                    + "공연장 정보가 바뀌었거나 세션이 만료되면 404를 반환하므로 안내를 다시 시작해야 합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "갱신 성공",
+                    content = @Content(schema = @Schema(implementation = NavigationSessionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류 또는 이동 가능한 영역 밖의 좌표"),
+            @ApiResponse(responseCode = "404", description = "세션 없음/만료 또는 목적지로 이어지지 않는 위치"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PutMapping("/sessions/{sessionId}/position")
+    public ResponseEntity<Response<NavigationSessionResponse>> moveNavigationSession(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @Parameter(description = "안내 세션 ID", required = true)
+            @PathVariable String sessionId,
+
+            @Parameter(description = "현재 X 좌표", example = "123.45", required = true)
+            @RequestParam BigDecimal x,
+            @Parameter(description = "현재 Y 좌표", example = "678.90", required = true)
+            @RequestParam BigDecimal y,
+            @Parameter(description = "현재 층", example = "1", required = true)
+            @RequestParam Integer floor
+    ) {
+        NavigationSessionResponse session = navigationSessionService.move(venueId, sessionId, x, y, floor);
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, session));
+    }
+
+    @Operation(summary = "안내 세션 종료", description = "안내 세션을 종료합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "종료 성공"),
+            @ApiResponse(responseCode = "404", description = "세션 없음/만료")
+    })
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Response<Void>> endNavigationSession(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @Parameter(description = "안내 세션 ID", required = true)
+            @PathVariable String sessionId
+    ) {
+        navigationSessionService.end(venueId, sessionId);
+        return ResponseEntity.ok(Response.<Void>success(SuccessCode.DELETE_SUCCESS));
+    }
 }
@@ -9,9 +9,14 @@ import com.umc.connext.domain.venue.repository.VenueFloorConfigRepository;
 import com.umc.connext.domain.venue.repository.VenueRepository;
 import com.umc.connext.domain.venue.repository.VenueSectionRepository;
 import com.umc.connext.domain.venue.repository.VenueFacilityRepository;
+import com.umc.connext.domain.venue.service.CongestionService;
+import com.umc.connext.domain.venue.service.EgressSimulationService;
 import com.umc.connext.domain.venue.service.FloorMappingService;
+import com.umc.connext.domain.venue.service.PathRouteCache;
 import com.umc.connext.domain.venue.service.SvgParserService;
 import com.umc.connext.domain.venue.service.VenueDataInitService;
+import com.umc.connext.domain.venue.service.VenueGeometrySnapshotService;
+import com.umc.connext.domain.venue.service.VenueSeatService;
 import com.umc.connext.domain.venue.dto.*;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +27,7 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
@@ -45,6 +51,11 @@ public class VenueAdminController {
     private final FloorMappingService floorMappingService;
     private final VenueDataInitService venueDataInitService;
     private final SvgParserService svgParserService;
+    private final VenueGeometrySnapshotService venueGeometrySnapshotService;
+    private final PathRouteCache pathRouteCache;
+    private final VenueSeatService venueSeatService;
+    private final EgressSimulationService egressSimulationService;
+    private final CongestionService congestionService;
 
     @Operation(summary = "공연장 목록 조회", description = "등록된 공연장 목록을 조회합니다.")
     @ApiResponses({
@@ -121,7 +132,11 @@ public class VenueAdminController {
                     if (request.name() != null) venue.setName(request.name());
                     if (request.address() != null) venue.setAddress(request.address());
                     if (request.totalFloors() != null) venue.setTotalFloors(request.totalFloors());
-                    return ResponseEntity.ok(Response.success(SuccessCode.UPDATE_SUCCESS, venueRepository.save(venue)));
+                    boolean engineChanged = request.pathEngine() != null && request.pathEngine() != venue.getPathEngine();
+                    if (engineChanged) venue.setPathEngine(request.pathEngine());
+                    Venue saved = venueRepository.save(venue);
+                    if (engineChanged) venueGeometrySnapshotService.invalidate(venueId);
+                    return ResponseEntity.ok(Response.success(SuccessCode.UPDATE_SUCCESS, saved));
                 })
                 .orElseGet(() -> ResponseEntity.ok(Response.fail(ErrorCode.NOT_FOUND)));
     }
@@ -149,6 +164,7 @@ public class VenueAdminController {
             floorMappingService.removeAllFloorConfigs(venueId);
             venueSectionRepository.deleteAllByVenueId(venueId);
             venueFacilityRepository.deleteAllByVenueId(venueId);
+            venueGeometrySnapshotService.invalidate(venueId);
         }
 
         VenueDataInitService.InitResult result = venueDataInitService.initializeFromSvg(venueId, svgFile);
@@ -159,6 +175,24 @@ public class VenueAdminController {
         }
     }
 
+    @Operation(summary = "좌석표 업로드",
+            description = "좌석별 좌표 CSV(floor,section,row,seat,x,y)를 업로드해 공연장 좌석표를 교체합니다. "
+                    + "section은 예매내역의 구역 표기와 같은 값이어야 하며, 예매 좌석까지 경로 안내에 사용됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "업로드 성공"),
+            @ApiResponse(responseCode = "400", description = "파일 형식 오류 또는 유효한 좌석 없음"),
+            @ApiResponse(responseCode = "404", description = "공연장 없음")
+    })
+    @PostMapping(value = "/{venueId}/seats", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Response<PathFindingAdminDTO.SeatImportResult>> uploadSeats(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @Parameter(description = "좌석표 CSV 파일 (UTF-8)", required = true)
+            @RequestParam("file") MultipartFile seatFile
+    ) {
+        return ResponseEntity.ok(Response.success(SuccessCode.INSERT_SUCCESS, venueSeatService.importSeats(venueId, seatFile)));
+    }
+
     @Operation(summary = "SVG 미리보기(저장 없음)", description = "SVG를 파싱만 수행하고 DB 저장 없이 파싱 결과를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "파싱 성공",
@@ -271,6 +305,7 @@ public class VenueAdminController {
         return venueRepository.findById(venueId)
                 .map(venue -> {
                     venueRepository.delete(venue);
+                    venueGeometrySnapshotService.invalidate(venueId);
                     return ResponseEntity.ok(Response.<Void>success(SuccessCode.DELETE_SUCCESS));
                 })
                 .orElseGet(() -> ResponseEntity.ok(Response.<Void>fail(ErrorCode.NOT_FOUND)));
@@ -305,4 +340,76 @@ public class VenueAdminController {
         return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, floors));
     }
 
+    @Operation(summary = "경로 캐시 통계 조회", description = "경로 탐색 결과 캐시의 적중률/제거 수 등 통계를 조회합니다. 캐시 용량 조정에 사용합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/pathfinding/route-cache")
+    public ResponseEntity<Response<PathFindingAdminDTO.RouteCacheStats>> getRouteCacheStats() {
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, pathRouteCache.stats()));
+    }
+
+    @Operation(summary = "고립 영역 진단",
+            description = "층별로 계단/엘리베이터를 포함한 주 동선에서 걸어서 닿을 수 없는 이동 가능 영역을 조회합니다. 이 영역의 출발/도착은 경로 탐색 시 가까운 주 동선으로 보정되거나 도달 불가로 응답됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/{venueId}/pathfinding/isolated-regions")
+    public ResponseEntity<Response<List<PathFindingAdminDTO.FloorIsolatedRegions>>> getIsolatedRegions(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId
+    ) {
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, venueGeometrySnapshotService.isolatedRegions(venueId)));
+    }
+
+    @Operation(summary = "대피 시뮬레이션",
+            description = "현재 공연장 배치에서 관객이 출구 흐름장을 따라 대피하는 과정을 시뮬레이션해 구역별 대피 시간과 병목(출구/계단/엘리베이터)을 조회합니다. "
+                    + "좌석표가 있으면 좌석마다 한 명, 없으면 좌석 구역마다 agentsPerSection명을 배치하며, 출구/계단은 초당 통과 인원으로 제한됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "시뮬레이션 성공"),
+            @ApiResponse(responseCode = "400", description = "배치할 관객이 없거나 관객 수 한도 초과"),
+            @ApiResponse(responseCode = "404", description = "공연장 또는 출구 정보 없음")
+    })
+    @PostMapping("/{venueId}/pathfinding/egress-simulation")
+    public ResponseEntity<Response<PathFindingAdminDTO.EgressSimulationResult>> simulateEgress(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @RequestBody(description = "시뮬레이션 조건 (생략 시 서버 기본값)", required = false)
+            @Valid @org.springframework.web.bind.annotation.RequestBody(required = false)
+            PathFindingAdminDTO.EgressSimulationRequest request
+    ) {
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, egressSimulationService.simulate(venueId, request)));
+    }
+
+    @Operation(summary = "혼잡도 지정",
+            description = "사각형 영역의 혼잡도(0~1)를 지정합니다. 혼잡도는 안내 세션 경로의 보행 비용에 반영되며, "
+                    + "지정한 값도 관객 위치로 추정한 값과 같이 시간이 지나면 줄어듭니다. 같은 영역을 다시 지정하면 덮어씁니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "반영 성공"),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류"),
+            @ApiResponse(responseCode = "404", description = "공연장 또는 층 정보 없음")
+    })
+    @PostMapping("/{venueId}/pathfinding/congestion")
+    public ResponseEntity<Response<PathFindingAdminDTO.CongestionStatus>> setCongestion(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @RequestBody(description = "혼잡도 지정 영역", required = true)
+            @Valid @org.springframework.web.bind.annotation.RequestBody
+            PathFindingAdminDTO.CongestionAreaRequest request
+    ) {
+        return ResponseEntity.ok(Response.success(SuccessCode.UPDATE_SUCCESS, congestionService.setArea(venueId, request)));
+    }
+
+    @Operation(summary = "혼잡도 초기화", description = "공연장의 모든 혼잡도를 지웁니다. 진행 중인 안내 세션은 다음 위치 갱신 때 원래 경로로 돌아갑니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "초기화 성공"),
+            @ApiResponse(responseCode = "404", description = "공연장 정보 없음")
+    })
+    @DeleteMapping("/{venueId}/pathfinding/congestion")
+    public ResponseEntity<Response<PathFindingAdminDTO.CongestionStatus>> clearCongestion(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId
+    ) {
+        return ResponseEntity.ok(Response.success(SuccessCode.DELETE_SUCCESS, congestionService.clear(venueId)));
+    }
 }
@@ -2,12 +2,16 @@ package com.umc.connext.domain.venue.controller;
 
 import com.umc.connext.common.code.ErrorCode;
 import com.umc.connext.common.code.SuccessCode;
+import com.umc.connext.common.enums.FacilityType;
 import com.umc.connext.common.exception.GeneralException;
 import com.umc.connext.common.response.Response;
 import com.umc.connext.domain.venue.converter.VenueConverter;
+import com.umc.connext.domain.venue.dto.LocateBatchRequest;
+import com.umc.connext.domain.venue.dto.LocateResponse;
 import com.umc.connext.domain.venue.dto.VenueLayoutResponse;
 import com.umc.connext.domain.venue.dto.VenueResDTO;
 import com.umc.connext.domain.venue.projection.SimpleVenue;
+import com.umc.connext.domain.venue.service.VenueLocationService;
 import com.umc.connext.domain.venue.service.VenueService;
 import com.umc.connext.global.jwt.principal.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,6 +21,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +31,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +43,7 @@ import java.util.Optional;
 public class VenueController implements VenueControllerDocs {
 
     private final VenueService venueService;
+    private final VenueLocationService venueLocationService;
 
     @Override
     @GetMapping("/search")
@@ -145,11 +154,13 @@ public class VenueController implements VenueControllerDocs {
 
     @Operation(
             summary = "공연장 레이아웃 조회",
-            description = "공연장의 SVG 레이아웃 정보를 조회합니다. 섹션, 시설물 좌표를 포함하여 프론트엔드에서 SVG 렌더링 및 경로 오버레이에 사용됩니다."
+            description = "공연장의 SVG 레이아웃 정보를 조회합니다. 섹션, 시설물 좌표를 포함하여 프론트엔드에서 SVG 렌더링 및 경로 오버레이에 사용됩니다. "
+                    + "minX/minY/maxX/maxY를 주면 해당 화면 영역과 겹치는 섹션과 영역 안의 시설물만 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = VenueLayoutResponse.class))),
+            @ApiResponse(responseCode = "400", description = "화면 영역 좌표 오류"),
             @ApiResponse(responseCode = "404", description = "공연장을 찾을 수 없음")
     })
     @GetMapping("/{venueId}/layout")
@@ -158,12 +169,71 @@ public class VenueController implements VenueControllerDocs {
             @PathVariable Long venueId,
 
             @Parameter(description = "특정 층만 조회 (미지정 시 전체)", example = "1")
-            @RequestParam(required = false) Integer floor
+            @RequestParam(required = false) Integer floor,
+
+            @Parameter(description = "화면 영역 최소 X (영역 조회 시 네 좌표 모두 지정)", example = "0")
+            @RequestParam(required = false) BigDecimal minX,
+            @Parameter(description = "화면 영역 최소 Y", example = "0")
+            @RequestParam(required = false) BigDecimal minY,
+            @Parameter(description = "화면 영역 최대 X", example = "800")
+            @RequestParam(required = false) BigDecimal maxX,
+            @Parameter(description = "화면 영역 최대 Y", example = "600")
+            @RequestParam(required = false) BigDecimal maxY
     ) {
-        VenueLayoutResponse layout = venueService.getVenueLayout(venueId, floor);
+        VenueLayoutResponse layout = venueService.getVenueLayout(venueId, floor, minX, minY, maxX, maxY);
         return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, layout));
     }
 
+    @Operation(
+            summary = "현재 위치 구역 조회",
+            description = "좌표가 속한 구역과 같은 층의 가까운 시설물을 조회합니다. 서버에 캐시된 공간 색인만 사용하므로 "
+                    + "위치가 갱신될 때마다 호출해도 됩니다. 요청 층에 구역이 없으면 좌표를 포함하는 가장 가까운 층으로 보정합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = LocateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류(파라미터 누락/형식 오류 등)"),
+            @ApiResponse(responseCode = "404", description = "공연장을 찾을 수 없음")
+    })
+    @GetMapping("/{venueId}/locate")
+    public ResponseEntity<Response<LocateResponse>> locate(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+
+            @Parameter(description = "X 좌표", example = "345.7", required = true)
+            @RequestParam BigDecimal x,
+            @Parameter(description = "Y 좌표", example = "890.1", required = true)
+            @RequestParam BigDecimal y,
+            @Parameter(description = "층", example = "1", required = true)
+            @RequestParam Integer floor,
+            @Parameter(description = "시설물 타입 필터 (미지정 시 전체)", example = "TOILET")
+            @RequestParam(required = false) FacilityType facilityType,
+            @Parameter(description = "시설물 개수 (0~10)", example = "3")
+            @RequestParam(defaultValue = "3") @Min(0) @Max(10) int facilityLimit
+    ) {
+        LocateResponse result = venueLocationService.locate(venueId, x, y, floor, facilityType, facilityLimit);
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, result));
+    }
+
+    @Operation(
+            summary = "현재 위치 구역 일괄 조회",
+            description = "여러 좌표의 구역과 가까운 시설물을 한 번에 조회합니다. 결과는 요청한 좌표 순서를 따릅니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "요청 값 오류 또는 좌표 개수 초과"),
+            @ApiResponse(responseCode = "404", description = "공연장을 찾을 수 없음")
+    })
+    @PostMapping("/{venueId}/locate/batch")
+    public ResponseEntity<Response<List<LocateResponse>>> locateBatch(
+            @Parameter(description = "공연장 ID", example = "1", required = true)
+            @PathVariable Long venueId,
+            @Valid @RequestBody LocateBatchRequest request
+    ) {
+        List<LocateResponse> result = venueLocationService.locateAll(venueId, request);
+        return ResponseEntity.ok(Response.success(SuccessCode.GET_SUCCESS, result));
+    }
+
     @Operation(
             summary = "공연장 기본 정보 조회",
             description = "공연장의 이름, 주소, SVG 크기 등 기본 정보만 조회합니다."
@@ -1,9 +1,13 @@
 package com.umc.connext.domain.venue.dto;
 
+import com.umc.connext.domain.venue.pathfinding.RoutePath;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Setter
@@ -43,10 +47,19 @@ public class Coordinate {
         this.floor = null;
     }
 
-    public double distanceTo(Coordinate other) {
-        double dx = this.x.doubleValue() - other.x.doubleValue();
-        double dy = this.y.doubleValue() - other.y.doubleValue();
-        return Math.sqrt(dx * dx + dy * dy);
+    /**
+     * 내부 경로 표현을 응답 좌표로 변환한다 (소수점 첫째 자리 반올림)
+     */
+    public static List<Coordinate> listOf(RoutePath path) {
+        List<Coordinate> coordinates = new ArrayList<>(path.size());
+        for (int i = 0; i < path.size(); i++) {
+            coordinates.add(new Coordinate(
+                    BigDecimal.valueOf(path.x(i)).setScale(1, RoundingMode.HALF_UP),
+                    BigDecimal.valueOf(path.y(i)).setScale(1, RoundingMode.HALF_UP),
+                    path.floor(i)
+            ));
+        }
+        return coordinates;
     }
 
     @Override
@@ -0,0 +1,37 @@
+package com.umc.connext.domain.venue.dto;
+
+import com.umc.connext.common.enums.FacilityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "LocateBatchRequest",
+        description = "여러 좌표 위치 일괄 조회 요청 DTO (여러 사용자/비콘 위치를 한 번에 조회)"
+)
+public class LocateBatchRequest {
+
+    @Schema(description = "조회할 좌표 목록 (x, y, floor)", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "좌표는 1개 이상이어야 합니다")
+    @Size(max = 100, message = "좌표는 최대 100개까지 조회할 수 있습니다")
+    private List<@NotNull Coordinate> points;
+
+    @Schema(description = "시설물 타입 필터 (미지정 시 전체)", example = "TOILET")
+    private FacilityType facilityType;
+
+    @Schema(description = "좌표별 시설물 개수 (0~10)", example = "3")
+    @Min(0)
+    @Max(10)
+    private Integer facilityLimit;
+}
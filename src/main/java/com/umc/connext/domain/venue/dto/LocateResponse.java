@@ -0,0 +1,71 @@
+package com.umc.connext.domain.venue.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umc.connext.common.enums.FacilityType;
+import com.umc.connext.common.enums.SectionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(
+        name = "LocateResponse",
+        description = "좌표 위치 조회 결과 (현재 구역 + 같은 층의 가까운 시설물)"
+)
+public class LocateResponse {
+
+    @Schema(description = "좌표가 속한 층 (요청 층에 구역이 없으면 보정된 층)", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer floor;
+
+    @Schema(description = "현재 구역 (어느 구역에도 속하지 않으면 생략)")
+    private SectionRef section;
+
+    @Schema(description = "같은 층의 가까운 시설물 (직선 거리 순)")
+    private List<NearbyFacility> facilities;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(name = "LocateSection", description = "좌표를 포함하는 가장 작은 구역")
+    public static class SectionRef {
+
+        @Schema(description = "구역 PK", example = "42", requiredMode = Schema.RequiredMode.REQUIRED)
+        private Long id;
+
+        @Schema(description = "SVG 구역 ID", example = "A-12", requiredMode = Schema.RequiredMode.REQUIRED)
+        private String sectionId;
+
+        @Schema(description = "구역 타입", example = "SEAT", requiredMode = Schema.RequiredMode.REQUIRED)
+        private SectionType type;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(name = "LocateFacility", description = "가까운 시설물")
+    public static class NearbyFacility {
+
+        @Schema(description = "시설물 ID", example = "10", requiredMode = Schema.RequiredMode.REQUIRED)
+        private Long id;
+
+        @Schema(description = "시설물 타입", example = "TOILET", requiredMode = Schema.RequiredMode.REQUIRED)
+        private FacilityType type;
+
+        @Schema(description = "시설물 이름", example = "여자 화장실")
+        private String name;
+
+        @Schema(description = "요청 좌표에서의 직선 거리", example = "35.2", requiredMode = Schema.RequiredMode.REQUIRED)
+        private BigDecimal distance;
+    }
+}
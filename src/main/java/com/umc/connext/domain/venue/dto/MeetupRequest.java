@@ -0,0 +1,42 @@
+package com.umc.connext.domain.venue.dto;
+
+import com.umc.connext.common.enums.FacilityType;
+import com.umc.connext.domain.venue.pathfinding.MeetupSearch;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "MeetupRequest",
+        description = "일행 만남 장소 계산 요청 DTO. facilityType을 주면 해당 타입 시설물 중에서, 없으면 이동 가능한 임의 지점 중에서 고릅니다."
+)
+public class MeetupRequest {
+
+    @Schema(description = "일행 각자의 현재 위치 (x, y, floor)", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "일행 위치는 필수입니다")
+    @Size(min = 2, message = "일행 위치는 2개 이상이어야 합니다")
+    private List<@Valid @NotNull Coordinate> members;
+
+    @Schema(description = "선택 기준 (MIN_MAX: 가장 오래 걷는 사람 기준, MIN_SUM: 전체 보행 거리 합 기준)", example = "MIN_MAX")
+    @Builder.Default
+    private MeetupSearch.Objective objective = MeetupSearch.Objective.MIN_MAX;
+
+    @Schema(description = "만남 장소로 쓸 시설물 타입 (없으면 이동 가능한 임의 지점)", example = "STORE")
+    private FacilityType facilityType;
+
+    @Schema(description = "공연 회차 ID. 주면 인터미션 시간 안에 왕복할 수 있는지 함께 알려줍니다.", example = "12")
+    private Long concertDetailId;
+
+    @Schema(description = "일행별 경로 포함 여부", example = "true")
+    @Builder.Default
+    private boolean includeRoutes = true;
+}
@@ -0,0 +1,73 @@
+package com.umc.connext.domain.venue.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umc.connext.common.enums.FacilityType;
+import com.umc.connext.domain.venue.pathfinding.MeetupSearch;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "MeetupResponse",
+        description = "일행 만남 장소 계산 결과. 보행 거리는 격자 기준 추정치이며 층 이동 비용을 포함합니다."
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MeetupResponse {
+
+    @Schema(description = "적용한 선택 기준", example = "MIN_MAX", requiredMode = Schema.RequiredMode.REQUIRED)
+    private MeetupSearch.Objective objective;
+
+    @Schema(description = "만남 장소 좌표", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Coordinate meetingPoint;
+
+    @Schema(description = "만남 장소 시설물 ID (facilityType 요청일 때만 존재)", example = "10")
+    private Long facilityId;
+
+    @Schema(description = "만남 장소 시설물 이름 (facilityType 요청일 때만 존재)", example = "1층 기념품판매대")
+    private String facilityName;
+
+    @Schema(description = "만남 장소 시설물 타입 (facilityType 요청일 때만 존재)", example = "STORE")
+    private FacilityType facilityType;
+
+    @Schema(description = "가장 오래 걷는 사람의 보행 거리", example = "142.5", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal maxDistance;
+
+    @Schema(description = "일행 전체 보행 거리 합", example = "388.0", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal totalDistance;
+
+    @Schema(description = "공연 회차의 인터미션(분) (concertDetailId 요청일 때만 존재)", example = "20")
+    private Integer intermissionMinutes;
+
+    @Schema(description = "가장 먼 사람이 인터미션 안에 만남 장소까지 왕복할 수 있는지 (concertDetailId 요청일 때만 존재)",
+            example = "true")
+    private Boolean fitsIntermission;
+
+    @Schema(description = "일행별 결과 (요청 순서)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Member> members;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(name = "MeetupMember", description = "일행 한 명의 만남 장소까지 보행 결과")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Member {
+
+        @Schema(description = "members 인덱스", example = "0", requiredMode = Schema.RequiredMode.REQUIRED)
+        private int index;
+
+        @Schema(description = "만남 장소까지 보행 거리", example = "142.5", requiredMode = Schema.RequiredMode.REQUIRED)
+        private BigDecimal distance;
+
+        @Schema(description = "만남 장소까지의 경로 (includeRoutes=true 일 때만 포함)")
+        private PathFindingResponse route;
+    }
+}
@@ -0,0 +1,39 @@
+package com.umc.connext.domain.venue.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "NavigationSessionResponse",
+        description = "혼잡도 반영 안내 세션의 현재 경로. 위치를 갱신할 때마다 바뀐 혼잡 구역만 다시 계산한 경로를 돌려줍니다."
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NavigationSessionResponse {
+
+    @Schema(description = "안내 세션 ID (경로를 찾지 못하면 세션을 만들지 않아 비어 있음)", example = "0f8c1d2e-6a51-4a8b-9b7e-3c2d1e0f9a84")
+    private String sessionId;
+
+    @Schema(description = "이번 계산에서 혼잡도 변화로 경로를 다시 맞췄는지", example = "true",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private boolean replanned;
+
+    @Schema(description = "마지막 계산 이후 비용이 바뀐 혼잡도 블록 수", example = "6", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int changedRegions;
+
+    @Schema(description = "이번 계산에서 펼친 노드 수", example = "412", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int expandedNodes;
+
+    @Schema(description = "혼잡도 가중치를 적용한 경로 비용 (혼잡이 없으면 격자 기준 보행 거리와 같음)", example = "318.5")
+    private BigDecimal weightedCost;
+
+    @Schema(description = "현재 위치에서 목적지까지의 경로", requiredMode = Schema.RequiredMode.REQUIRED)
+    private PathFindingResponse route;
+}
@@ -0,0 +1,49 @@
+package com.umc.connext.domain.venue.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umc.connext.common.enums.FacilityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "NearestFacilityResponse",
+        description = "가까운 시설물 조회 결과 (보행 거리 순)"
+)
+public class NearestFacilityResponse {
+
+    @Schema(description = "시설물 ID", example = "10", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long facilityId;
+
+    @Schema(description = "시설물 이름", example = "여자 화장실")
+    private String name;
+
+    @Schema(description = "시설물 타입", example = "TOILET", requiredMode = Schema.RequiredMode.REQUIRED)
+    private FacilityType type;
+
+    @Schema(description = "시설물이 위치한 층", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer floor;
+
+    @Schema(description = "X 좌표", example = "345.7", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal x;
+
+    @Schema(description = "Y 좌표", example = "890.1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal y;
+
+    @Schema(
+            description = "출발 지점에서의 보행 거리 (층 이동 비용 포함, 격자 기준 추정치)",
+            example = "182.5",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private BigDecimal walkingDistance;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "시설물까지의 경로 (includeRoute=true 일 때만 포함)")
+    private PathFindingResponse route;
+}
@@ -0,0 +1,209 @@
+package com.umc.connext.domain.venue.dto;
+
+import com.umc.connext.common.enums.FacilityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+
+import java.util.List;
+
+public class PathFindingAdminDTO {
+
+    @Builder
+    @Schema(name = "RouteCacheStats", description = "경로 캐시 통계")
+    public record RouteCacheStats(
+            @Schema(description = "캐시 사용 여부", example = "true")
+            boolean enabled,
+            @Schema(description = "현재 보관 중인 경로 수", example = "1532")
+            int size,
+            @Schema(description = "최대 보관 경로 수", example = "20000")
+            int maxEntries,
+            @Schema(description = "캐시 적중 수", example = "48211")
+            long hits,
+            @Schema(description = "캐시 미스 수", example = "3120")
+            long misses,
+            @Schema(description = "동일 요청 계산을 기다려 결과를 공유받은 수", example = "611")
+            long sharedLoads,
+            @Schema(description = "용량 초과로 제거된 경로 수", example = "0")
+            long evictions,
+            @Schema(description = "공연장 데이터 변경으로 제거된 경로 수", example = "87")
+            long invalidations,
+            @Schema(description = "적중률 (0~1)", example = "0.94")
+            double hitRate
+    ) {}
+
+    @Builder
+    @Schema(name = "FloorIsolatedRegions", description = "층별 고립 영역 진단 결과")
+    public record FloorIsolatedRegions(
+            @Schema(description = "층", example = "1")
+            int floor,
+            @Schema(description = "층 안의 연결 요소 수 (계단/엘리베이터 연결 전)", example = "14")
+            int componentCount,
+            @Schema(description = "이동 가능 셀 수", example = "48210")
+            int walkableCells,
+            @Schema(description = "주 동선에 닿지 않는 셀 수", example = "312")
+            int isolatedCells,
+            @Schema(description = "고립 영역 목록 (큰 순서)")
+            List<IsolatedRegion> regions
+    ) {}
+
+    @Builder
+    @Schema(name = "IsolatedRegion", description = "계단/엘리베이터를 포함한 주 동선에서 걸어서 닿을 수 없는 이동 가능 영역")
+    public record IsolatedRegion(
+            @Schema(description = "층 안의 연결 요소 번호", example = "3")
+            int componentId,
+            @Schema(description = "셀 수", example = "24")
+            int cells,
+            @Schema(description = "면적 (좌표 단위²)", example = "2400.0")
+            double area,
+            @Schema(description = "경계 사각형 최소 X", example = "120.0")
+            double minX,
+            @Schema(description = "경계 사각형 최소 Y", example = "340.0")
+            double minY,
+            @Schema(description = "경계 사각형 최대 X", example = "180.0")
+            double maxX,
+            @Schema(description = "경계 사각형 최대 Y", example = "380.0")
+            double maxY
+    ) {}
+
+    @Builder
+    @Schema(name = "SeatImportResult", description = "좌석표 업로드 결과")
+    public record SeatImportResult(
+            @Schema(description = "저장된 좌석 수", example = "4820")
+            int imported,
+            @Schema(description = "형식 오류로 건너뛴 줄 수", example = "3")
+            int invalidLines,
+            @Schema(description = "같은 좌석이 다시 나와 건너뛴 줄 수", example = "0")
+            int duplicates
+    ) {}
+
+    @Builder
+    @Schema(name = "EgressSimulationRequest", description = "대피 시뮬레이션 조건 (비워 둔 값은 서버 기본값 사용)")
+    public record EgressSimulationRequest(
+            @Schema(description = "좌석표가 없는 좌석 구역에 배치할 관객 수", example = "200")
+            @PositiveOrZero
+            Integer agentsPerSection,
+            @Schema(description = "보행 속도 (좌표 단위/초)", example = "1.2")
+            @Positive
+            Double walkingSpeed,
+            @Schema(description = "출구 하나의 초당 통과 인원", example = "2.0")
+            @Positive
+            Double exitFlowRate,
+            @Schema(description = "계단 하나의 초당 통과 인원", example = "1.2")
+            @Positive
+            Double stairFlowRate,
+            @Schema(description = "엘리베이터 하나의 초당 통과 인원", example = "0.3")
+            @Positive
+            Double elevatorFlowRate,
+            @Schema(description = "시뮬레이션 최대 시간 (초)", example = "3600")
+            @Positive
+            Double maxSeconds
+    ) {}
+
+    @Builder
+    @Schema(name = "EgressSimulationResult", description = "대피 시뮬레이션 결과")
+    public record EgressSimulationResult(
+            @Schema(description = "배치한 관객 수", example = "24000")
+            int agents,
+            @Schema(description = "출구를 빠져나간 관객 수", example = "24000")
+            int evacuated,
+            @Schema(description = "어느 출구에도 걸어서 닿을 수 없는 관객 수", example = "0")
+            int unreachable,
+            @Schema(description = "마지막 관객이 빠져나간 시각 (초, 최대 시간에 도달하면 최대 시간)", example = "842.5")
+            double totalSeconds,
+            @Schema(description = "시간 단계 수", example = "1685")
+            int steps,
+            @Schema(description = "계산 소요 시간 (ms)", example = "1240")
+            long elapsedMs,
+            @Schema(description = "구역별 대피 시간 (느린 순)")
+            List<EgressSectionTime> sections,
+            @Schema(description = "관문별 통과 기록 (대기 시간 합이 큰 순 = 병목 순)")
+            List<EgressBottleneck> bottlenecks
+    ) {}
+
+    @Builder
+    @Schema(name = "EgressSectionTime", description = "좌석 구역 하나의 대피 시간")
+    public record EgressSectionTime(
+            @Schema(description = "구역", example = "A")
+            String section,
+            @Schema(description = "배치한 관객 수", example = "480")
+            int agents,
+            @Schema(description = "빠져나간 관객 수", example = "480")
+            int evacuated,
+            @Schema(description = "출구에 닿을 수 없는 관객 수", example = "0")
+            int unreachable,
+            @Schema(description = "평균 대피 시간 (초)", example = "312.4")
+            double meanSeconds,
+            @Schema(description = "90% 관객의 대피 시간 (초)", example = "455.0")
+            double p90Seconds,
+            @Schema(description = "마지막 관객의 대피 시간 (초)", example = "501.5")
+            double maxSeconds
+    ) {}
+
+    @Builder
+    @Schema(name = "EgressBottleneck", description = "출구/계단/엘리베이터 하나의 통과 기록")
+    public record EgressBottleneck(
+            @Schema(description = "시설물 ID", example = "12")
+            Long facilityId,
+            @Schema(description = "시설물 이름", example = "중앙 계단")
+            String name,
+            @Schema(description = "시설물 타입", example = "STAIRS")
+            FacilityType type,
+            @Schema(description = "시설물 층", example = "2")
+            int floor,
+            @Schema(description = "초당 통과 인원", example = "1.2")
+            double flowRate,
+            @Schema(description = "통과한 관객 수", example = "5210")
+            int passed,
+            @Schema(description = "최대 대기 인원", example = "1830")
+            int maxQueue,
+            @Schema(description = "1인당 평균 대기 시간 (초)", example = "96.3")
+            double averageWaitSeconds,
+            @Schema(description = "가장 오래 기다린 관객의 대기 시간 (초)", example = "410.0")
+            double maxWaitSeconds,
+            @Schema(description = "마지막 관객이 통과한 시각 (초)", example = "780.5")
+            double lastPassSeconds
+    ) {}
+
+    @Builder
+    @Schema(name = "CongestionAreaRequest", description = "사각형 영역의 혼잡도 지정 (현장 인력/CCTV 판단 입력용)")
+    public record CongestionAreaRequest(
+            @Schema(description = "층", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+            @NotNull
+            Integer floor,
+            @Schema(description = "영역 최소 X", example = "100.0", requiredMode = Schema.RequiredMode.REQUIRED)
+            @NotNull
+            Double minX,
+            @Schema(description = "영역 최소 Y", example = "200.0", requiredMode = Schema.RequiredMode.REQUIRED)
+            @NotNull
+            Double minY,
+            @Schema(description = "영역 최대 X", example = "180.0", requiredMode = Schema.RequiredMode.REQUIRED)
+            @NotNull
+            Double maxX,
+            @Schema(description = "영역 최대 Y", example = "260.0", requiredMode = Schema.RequiredMode.REQUIRED)
+            @NotNull
+            Double maxY,
+            @Schema(description = "혼잡도 (0: 한산 ~ 1: 포화). 지정한 값도 시간이 지나면 줄어듭니다.", example = "0.8",
+                    requiredMode = Schema.RequiredMode.REQUIRED)
+            @NotNull
+            @DecimalMin("0.0")
+            @DecimalMax("1.0")
+            Double level
+    ) {}
+
+    @Builder
+    @Schema(name = "CongestionStatus", description = "공연장 혼잡도 반영 결과")
+    public record CongestionStatus(
+            @Schema(description = "이번 요청으로 비용 배수가 바뀐 블록 수", example = "12")
+            int changedBlocks,
+            @Schema(description = "현재 혼잡한(배수 1 초과) 블록 수", example = "37")
+            int congestedBlocks,
+            @Schema(description = "혼잡도 블록 한 변의 길이 (좌표 단위)", example = "40.0")
+            double blockSize
+    ) {}
+}
+
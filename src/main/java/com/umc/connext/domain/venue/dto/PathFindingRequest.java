@@ -1,6 +1,8 @@
 package com.umc.connext.domain.venue.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -67,6 +69,15 @@ public class PathFindingRequest {
 
     private boolean includeGuide;
 
+    @Schema(
+            description = "탐색 시간 한도(ms). 넘기면 목적지에 가장 가까이 간 지점까지의 부분 경로를 돌려준다. 비우면 서버 기본값",
+            example = "1500",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    @Min(value = 10, message = "탐색 시간 한도는 10ms 이상이어야 합니다")
+    @Max(value = 10000, message = "탐색 시간 한도는 10000ms 이하여야 합니다")
+    private Long timeBudgetMs;
+
     public boolean isSameFloor() {
         return startFloor.equals(endFloor);
     }
@@ -1,10 +1,14 @@
 package com.umc.connext.domain.venue.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umc.connext.domain.venue.enums.PathFailureReason;
+import com.umc.connext.domain.venue.pathfinding.RoutePath;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,6 +37,21 @@ public class PathFindingResponse {
     )
     private String errorMessage;
 
+    @Schema(
+            description = "실패 원인 (실패 시에만 존재)",
+            example = "UNREACHABLE",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PathFailureReason failureReason;
+
+    @Schema(
+            description = "부분 경로 여부. 탐색 한도에 걸려 목적지에 가장 가까이 간 지점까지만 담긴 경우 true",
+            example = "false",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private boolean partial;
+
     @Schema(
             description = "경로를 구성하는 좌표 목록 (순서대로 연결)",
             requiredMode = Schema.RequiredMode.REQUIRED
@@ -95,6 +114,39 @@ public class PathFindingResponse {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<NavigationStep> navigationSteps;
 
+    @Schema(
+            description = "경로 ID. 잠시 서버에 보관되며, 이 ID로 안내/인코딩 폴리라인/층별 구간을 다시 탐색하지 않고 조회할 수 있다",
+            example = "3f1c2a9e-6b7d-4e0f-9a51-2d8c4b7e1f60",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String routeId;
+
+    /**
+     * coordinates의 원본 (double 좌표). 안내 생성 등 서버 내부 계산용이며 응답에는 포함되지 않는다.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private RoutePath path;
+
+    public static PathFindingResponse success(RoutePath path, Integer floor) {
+        PathFindingResponse response = success(Coordinate.listOf(path), totalDistanceOf(path), floor);
+        response.setPath(path);
+        return response;
+    }
+
+    public static PathFindingResponse successMultiFloor(
+            RoutePath path,
+            Integer startFloor,
+            Integer endFloor,
+            List<FloorTransition> transitions
+    ) {
+        PathFindingResponse response = successMultiFloor(
+                Coordinate.listOf(path), totalDistanceOf(path), startFloor, endFloor, transitions);
+        response.setPath(path);
+        return response;
+    }
+
     public static PathFindingResponse success(
             List<Coordinate> coordinates,
             BigDecimal totalDistance,
@@ -142,9 +194,14 @@ public class PathFindingResponse {
     }
 
     public static PathFindingResponse fail(String errorMessage) {
+        return fail(null, errorMessage);
+    }
+
+    public static PathFindingResponse fail(PathFailureReason reason, String errorMessage) {
         return PathFindingResponse.builder()
                 .success(false)
                 .errorMessage(errorMessage)
+                .failureReason(reason)
                 .coordinates(new ArrayList<>())
                 .totalDistance(BigDecimal.ZERO)
                 .nodeCount(0)
@@ -153,6 +210,66 @@ public class PathFindingResponse {
                 .build();
     }
 
+    /**
+     * 탐색 한도에 걸렸을 때 목적지 방향으로 가장 멀리 간 지점까지의 경로. 성공으로 보지 않으므로 캐시되지 않는다.
+     */
+    public static PathFindingResponse partial(PathFailureReason reason, String errorMessage, PathFindingResponse route) {
+        return PathFindingResponse.builder()
+                .success(false)
+                .partial(true)
+                .errorMessage(errorMessage)
+                .failureReason(reason)
+                .coordinates(route.getCoordinates())
+                .totalDistance(route.getTotalDistance())
+                .nodeCount(route.getNodeCount())
+                .startFloor(route.getStartFloor())
+                .endFloor(route.getEndFloor())
+                .startPoint(route.getStartPoint())
+                .endPoint(route.getEndPoint())
+                .floorTransitions(route.getFloorTransitions())
+                .multiFloor(route.isMultiFloor())
+                .path(route.getPath())
+                .build();
+    }
+
+    /**
+     * 같은 경로에 안내만 붙인 사본. 캐시된 응답은 여러 요청이 공유하므로 직접 고치지 않는다.
+     */
+    public PathFindingResponse withNavigationSteps(List<NavigationStep> steps) {
+        return copy().navigationSteps(steps).build();
+    }
+
+    /**
+     * 같은 경로에 routeId만 바꿔 붙인 사본 (캐시된 응답을 요청마다 다른 id로 보관할 때)
+     */
+    public PathFindingResponse withRouteId(String routeId) {
+        return copy().routeId(routeId).build();
+    }
+
+    private PathFindingResponseBuilder copy() {
+        return PathFindingResponse.builder()
+                .success(success)
+                .errorMessage(errorMessage)
+                .failureReason(failureReason)
+                .partial(partial)
+                .coordinates(coordinates)
+                .totalDistance(totalDistance)
+                .nodeCount(nodeCount)
+                .startFloor(startFloor)
+                .endFloor(endFloor)
+                .startPoint(startPoint)
+                .endPoint(endPoint)
+                .floorTransitions(floorTransitions)
+                .multiFloor(multiFloor)
+                .navigationSteps(navigationSteps)
+                .routeId(routeId)
+                .path(path);
+    }
+
+    private static BigDecimal totalDistanceOf(RoutePath path) {
+        return BigDecimal.valueOf(path.length()).setScale(2, RoundingMode.HALF_UP);
+    }
+
     public boolean isEmpty() {
         return coordinates == null || coordinates.isEmpty();
     }
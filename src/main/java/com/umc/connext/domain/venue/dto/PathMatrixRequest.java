@@ -0,0 +1,51 @@
+package com.umc.connext.domain.venue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "PathMatrixRequest",
+        description = "여러 출발지 × 도착지 간 보행 거리 일괄 계산 요청 DTO. pairs를 주면 지정한 쌍만 계산합니다."
+)
+public class PathMatrixRequest {
+
+    @Schema(description = "출발 좌표 목록 (x, y, floor)", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "출발 좌표는 1개 이상이어야 합니다")
+    private List<@Valid @NotNull Coordinate> sources;
+
+    @Schema(description = "도착 좌표 목록 (x, y, floor)", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "도착 좌표는 1개 이상이어야 합니다")
+    private List<@Valid @NotNull Coordinate> targets;
+
+    @Schema(description = "계산할 (출발 인덱스, 도착 인덱스) 쌍 목록. 비어 있으면 전체 행렬을 계산합니다.")
+    private List<@Valid @NotNull Pair> pairs;
+
+    @Schema(description = "각 쌍의 경로 좌표 포함 여부", example = "false")
+    private boolean includePaths;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PathMatrixPair", description = "출발/도착 인덱스 쌍")
+    public static class Pair {
+
+        @Schema(description = "sources 인덱스", example = "0", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull
+        private Integer source;
+
+        @Schema(description = "targets 인덱스", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull
+        private Integer target;
+    }
+}
@@ -0,0 +1,54 @@
+package com.umc.connext.domain.venue.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "PathMatrixResponse",
+        description = "출발지 × 도착지 보행 거리 행렬 응답 DTO"
+)
+public class PathMatrixResponse {
+
+    @Schema(description = "출발지 수", example = "3", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int sourceCount;
+
+    @Schema(description = "도착지 수", example = "5", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int targetCount;
+
+    @Schema(
+            description = "distances[i][j]: i번째 출발지에서 j번째 도착지까지의 보행 거리 (층 이동 비용 포함). "
+                    + "도달할 수 없거나 계산하지 않은 쌍은 null",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<List<BigDecimal>> distances;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "쌍별 경로 (includePaths=true 일 때만 포함)")
+    private List<Entry> routes;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(name = "PathMatrixEntry", description = "출발/도착 쌍별 경로")
+    public static class Entry {
+
+        @Schema(description = "sources 인덱스", example = "0")
+        private int source;
+
+        @Schema(description = "targets 인덱스", example = "2")
+        private int target;
+
+        @Schema(description = "경로 (도달 불가면 success=false)")
+        private PathFindingResponse route;
+    }
+}
@@ -0,0 +1,63 @@
+package com.umc.connext.domain.venue.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "RouteSegmentResponse",
+        description = "보관된 경로(routeId)를 층별 구간으로 나눈 응답. 좌표 목록 또는 인코딩 폴리라인 중 요청한 형식만 담긴다."
+)
+public class RouteSegmentResponse {
+
+    @Schema(description = "경로 ID", example = "3f1c2a9e-6b7d-4e0f-9a51-2d8c4b7e1f60", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String routeId;
+
+    @Schema(description = "전체 경로 거리", example = "245.73", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal totalDistance;
+
+    @Schema(description = "인코딩 폴리라인의 소수점 자릿수 (polyline 형식일 때만 존재)", example = "1",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer precision;
+
+    @Schema(description = "층별 구간 목록 (경로 순서)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Segment> segments;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(name = "RouteSegment", description = "한 층 안에서 이어지는 경로 구간")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Segment {
+
+        @Schema(description = "층", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+        private Integer floor;
+
+        @Schema(description = "전체 경로에서 구간 첫 좌표의 인덱스", example = "0", requiredMode = Schema.RequiredMode.REQUIRED)
+        private int startIndex;
+
+        @Schema(description = "전체 경로에서 구간 마지막 좌표의 인덱스", example = "12", requiredMode = Schema.RequiredMode.REQUIRED)
+        private int endIndex;
+
+        @Schema(description = "구간 거리", example = "118.40", requiredMode = Schema.RequiredMode.REQUIRED)
+        private BigDecimal distance;
+
+        @Schema(description = "구간 좌표 목록 (segments 형식일 때만 존재)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        private List<Coordinate> coordinates;
+
+        @Schema(description = "구간의 인코딩 폴리라인 (x, y 순, polyline 형식일 때만 존재)", example = "_p~iF~ps|U_ulLnnqC",
+                requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        private String polyline;
+    }
+}
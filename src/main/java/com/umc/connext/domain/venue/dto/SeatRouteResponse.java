@@ -0,0 +1,58 @@
+package com.umc.connext.domain.venue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "SeatRouteResponse",
+        description = "예매 좌석까지의 경로 응답. 경로(route)는 좌석으로 들어가는 통로 지점까지이며, 마지막 구간(통로 → 좌석)은 직선으로 붙인다."
+)
+public class SeatRouteResponse {
+
+    public enum MatchType {
+        // 좌석표에서 열/번호까지 찾음
+        SEAT,
+        // 좌석표에 없어 구역 출입 지점으로 안내
+        SECTION
+    }
+
+    @Schema(description = "예매내역 ID", example = "42", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long reservationId;
+
+    @Schema(description = "좌석 위치를 찾은 방식", example = "SEAT", requiredMode = Schema.RequiredMode.REQUIRED)
+    private MatchType matchType;
+
+    @Schema(description = "예매 층", example = "1")
+    private Integer floor;
+
+    @Schema(description = "예매 구역", example = "A")
+    private String section;
+
+    @Schema(description = "예매 열", example = "12")
+    private String row;
+
+    @Schema(description = "예매 좌석 번호", example = "7")
+    private Integer seat;
+
+    @Schema(description = "좌석 좌표 (SECTION이면 구역 출입 지점)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Coordinate seatPoint;
+
+    @Schema(description = "좌석으로 들어가는 통로 지점 (route의 도착점)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Coordinate approachPoint;
+
+    @Schema(description = "통로 지점에서 좌석까지의 직선 거리", example = "6.5", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal lastLegDistance;
+
+    @Schema(description = "전체 거리 (route 거리 + 마지막 구간, 경로를 찾지 못하면 null)", example = "251.2")
+    private BigDecimal totalDistance;
+
+    @Schema(description = "현재 위치에서 통로 지점까지의 경로", requiredMode = Schema.RequiredMode.REQUIRED)
+    private PathFindingResponse route;
+}
@@ -0,0 +1,36 @@
+package com.umc.connext.domain.venue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "SnapResponse",
+        description = "좌표 보정 결과 (가장 가까운 이동 가능 지점)"
+)
+public class SnapResponse {
+
+    @Schema(description = "반경 안에 이동 가능한 지점이 있는지", example = "true", requiredMode = Schema.RequiredMode.REQUIRED)
+    private boolean found;
+
+    @Schema(description = "원래 좌표에서 옮겨졌는지 (이미 이동 가능한 곳이면 false)", example = "true", requiredMode = Schema.RequiredMode.REQUIRED)
+    private boolean moved;
+
+    @Schema(description = "보정된 X 좌표 (찾지 못하면 요청 좌표)", example = "345.0", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal x;
+
+    @Schema(description = "보정된 Y 좌표 (찾지 못하면 요청 좌표)", example = "895.0", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal y;
+
+    @Schema(description = "층", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer floor;
+
+    @Schema(description = "요청 좌표에서 보정된 좌표까지의 거리", example = "7.1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal distance;
+}
@@ -1,5 +1,6 @@
 package com.umc.connext.domain.venue.dto;
 
+import com.umc.connext.domain.venue.enums.PathEngineType;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public class VenueRequest {
@@ -59,7 +60,13 @@ public class VenueRequest {
                     description = "활성 여부",
                     example = "true"
             )
-            Boolean isActive
+            Boolean isActive,
+
+            @Schema(
+                    description = "경로 탐색 엔진 (GRID, NAVMESH)",
+                    example = "NAVMESH"
+            )
+            PathEngineType pathEngine
     ) {}
 
     @Schema(
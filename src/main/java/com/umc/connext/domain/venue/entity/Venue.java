@@ -2,6 +2,7 @@ package com.umc.connext.domain.venue.entity;
 
 import com.umc.connext.common.entity.BaseEntity;
 import com.umc.connext.domain.concert.entity.ConcertVenue;
+import com.umc.connext.domain.venue.enums.PathEngineType;
 import com.umc.connext.domain.venue.enums.VenueType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
@@ -73,6 +74,12 @@ public class Venue extends BaseEntity {
     @Builder.Default
     private VenueType venueType = VenueType.CONCERT_HALL;
 
+    @Column(name = "path_engine", nullable = false, columnDefinition = "VARCHAR(20) DEFAULT 'GRID'")
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Schema(description = "경로 탐색 엔진", example = "GRID", defaultValue = "GRID")
+    private PathEngineType pathEngine = PathEngineType.GRID;
+
     @Column(name = "latitude")
     private Double latitude;
 
@@ -0,0 +1,64 @@
+package com.umc.connext.domain.venue.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(
+        name = "venue_seats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uq_venue_seat",
+                columnNames = {"venue_id", "floor", "section_id", "seat_row", "seat_number"}
+        ),
+        indexes = {
+                @Index(name = "idx_venue_seat_floor", columnList = "venue_id, floor")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(
+        name = "VenueSeat",
+        description = "공연장 좌석 좌표 엔티티 (예매내역의 층/구역/열/번호를 공연장 좌표로 연결)"
+)
+public class VenueSeat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Schema(description = "좌석 ID", example = "1000", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+
+    @Column(name = "venue_id", nullable = false)
+    @Schema(description = "공연장 ID", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long venueId;
+
+    @Column(name = "floor", nullable = false)
+    @Schema(description = "층", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer floor;
+
+    @Column(name = "section_id", length = 50, nullable = false)
+    @Schema(description = "구역 ID (VenueSection.sectionId, 예매내역의 section과 같은 값)", example = "A",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private String sectionId;
+
+    @Column(name = "seat_row", length = 20, nullable = false)
+    @Schema(description = "열", example = "12", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String row;
+
+    @Column(name = "seat_number", nullable = false)
+    @Schema(description = "좌석 번호", example = "7", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer seatNumber;
+
+    @Column(name = "x", precision = 10, scale = 1, nullable = false)
+    @Schema(description = "X 좌표", example = "345.6", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal x;
+
+    @Column(name = "y", precision = 10, scale = 1, nullable = false)
+    @Schema(description = "Y 좌표", example = "890.1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal y;
+}
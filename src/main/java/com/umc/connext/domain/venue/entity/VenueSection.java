@@ -2,6 +2,7 @@ package com.umc.connext.domain.venue.entity;
 
 import com.umc.connext.common.enums.SectionType;
 import com.umc.connext.domain.venue.dto.Coordinate;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -81,6 +82,16 @@ public class VenueSection {
     @Schema(description = "섹션 중심 Y 좌표", example = "300.0")
     private BigDecimal centerY;
 
+    /**
+     * 구역 폴리곤 (MySQL 내부 형식 = SRID + WKB, MySqlGeometryCodec으로 변환).
+     * 기존 행이 있는 테이블에도 추가될 수 있도록 NULL 허용으로 매핑하고, backfill로 모두 채워진 뒤
+     * db/venue-section-geometry.sql이 NOT NULL로 바꾸고 SPATIAL INDEX(sidx_venue_section_geom)를 건다.
+     */
+    @JsonIgnore
+    @Column(name = "geom", columnDefinition = "GEOMETRY SRID 0")
+    @Schema(hidden = true)
+    private byte[] geom;
+
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     @Transient
@@ -0,0 +1,9 @@
+package com.umc.connext.domain.venue.enums;
+
+/**
+ * 공연장별 경로 탐색 엔진
+ * GRID: 고정 크기 격자 A* + 직선화, NAVMESH: 삼각분할 메시 + funnel
+ */
+public enum PathEngineType {
+    GRID, NAVMESH
+}
@@ -0,0 +1,19 @@
+package com.umc.connext.domain.venue.enums;
+
+/**
+ * 경로 탐색 실패 원인
+ */
+public enum PathFailureReason {
+    // 해당 층의 지도 데이터가 없음
+    NO_FLOOR_DATA,
+    // 출발지 또는 도착지 근처에 이동 가능한 지점이 없음
+    START_OR_END_BLOCKED,
+    // 출발지와 도착지가 서로 이어지지 않은 영역에 있음
+    UNREACHABLE,
+    // 탐색 시간 한도 초과
+    TIME_BUDGET_EXCEEDED,
+    // 탐색 노드 수 한도 초과
+    SEARCH_LIMIT_EXCEEDED,
+    // 층을 잇는 계단/엘리베이터가 없음
+    NO_CONNECTOR
+}
@@ -0,0 +1,7 @@
+package com.umc.connext.domain.venue.event;
+
+/**
+ * 공연장 구역/시설물/층 설정이 바뀌어 경로 탐색용 기하 스냅샷이 폐기되었음을 알린다.
+ */
+public record VenueGeometryChangedEvent(Long venueId) {
+}
@@ -0,0 +1,146 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * WalkabilityGrid 위의 양방향 A*.
+ * 출발점과 도착점에서 동시에 탐색하며, 두 방향 모두 평균 포텐셜 p(v) = (h_goal(v) - h_start(v)) / 2를 써서
+ * 축소 비용이 음이 아니게 만든다 (Ikeda et al.). 이 경우 양방향 Dijkstra의 종료 조건
+ * "정방향 최소 키 + 역방향 최소 키 ≥ 지금까지의 최단 만남 비용"이 그대로 성립한다.
+ * 막힌 목적지 주변처럼 한쪽 탐색 공간이 작으면 그쪽이 먼저 소진되어 도달 불가를 빨리 판정한다.
+ */
+public final class BidirectionalAStar {
+
+    private static final double SQRT2 = Math.sqrt(2.0);
+    private static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+
+    private BidirectionalAStar() {
+    }
+
+    public static SearchResult search(WalkabilityGrid grid, int startCell, int goalCell, SearchBudget budget) {
+        if (grid.isBlocked(startCell) || grid.isBlocked(goalCell)) return SearchResult.unreachable();
+        if (startCell == goalCell) return SearchResult.found(new int[]{startCell});
+
+        GridSpec spec = grid.spec();
+        Potential potential = new Potential(spec, startCell, goalCell);
+
+        try (SearchContext forward = SearchContext.acquire(spec.cellCount());
+             SearchContext backward = SearchContext.acquire(spec.cellCount())) {
+            forward.visit(startCell, 0.0, -1);
+            forward.open.insertOrDecrease(startCell, potential.of(startCell));
+            backward.visit(goalCell, 0.0, -1);
+            backward.open.insertOrDecrease(goalCell, -potential.of(goalCell));
+
+            double best = Double.POSITIVE_INFINITY;
+            int meetForward = -1;
+            int meetBackward = -1;
+            int closest = startCell;
+            double closestH = Double.POSITIVE_INFINITY;
+
+            while (!forward.open.isEmpty() && !backward.open.isEmpty()) {
+                if (forward.open.minKey() + backward.open.minKey() >= best) break;
+                if (!budget.tick()) return SearchResult.exhausted(reconstruct(forward, closest));
+
+                // 열린 노드가 적은 쪽을 먼저 넓힌다
+                boolean expandForward = forward.open.size() <= backward.open.size();
+                SearchContext self = expandForward ? forward : backward;
+                SearchContext other = expandForward ? backward : forward;
+                double sign = expandForward ? 1.0 : -1.0;
+
+                int current = self.open.poll();
+                self.markClosed(current);
+                if (expandForward) {
+                    double h = potential.toGoal(current);
+                    if (h < closestH) {
+                        closestH = h;
+                        closest = current;
+                    }
+                }
+
+                int col = spec.colOf(current);
+                int row = spec.rowOf(current);
+                double currentG = self.g[current];
+                for (int d = 0; d < DX.length; d++) {
+                    int dx = DX[d];
+                    int dy = DY[d];
+                    if (!grid.canStep(col, row, dx, dy)) continue;
+                    int next = spec.cell(col + dx, row + dy);
+                    double tentative = currentG + ((dx != 0 && dy != 0) ? spec.cellSize() * SQRT2 : spec.cellSize());
+
+                    double meet = tentative + other.costOf(next);
+                    if (meet < best) {
+                        best = meet;
+                        meetForward = expandForward ? current : next;
+                        meetBackward = expandForward ? next : current;
+                    }
+                    if (self.isClosed(next) || tentative >= self.costOf(next)) continue;
+                    self.visit(next, tentative, current);
+                    self.open.insertOrDecrease(next, tentative + sign * potential.of(next));
+                }
+            }
+
+            if (meetForward < 0) {
+                return budget.timedOut() ? SearchResult.exhausted(reconstruct(forward, closest)) : SearchResult.unreachable();
+            }
+            return SearchResult.found(join(forward, meetForward, backward, meetBackward));
+        }
+    }
+
+    /**
+     * start → meetForward (정방향 부모) + meetBackward → goal (역방향 부모)
+     */
+    private static int[] join(SearchContext forward, int meetForward, SearchContext backward, int meetBackward) {
+        int head = 0;
+        for (int node = meetForward; node != -1; node = forward.parent[node]) head++;
+        int tail = 0;
+        if (meetBackward != meetForward) {
+            for (int node = meetBackward; node != -1; node = backward.parent[node]) tail++;
+        }
+        int[] path = new int[head + tail];
+        for (int node = meetForward, i = head - 1; node != -1; node = forward.parent[node], i--) {
+            path[i] = node;
+        }
+        if (tail > 0) {
+            for (int node = meetBackward, i = head; node != -1; node = backward.parent[node], i++) {
+                path[i] = node;
+            }
+        }
+        return path;
+    }
+
+    private static int[] reconstruct(SearchContext ctx, int node) {
+        return join(ctx, node, ctx, node);
+    }
+
+    /**
+     * 평균 포텐셜. octile 거리가 8방향 격자에서 일관적이므로 그 차의 절반도 일관적이다.
+     */
+    private static final class Potential {
+
+        private final GridSpec spec;
+        private final int startCol;
+        private final int startRow;
+        private final int goalCol;
+        private final int goalRow;
+        private final double straight;
+        private final double diagonal;
+
+        Potential(GridSpec spec, int startCell, int goalCell) {
+            this.spec = spec;
+            this.startCol = spec.colOf(startCell);
+            this.startRow = spec.rowOf(startCell);
+            this.goalCol = spec.colOf(goalCell);
+            this.goalRow = spec.rowOf(goalCell);
+            this.straight = spec.cellSize();
+            this.diagonal = straight * SQRT2;
+        }
+
+        double toGoal(int cell) {
+            return GridAStar.octile(spec.colOf(cell), spec.rowOf(cell), goalCol, goalRow, straight, diagonal);
+        }
+
+        double of(int cell) {
+            double toStart = GridAStar.octile(spec.colOf(cell), spec.rowOf(cell), startCol, startRow, straight, diagonal);
+            return (toGoal(cell) - toStart) * 0.5;
+        }
+    }
+}
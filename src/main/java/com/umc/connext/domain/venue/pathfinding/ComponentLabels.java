@@ -0,0 +1,151 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 한 층 이동 가능 셀의 연결 요소 번호.
+ * 대각 이동은 양쪽 직교 셀이 모두 비어 있어야 하므로 8방향 도달 가능성은 4방향 연결성과 같다.
+ * 출발/도착 셀의 번호가 다르면 탐색 없이 O(1)로 "도달 불가"를 판정할 수 있다.
+ * 요소마다 셀 수와 경계 사각형(셀 단위)을 함께 보관해 고립 영역 진단에 쓴다.
+ */
+public final class ComponentLabels {
+
+    public static final int BLOCKED = -1;
+
+    private static final int[] DX = {0, 0, 1, -1};
+    private static final int[] DY = {1, -1, 0, 0};
+
+    private final GridSpec spec;
+    private final int[] labels;
+    private final int[] sizes;
+    // 요소별 [minCol, minRow, maxCol, maxRow]
+    private final int[] bounds;
+
+    private ComponentLabels(GridSpec spec, int[] labels, int[] sizes, int[] bounds) {
+        this.spec = spec;
+        this.labels = labels;
+        this.sizes = sizes;
+        this.bounds = bounds;
+    }
+
+    public static ComponentLabels label(WalkabilityGrid grid) {
+        GridSpec spec = grid.spec();
+        int[] labels = new int[spec.cellCount()];
+        Arrays.fill(labels, BLOCKED);
+        int[] sizes = new int[16];
+        int[] bounds = new int[16 * 4];
+        int count = 0;
+        int[] stack = new int[64];
+
+        for (int seed = 0; seed < labels.length; seed++) {
+            if (labels[seed] != BLOCKED || grid.isBlocked(seed)) continue;
+            int label = count++;
+            if (label == sizes.length) {
+                sizes = Arrays.copyOf(sizes, sizes.length * 2);
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            int minCol = Integer.MAX_VALUE, minRow = Integer.MAX_VALUE;
+            int maxCol = Integer.MIN_VALUE, maxRow = Integer.MIN_VALUE;
+            labels[seed] = label;
+            int top = 0;
+            stack[top++] = seed;
+            while (top > 0) {
+                int cell = stack[--top];
+                sizes[label]++;
+                int col = spec.colOf(cell);
+                int row = spec.rowOf(cell);
+                minCol = Math.min(minCol, col);
+                minRow = Math.min(minRow, row);
+                maxCol = Math.max(maxCol, col);
+                maxRow = Math.max(maxRow, row);
+                for (int d = 0; d < DX.length; d++) {
+                    if (grid.isBlocked(col + DX[d], row + DY[d])) continue;
+                    int next = spec.cell(col + DX[d], row + DY[d]);
+                    if (labels[next] != BLOCKED) continue;
+                    labels[next] = label;
+                    if (top == stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+                    stack[top++] = next;
+                }
+            }
+            bounds[label * 4] = minCol;
+            bounds[label * 4 + 1] = minRow;
+            bounds[label * 4 + 2] = maxCol;
+            bounds[label * 4 + 3] = maxRow;
+        }
+        return new ComponentLabels(spec, labels, Arrays.copyOf(sizes, count), Arrays.copyOf(bounds, count * 4));
+    }
+
+    /**
+     * 셀의 연결 요소 번호 (막힌 셀이면 BLOCKED)
+     */
+    public int labelOf(int cell) {
+        return labels[cell];
+    }
+
+    public int componentCount() {
+        return sizes.length;
+    }
+
+    /**
+     * 연결 요소의 셀 수
+     */
+    public int sizeOf(int label) {
+        return sizes[label];
+    }
+
+    public int minCol(int label) {
+        return bounds[label * 4];
+    }
+
+    public int minRow(int label) {
+        return bounds[label * 4 + 1];
+    }
+
+    public int maxCol(int label) {
+        return bounds[label * 4 + 2];
+    }
+
+    public int maxRow(int label) {
+        return bounds[label * 4 + 3];
+    }
+
+    /**
+     * 두 셀이 모두 이동 가능하고 서로 걸어서 닿을 수 있는지
+     */
+    public boolean connected(int cellA, int cellB) {
+        int a = labels[cellA];
+        return a != BLOCKED && a == labels[cellB];
+    }
+
+    /**
+     * fromCell에서 maxRadius 셀 이내(체비셰프)에 있는 label 요소의 셀 중 셀 중심 거리가 가장 가까운 셀 (없으면 -1)
+     */
+    public int nearestCellIn(int fromCell, int label, int maxRadius) {
+        return nearestCellWhere(fromCell, candidate -> candidate == label, maxRadius);
+    }
+
+    /**
+     * fromCell에서 maxRadius 셀 이내에 있으면서 번호가 accept를 만족하는 셀 중 가장 가까운 셀 (없으면 -1).
+     * 반경이 작으므로 창 전체를 훑는다.
+     */
+    public int nearestCellWhere(int fromCell, IntPredicate accept, int maxRadius) {
+        int col = spec.colOf(fromCell);
+        int row = spec.rowOf(fromCell);
+        int best = -1;
+        long bestDistance = Long.MAX_VALUE;
+        for (int r = Math.max(0, row - maxRadius), rowEnd = Math.min(spec.rows() - 1, row + maxRadius); r <= rowEnd; r++) {
+            for (int c = Math.max(0, col - maxRadius), colEnd = Math.min(spec.cols() - 1, col + maxRadius); c <= colEnd; c++) {
+                int cell = spec.cell(c, r);
+                int label = labels[cell];
+                if (label == BLOCKED || !accept.test(label)) continue;
+                long distance = (long) (c - col) * (c - col) + (long) (r - row) * (r - row);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = cell;
+                }
+            }
+        }
+        return best;
+    }
+}
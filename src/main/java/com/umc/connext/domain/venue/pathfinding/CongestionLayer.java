@@ -0,0 +1,195 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * 층별 혼잡도 비용 층.
+ * 격자를 blockCells × blockCells 셀 블록으로 묶어 블록마다 인원 밀도를 들고 있고,
+ * 밀도를 포화 인원 대비 비율로 바꿔 보행 비용 배수(1 ~ 1 + maxPenalty)를 quantum 단위로 발행한다.
+ * 배수가 실제로 바뀐 블록만 변경 기록(ring)에 남기므로, 내비게이션 세션은 마지막으로 본 순번 이후에 바뀐 블록만 다시 계산하면 된다.
+ * 밀도는 위치 ping이나 관리자 입력으로 올라가고, 주기적인 decay로 시간이 지나면 줄어든다.
+ */
+public final class CongestionLayer {
+
+    private final GridSpec spec;
+    private final int layerCount;
+    private final int blockCells;
+    private final int blockCols;
+    private final int blockRows;
+    private final int blocksPerLayer;
+    private final double saturation;
+    private final double maxPenalty;
+    private final double quantum;
+
+    private final float[] density;
+    // 탐색 스레드는 잠금 없이 읽는다. 최신 값은 changedSince()에서 잠금을 잡는 시점에 맞춰진다.
+    private final float[] multiplier;
+    private final int[] changeLog;
+    private long sequence;
+    private int congestedBlocks;
+
+    /**
+     * @param saturation 배수가 최대가 되는 블록당 인원
+     * @param maxPenalty 최대 추가 비용 비율 (3이면 가장 붐비는 블록은 4배)
+     * @param quantum    배수 발행 단위 (작은 밀도 변화로 세션이 다시 계산하지 않도록)
+     */
+    public CongestionLayer(GridSpec spec, int layerCount, int blockCells, double saturation, double maxPenalty,
+                           double quantum, int changeLogSize) {
+        this.spec = spec;
+        this.layerCount = layerCount;
+        this.blockCells = Math.max(1, blockCells);
+        this.blockCols = (spec.cols() + this.blockCells - 1) / this.blockCells;
+        this.blockRows = (spec.rows() + this.blockCells - 1) / this.blockCells;
+        this.blocksPerLayer = blockCols * blockRows;
+        this.saturation = saturation;
+        this.maxPenalty = maxPenalty;
+        this.quantum = quantum;
+        this.density = new float[layerCount * blocksPerLayer];
+        this.multiplier = new float[layerCount * blocksPerLayer];
+        Arrays.fill(multiplier, 1.0f);
+        this.changeLog = new int[Math.max(16, changeLogSize)];
+    }
+
+    /**
+     * 보행 비용 배수 (1 이상)
+     */
+    public double multiplierOf(int node) {
+        return multiplier[blockOfNode(node)];
+    }
+
+    /**
+     * 노드의 블록이나 이웃 블록이 붐비는지 (경로 직선화에서 지우면 안 되는 지점 판단용)
+     */
+    public boolean nearCongestion(int node) {
+        int cell = node % spec.cellCount();
+        int base = (node / spec.cellCount()) * blocksPerLayer;
+        int bc = spec.colOf(cell) / blockCells;
+        int br = spec.rowOf(cell) / blockCells;
+        for (int dr = -1; dr <= 1; dr++) {
+            int r = br + dr;
+            if (r < 0 || r >= blockRows) continue;
+            for (int dc = -1; dc <= 1; dc++) {
+                int c = bc + dc;
+                if (c < 0 || c >= blockCols) continue;
+                if (multiplier[base + r * blockCols + c] > 1.0f) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 위치 ping 한 건을 반영한다.
+     */
+    public synchronized void addObservation(int layer, double x, double y, double weight) {
+        int block = blockAt(layer, x, y);
+        if (block < 0) return;
+        density[block] += (float) weight;
+        publish(block);
+    }
+
+    /**
+     * 사각형 영역의 혼잡도를 직접 지정한다 (level은 포화 대비 비율 0~1). 바뀐 블록 수를 돌려준다.
+     */
+    public synchronized int setLevel(int layer, double minX, double minY, double maxX, double maxY, double level) {
+        if (layer < 0 || layer >= layerCount) return 0;
+        int minCol = clamp(spec.col(Math.min(minX, maxX)) / blockCells, blockCols);
+        int maxCol = clamp(spec.col(Math.max(minX, maxX)) / blockCells, blockCols);
+        int minRow = clamp(spec.row(Math.min(minY, maxY)) / blockCells, blockRows);
+        int maxRow = clamp(spec.row(Math.max(minY, maxY)) / blockCells, blockRows);
+        float value = (float) (Math.max(0.0, Math.min(1.0, level)) * saturation);
+        int changed = 0;
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int block = layer * blocksPerLayer + r * blockCols + c;
+                density[block] = value;
+                if (publish(block)) changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 모든 블록의 밀도에 factor(0~1)를 곱한다.
+     */
+    public synchronized void decay(double factor) {
+        for (int block = 0; block < density.length; block++) {
+            if (density[block] == 0f) continue;
+            density[block] *= (float) factor;
+            if (density[block] < 0.01f) density[block] = 0f;
+            publish(block);
+        }
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(density, 0f);
+        for (int block = 0; block < density.length; block++) publish(block);
+    }
+
+    public synchronized long sequence() {
+        return sequence;
+    }
+
+    /**
+     * since 이후 배수가 바뀐 블록 목록 (중복 제거). 기록이 이미 덮어써졌으면 null이며, 이때는 처음부터 다시 계산해야 한다.
+     */
+    public synchronized int[] changedSince(long since) {
+        long count = sequence - since;
+        if (count <= 0) return new int[0];
+        if (count > changeLog.length) return null;
+        int[] blocks = new int[(int) count];
+        for (long s = since; s < sequence; s++) {
+            blocks[(int) (s - since)] = changeLog[(int) (s % changeLog.length)];
+        }
+        return Arrays.stream(blocks).distinct().toArray();
+    }
+
+    public synchronized int congestedBlockCount() {
+        return congestedBlocks;
+    }
+
+    public int layerOfBlock(int block) {
+        return block / blocksPerLayer;
+    }
+
+    /**
+     * 블록이 덮는 셀 범위 {minCol, minRow, maxCol, maxRow} (격자 경계에서 잘림)
+     */
+    public int[] cellBounds(int block) {
+        int local = block % blocksPerLayer;
+        int minCol = (local % blockCols) * blockCells;
+        int minRow = (local / blockCols) * blockCells;
+        return new int[]{minCol, minRow,
+                Math.min(spec.cols() - 1, minCol + blockCells - 1), Math.min(spec.rows() - 1, minRow + blockCells - 1)};
+    }
+
+    private boolean publish(int block) {
+        double ratio = Math.min(1.0, density[block] / saturation);
+        float next = (float) (1.0 + Math.round(maxPenalty * ratio / quantum) * quantum);
+        float previous = multiplier[block];
+        if (next == previous) return false;
+        multiplier[block] = next;
+        if (previous == 1.0f) congestedBlocks++;
+        if (next == 1.0f) congestedBlocks--;
+        changeLog[(int) (sequence % changeLog.length)] = block;
+        sequence++;
+        return true;
+    }
+
+    private int blockOfNode(int node) {
+        int cell = node % spec.cellCount();
+        return (node / spec.cellCount()) * blocksPerLayer
+                + (spec.rowOf(cell) / blockCells) * blockCols + spec.colOf(cell) / blockCells;
+    }
+
+    private int blockAt(int layer, double x, double y) {
+        if (layer < 0 || layer >= layerCount) return -1;
+        int col = spec.col(x);
+        int row = spec.row(y);
+        if (col < 0 || col >= spec.cols() || row < 0 || row >= spec.rows()) return -1;
+        return layer * blocksPerLayer + (row / blockCells) * blockCols + col / blockCells;
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+}
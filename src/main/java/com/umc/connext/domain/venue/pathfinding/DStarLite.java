@@ -0,0 +1,396 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * 비용이 바뀌는 그래프에서 경로를 고쳐 쓰는 D* Lite (Koenig &amp; Likhachev).
+ * 도착점에서 거꾸로 탐색해 두고, 사용자가 움직이면 출발점만 옮기고(km 보정), 비용이 바뀌면 영향을 받은 노드만 다시 맞춘다.
+ * 그래서 안내 중 재탐색은 처음 탐색보다 훨씬 적은 노드만 펼친다.
+ * 간선 비용은 기본 보행 비용 × 양 끝 노드 비용 배수의 평균이며, 배수는 1 이상이어야 휴리스틱이 허용적이다.
+ * 상태(g, rhs)는 실제로 건드린 노드만 해시로 들고 있어, 세션을 여러 개 열어 두어도 그래프 크기만큼 메모리를 쓰지 않는다.
+ * 한 인스턴스는 한 스레드에서만 사용한다.
+ */
+public final class DStarLite {
+
+    /**
+     * 노드 비용 배수 (1 이상)
+     */
+    @FunctionalInterface
+    public interface CostModel {
+        double multiplier(int node);
+    }
+
+    private static final double INF = Double.POSITIVE_INFINITY;
+    // 같은 경로 위 노드의 k1(g + h)은 수학적으로 같아도 더하는 순서에 따라 끝자리가 달라지므로, 이 범위 안은 같은 k1로 보고 k2로 가른다
+    private static final double KEY_EPSILON = 1e-9;
+    private static final double SQRT2 = Math.sqrt(2.0);
+    private static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+
+    private final VenueGraph graph;
+    private final GridSpec spec;
+    private final CostModel cost;
+    private final int goal;
+    private final int maxStates;
+
+    private int start;
+    private double km;
+    private LayeredAStar.Heuristic heuristic;
+    private int lastExpanded;
+    private int bestNext;
+
+    // 노드 → 지역 상태 번호 (열린 주소 해시)
+    private int[] slotKeys;
+    private int[] slotValues;
+    private int stateCount;
+    private int[] nodeOf;
+    private double[] g;
+    private double[] rhs;
+    private int[] heapPosition;
+
+    // 상태 번호를 담는 (k1, k2) 사전순 최소 힙
+    private int[] heap;
+    private double[] key1;
+    private double[] key2;
+    private int heapSize;
+
+    public DStarLite(VenueGraph graph, int start, int goal, CostModel cost, int maxStates) {
+        this.graph = graph;
+        this.spec = graph.spec();
+        this.cost = cost;
+        this.goal = goal;
+        this.maxStates = maxStates;
+        this.start = start;
+        this.heuristic = new LayeredAStar.Heuristic(graph, start);
+
+        int capacity = 1024;
+        slotKeys = new int[capacity * 2];
+        slotValues = new int[capacity * 2];
+        Arrays.fill(slotKeys, -1);
+        nodeOf = new int[capacity];
+        g = new double[capacity];
+        rhs = new double[capacity];
+        heapPosition = new int[capacity];
+        heap = new int[capacity];
+        key1 = new double[capacity];
+        key2 = new double[capacity];
+
+        int s = stateOf(goal);
+        rhs[s] = 0.0;
+        push(s);
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int goal() {
+        return goal;
+    }
+
+    /**
+     * 마지막 computeShortestPath에서 펼친 노드 수
+     */
+    public int lastExpanded() {
+        return lastExpanded;
+    }
+
+    public int stateCount() {
+        return stateCount;
+    }
+
+    /**
+     * 출발점을 옮길 때마다 누적한 키 보정값 (옮긴 거리의 휴리스틱 합)
+     */
+    double km() {
+        return km;
+    }
+
+    /**
+     * 출발점에서 도착점까지의 비용 (경로가 없으면 +Infinity)
+     */
+    public double costToGoal() {
+        return gOf(start);
+    }
+
+    /**
+     * 출발점(현재 위치)을 옮긴다. 이미 계산된 값은 그대로 두고 키 보정값 km만 늘린다.
+     */
+    public void moveStart(int node) {
+        if (node == start) return;
+        km += heuristic.estimate(node);
+        start = node;
+        heuristic = new LayeredAStar.Heuristic(graph, node);
+    }
+
+    /**
+     * 격자 셀 범위의 비용이 바뀌었음을 알린다. 범위 안 노드와 그 이웃(들어오는 간선의 시작점)의 rhs를 다시 맞춘다.
+     */
+    public void regionChanged(int layer, int minCol, int minRow, int maxCol, int maxRow) {
+        int base = layer * spec.cellCount();
+        int fromCol = Math.max(0, minCol - 1);
+        int toCol = Math.min(spec.cols() - 1, maxCol + 1);
+        int fromRow = Math.max(0, minRow - 1);
+        int toRow = Math.min(spec.rows() - 1, maxRow + 1);
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = fromCol; col <= toCol; col++) {
+                int node = base + spec.cell(col, row);
+                updateVertex(node);
+                // 계단/엘리베이터 반대편 노드도 이 노드로 들어오는 간선 비용이 바뀐다
+                for (int e = graph.edgeBegin(node), end = graph.edgeEnd(node); e < end; e++) {
+                    updateVertex(graph.edgeTarget(e));
+                }
+            }
+        }
+    }
+
+    /**
+     * 출발점이 일관될 때까지 펼친다. 상태 수나 펼친 노드 수가 한도를 넘으면 false.
+     */
+    public boolean computeShortestPath(int maxExpansions) {
+        lastExpanded = 0;
+        int startState = stateOf(start);
+        while (heapSize > 0) {
+            int top = heap[0];
+            double startK1 = Math.min(g[startState], rhs[startState]) + km;
+            double startK2 = Math.min(g[startState], rhs[startState]);
+            boolean topBeforeStart = less(key1[top], key2[top], startK1, startK2);
+            if (!topBeforeStart && rhs[startState] == g[startState]) break;
+            if (++lastExpanded > maxExpansions || stateCount > maxStates) return false;
+
+            int u = top;
+            double oldK1 = key1[u];
+            double oldK2 = key2[u];
+            double newK2 = Math.min(g[u], rhs[u]);
+            double newK1 = newK2 + heuristic.estimate(nodeOf[u]) + km;
+            if (less(oldK1, oldK2, newK1, newK2)) {
+                key1[u] = newK1;
+                key2[u] = newK2;
+                siftDown(heapPosition[u]);
+            } else if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                pop();
+                updateNeighbors(nodeOf[u]);
+            } else {
+                g[u] = INF;
+                updateVertex(nodeOf[u]);
+                updateNeighbors(nodeOf[u]);
+            }
+            // 상태 배열이 늘어나면 번호가 바뀌지 않으므로 그대로 쓸 수 있다
+            startState = stateOf(start);
+        }
+        return true;
+    }
+
+    /**
+     * 출발점에서 g 값을 따라 도착점까지 내려간 노드 경로. 경로가 없으면 null.
+     */
+    public int[] path() {
+        if (Double.isInfinite(gOf(start))) return null;
+        int[] path = new int[64];
+        int length = 0;
+        int current = start;
+        path[length++] = current;
+        int guard = stateCount + 1;
+        while (current != goal) {
+            if (--guard < 0 || Double.isInfinite(minSuccessor(current))) return null;
+            if (length == path.length) path = Arrays.copyOf(path, length * 2);
+            path[length++] = bestNext;
+            current = bestNext;
+        }
+        return Arrays.copyOf(path, length);
+    }
+
+    private void updateVertex(int node) {
+        if (graph.isBlocked(node)) return;
+        int existing = find(node);
+        if (node != goal) {
+            double best = minSuccessor(node);
+            // 건드린 적 없고 여전히 도달 불가면 상태를 만들지 않는다
+            if (existing < 0 && Double.isInfinite(best)) return;
+            if (existing < 0) existing = stateOf(node);
+            rhs[existing] = best;
+        }
+        if (existing < 0) return;
+        if (heapPosition[existing] >= 0) remove(existing);
+        if (g[existing] != rhs[existing]) push(existing);
+    }
+
+    /**
+     * node에서 나가는 간선 중 (간선 비용 + g)의 최솟값. 그 간선의 도착 노드는 bestNext에 남긴다.
+     * 격자 이동과 계단/엘리베이터 간선은 모두 양방향이므로 같은 간선 목록을 선행 노드 목록으로도 쓴다.
+     */
+    private double minSuccessor(int node) {
+        int cell = graph.cellOfNode(node);
+        int col = spec.colOf(cell);
+        int row = spec.rowOf(cell);
+        int layerBase = node - cell;
+        WalkabilityGrid grid = graph.grid(graph.layerOfNode(node));
+        double here = cost.multiplier(node);
+        double best = INF;
+        bestNext = -1;
+        for (int d = 0; d < DX.length; d++) {
+            if (!grid.canStep(col, row, DX[d], DY[d])) continue;
+            int next = layerBase + spec.cell(col + DX[d], row + DY[d]);
+            double total = gOf(next);
+            if (Double.isInfinite(total)) continue;
+            double step = (DX[d] != 0 && DY[d] != 0) ? spec.cellSize() * SQRT2 : spec.cellSize();
+            total += step * 0.5 * (here + cost.multiplier(next));
+            if (total < best) {
+                best = total;
+                bestNext = next;
+            }
+        }
+        for (int e = graph.edgeBegin(node), end = graph.edgeEnd(node); e < end; e++) {
+            int next = graph.edgeTarget(e);
+            double total = gOf(next);
+            if (Double.isInfinite(total)) continue;
+            total += graph.edgeCost(e) * 0.5 * (here + cost.multiplier(next));
+            if (total < best) {
+                best = total;
+                bestNext = next;
+            }
+        }
+        return best;
+    }
+
+    private void updateNeighbors(int node) {
+        int cell = graph.cellOfNode(node);
+        int col = spec.colOf(cell);
+        int row = spec.rowOf(cell);
+        int layerBase = node - cell;
+        WalkabilityGrid grid = graph.grid(graph.layerOfNode(node));
+        for (int d = 0; d < DX.length; d++) {
+            if (grid.canStep(col, row, DX[d], DY[d])) updateVertex(layerBase + spec.cell(col + DX[d], row + DY[d]));
+        }
+        for (int e = graph.edgeBegin(node), end = graph.edgeEnd(node); e < end; e++) {
+            updateVertex(graph.edgeTarget(e));
+        }
+    }
+
+    private double gOf(int node) {
+        int s = find(node);
+        return s < 0 ? INF : g[s];
+    }
+
+    private static boolean less(double a1, double a2, double b1, double b2) {
+        return a1 < b1 - KEY_EPSILON || (a1 <= b1 + KEY_EPSILON && a2 < b2);
+    }
+
+    // ---- 노드 → 상태 번호 ----
+
+    private int find(int node) {
+        int mask = slotKeys.length - 1;
+        int i = mix(node) & mask;
+        while (slotKeys[i] != -1) {
+            if (slotKeys[i] == node) return slotValues[i];
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int stateOf(int node) {
+        int existing = find(node);
+        if (existing >= 0) return existing;
+        if (stateCount == nodeOf.length) growStates();
+        if ((stateCount + 1) * 2 > slotKeys.length) rehash(slotKeys.length * 2);
+
+        int s = stateCount++;
+        nodeOf[s] = node;
+        g[s] = INF;
+        rhs[s] = INF;
+        heapPosition[s] = -1;
+        insertSlot(node, s);
+        return s;
+    }
+
+    private void insertSlot(int node, int state) {
+        int mask = slotKeys.length - 1;
+        int i = mix(node) & mask;
+        while (slotKeys[i] != -1) i = (i + 1) & mask;
+        slotKeys[i] = node;
+        slotValues[i] = state;
+    }
+
+    private void rehash(int capacity) {
+        slotKeys = new int[capacity];
+        slotValues = new int[capacity];
+        Arrays.fill(slotKeys, -1);
+        for (int s = 0; s < stateCount; s++) insertSlot(nodeOf[s], s);
+    }
+
+    private void growStates() {
+        int capacity = nodeOf.length * 2;
+        nodeOf = Arrays.copyOf(nodeOf, capacity);
+        g = Arrays.copyOf(g, capacity);
+        rhs = Arrays.copyOf(rhs, capacity);
+        heapPosition = Arrays.copyOf(heapPosition, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+        key1 = Arrays.copyOf(key1, capacity);
+        key2 = Arrays.copyOf(key2, capacity);
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // ---- 힙 ----
+
+    private void push(int s) {
+        key2[s] = Math.min(g[s], rhs[s]);
+        key1[s] = key2[s] + heuristic.estimate(nodeOf[s]) + km;
+        heap[heapSize] = s;
+        heapPosition[s] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private void pop() {
+        remove(heap[0]);
+    }
+
+    private void remove(int s) {
+        int pos = heapPosition[s];
+        heapPosition[s] = -1;
+        int last = heap[--heapSize];
+        if (pos == heapSize) return;
+        heap[pos] = last;
+        heapPosition[last] = pos;
+        siftUp(pos);
+        siftDown(heapPosition[last]);
+    }
+
+    private void siftUp(int pos) {
+        int s = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            int p = heap[parent];
+            if (!less(key1[s], key2[s], key1[p], key2[p])) break;
+            heap[pos] = p;
+            heapPosition[p] = pos;
+            pos = parent;
+        }
+        heap[pos] = s;
+        heapPosition[s] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int s = heap[pos];
+        while (true) {
+            int child = pos * 2 + 1;
+            if (child >= heapSize) break;
+            int right = child + 1;
+            if (right < heapSize && less(key1[heap[right]], key2[heap[right]], key1[heap[child]], key2[heap[child]])) {
+                child = right;
+            }
+            int c = heap[child];
+            if (!less(key1[c], key2[c], key1[s], key2[s])) break;
+            heap[pos] = c;
+            heapPosition[c] = pos;
+            pos = child;
+        }
+        heap[pos] = s;
+        heapPosition[s] = pos;
+    }
+}
@@ -0,0 +1,156 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * VenueGraph 전체 노드에 대해 "가장 가까운 출발점까지의 보행 비용"을 미리 계산해 둔 거리장.
+ * 값은 quantum 단위 고정소수점 char(16bit)로 저장해 노드당 2바이트만 사용한다.
+ * 조회는 O(1)이며, 이웃 중 값이 가장 빠르게 줄어드는 쪽을 따라가면(descend) 출발점까지의 경로가 된다.
+ */
+public final class DistanceField {
+
+    public static final char UNREACHABLE = Character.MAX_VALUE;
+    private static final char MAX_VALUE = Character.MAX_VALUE - 1;
+
+    private static final double SQRT2 = Math.sqrt(2.0);
+    private static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+
+    /**
+     * 이 횟수마다 한 번 스레드 인터럽트(병렬 계산 시간 초과로 인한 취소)를 확인한다
+     */
+    private static final int INTERRUPT_CHECK_INTERVAL = 256;
+
+    private final char[] values;
+    private final double quantum;
+
+    private DistanceField(char[] values, double quantum) {
+        this.values = values;
+        this.quantum = quantum;
+    }
+
+    /**
+     * 여러 출발 노드에서 동시에 시작하는 Dijkstra로 거리장을 만든다.
+     * 가장 먼 도달 거리가 char 범위를 넘지 않도록 quantum은 minQuantum 이상에서 자동으로 커진다.
+     * 계산 중 스레드가 인터럽트되면 덜 채운 거리장을 돌려주지 않고 CancellationException으로 끝낸다.
+     */
+    public static DistanceField compute(VenueGraph graph, int[] sources, double minQuantum) {
+        int nodeCount = graph.nodeCount();
+        char[] values = new char[nodeCount];
+        Arrays.fill(values, UNREACHABLE);
+
+        try (SearchContext ctx = SearchContext.acquire(nodeCount)) {
+            for (int source : sources) {
+                if (source < 0 || graph.isBlocked(source)) continue;
+                ctx.visit(source, 0.0, -1);
+                ctx.open.insertOrDecrease(source, 0.0);
+            }
+
+            GridSpec spec = graph.spec();
+            double maxDistance = 0.0;
+            int settled = 0;
+            int[] order = new int[nodeCount];
+            while (!ctx.open.isEmpty()) {
+                if (settled % INTERRUPT_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("distance field computation interrupted");
+                }
+                int current = ctx.open.poll();
+                ctx.markClosed(current);
+                order[settled++] = current;
+                double currentG = ctx.g[current];
+                maxDistance = currentG;
+
+                int cell = graph.cellOfNode(current);
+                int col = spec.colOf(cell);
+                int row = spec.rowOf(cell);
+                int layerBase = current - cell;
+                WalkabilityGrid grid = graph.grid(graph.layerOfNode(current));
+                for (int d = 0; d < DX.length; d++) {
+                    if (!grid.canStep(col, row, DX[d], DY[d])) continue;
+                    int next = layerBase + spec.cell(col + DX[d], row + DY[d]);
+                    double step = (DX[d] != 0 && DY[d] != 0) ? spec.cellSize() * SQRT2 : spec.cellSize();
+                    relax(ctx, current, next, currentG + step);
+                }
+                for (int e = graph.edgeBegin(current), end = graph.edgeEnd(current); e < end; e++) {
+                    relax(ctx, current, graph.edgeTarget(e), currentG + graph.edgeCost(e));
+                }
+            }
+
+            double quantum = Math.max(minQuantum, maxDistance / MAX_VALUE);
+            for (int i = 0; i < settled; i++) {
+                int node = order[i];
+                values[node] = (char) Math.min(MAX_VALUE, Math.round(ctx.g[node] / quantum));
+            }
+            return new DistanceField(values, quantum);
+        }
+    }
+
+    private static void relax(SearchContext ctx, int from, int next, double tentative) {
+        if (ctx.isClosed(next) || tentative >= ctx.costOf(next)) return;
+        ctx.visit(next, tentative, from);
+        ctx.open.insertOrDecrease(next, tentative);
+    }
+
+    public boolean isReachable(int node) {
+        return values[node] != UNREACHABLE;
+    }
+
+    /**
+     * 노드에서 가장 가까운 출발점까지의 보행 비용 (도달 불가면 +Infinity)
+     */
+    public double distance(int node) {
+        char value = values[node];
+        return value == UNREACHABLE ? Double.POSITIVE_INFINITY : value * quantum;
+    }
+
+    /**
+     * 거리장을 따라 내려가 출발점(값 0)까지의 노드 경로를 만든다. 도달 불가면 null.
+     * 매 단계 "이웃 값 + 간선 비용"이 가장 작은 이웃을 고르되, 값이 반드시 줄어드는 쪽으로만 이동한다.
+     */
+    public int[] descend(VenueGraph graph, int node) {
+        if (!isReachable(node)) return null;
+        GridSpec spec = graph.spec();
+        int[] path = new int[16];
+        int length = 0;
+        int current = node;
+        path[length++] = current;
+
+        while (values[current] != 0) {
+            int cell = graph.cellOfNode(current);
+            int col = spec.colOf(cell);
+            int row = spec.rowOf(cell);
+            int layerBase = current - cell;
+            WalkabilityGrid grid = graph.grid(graph.layerOfNode(current));
+
+            int best = -1;
+            double bestCost = Double.POSITIVE_INFINITY;
+            for (int d = 0; d < DX.length; d++) {
+                if (!grid.canStep(col, row, DX[d], DY[d])) continue;
+                int next = layerBase + spec.cell(col + DX[d], row + DY[d]);
+                if (values[next] >= values[current]) continue;
+                double step = (DX[d] != 0 && DY[d] != 0) ? spec.cellSize() * SQRT2 : spec.cellSize();
+                double cost = values[next] * quantum + step;
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = next;
+                }
+            }
+            for (int e = graph.edgeBegin(current), end = graph.edgeEnd(current); e < end; e++) {
+                int next = graph.edgeTarget(e);
+                if (values[next] >= values[current]) continue;
+                double cost = values[next] * quantum + graph.edgeCost(e);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = next;
+                }
+            }
+            if (best < 0) return null;
+
+            if (length == path.length) path = Arrays.copyOf(path, length * 2);
+            path[length++] = best;
+            current = best;
+        }
+        return Arrays.copyOf(path, length);
+    }
+}
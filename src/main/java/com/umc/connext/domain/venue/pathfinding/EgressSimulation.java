@@ -0,0 +1,444 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import com.umc.connext.common.enums.FacilityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 출구 흐름장 위에서 관객 대피를 시간 단계별로 흉내 내는 오프라인 시뮬레이션.
+ * 관객(agent)은 출발 노드에서 흐름장을 따라 내려가는 경로를 걷고, 계단/엘리베이터와 출구는 초당 통과 인원이 정해진 관문이다.
+ * 관문에 먼저 도착한 순서대로 통과하며, 통과하지 못한 관객은 관문 앞에서 기다린다.
+ * 같은 출발 노드의 관객은 경로를 공유하고 관객 상태는 배열로만 들고 있어 수만 명도 메모리 부담이 작다.
+ * 시간 단계는 앞 단계 결과에 의존하므로 순서대로 진행하고, 한 단계 안의 이동은 관객 묶음 단위로 fork-join 병렬 처리한다.
+ */
+public final class EgressSimulation {
+
+    /**
+     * 관객 묶음 하나의 크기 (fork-join 잎 작업 단위)
+     */
+    private static final int BATCH = 4096;
+
+    private static final byte MOVING = 0;
+    private static final byte WAITING = 1;
+    private static final byte DONE = 2;
+
+    /**
+     * 출발 지점. startOffset은 경로 시작 전에 더 걸어야 하는 거리(예: 좌석 → 통로).
+     */
+    public record Spawn(String section, int node, int agents, double startOffset) {}
+
+    /**
+     * @param walkingSpeed     보행 속도 (좌표 단위/초)
+     * @param timeStep         시간 단계 (초)
+     * @param maxSeconds       시뮬레이션 최대 시간 (초)
+     * @param exitFlowRate     출구 하나의 초당 통과 인원
+     * @param stairFlowRate    계단 하나의 초당 통과 인원
+     * @param elevatorFlowRate 엘리베이터 하나의 초당 통과 인원
+     */
+    public record Settings(double walkingSpeed, double timeStep, double maxSeconds,
+                           double exitFlowRate, double stairFlowRate, double elevatorFlowRate) {}
+
+    public record SectionResult(String section, int agents, int evacuated, int unreachable,
+                                double meanSeconds, double p90Seconds, double maxSeconds) {}
+
+    /**
+     * 관문(출구/계단/엘리베이터)별 통과 기록. 대기 시간 합이 클수록 병목이다.
+     */
+    public record GateResult(FacilityPoint facility, boolean exit, double flowRate, int passed, int maxQueue,
+                             double totalWaitSeconds, double maxWaitSeconds, double lastPassSeconds) {}
+
+    public record Result(int agents, int evacuated, int unreachable, double simulatedSeconds, int steps,
+                         List<SectionResult> sections, List<GateResult> gates) {}
+
+    /**
+     * 흐름장을 따라 내려간 경로 하나. 관문 위치는 경로 시작점에서의 누적 거리다.
+     */
+    private record Route(double[] gateDistance, int[] gateIndex) {}
+
+    private final Settings settings;
+    private final ForkJoinPool pool;
+
+    private final List<Route> routes = new ArrayList<>();
+    private final List<FacilityPoint> gates = new ArrayList<>();
+    private final Map<Long, Integer> gateByFacility = new HashMap<>();
+    private double[] gateRate;
+    private double[] gateCredit;
+    private GateQueue[] gateQueues;
+    private int[] gatePassed;
+    private int[] gateMaxQueue;
+    private double[] gateTotalWait;
+    private double[] gateMaxWait;
+    private double[] gateLastPass;
+
+    private int[] agentRoute;
+    private int[] agentSection;
+    private int[] agentGate;
+    private double[] agentPosition;
+    private double[] agentArrival;
+    private byte[] agentState;
+    private float[] agentEvacuated;
+
+    // 걷고 있는 관객만 담는다. 관문 앞에서 기다리는 관객은 대기열에만 있어 이동 단계에서 훑지 않는다.
+    private int[] active;
+    private int activeCount;
+    private int waitingCount;
+    private int[] arrivals;
+    private int[] arrivalCounts;
+    private double now;
+
+    private EgressSimulation(Settings settings, ForkJoinPool pool) {
+        this.settings = settings;
+        this.pool = pool;
+    }
+
+    public static Result run(VenueGraph graph, ExitFlowField exits, List<Spawn> spawns, Settings settings, ForkJoinPool pool) {
+        return new EgressSimulation(settings, pool).simulate(graph, exits, spawns);
+    }
+
+    private Result simulate(VenueGraph graph, ExitFlowField exits, List<Spawn> spawns) {
+        Map<String, Integer> sectionIndex = new LinkedHashMap<>();
+        int total = 0;
+        for (Spawn spawn : spawns) {
+            sectionIndex.putIfAbsent(spawn.section(), sectionIndex.size());
+            total += spawn.agents();
+        }
+        int[] sectionAgents = new int[sectionIndex.size()];
+        int[] sectionUnreachable = new int[sectionIndex.size()];
+
+        agentRoute = new int[total];
+        agentSection = new int[total];
+        agentGate = new int[total];
+        agentPosition = new double[total];
+        agentArrival = new double[total];
+        agentState = new byte[total];
+        agentEvacuated = new float[total];
+        Arrays.fill(agentEvacuated, Float.NaN);
+        active = new int[total];
+
+        Map<Integer, Integer> routeByNode = new HashMap<>();
+        int agents = 0;
+        int unreachable = 0;
+        for (Spawn spawn : spawns) {
+            int section = sectionIndex.get(spawn.section());
+            sectionAgents[section] += spawn.agents();
+            int route = routeByNode.computeIfAbsent(spawn.node(), node -> buildRoute(graph, exits, node));
+            if (route < 0) {
+                sectionUnreachable[section] += spawn.agents();
+                unreachable += spawn.agents();
+                continue;
+            }
+            for (int k = 0; k < spawn.agents(); k++) {
+                int a = agents++;
+                agentRoute[a] = route;
+                agentSection[a] = section;
+                agentPosition[a] = -spawn.startOffset();
+                active[activeCount++] = a;
+            }
+        }
+        initGates();
+        arrivals = new int[Math.max(1, activeCount)];
+        arrivalCounts = new int[batchCount(activeCount)];
+
+        int steps = 0;
+        double dt = settings.timeStep();
+        while ((activeCount > 0 || waitingCount > 0) && now < settings.maxSeconds()) {
+            if (Thread.currentThread().isInterrupted()) break;
+            if (activeCount > 0) {
+                int batches = batchCount(activeCount);
+                pool.invoke(new MoveTask(0, batches));
+                if (enqueueArrivals(batches)) compactActive();
+            }
+            releaseGates();
+            now += dt;
+            steps++;
+        }
+
+        return new Result(total, countEvacuated(agents), unreachable, now, steps,
+                sectionResults(sectionIndex, sectionAgents, sectionUnreachable, agents), gateResults());
+    }
+
+    /**
+     * 흐름장을 따라 내려가며 층이 바뀌는 간선 앞에 계단/엘리베이터 관문, 마지막 노드에 출구 관문을 둔다.
+     */
+    private int buildRoute(VenueGraph graph, ExitFlowField exits, int node) {
+        int[] nodes = exits.route(graph, node);
+        if (nodes == null) return -1;
+        FacilityPoint exit = exits.exitAt(nodes[nodes.length - 1]);
+        if (exit == null) return -1;
+
+        GridSpec spec = graph.spec();
+        List<Double> gateDistances = new ArrayList<>();
+        List<Integer> gateIndices = new ArrayList<>();
+        double distance = 0.0;
+        for (int i = 1; i < nodes.length; i++) {
+            int from = nodes[i - 1];
+            int to = nodes[i];
+            if (graph.layerOfNode(from) != graph.layerOfNode(to)) {
+                FacilityPoint connector = graph.connectorBetween(from, to);
+                if (connector != null) {
+                    gateDistances.add(distance);
+                    gateIndices.add(gateOf(connector));
+                }
+                distance += edgeCost(graph, from, to);
+            } else {
+                int a = graph.cellOfNode(from);
+                int b = graph.cellOfNode(to);
+                distance += Math.hypot(spec.cellCenterX(a) - spec.cellCenterX(b), spec.cellCenterY(a) - spec.cellCenterY(b));
+            }
+        }
+        gateDistances.add(distance);
+        gateIndices.add(gateOf(exit));
+
+        double[] gateDistance = gateDistances.stream().mapToDouble(Double::doubleValue).toArray();
+        int[] gateIndex = gateIndices.stream().mapToInt(Integer::intValue).toArray();
+        routes.add(new Route(gateDistance, gateIndex));
+        return routes.size() - 1;
+    }
+
+    private static double edgeCost(VenueGraph graph, int from, int to) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int e = graph.edgeBegin(from), end = graph.edgeEnd(from); e < end; e++) {
+            if (graph.edgeTarget(e) == to) best = Math.min(best, graph.edgeCost(e));
+        }
+        return Double.isInfinite(best) ? 0.0 : best;
+    }
+
+    private int gateOf(FacilityPoint facility) {
+        return gateByFacility.computeIfAbsent(facility.id(), id -> {
+            gates.add(facility);
+            return gates.size() - 1;
+        });
+    }
+
+    private void initGates() {
+        int count = gates.size();
+        gateRate = new double[count];
+        gateCredit = new double[count];
+        gateQueues = new GateQueue[count];
+        gatePassed = new int[count];
+        gateMaxQueue = new int[count];
+        gateTotalWait = new double[count];
+        gateMaxWait = new double[count];
+        gateLastPass = new double[count];
+        for (int g = 0; g < count; g++) {
+            gateRate[g] = flowRate(gates.get(g));
+            gateQueues[g] = new GateQueue();
+        }
+    }
+
+    private double flowRate(FacilityPoint facility) {
+        if (facility.type() == FacilityType.ELEVATOR) return settings.elevatorFlowRate();
+        if (facility.type() == FacilityType.STAIRS) return settings.stairFlowRate();
+        return settings.exitFlowRate();
+    }
+
+    private static int batchCount(int agents) {
+        return Math.max(1, (agents + BATCH - 1) / BATCH);
+    }
+
+    /**
+     * 묶음 하나를 한 단계 이동시킨다. 관문에 닿은 관객은 묶음 몫의 arrivals 구간에 적어 두므로 작업 간 공유 쓰기가 없다.
+     */
+    private void moveBatch(int batch) {
+        int from = batch * BATCH;
+        int to = Math.min(activeCount, from + BATCH);
+        double step = settings.walkingSpeed() * settings.timeStep();
+        int arrived = 0;
+        for (int i = from; i < to; i++) {
+            int a = active[i];
+            Route route = routes.get(agentRoute[a]);
+            double gateDistance = route.gateDistance()[agentGate[a]];
+            double position = agentPosition[a];
+            if (position + step < gateDistance) {
+                agentPosition[a] = position + step;
+                continue;
+            }
+            agentArrival[a] = now + Math.max(0.0, gateDistance - position) / settings.walkingSpeed();
+            agentPosition[a] = gateDistance;
+            agentState[a] = WAITING;
+            arrivals[from + arrived++] = a;
+        }
+        arrivalCounts[batch] = arrived;
+    }
+
+    /**
+     * 이번 단계에 도착한 관객을 도착 시각 순으로 관문 대기열 뒤에 붙인다.
+     *
+     * @return 도착한 관객이 있었는지
+     */
+    private boolean enqueueArrivals(int batches) {
+        List<Integer> arrived = new ArrayList<>();
+        for (int b = 0; b < batches; b++) {
+            int from = b * BATCH;
+            for (int k = 0; k < arrivalCounts[b]; k++) arrived.add(arrivals[from + k]);
+        }
+        if (arrived.isEmpty()) return false;
+        arrived.sort(Comparator.comparingDouble(a -> agentArrival[a]));
+        for (int a : arrived) {
+            Route route = routes.get(agentRoute[a]);
+            gateQueues[route.gateIndex()[agentGate[a]]].add(a);
+        }
+        waitingCount += arrived.size();
+        return true;
+    }
+
+    /**
+     * 관문마다 이번 단계의 통과 가능 인원만큼 대기열 앞에서 내보낸다.
+     * 마지막 관문(출구)을 지난 관객은 대피 완료, 나머지는 다시 걷는 관객 목록에 넣는다.
+     */
+    private void releaseGates() {
+        double end = now + settings.timeStep();
+        for (int g = 0; g < gates.size(); g++) {
+            GateQueue queue = gateQueues[g];
+            gateMaxQueue[g] = Math.max(gateMaxQueue[g], queue.size());
+            gateCredit[g] += gateRate[g] * settings.timeStep();
+            while (gateCredit[g] >= 1.0 && !queue.isEmpty()) {
+                int a = queue.poll();
+                waitingCount--;
+                gateCredit[g] -= 1.0;
+                double wait = Math.max(0.0, end - agentArrival[a] - settings.timeStep());
+                gatePassed[g]++;
+                gateTotalWait[g] += wait;
+                gateMaxWait[g] = Math.max(gateMaxWait[g], wait);
+                gateLastPass[g] = end;
+
+                Route route = routes.get(agentRoute[a]);
+                if (agentGate[a] == route.gateIndex().length - 1) {
+                    agentState[a] = DONE;
+                    agentEvacuated[a] = (float) end;
+                } else {
+                    agentGate[a]++;
+                    agentState[a] = MOVING;
+                    active[activeCount++] = a;
+                }
+            }
+            // 비어 있는 관문이 통과 여력을 쌓아 두었다가 한꺼번에 내보내지 않도록
+            if (queue.isEmpty()) gateCredit[g] = Math.min(gateCredit[g], 1.0);
+        }
+    }
+
+    private void compactActive() {
+        int kept = 0;
+        for (int i = 0; i < activeCount; i++) {
+            if (agentState[active[i]] == MOVING) active[kept++] = active[i];
+        }
+        activeCount = kept;
+    }
+
+    private int countEvacuated(int agents) {
+        int evacuated = 0;
+        for (int a = 0; a < agents; a++) {
+            if (agentState[a] == DONE) evacuated++;
+        }
+        return evacuated;
+    }
+
+    private List<SectionResult> sectionResults(Map<String, Integer> sectionIndex, int[] sectionAgents,
+                                               int[] sectionUnreachable, int agents) {
+        int sections = sectionIndex.size();
+        int[] counts = new int[sections];
+        for (int a = 0; a < agents; a++) {
+            if (agentState[a] == DONE) counts[agentSection[a]]++;
+        }
+        float[][] times = new float[sections][];
+        for (int s = 0; s < sections; s++) times[s] = new float[counts[s]];
+        int[] filled = new int[sections];
+        for (int a = 0; a < agents; a++) {
+            if (agentState[a] == DONE) times[agentSection[a]][filled[agentSection[a]]++] = agentEvacuated[a];
+        }
+
+        List<SectionResult> result = new ArrayList<>(sections);
+        for (Map.Entry<String, Integer> entry : sectionIndex.entrySet()) {
+            int s = entry.getValue();
+            float[] sorted = times[s];
+            Arrays.sort(sorted);
+            double sum = 0.0;
+            for (float t : sorted) sum += t;
+            boolean any = sorted.length > 0;
+            result.add(new SectionResult(entry.getKey(), sectionAgents[s], sorted.length, sectionUnreachable[s],
+                    any ? sum / sorted.length : 0.0,
+                    any ? sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * 0.9) - 1)] : 0.0,
+                    any ? sorted[sorted.length - 1] : 0.0));
+        }
+        return result;
+    }
+
+    private List<GateResult> gateResults() {
+        List<GateResult> result = new ArrayList<>(gates.size());
+        for (int g = 0; g < gates.size(); g++) {
+            FacilityPoint facility = gates.get(g);
+            boolean exit = facility.type() != FacilityType.STAIRS && facility.type() != FacilityType.ELEVATOR;
+            result.add(new GateResult(facility, exit, gateRate[g], gatePassed[g], gateMaxQueue[g],
+                    gateTotalWait[g], gateMaxWait[g], gateLastPass[g]));
+        }
+        result.sort(Comparator.comparingDouble(GateResult::totalWaitSeconds).reversed());
+        return result;
+    }
+
+    /**
+     * 관객 묶음 구간 [fromBatch, toBatch)을 반으로 나눠 병렬로 이동시킨다.
+     */
+    private final class MoveTask extends RecursiveAction {
+
+        private final int fromBatch;
+        private final int toBatch;
+
+        private MoveTask(int fromBatch, int toBatch) {
+            this.fromBatch = fromBatch;
+            this.toBatch = toBatch;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBatch - fromBatch == 1) {
+                moveBatch(fromBatch);
+                return;
+            }
+            int mid = (fromBatch + toBatch) >>> 1;
+            invokeAll(new MoveTask(fromBatch, mid), new MoveTask(mid, toBatch));
+        }
+    }
+
+    /**
+     * 관객은 관문마다 한 번만 줄을 서므로 되감지 않는 단순 int 대기열로 충분하다.
+     */
+    private static final class GateQueue {
+
+        private int[] items = new int[16];
+        private int head;
+        private int tail;
+
+        void add(int agent) {
+            if (tail == items.length) {
+                if (head > items.length / 2) {
+                    System.arraycopy(items, head, items, 0, tail - head);
+                    tail -= head;
+                    head = 0;
+                } else {
+                    items = Arrays.copyOf(items, items.length * 2);
+                }
+            }
+            items[tail++] = agent;
+        }
+
+        int poll() {
+            return items[head++];
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        int size() {
+            return tail - head;
+        }
+    }
+}
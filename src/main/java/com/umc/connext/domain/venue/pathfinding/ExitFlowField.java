@@ -0,0 +1,99 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import com.umc.connext.common.enums.FacilityType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모든 출구에서 동시에 시작한 역방향 Dijkstra로 만든 출구 흐름장.
+ * 층별 격자와 계단/엘리베이터 간선을 하나로 묶은 그래프 위에서 계산하므로 위층 노드는 계단을 거쳐 출구로 흘러간다.
+ * 적재 시점에 한 번만 계산해 두고, "가장 가까운 출구" 요청은 흐름장을 따라 내려가기만 하므로 경로 길이만큼의 비용으로 끝난다.
+ * EXIT 시설물이 하나도 없는 공연장은 입구(ENTRANCE)를 출구로 본다.
+ */
+public final class ExitFlowField {
+
+    private static final ExitFlowField EMPTY = new ExitFlowField(null, Map.of(), List.of());
+
+    private final DistanceField field;
+    private final Map<Integer, FacilityPoint> exitByNode;
+    private final List<FacilityPoint> exits;
+
+    private ExitFlowField(DistanceField field, Map<Integer, FacilityPoint> exitByNode, List<FacilityPoint> exits) {
+        this.field = field;
+        this.exitByNode = exitByNode;
+        this.exits = exits;
+    }
+
+    public static ExitFlowField empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 출구 좌표를 자기 층의 이동 가능 셀에 맞춘 뒤 흐름장을 계산한다. 이동 가능 셀을 찾지 못한 출구는 제외된다.
+     */
+    public static ExitFlowField build(VenueGraph graph, Collection<FacilityPoint> facilities, int snapRadius, double quantum) {
+        List<FacilityPoint> candidates = ofType(facilities, FacilityType.EXIT);
+        if (candidates.isEmpty()) candidates = ofType(facilities, FacilityType.ENTRANCE);
+
+        Map<Integer, FacilityPoint> exitByNode = new HashMap<>();
+        List<FacilityPoint> exits = new ArrayList<>();
+        for (FacilityPoint exit : candidates) {
+            int layer = graph.layerOf(exit.floor());
+            if (layer < 0) continue;
+            int cell = graph.nearestWalkable(layer).nearestCell(exit.x(), exit.y(), snapRadius);
+            if (cell < 0) continue;
+            exitByNode.putIfAbsent(graph.node(layer, cell), exit);
+            exits.add(exit);
+        }
+        if (exits.isEmpty()) return EMPTY;
+
+        int[] sources = exitByNode.keySet().stream().mapToInt(Integer::intValue).toArray();
+        return new ExitFlowField(DistanceField.compute(graph, sources, quantum), Map.copyOf(exitByNode), List.copyOf(exits));
+    }
+
+    private static List<FacilityPoint> ofType(Collection<FacilityPoint> facilities, FacilityType type) {
+        return facilities.stream()
+                .filter(f -> f.id() != null && f.type() == type)
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return field == null;
+    }
+
+    /**
+     * 흐름장 계산에 쓰인 출구 목록
+     */
+    public List<FacilityPoint> exits() {
+        return exits;
+    }
+
+    /**
+     * 노드에서 가장 가까운 출구까지의 보행 비용 (도달 불가면 +Infinity)
+     */
+    public double distance(int node) {
+        return field == null ? Double.POSITIVE_INFINITY : field.distance(node);
+    }
+
+    /**
+     * 노드에서 가장 가까운 출구까지의 노드 경로 (도달 불가면 null)
+     */
+    public int[] route(VenueGraph graph, int node) {
+        return field == null ? null : field.descend(graph, node);
+    }
+
+    /**
+     * 흐름장의 출발점(값 0) 노드에 놓인 출구 (출구 노드가 아니면 null)
+     */
+    public FacilityPoint exitAt(int node) {
+        return exitByNode.get(node);
+    }
+
+    public DistanceField field() {
+        return field;
+    }
+}
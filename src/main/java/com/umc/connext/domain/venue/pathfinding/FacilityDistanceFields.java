@@ -0,0 +1,122 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import com.umc.connext.common.enums.FacilityType;
+
+import java.util.*;
+
+/**
+ * 시설물 타입마다 하나씩 만든 다중 출발점 DistanceField 묶음.
+ * 같은 타입 시설물 전체를 출발점으로 한 거리장이므로 "가장 가까운 화장실"은 출발 셀 값 하나를 읽는 O(1) 조회이고,
+ * 거리장을 따라 내려가면 경로와 도착 시설물이 함께 나온다.
+ * 거리장은 계단/엘리베이터로 이어진 층별 격자 전체에 걸쳐 있어 층마다 따로 두지 않고도 다른 층 시설물까지 비교한다.
+ * 메모리와 적재 시간은 (타입 수 × 층 수 × 셀 수)로, 시설물 수와 무관하다.
+ */
+public final class FacilityDistanceFields {
+
+    private final Map<FacilityType, DistanceField> fields;
+    private final Map<FacilityType, Map<Integer, List<FacilityPoint>>> facilitiesByNode;
+    private final Map<Long, Integer> facilityNodes;
+    private final Map<FacilityType, List<FacilityPoint>> facilitiesByType;
+
+    private FacilityDistanceFields(Map<FacilityType, DistanceField> fields,
+                                   Map<FacilityType, Map<Integer, List<FacilityPoint>>> facilitiesByNode,
+                                   Map<Long, Integer> facilityNodes,
+                                   Map<FacilityType, List<FacilityPoint>> facilitiesByType) {
+        this.fields = fields;
+        this.facilitiesByNode = facilitiesByNode;
+        this.facilityNodes = facilityNodes;
+        this.facilitiesByType = facilitiesByType;
+    }
+
+    /**
+     * 시설물 좌표를 자기 층 격자의 이동 가능 셀에 맞춘 뒤 타입별 거리장을 계산한다.
+     * 이동 가능 셀을 찾지 못한 시설물은 제외된다.
+     */
+    public static FacilityDistanceFields build(VenueGraph graph, Collection<FacilityPoint> facilities,
+                                               int snapRadius, double quantum) {
+        Map<Long, Integer> nodes = new HashMap<>();
+        Map<FacilityType, List<FacilityPoint>> byType = new EnumMap<>(FacilityType.class);
+        Map<FacilityType, Map<Integer, List<FacilityPoint>>> byNode = new EnumMap<>(FacilityType.class);
+
+        for (FacilityPoint facility : facilities) {
+            if (facility.id() == null || facility.type() == null) continue;
+            int layer = graph.layerOf(facility.floor());
+            if (layer < 0) continue;
+            int cell = graph.nearestWalkable(layer).nearestCell(facility.x(), facility.y(), snapRadius);
+            if (cell < 0) continue;
+
+            int node = graph.node(layer, cell);
+            nodes.put(facility.id(), node);
+            byType.computeIfAbsent(facility.type(), t -> new ArrayList<>()).add(facility);
+            byNode.computeIfAbsent(facility.type(), t -> new HashMap<>())
+                    .computeIfAbsent(node, n -> new ArrayList<>()).add(facility);
+        }
+
+        Map<FacilityType, DistanceField> fields = new EnumMap<>(FacilityType.class);
+        byNode.forEach((type, sources) -> fields.put(type, DistanceField.compute(
+                graph, sources.keySet().stream().mapToInt(Integer::intValue).toArray(), quantum)));
+        byType.replaceAll((type, list) -> List.copyOf(list));
+        return new FacilityDistanceFields(fields, byNode, Map.copyOf(nodes), byType);
+    }
+
+    /**
+     * 거리장 수 (시설물 타입 수)
+     */
+    public int size() {
+        return fields.size();
+    }
+
+    /**
+     * 거리장 기준 시설물 노드 (거리장에 포함되지 않은 시설물이면 -1)
+     */
+    public int nodeOf(Long facilityId) {
+        Integer node = facilityNodes.get(facilityId);
+        return node == null ? -1 : node;
+    }
+
+    /**
+     * 거리장에 포함된 해당 타입 시설물 목록
+     */
+    public List<FacilityPoint> facilitiesOf(FacilityType type) {
+        return facilitiesByType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * fromNode에서 보행 비용이 작은 순으로 해당 타입 시설물 최대 limit개 (도달 불가 시설물 제외).
+     * limit이 1이면 타입 거리장만 읽고, 그 이상이면 해당 타입 시설물 노드까지 한 번의 Dijkstra를 돌려
+     * 서로 다른 시설물 노드 limit개가 확정되는 즉시 멈춘다. withPaths면 fromNode에서 시설물까지의 노드 경로도 채운다.
+     */
+    public List<FacilityDistance> nearest(VenueGraph graph, FacilityType type, int fromNode, int limit, boolean withPaths) {
+        DistanceField field = fields.get(type);
+        if (field == null || limit <= 0) return List.of();
+
+        if (limit == 1) {
+            if (!field.isReachable(fromNode)) return List.of();
+            int[] path = field.descend(graph, fromNode);
+            if (path == null) return List.of();
+            FacilityPoint facility = facilitiesByNode.get(type).get(path[path.length - 1]).get(0);
+            return List.of(new FacilityDistance(facility, field.distance(fromNode), withPaths ? path : null));
+        }
+
+        List<FacilityPoint> candidates = facilitiesOf(type);
+        int[] targets = new int[candidates.size()];
+        for (int i = 0; i < targets.length; i++) targets[i] = facilityNodes.get(candidates.get(i).id());
+        OneToManyDijkstra.Result found =
+                OneToManyDijkstra.search(graph, fromNode, targets, withPaths, graph.nodeCount(), limit);
+
+        List<FacilityDistance> result = new ArrayList<>(candidates.size());
+        for (int i = 0; i < targets.length; i++) {
+            double distance = found.distances()[i];
+            if (Double.isInfinite(distance)) continue;
+            result.add(new FacilityDistance(candidates.get(i), distance, withPaths ? found.paths()[i] : null));
+        }
+        result.sort(Comparator.comparingDouble(FacilityDistance::distance));
+        return result.size() > limit ? List.copyOf(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * @param path fromNode에서 시설물 노드까지의 노드 경로 (요청하지 않았으면 null)
+     */
+    public record FacilityDistance(FacilityPoint facility, double distance, int[] path) {
+    }
+}
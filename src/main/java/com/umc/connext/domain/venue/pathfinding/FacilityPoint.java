@@ -0,0 +1,37 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import com.umc.connext.common.enums.FacilityType;
+
+import java.util.List;
+
+/**
+ * 스냅샷에 담기는 시설물의 불변 사본.
+ * 요청 경로에서 VenueFacility 엔티티나 BigDecimal 좌표를 다시 다루지 않도록 적재 시점에 변환해 둔다.
+ */
+public record FacilityPoint(
+        Long id,
+        String name,
+        FacilityType type,
+        int floor,
+        double x,
+        double y,
+        List<Integer> connectedFloors
+) {
+
+    public FacilityPoint {
+        connectedFloors = connectedFloors == null ? List.of() : List.copyOf(connectedFloors);
+    }
+
+    /**
+     * 두 개 이상의 층을 잇는 계단/엘리베이터인지
+     */
+    public boolean isConnector() {
+        return (type == FacilityType.STAIRS || type == FacilityType.ELEVATOR)
+                && connectedFloors.size() >= 2;
+    }
+
+    public String displayName() {
+        if (name != null) return name;
+        return type == FacilityType.ELEVATOR ? "엘리베이터" : "계단";
+    }
+}
@@ -0,0 +1,60 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * 한 층의 불변 보행 정보.
+ * 장애물 폴리곤을 래스터화한 이동 가능 격자를 중심으로, 격자의 최근접 이동 가능 셀 표(좌표 보정용), 연결 성분 라벨(도달 불가 조기 판정용), 먼 경로용 계층 추상화(HPA*)와, NAVMESH 엔진을 쓰는 공연장이면 이동 가능 영역의 삼각분할 메시도 함께 가진다.
+ */
+public final class FloorGeometry {
+
+    private final int floor;
+    private final WalkabilityGrid grid;
+    private final NearestWalkableMap nearestWalkable;
+    private final ComponentLabels components;
+    private final HierarchicalGrid hierarchy;
+    private final NavMesh navMesh;
+
+    public FloorGeometry(int floor, WalkabilityGrid grid, HierarchicalGrid hierarchy, NavMesh navMesh) {
+        this.floor = floor;
+        this.grid = grid;
+        this.nearestWalkable = NearestWalkableMap.build(grid);
+        this.components = ComponentLabels.label(grid);
+        this.hierarchy = hierarchy;
+        this.navMesh = navMesh;
+    }
+
+    public int floor() {
+        return floor;
+    }
+
+    public WalkabilityGrid grid() {
+        return grid;
+    }
+
+    /**
+     * 셀별 가장 가까운 이동 가능 셀
+     */
+    public NearestWalkableMap nearestWalkable() {
+        return nearestWalkable;
+    }
+
+    /**
+     * 격자 셀의 연결 성분 라벨
+     */
+    public ComponentLabels components() {
+        return components;
+    }
+
+    /**
+     * 격자의 클러스터/출입구 추상 그래프
+     */
+    public HierarchicalGrid hierarchy() {
+        return hierarchy;
+    }
+
+    /**
+     * 이동 가능 영역 삼각분할 (만들지 않았거나 만들기에 실패했으면 null)
+     */
+    public NavMesh navMesh() {
+        return navMesh;
+    }
+}
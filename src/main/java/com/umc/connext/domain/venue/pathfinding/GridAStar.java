@@ -0,0 +1,98 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * WalkabilityGrid 위에서 동작하는 8방향 A*.
+ * 노드는 셀 번호(int)로 다루고 g/부모/open set을 모두 원시 배열로 관리해,
+ * 탐색 중에는 객체를 만들지 않는다. 결과 경로 배열 하나만 새로 할당된다.
+ */
+public final class GridAStar {
+
+    private static final double SQRT2 = Math.sqrt(2.0);
+    private static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+
+    private GridAStar() {
+    }
+
+    /**
+     * 한도(확장 횟수/마감 시각)가 있는 탐색. 한도에 걸리면 목표에 가장 가까이 간 지점까지의 부분 경로를 돌려준다.
+     */
+    public static SearchResult search(WalkabilityGrid grid, int startCell, int goalCell, SearchBudget budget) {
+        GridSpec spec = grid.spec();
+        return search(grid, startCell, goalCell, budget, 0, 0, spec.cols() - 1, spec.rows() - 1);
+    }
+
+    /**
+     * [minCol, maxCol] × [minRow, maxRow] 사각형 안의 셀만 사용하는 탐색 (계층 탐색의 클러스터 내부 정제용)
+     */
+    static SearchResult search(WalkabilityGrid grid, int startCell, int goalCell, SearchBudget budget,
+                               int minCol, int minRow, int maxCol, int maxRow) {
+        if (grid.isBlocked(startCell) || grid.isBlocked(goalCell)) return SearchResult.unreachable();
+        if (startCell == goalCell) return SearchResult.found(new int[]{startCell});
+
+        GridSpec spec = grid.spec();
+        double straight = spec.cellSize();
+        double diagonal = straight * SQRT2;
+        int goalCol = spec.colOf(goalCell);
+        int goalRow = spec.rowOf(goalCell);
+
+        try (SearchContext ctx = SearchContext.acquire(spec.cellCount())) {
+            IndexedMinHeap open = ctx.open;
+            ctx.visit(startCell, 0.0, -1);
+            open.insertOrDecrease(startCell, octile(spec.colOf(startCell), spec.rowOf(startCell), goalCol, goalRow, straight, diagonal));
+
+            int closest = startCell;
+            double closestH = Double.POSITIVE_INFINITY;
+            while (!open.isEmpty()) {
+                int current = open.poll();
+                if (current == goalCell) return SearchResult.found(reconstruct(ctx, goalCell));
+                double h = octile(spec.colOf(current), spec.rowOf(current), goalCol, goalRow, straight, diagonal);
+                if (h < closestH) {
+                    closestH = h;
+                    closest = current;
+                }
+                if (!budget.tick()) return SearchResult.exhausted(reconstruct(ctx, closest));
+                ctx.markClosed(current);
+
+                int col = spec.colOf(current);
+                int row = spec.rowOf(current);
+                double currentG = ctx.g[current];
+                for (int d = 0; d < DX.length; d++) {
+                    int dx = DX[d];
+                    int dy = DY[d];
+                    if (!grid.canStep(col, row, dx, dy)) continue;
+                    if (col + dx < minCol || col + dx > maxCol || row + dy < minRow || row + dy > maxRow) continue;
+                    int next = spec.cell(col + dx, row + dy);
+                    if (ctx.isClosed(next)) continue;
+
+                    double tentative = currentG + ((dx != 0 && dy != 0) ? diagonal : straight);
+                    if (tentative >= ctx.costOf(next)) continue;
+                    ctx.visit(next, tentative, current);
+                    open.insertOrDecrease(next,
+                            tentative + octile(col + dx, row + dy, goalCol, goalRow, straight, diagonal));
+                }
+            }
+            return SearchResult.unreachable();
+        }
+    }
+
+    /**
+     * 8방향 격자에서 일관된(consistent) 휴리스틱
+     */
+    static double octile(int col, int row, int goalCol, int goalRow, double straight, double diagonal) {
+        int dx = Math.abs(goalCol - col);
+        int dy = Math.abs(goalRow - row);
+        int min = Math.min(dx, dy);
+        return (Math.max(dx, dy) - min) * straight + min * diagonal;
+    }
+
+    private static int[] reconstruct(SearchContext ctx, int goal) {
+        int length = 0;
+        for (int node = goal; node != -1; node = ctx.parent[node]) length++;
+        int[] path = new int[length];
+        for (int node = goal, i = length - 1; node != -1; node = ctx.parent[node], i--) {
+            path[i] = node;
+        }
+        return path;
+    }
+}
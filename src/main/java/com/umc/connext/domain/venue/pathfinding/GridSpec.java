@@ -0,0 +1,74 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * 공연장 좌표계를 고정 크기 격자(셀)로 나누는 규격.
+ * 같은 공연장의 모든 층은 동일한 규격을 공유하므로 셀 인덱스가 층 간에 그대로 대응된다.
+ */
+public record GridSpec(double originX, double originY, double cellSize, int cols, int rows) {
+
+    public static GridSpec covering(Envelope envelope, double cellSize, int marginCells) {
+        if (envelope == null || envelope.isNull()) {
+            return new GridSpec(0, 0, cellSize, 1, 1);
+        }
+        double originX = Math.floor(envelope.getMinX() / cellSize) * cellSize - marginCells * cellSize;
+        double originY = Math.floor(envelope.getMinY() / cellSize) * cellSize - marginCells * cellSize;
+        int cols = (int) Math.ceil((envelope.getMaxX() - originX) / cellSize) + marginCells + 1;
+        int rows = (int) Math.ceil((envelope.getMaxY() - originY) / cellSize) + marginCells + 1;
+        return new GridSpec(originX, originY, cellSize, cols, rows);
+    }
+
+    public int cellCount() {
+        return cols * rows;
+    }
+
+    public int col(double x) {
+        return (int) Math.floor((x - originX) / cellSize);
+    }
+
+    public int row(double y) {
+        return (int) Math.floor((y - originY) / cellSize);
+    }
+
+    public boolean contains(int col, int row) {
+        return col >= 0 && row >= 0 && col < cols && row < rows;
+    }
+
+    public int cell(int col, int row) {
+        return row * cols + col;
+    }
+
+    /**
+     * 좌표가 속한 셀 인덱스 (격자 밖이면 -1)
+     */
+    public int cellAt(double x, double y) {
+        int col = col(x);
+        int row = row(y);
+        return contains(col, row) ? cell(col, row) : -1;
+    }
+
+    public int colOf(int cell) {
+        return cell % cols;
+    }
+
+    public int rowOf(int cell) {
+        return cell / cols;
+    }
+
+    public double centerX(int col) {
+        return originX + (col + 0.5) * cellSize;
+    }
+
+    public double centerY(int row) {
+        return originY + (row + 0.5) * cellSize;
+    }
+
+    public double cellCenterX(int cell) {
+        return centerX(colOf(cell));
+    }
+
+    public double cellCenterY(int cell) {
+        return centerY(rowOf(cell));
+    }
+}
@@ -0,0 +1,396 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 층 격자의 계층 추상화 (HPA*, Botea et al. 2004).
+ * 격자를 clusterSize × clusterSize 클러스터로 나누고, 인접 클러스터 경계에서 양쪽이 모두 비어 있는 구간마다
+ * 출입구(entrance) 셀 쌍을 두며, 같은 클러스터 안 출입구 간 보행 비용을 적재 시점에 미리 계산해 둔다.
+ * 질의는 출발/도착 셀을 추상 그래프에 임시로 붙여 작은 그래프에서 먼저 찾고, 구간별로 클러스터 안에서만 정제한다.
+ */
+public final class HierarchicalGrid {
+
+    private static final double SQRT2 = Math.sqrt(2.0);
+    private static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+    /**
+     * 이 길이 이상인 경계 구간은 양 끝에 출입구를 두 개 둔다 (짧으면 가운데 하나)
+     */
+    private static final int LONG_ENTRANCE = 6;
+
+    private final WalkabilityGrid grid;
+    private final int clusterSize;
+    private final int clusterCols;
+    private final int clusterRows;
+    private final int[] nodeCell;
+    private final int[] clusterNodeBegin;
+    private final int[] clusterNodes;
+    private final int[] edgeBegin;
+    private final int[] edgeTarget;
+    private final double[] edgeCost;
+
+    private HierarchicalGrid(WalkabilityGrid grid, int clusterSize, int clusterCols, int clusterRows,
+                             int[] nodeCell, int[] clusterNodeBegin, int[] clusterNodes,
+                             int[] edgeBegin, int[] edgeTarget, double[] edgeCost) {
+        this.grid = grid;
+        this.clusterSize = clusterSize;
+        this.clusterCols = clusterCols;
+        this.clusterRows = clusterRows;
+        this.nodeCell = nodeCell;
+        this.clusterNodeBegin = clusterNodeBegin;
+        this.clusterNodes = clusterNodes;
+        this.edgeBegin = edgeBegin;
+        this.edgeTarget = edgeTarget;
+        this.edgeCost = edgeCost;
+    }
+
+    public static HierarchicalGrid build(WalkabilityGrid grid, int clusterSize) {
+        GridSpec spec = grid.spec();
+        int clusterCols = (spec.cols() + clusterSize - 1) / clusterSize;
+        int clusterRows = (spec.rows() + clusterSize - 1) / clusterSize;
+
+        Map<Integer, Integer> nodeOfCell = new LinkedHashMap<>();
+        List<int[]> interEdges = new ArrayList<>();
+
+        // 세로 경계 (왼쪽 클러스터의 마지막 열 | 오른쪽 클러스터의 첫 열)
+        for (int cx = 0; cx + 1 < clusterCols; cx++) {
+            int leftCol = (cx + 1) * clusterSize - 1;
+            for (int cy = 0; cy < clusterRows; cy++) {
+                int from = cy * clusterSize;
+                int to = Math.min(spec.rows(), (cy + 1) * clusterSize) - 1;
+                int runStart = -1;
+                for (int row = from; row <= to + 1; row++) {
+                    boolean open = row <= to && !grid.isBlocked(leftCol, row) && !grid.isBlocked(leftCol + 1, row);
+                    if (open && runStart < 0) runStart = row;
+                    if (!open && runStart >= 0) {
+                        for (int r : transitions(runStart, row - 1)) {
+                            addTransition(spec.cell(leftCol, r), spec.cell(leftCol + 1, r), nodeOfCell, interEdges);
+                        }
+                        runStart = -1;
+                    }
+                }
+            }
+        }
+        // 가로 경계 (아래 클러스터의 마지막 행 / 위 클러스터의 첫 행)
+        for (int cy = 0; cy + 1 < clusterRows; cy++) {
+            int lowRow = (cy + 1) * clusterSize - 1;
+            for (int cx = 0; cx < clusterCols; cx++) {
+                int from = cx * clusterSize;
+                int to = Math.min(spec.cols(), (cx + 1) * clusterSize) - 1;
+                int runStart = -1;
+                for (int col = from; col <= to + 1; col++) {
+                    boolean open = col <= to && !grid.isBlocked(col, lowRow) && !grid.isBlocked(col, lowRow + 1);
+                    if (open && runStart < 0) runStart = col;
+                    if (!open && runStart >= 0) {
+                        for (int c : transitions(runStart, col - 1)) {
+                            addTransition(spec.cell(c, lowRow), spec.cell(c, lowRow + 1), nodeOfCell, interEdges);
+                        }
+                        runStart = -1;
+                    }
+                }
+            }
+        }
+
+        int nodeCount = nodeOfCell.size();
+        int[] nodeCell = new int[nodeCount];
+        nodeOfCell.forEach((cell, node) -> nodeCell[node] = cell);
+
+        // 클러스터별 출입구 목록 (CSR)
+        int clusterCount = clusterCols * clusterRows;
+        int[] clusterNodeBegin = new int[clusterCount + 1];
+        for (int cell : nodeCell) clusterNodeBegin[clusterOf(spec, clusterSize, clusterCols, cell) + 1]++;
+        for (int c = 0; c < clusterCount; c++) clusterNodeBegin[c + 1] += clusterNodeBegin[c];
+        int[] clusterNodes = new int[nodeCount];
+        int[] fill = Arrays.copyOf(clusterNodeBegin, clusterCount);
+        for (int node = 0; node < nodeCount; node++) {
+            clusterNodes[fill[clusterOf(spec, clusterSize, clusterCols, nodeCell[node])]++] = node;
+        }
+
+        List<List<double[]>> adjacency = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) adjacency.add(new ArrayList<>());
+        for (int[] edge : interEdges) {
+            adjacency.get(edge[0]).add(new double[]{edge[1], spec.cellSize()});
+            adjacency.get(edge[1]).add(new double[]{edge[0], spec.cellSize()});
+        }
+
+        // 클러스터 안 출입구 간 비용: 출입구마다 클러스터로 제한한 Dijkstra 한 번
+        try (SearchContext ctx = SearchContext.acquire(spec.cellCount())) {
+            for (int c = 0; c < clusterCount; c++) {
+                int[] bounds = bounds(spec, clusterSize, clusterCols, c);
+                for (int i = clusterNodeBegin[c]; i < clusterNodeBegin[c + 1]; i++) {
+                    int source = clusterNodes[i];
+                    dijkstraWithin(grid, ctx, nodeCell[source], bounds);
+                    for (int j = clusterNodeBegin[c]; j < clusterNodeBegin[c + 1]; j++) {
+                        int target = clusterNodes[j];
+                        double cost = ctx.costOf(nodeCell[target]);
+                        if (target != source && !Double.isInfinite(cost)) {
+                            adjacency.get(source).add(new double[]{target, cost});
+                        }
+                    }
+                }
+            }
+        }
+
+        int[] edgeBegin = new int[nodeCount + 1];
+        for (int i = 0; i < nodeCount; i++) edgeBegin[i + 1] = edgeBegin[i] + adjacency.get(i).size();
+        int[] edgeTarget = new int[edgeBegin[nodeCount]];
+        double[] edgeCost = new double[edgeBegin[nodeCount]];
+        for (int i = 0; i < nodeCount; i++) {
+            int e = edgeBegin[i];
+            for (double[] edge : adjacency.get(i)) {
+                edgeTarget[e] = (int) edge[0];
+                edgeCost[e] = edge[1];
+                e++;
+            }
+        }
+        return new HierarchicalGrid(grid, clusterSize, clusterCols, clusterRows,
+                nodeCell, clusterNodeBegin, clusterNodes, edgeBegin, edgeTarget, edgeCost);
+    }
+
+    private static int[] transitions(int from, int to) {
+        if (to - from + 1 < LONG_ENTRANCE) return new int[]{(from + to) / 2};
+        return new int[]{from, to};
+    }
+
+    private static void addTransition(int cellA, int cellB, Map<Integer, Integer> nodeOfCell, List<int[]> interEdges) {
+        int a = nodeOfCell.computeIfAbsent(cellA, k -> nodeOfCell.size());
+        int b = nodeOfCell.computeIfAbsent(cellB, k -> nodeOfCell.size());
+        interEdges.add(new int[]{a, b});
+    }
+
+    public int clusterCount() {
+        return clusterCols * clusterRows;
+    }
+
+    /**
+     * 추상 그래프 노드(출입구 셀) 수
+     */
+    public int nodeCount() {
+        return nodeCell.length;
+    }
+
+    public int clusterOf(int cell) {
+        return clusterOf(grid.spec(), clusterSize, clusterCols, cell);
+    }
+
+    /**
+     * 출발/도착 클러스터가 같거나 맞닿아 있지 않은 먼 경로인지 (가까운 경로는 평면 탐색이 더 빠르다)
+     */
+    public boolean isLongRoute(int startCell, int goalCell) {
+        int a = clusterOf(startCell);
+        int b = clusterOf(goalCell);
+        return Math.abs(a % clusterCols - b % clusterCols) > 1 || Math.abs(a / clusterCols - b / clusterCols) > 1;
+    }
+
+    /**
+     * 계층 탐색 후 클러스터 단위로 정제한 셀 경로 (양 끝 포함).
+     * 추상 탐색과 클러스터 내부 정제가 모두 같은 한도를 쓰며, 한도에 걸리면 그때까지 정제한 부분 경로를 돌려준다.
+     * 추상 그래프에서 경로가 없으면 UNREACHABLE이며, 호출 측은 남은 한도로 평면 탐색을 해 판정할 수 있다.
+     * anyAngle이면 구간마다 Lazy Theta*로 정제하고 구간 이음매의 꺾임도 시야 기준으로 펴서 꺾이는 지점만 돌려준다.
+     */
+    public SearchResult search(int startCell, int goalCell, SearchBudget budget, boolean anyAngle) {
+        if (grid.isBlocked(startCell) || grid.isBlocked(goalCell)) return SearchResult.unreachable();
+        int[] abstractPath = abstractSearch(startCell, goalCell, budget);
+        if (abstractPath == null) {
+            return budget.exhausted() ? SearchResult.exhausted(new int[]{startCell}) : SearchResult.unreachable();
+        }
+
+        GridSpec spec = grid.spec();
+        int[] path = new int[]{startCell};
+        int length = 1;
+        for (int i = 0; i + 1 < abstractPath.length; i++) {
+            int from = abstractPath[i];
+            int to = abstractPath[i + 1];
+            SearchResult segment;
+            int cluster = clusterOf(from);
+            if (cluster == clusterOf(to)) {
+                int[] b = bounds(spec, clusterSize, clusterCols, cluster);
+                segment = anyAngle
+                        ? LazyThetaStar.search(grid, from, to, budget, b[0], b[1], b[2], b[3])
+                        : GridAStar.search(grid, from, to, budget, b[0], b[1], b[2], b[3]);
+                if (segment.status() == SearchResult.Status.UNREACHABLE) return SearchResult.unreachable();
+            } else {
+                segment = SearchResult.found(new int[]{from, to});
+            }
+            int[] cells = segment.path();
+            if (length + cells.length > path.length) path = Arrays.copyOf(path, Math.max(path.length * 2, length + cells.length));
+            System.arraycopy(cells, 1, path, length, cells.length - 1);
+            length += cells.length - 1;
+            if (!segment.found()) {
+                path = Arrays.copyOf(path, length);
+                return SearchResult.exhausted(anyAngle ? straighten(path) : path);
+            }
+        }
+        path = Arrays.copyOf(path, length);
+        return SearchResult.found(anyAngle ? straighten(path) : path);
+    }
+
+    /**
+     * 출발/도착 셀을 임시 노드(S = N, G = N + 1)로 붙인 추상 그래프 A*. 결과는 지나는 출입구 셀 목록.
+     */
+    private int[] abstractSearch(int startCell, int goalCell, SearchBudget budget) {
+        GridSpec spec = grid.spec();
+        int nodeCount = nodeCell.length;
+        int startNode = nodeCount;
+        int goalNode = nodeCount + 1;
+        int startCluster = clusterOf(startCell);
+        int goalCluster = clusterOf(goalCell);
+        double straight = spec.cellSize();
+        double diagonal = straight * SQRT2;
+        int goalCol = spec.colOf(goalCell);
+        int goalRow = spec.rowOf(goalCell);
+
+        double[] fromStart;
+        double[] toGoal;
+        double direct = Double.POSITIVE_INFINITY;
+        try (SearchContext ctx = SearchContext.acquire(spec.cellCount())) {
+            dijkstraWithin(grid, ctx, startCell, bounds(spec, clusterSize, clusterCols, startCluster));
+            fromStart = clusterCosts(ctx, startCluster);
+            if (startCluster == goalCluster) direct = ctx.costOf(goalCell);
+            dijkstraWithin(grid, ctx, goalCell, bounds(spec, clusterSize, clusterCols, goalCluster));
+            toGoal = clusterCosts(ctx, goalCluster);
+        }
+
+        try (SearchContext ctx = SearchContext.acquire(nodeCount + 2)) {
+            ctx.visit(startNode, 0.0, -1);
+            ctx.open.insertOrDecrease(startNode,
+                    GridAStar.octile(spec.colOf(startCell), spec.rowOf(startCell), goalCol, goalRow, straight, diagonal));
+
+            while (!ctx.open.isEmpty()) {
+                int current = ctx.open.poll();
+                if (current == goalNode) break;
+                if (!budget.tick()) return null;
+                ctx.markClosed(current);
+                double currentG = ctx.g[current];
+
+                if (current == startNode) {
+                    int offset = clusterNodeBegin[startCluster];
+                    for (int i = offset; i < clusterNodeBegin[startCluster + 1]; i++) {
+                        relax(ctx, current, clusterNodes[i], currentG + fromStart[i - offset], goalCol, goalRow, straight, diagonal);
+                    }
+                    relax(ctx, current, goalNode, currentG + direct, goalCol, goalRow, straight, diagonal);
+                    continue;
+                }
+                for (int e = edgeBegin[current]; e < edgeBegin[current + 1]; e++) {
+                    relax(ctx, current, edgeTarget[e], currentG + edgeCost[e], goalCol, goalRow, straight, diagonal);
+                }
+                if (clusterOf(nodeCell[current]) == goalCluster) {
+                    int offset = clusterNodeBegin[goalCluster];
+                    for (int i = offset; i < clusterNodeBegin[goalCluster + 1]; i++) {
+                        if (clusterNodes[i] == current) {
+                            relax(ctx, current, goalNode, currentG + toGoal[i - offset], goalCol, goalRow, straight, diagonal);
+                        }
+                    }
+                }
+            }
+            if (!ctx.isSeen(goalNode) || Double.isInfinite(ctx.costOf(goalNode))) return null;
+
+            int length = 0;
+            for (int node = goalNode; node != -1; node = ctx.parent[node]) length++;
+            int[] cells = new int[length];
+            for (int node = goalNode, i = length - 1; node != -1; node = ctx.parent[node], i--) {
+                cells[i] = node == startNode ? startCell : node == goalNode ? goalCell : nodeCell[node];
+            }
+            return cells;
+        }
+    }
+
+    private void relax(SearchContext ctx, int from, int next, double tentative,
+                       int goalCol, int goalRow, double straight, double diagonal) {
+        if (Double.isInfinite(tentative) || ctx.isClosed(next) || tentative >= ctx.costOf(next)) return;
+        GridSpec spec = grid.spec();
+        double h = 0.0;
+        if (next < nodeCell.length) {
+            int cell = nodeCell[next];
+            h = GridAStar.octile(spec.colOf(cell), spec.rowOf(cell), goalCol, goalRow, straight, diagonal);
+        }
+        ctx.visit(next, tentative, from);
+        ctx.open.insertOrDecrease(next, tentative + h);
+    }
+
+    /**
+     * 방금 돌린 Dijkstra 결과에서 클러스터 출입구들까지의 비용 (clusterNodes 순서)
+     */
+    private double[] clusterCosts(SearchContext ctx, int cluster) {
+        int offset = clusterNodeBegin[cluster];
+        double[] costs = new double[clusterNodeBegin[cluster + 1] - offset];
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = ctx.costOf(nodeCell[clusterNodes[offset + i]]);
+        }
+        return costs;
+    }
+
+    /**
+     * 시야가 닿는 가장 먼 지점으로 건너뛰며 꺾이는 지점만 남긴다. 입력이 이미 성긴 경로이므로 검사 횟수가 적다.
+     */
+    private int[] straighten(int[] cells) {
+        if (cells.length <= 2) return cells;
+        GridSpec spec = grid.spec();
+        int[] result = new int[cells.length];
+        int length = 0;
+        result[length++] = cells[0];
+        int i = 0;
+        while (i < cells.length - 1) {
+            int j = cells.length - 1;
+            while (j > i + 1 && !grid.hasLineOfSight(spec.colOf(cells[i]), spec.rowOf(cells[i]),
+                    spec.colOf(cells[j]), spec.rowOf(cells[j]))) {
+                j--;
+            }
+            result[length++] = cells[j];
+            i = j;
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * source에서 bounds(minCol, minRow, maxCol, maxRow) 안의 모든 셀까지 8방향 보행 비용. 결과는 ctx.costOf로 읽는다.
+     */
+    private static void dijkstraWithin(WalkabilityGrid grid, SearchContext ctx, int source, int[] bounds) {
+        GridSpec spec = grid.spec();
+        double straight = spec.cellSize();
+        double diagonal = straight * SQRT2;
+        ctx.restart();
+        ctx.visit(source, 0.0, -1);
+        ctx.open.insertOrDecrease(source, 0.0);
+        while (!ctx.open.isEmpty()) {
+            int current = ctx.open.poll();
+            ctx.markClosed(current);
+            int col = spec.colOf(current);
+            int row = spec.rowOf(current);
+            double currentG = ctx.g[current];
+            for (int d = 0; d < DX.length; d++) {
+                int nextCol = col + DX[d];
+                int nextRow = row + DY[d];
+                if (nextCol < bounds[0] || nextCol > bounds[2] || nextRow < bounds[1] || nextRow > bounds[3]) continue;
+                if (!grid.canStep(col, row, DX[d], DY[d])) continue;
+                int next = spec.cell(nextCol, nextRow);
+                if (ctx.isClosed(next)) continue;
+                double tentative = currentG + ((DX[d] != 0 && DY[d] != 0) ? diagonal : straight);
+                if (tentative >= ctx.costOf(next)) continue;
+                ctx.visit(next, tentative, current);
+                ctx.open.insertOrDecrease(next, tentative);
+            }
+        }
+    }
+
+    private static int clusterOf(GridSpec spec, int clusterSize, int clusterCols, int cell) {
+        return (spec.rowOf(cell) / clusterSize) * clusterCols + spec.colOf(cell) / clusterSize;
+    }
+
+    /**
+     * 클러스터가 덮는 셀 범위 {minCol, minRow, maxCol, maxRow}
+     */
+    private static int[] bounds(GridSpec spec, int clusterSize, int clusterCols, int cluster) {
+        int minCol = (cluster % clusterCols) * clusterSize;
+        int minRow = (cluster / clusterCols) * clusterSize;
+        return new int[]{
+                minCol, minRow,
+                Math.min(spec.cols(), minCol + clusterSize) - 1,
+                Math.min(spec.rows(), minRow + clusterSize) - 1
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * 노드 번호(int)를 직접 담는 이진 최소 힙. decrease-key를 지원해 같은 노드가 중복으로 들어가지 않는다.
+ * 객체 할당 없이 재사용할 수 있도록 clear() 시 남아 있던 노드의 위치만 되돌린다.
+ */
+final class IndexedMinHeap {
+
+    private int[] heap;
+    private int[] position;
+    private double[] keys;
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    void ensureCapacity(int capacity) {
+        if (capacity <= position.length) return;
+        int oldLength = position.length;
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        position = Arrays.copyOf(position, capacity);
+        Arrays.fill(position, oldLength, capacity, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int node) {
+        return position[node] >= 0;
+    }
+
+    double minKey() {
+        return keys[heap[0]];
+    }
+
+    int peek() {
+        return heap[0];
+    }
+
+    /**
+     * 새 노드를 넣거나, 이미 있으면 key가 더 작을 때만 갱신한다.
+     */
+    void insertOrDecrease(int node, double key) {
+        int pos = position[node];
+        if (pos < 0) {
+            keys[node] = key;
+            heap[size] = node;
+            position[node] = size;
+            siftUp(size++);
+        } else if (key < keys[node]) {
+            keys[node] = key;
+            siftUp(pos);
+        }
+    }
+
+    /**
+     * key 증감과 무관하게 값을 바꾼다 (증분 재탐색용).
+     */
+    void update(int node, double key) {
+        int pos = position[node];
+        if (pos < 0) {
+            insertOrDecrease(node, key);
+            return;
+        }
+        double old = keys[node];
+        keys[node] = key;
+        if (key < old) siftUp(pos);
+        else siftDown(pos);
+    }
+
+    void remove(int node) {
+        int pos = position[node];
+        if (pos < 0) return;
+        int last = heap[--size];
+        position[node] = -1;
+        if (pos == size) return;
+        heap[pos] = last;
+        position[last] = pos;
+        siftUp(pos);
+        siftDown(position[last]);
+    }
+
+    int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int pos) {
+        int node = heap[pos];
+        double key = keys[node];
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parent = heap[parentPos];
+            if (keys[parent] <= key) break;
+            heap[pos] = parent;
+            position[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = node;
+        position[node] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int node = heap[pos];
+        double key = keys[node];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) child = right;
+            if (keys[heap[child]] >= key) break;
+            heap[pos] = heap[child];
+            position[heap[child]] = pos;
+            pos = child;
+        }
+        heap[pos] = node;
+        position[node] = pos;
+    }
+}
@@ -0,0 +1,142 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * VenueGraph 위에서 층 이동을 포함한 경로를 한 번의 A*로 찾는다.
+ * 계단 후보를 하나씩 골라 층별 탐색을 반복하는 대신, 모든 연결 시설을 수직 간선으로 두고
+ * 휴리스틱이 "현재 층에서 나갈 수 있는 연결 지점을 거쳐야 한다"는 하한을 반영해 먼 계단은 자연스럽게 가지치기된다.
+ */
+public final class LayeredAStar {
+
+    private static final double SQRT2 = Math.sqrt(2.0);
+    private static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+
+    private LayeredAStar() {
+    }
+
+    /**
+     * 한도(확장 횟수/마감 시각)가 있는 탐색. 한도에 걸리면 목표에 가장 가까워 보이는 노드까지의 부분 경로를 돌려준다.
+     */
+    public static SearchResult search(VenueGraph graph, int startNode, int goalNode, SearchBudget budget) {
+        if (graph.isBlocked(startNode) || graph.isBlocked(goalNode)) return SearchResult.unreachable();
+        if (startNode == goalNode) return SearchResult.found(new int[]{startNode});
+
+        GridSpec spec = graph.spec();
+        Heuristic heuristic = new Heuristic(graph, goalNode);
+
+        try (SearchContext ctx = SearchContext.acquire(graph.nodeCount())) {
+            IndexedMinHeap open = ctx.open;
+            double startH = heuristic.estimate(startNode);
+            if (Double.isInfinite(startH)) return SearchResult.unreachable();
+            ctx.visit(startNode, 0.0, -1);
+            open.insertOrDecrease(startNode, startH);
+
+            int closest = startNode;
+            double closestH = startH;
+            while (!open.isEmpty()) {
+                int current = open.poll();
+                if (current == goalNode) return SearchResult.found(reconstruct(ctx, goalNode));
+                double h = heuristic.estimate(current);
+                if (h < closestH) {
+                    closestH = h;
+                    closest = current;
+                }
+                if (!budget.tick()) return SearchResult.exhausted(reconstruct(ctx, closest));
+                ctx.markClosed(current);
+
+                int layer = graph.layerOfNode(current);
+                int cell = graph.cellOfNode(current);
+                int col = spec.colOf(cell);
+                int row = spec.rowOf(cell);
+                int layerBase = current - cell;
+                WalkabilityGrid grid = graph.grid(layer);
+                double currentG = ctx.g[current];
+
+                for (int d = 0; d < DX.length; d++) {
+                    int dx = DX[d];
+                    int dy = DY[d];
+                    if (!grid.canStep(col, row, dx, dy)) continue;
+                    int next = layerBase + spec.cell(col + dx, row + dy);
+                    double step = (dx != 0 && dy != 0) ? spec.cellSize() * SQRT2 : spec.cellSize();
+                    relax(ctx, heuristic, current, next, currentG + step);
+                }
+
+                for (int e = graph.edgeBegin(current), end = graph.edgeEnd(current); e < end; e++) {
+                    relax(ctx, heuristic, current, graph.edgeTarget(e), currentG + graph.edgeCost(e));
+                }
+            }
+            return SearchResult.unreachable();
+        }
+    }
+
+    private static void relax(SearchContext ctx, Heuristic heuristic, int from, int next, double tentative) {
+        if (ctx.isClosed(next)) return;
+        if (tentative >= ctx.costOf(next)) return;
+        double h = heuristic.estimate(next);
+        // 목표 층으로 이어지는 연결 시설이 없는 층은 탐색하지 않음
+        if (Double.isInfinite(h)) return;
+        ctx.visit(next, tentative, from);
+        ctx.open.insertOrDecrease(next, tentative + h);
+    }
+
+    private static int[] reconstruct(SearchContext ctx, int goal) {
+        int length = 0;
+        for (int node = goal; node != -1; node = ctx.parent[node]) length++;
+        int[] path = new int[length];
+        for (int node = goal, i = length - 1; node != -1; node = ctx.parent[node], i--) {
+            path[i] = node;
+        }
+        return path;
+    }
+
+    /**
+     * 다른 층에 있는 노드는 현재 층의 연결 지점 p 중 하나를 반드시 지나야 하므로
+     * min_p(octile(n, p) + octile(p, goal)) + (층 차이 × 층당 최소 비용)을 하한으로 쓴다.
+     * 수직 간선 비용에 수평 변위가 포함되어 있어 이 추정치는 일관적(consistent)이다.
+     * 대칭이므로 D* Lite에서는 현재 위치를 goal 자리에 두고 그대로 쓴다.
+     */
+    static final class Heuristic {
+
+        private final VenueGraph graph;
+        private final GridSpec spec;
+        private final int goalLayer;
+        private final int goalFloor;
+        private final int goalCol;
+        private final int goalRow;
+        private final double straight;
+        private final double diagonal;
+
+        Heuristic(VenueGraph graph, int goalNode) {
+            this.graph = graph;
+            this.spec = graph.spec();
+            this.goalLayer = graph.layerOfNode(goalNode);
+            this.goalFloor = graph.floorOfLayer(goalLayer);
+            int goalCell = graph.cellOfNode(goalNode);
+            this.goalCol = spec.colOf(goalCell);
+            this.goalRow = spec.rowOf(goalCell);
+            this.straight = spec.cellSize();
+            this.diagonal = straight * SQRT2;
+        }
+
+        double estimate(int node) {
+            int layer = graph.layerOfNode(node);
+            int cell = graph.cellOfNode(node);
+            int col = spec.colOf(cell);
+            int row = spec.rowOf(cell);
+            if (layer == goalLayer) {
+                return GridAStar.octile(col, row, goalCol, goalRow, straight, diagonal);
+            }
+
+            double best = Double.POSITIVE_INFINITY;
+            for (int portal : graph.portalsOf(layer)) {
+                int portalCell = graph.cellOfNode(portal);
+                int pc = spec.colOf(portalCell);
+                int pr = spec.rowOf(portalCell);
+                double viaPortal = GridAStar.octile(col, row, pc, pr, straight, diagonal)
+                        + GridAStar.octile(pc, pr, goalCol, goalRow, straight, diagonal);
+                if (viaPortal < best) best = viaPortal;
+            }
+            return best + graph.minCostPerFloor() * Math.abs(graph.floorOfLayer(layer) - goalFloor);
+        }
+    }
+}
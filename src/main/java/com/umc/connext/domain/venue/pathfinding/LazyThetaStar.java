@@ -0,0 +1,128 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * WalkabilityGrid 위의 any-angle 탐색 (Lazy Theta*, Nash 2010).
+ * 이웃을 열 때 부모를 "현재 노드의 부모"로 낙관적으로 잡아 두고, 노드를 꺼낼 때 한 번만 시야(LOS)를 확인한다.
+ * 시야가 없으면 이미 닫힌 이웃 중 가장 싼 쪽으로 부모를 바로잡는다.
+ * 부모 포인터가 곧 꺾이는 지점이므로 결과가 이미 직선화되어 있고, LOS 검사는 확장한 노드 수만큼만 일어난다.
+ */
+public final class LazyThetaStar {
+
+    private static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+
+    private LazyThetaStar() {
+    }
+
+    /**
+     * 한도(확장 횟수/마감 시각)가 있는 탐색. 한도에 걸리면 목표에 가장 가까이 간 지점까지의 부분 경로를 돌려준다.
+     */
+    public static SearchResult search(WalkabilityGrid grid, int startCell, int goalCell, SearchBudget budget) {
+        GridSpec spec = grid.spec();
+        return search(grid, startCell, goalCell, budget, 0, 0, spec.cols() - 1, spec.rows() - 1);
+    }
+
+    /**
+     * [minCol, maxCol] × [minRow, maxRow] 사각형 안의 셀만 사용하는 탐색 (계층 탐색의 클러스터 내부 정제용)
+     */
+    static SearchResult search(WalkabilityGrid grid, int startCell, int goalCell, SearchBudget budget,
+                               int minCol, int minRow, int maxCol, int maxRow) {
+        if (grid.isBlocked(startCell) || grid.isBlocked(goalCell)) return SearchResult.unreachable();
+        if (startCell == goalCell) return SearchResult.found(new int[]{startCell});
+
+        GridSpec spec = grid.spec();
+        int goalCol = spec.colOf(goalCell);
+        int goalRow = spec.rowOf(goalCell);
+
+        try (SearchContext ctx = SearchContext.acquire(spec.cellCount())) {
+            IndexedMinHeap open = ctx.open;
+            ctx.visit(startCell, 0.0, -1);
+            open.insertOrDecrease(startCell, distance(spec, startCell, goalCol, goalRow));
+
+            int closest = startCell;
+            double closestH = Double.POSITIVE_INFINITY;
+            while (!open.isEmpty()) {
+                int current = open.poll();
+                setVertex(grid, ctx, current);
+                if (current == goalCell) return SearchResult.found(reconstruct(ctx, goalCell));
+                double h = distance(spec, current, goalCol, goalRow);
+                if (h < closestH) {
+                    closestH = h;
+                    closest = current;
+                }
+                if (!budget.tick()) return SearchResult.exhausted(reconstruct(ctx, closest));
+                ctx.markClosed(current);
+
+                int col = spec.colOf(current);
+                int row = spec.rowOf(current);
+                // 시작 노드는 자기 자신을 부모로 본다
+                int origin = ctx.parent[current] == -1 ? current : ctx.parent[current];
+                double originG = ctx.g[origin];
+                for (int d = 0; d < DX.length; d++) {
+                    if (!grid.canStep(col, row, DX[d], DY[d])) continue;
+                    int nextCol = col + DX[d];
+                    int nextRow = row + DY[d];
+                    if (nextCol < minCol || nextCol > maxCol || nextRow < minRow || nextRow > maxRow) continue;
+                    int next = spec.cell(nextCol, nextRow);
+                    if (ctx.isClosed(next)) continue;
+
+                    // 시야 확인은 미루고 부모의 부모에서 곧장 온다고 가정
+                    double tentative = originG + distance(spec, origin, next);
+                    if (tentative >= ctx.costOf(next)) continue;
+                    ctx.visit(next, tentative, origin);
+                    open.insertOrDecrease(next, tentative + distance(spec, next, goalCol, goalRow));
+                }
+            }
+            return SearchResult.unreachable();
+        }
+    }
+
+    /**
+     * 꺼낸 노드의 부모에서 실제로 시야가 없으면, 닫힌 이웃 중 g + 이동 비용이 가장 작은 쪽을 부모로 삼는다.
+     */
+    private static void setVertex(WalkabilityGrid grid, SearchContext ctx, int node) {
+        int parent = ctx.parent[node];
+        if (parent == -1) return;
+        GridSpec spec = grid.spec();
+        int col = spec.colOf(node);
+        int row = spec.rowOf(node);
+        if (grid.hasLineOfSight(spec.colOf(parent), spec.rowOf(parent), col, row)) return;
+
+        int bestParent = -1;
+        double bestG = Double.POSITIVE_INFINITY;
+        for (int d = 0; d < DX.length; d++) {
+            if (!grid.canStep(col, row, DX[d], DY[d])) continue;
+            int neighbor = spec.cell(col + DX[d], row + DY[d]);
+            if (!ctx.isClosed(neighbor)) continue;
+            double g = ctx.g[neighbor] + distance(spec, neighbor, node);
+            if (g < bestG) {
+                bestG = g;
+                bestParent = neighbor;
+            }
+        }
+        if (bestParent != -1) {
+            ctx.visit(node, bestG, bestParent);
+        }
+    }
+
+    private static double distance(GridSpec spec, int from, int to) {
+        return distance(spec, from, spec.colOf(to), spec.rowOf(to));
+    }
+
+    /**
+     * 셀 중심 간 유클리드 거리 (any-angle 이동에서 일관된 휴리스틱)
+     */
+    private static double distance(GridSpec spec, int from, int col, int row) {
+        return Math.hypot(spec.colOf(from) - col, spec.rowOf(from) - row) * spec.cellSize();
+    }
+
+    private static int[] reconstruct(SearchContext ctx, int goal) {
+        int length = 0;
+        for (int node = goal; node != -1; node = ctx.parent[node]) length++;
+        int[] path = new int[length];
+        for (int node = goal, i = length - 1; node != -1; node = ctx.parent[node], i--) {
+            path[i] = node;
+        }
+        return path;
+    }
+}
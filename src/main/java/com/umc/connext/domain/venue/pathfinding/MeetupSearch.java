@@ -0,0 +1,99 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * 여러 사람이 만날 지점 선택.
+ * 사람마다 한 번씩 계산한 거리장(또는 후보별 거리 표)을 합쳐, 가장 먼 사람의 거리(MIN_MAX)나
+ * 거리의 합(MIN_SUM)이 가장 작은 지점을 고른다. 동률이면 다른 쪽 값이 작은 지점을 고른다.
+ */
+public final class MeetupSearch {
+
+    public enum Objective {
+        // 가장 오래 걷는 사람의 거리를 최소화
+        MIN_MAX,
+        // 전체 보행 거리의 합을 최소화
+        MIN_SUM
+    }
+
+    /**
+     * @param index     선택된 노드(bestNode) 또는 후보 인덱스(bestCandidate), 없으면 -1
+     * @param distances 사람별 보행 거리
+     */
+    public record Result(int index, double[] distances, double max, double sum) {
+
+        public boolean found() {
+            return index >= 0;
+        }
+    }
+
+    private static final Result NOT_FOUND = new Result(-1, new double[0], Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+    private MeetupSearch() {
+    }
+
+    /**
+     * 그래프 전체 노드 중 모든 사람이 도달할 수 있는 최적 노드.
+     * 부분 합/최댓값이 현재 최선을 넘으면 그 노드의 나머지 사람은 보지 않는다.
+     */
+    public static Result bestNode(DistanceField[] fields, int nodeCount, Objective objective) {
+        int best = -1;
+        double bestPrimary = Double.POSITIVE_INFINITY;
+        double bestSecondary = Double.POSITIVE_INFINITY;
+
+        nodes:
+        for (int node = 0; node < nodeCount; node++) {
+            double max = 0.0;
+            double sum = 0.0;
+            for (DistanceField field : fields) {
+                double distance = field.distance(node);
+                if (Double.isInfinite(distance)) continue nodes;
+                max = Math.max(max, distance);
+                sum += distance;
+                if ((objective == Objective.MIN_MAX ? max : sum) > bestPrimary) continue nodes;
+            }
+            double primary = objective == Objective.MIN_MAX ? max : sum;
+            double secondary = objective == Objective.MIN_MAX ? sum : max;
+            if (primary < bestPrimary || (primary == bestPrimary && secondary < bestSecondary)) {
+                best = node;
+                bestPrimary = primary;
+                bestSecondary = secondary;
+            }
+        }
+        if (best < 0) return NOT_FOUND;
+
+        double[] distances = new double[fields.length];
+        for (int m = 0; m < fields.length; m++) distances[m] = fields[m].distance(best);
+        return result(best, distances);
+    }
+
+    /**
+     * 후보별 사람 거리 표(distances[후보][사람]) 중 최적 후보. 한 사람이라도 도달할 수 없는 후보는 제외한다.
+     */
+    public static Result bestCandidate(double[][] distances, Objective objective) {
+        Result best = NOT_FOUND;
+        for (int c = 0; c < distances.length; c++) {
+            Result candidate = result(c, distances[c]);
+            if (Double.isInfinite(candidate.max())) continue;
+            if (better(candidate, best, objective)) best = candidate;
+        }
+        return best;
+    }
+
+    private static boolean better(Result a, Result b, Objective objective) {
+        double primaryA = objective == Objective.MIN_MAX ? a.max() : a.sum();
+        double primaryB = objective == Objective.MIN_MAX ? b.max() : b.sum();
+        if (primaryA != primaryB) return primaryA < primaryB;
+        double secondaryA = objective == Objective.MIN_MAX ? a.sum() : a.max();
+        double secondaryB = objective == Objective.MIN_MAX ? b.sum() : b.max();
+        return secondaryA < secondaryB;
+    }
+
+    private static Result result(int index, double[] distances) {
+        double max = 0.0;
+        double sum = 0.0;
+        for (double distance : distances) {
+            max = Math.max(max, distance);
+            sum += distance;
+        }
+        return new Result(index, distances, max, sum);
+    }
+}
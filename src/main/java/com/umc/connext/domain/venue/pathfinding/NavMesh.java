@@ -0,0 +1,300 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+import org.locationtech.jts.triangulate.ConformingDelaunayTriangulationBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 층의 이동 가능 영역을 삼각형으로 분할한 내비게이션 메시.
+ * 격자 범위 사각형에서 장애물 합집합을 뺀 영역을 conforming Delaunay로 삼각분할하므로
+ * 장애물 경계가 삼각형 변으로 그대로 보존되고, 노드 수가 격자 셀 수보다 훨씬 적다.
+ * 삼각형 t의 i번째 변은 정점 (i, i+1)이며, 정점은 반시계 방향으로 저장한다.
+ */
+public final class NavMesh {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+    private static final double EPSILON = 1e-9;
+
+    private final double[] vx;
+    private final double[] vy;
+    private final int[] triangles;
+    private final int[] neighbors;
+    private final double[] centroidX;
+    private final double[] centroidY;
+    private final STRtree index;
+
+    private NavMesh(double[] vx, double[] vy, int[] triangles, int[] neighbors) {
+        this.vx = vx;
+        this.vy = vy;
+        this.triangles = triangles;
+        this.neighbors = neighbors;
+
+        int count = triangles.length / 3;
+        this.centroidX = new double[count];
+        this.centroidY = new double[count];
+        STRtree tree = new STRtree();
+        for (int t = 0; t < count; t++) {
+            Envelope envelope = new Envelope();
+            for (int i = 0; i < 3; i++) {
+                int v = triangles[t * 3 + i];
+                centroidX[t] += vx[v] / 3.0;
+                centroidY[t] += vy[v] / 3.0;
+                envelope.expandToInclude(vx[v], vy[v]);
+            }
+            tree.insert(envelope, t);
+        }
+        tree.build();
+        this.index = tree;
+    }
+
+    /**
+     * 격자 범위에서 장애물을 뺀 영역을 삼각분할한다.
+     * 자기 교차 등으로 유효하지 않은 장애물 폴리곤은 buffer(0)으로 보정한 뒤 합친다.
+     */
+    public static NavMesh build(GridSpec spec, List<Polygon> obstacles, double tolerance) {
+        Geometry bounds = GEOMETRY_FACTORY.toGeometry(new Envelope(
+                spec.originX(), spec.originX() + spec.cols() * spec.cellSize(),
+                spec.originY(), spec.originY() + spec.rows() * spec.cellSize()));
+
+        List<Geometry> valid = new ArrayList<>(obstacles.size());
+        for (Polygon obstacle : obstacles) {
+            valid.add(obstacle.isValid() ? obstacle : obstacle.buffer(0));
+        }
+        Geometry walkable = valid.isEmpty() ? bounds : bounds.difference(UnaryUnionOp.union(valid));
+
+        ConformingDelaunayTriangulationBuilder builder = new ConformingDelaunayTriangulationBuilder();
+        builder.setSites(walkable);
+        builder.setConstraints(walkable);
+        builder.setTolerance(tolerance);
+        Geometry triangulation = builder.getTriangles(GEOMETRY_FACTORY);
+
+        // 삼각분할은 볼록 껍질 전체를 덮으므로 무게중심이 이동 가능 영역 안에 있는 삼각형만 남긴다
+        IndexedPointInAreaLocator locator = new IndexedPointInAreaLocator(walkable);
+        List<Coordinate[]> kept = new ArrayList<>(triangulation.getNumGeometries());
+        for (int i = 0; i < triangulation.getNumGeometries(); i++) {
+            Coordinate[] ring = triangulation.getGeometryN(i).getCoordinates();
+            Coordinate centroid = new Coordinate(
+                    (ring[0].x + ring[1].x + ring[2].x) / 3.0,
+                    (ring[0].y + ring[1].y + ring[2].y) / 3.0);
+            if (locator.locate(centroid) == Location.INTERIOR) {
+                kept.add(new Coordinate[]{ring[0], ring[1], ring[2]});
+            }
+        }
+        return fromTriangles(kept);
+    }
+
+    /**
+     * 삼각형 목록에서 정점을 공유하도록 합치고 변을 공유하는 삼각형끼리 이웃으로 연결한다.
+     */
+    static NavMesh fromTriangles(List<Coordinate[]> input) {
+        Map<Coordinate, Integer> vertexIds = new HashMap<>();
+        List<Coordinate> vertices = new ArrayList<>();
+        int[] triangles = new int[input.size() * 3];
+        int count = 0;
+        for (Coordinate[] triangle : input) {
+            int a = vertexId(triangle[0], vertexIds, vertices);
+            int b = vertexId(triangle[1], vertexIds, vertices);
+            int c = vertexId(triangle[2], vertexIds, vertices);
+            double area = cross(triangle[0].x, triangle[0].y, triangle[1].x, triangle[1].y, triangle[2].x, triangle[2].y);
+            if (Math.abs(area) < EPSILON) continue;
+            triangles[count * 3] = a;
+            triangles[count * 3 + 1] = area > 0 ? b : c;
+            triangles[count * 3 + 2] = area > 0 ? c : b;
+            count++;
+        }
+        int[] compact = Arrays.copyOf(triangles, count * 3);
+
+        int[] neighbors = new int[count * 3];
+        Arrays.fill(neighbors, -1);
+        Map<Long, Integer> openEdges = new HashMap<>();
+        for (int t = 0; t < count; t++) {
+            for (int i = 0; i < 3; i++) {
+                int a = compact[t * 3 + i];
+                int b = compact[t * 3 + (i + 1) % 3];
+                long key = ((long) Math.min(a, b) << 32) | Math.max(a, b);
+                Integer other = openEdges.remove(key);
+                if (other == null) {
+                    openEdges.put(key, t * 3 + i);
+                } else {
+                    neighbors[t * 3 + i] = other / 3;
+                    neighbors[other] = t;
+                }
+            }
+        }
+
+        double[] vx = new double[vertices.size()];
+        double[] vy = new double[vertices.size()];
+        for (int i = 0; i < vertices.size(); i++) {
+            vx[i] = vertices.get(i).x;
+            vy[i] = vertices.get(i).y;
+        }
+        return new NavMesh(vx, vy, compact, neighbors);
+    }
+
+    private static int vertexId(Coordinate coordinate, Map<Coordinate, Integer> ids, List<Coordinate> vertices) {
+        Integer id = ids.get(coordinate);
+        if (id != null) return id;
+        Coordinate key = new Coordinate(coordinate.x, coordinate.y);
+        ids.put(key, vertices.size());
+        vertices.add(key);
+        return vertices.size() - 1;
+    }
+
+    public int triangleCount() {
+        return centroidX.length;
+    }
+
+    public int vertexCount() {
+        return vx.length;
+    }
+
+    /**
+     * 삼각형 t의 i번째 정점 인덱스 (i = 0..2)
+     */
+    public int vertex(int t, int i) {
+        return triangles[t * 3 + i];
+    }
+
+    public double vertexX(int v) {
+        return vx[v];
+    }
+
+    public double vertexY(int v) {
+        return vy[v];
+    }
+
+    /**
+     * 삼각형 t의 i번째 변 너머의 삼각형 (경계면 -1)
+     */
+    public int neighbor(int t, int i) {
+        return neighbors[t * 3 + i];
+    }
+
+    public double centroidX(int t) {
+        return centroidX[t];
+    }
+
+    public double centroidY(int t) {
+        return centroidY[t];
+    }
+
+    /**
+     * 좌표를 포함하는 삼각형 (메시 밖이면 -1). 변 위의 점은 인접 삼각형 중 하나를 돌려준다.
+     */
+    public int locate(double x, double y) {
+        @SuppressWarnings("unchecked")
+        List<Integer> candidates = index.query(new Envelope(x, x, y, y));
+        for (int t : candidates) {
+            if (contains(t, x, y)) return t;
+        }
+        return -1;
+    }
+
+    /**
+     * 좌표를 메시 위로 보정한다. 메시 안이면 그대로, 밖이면 maxDistance 안의 가장 가까운 삼각형 위 점. 없으면 null.
+     */
+    public Coordinate clamp(Coordinate point, double maxDistance) {
+        if (locate(point.x, point.y) >= 0) return point;
+
+        Envelope search = new Envelope(point.x - maxDistance, point.x + maxDistance,
+                point.y - maxDistance, point.y + maxDistance);
+        @SuppressWarnings("unchecked")
+        List<Integer> candidates = index.query(search);
+        double bestDistance = maxDistance * maxDistance;
+        double[] best = null;
+        int bestTriangle = -1;
+        for (int t : candidates) {
+            double[] closest = closestPoint(t, point.x, point.y);
+            double dx = closest[0] - point.x;
+            double dy = closest[1] - point.y;
+            double distance = dx * dx + dy * dy;
+            if (distance <= bestDistance) {
+                bestDistance = distance;
+                best = closest;
+                bestTriangle = t;
+            }
+        }
+        if (best == null) return null;
+        // 변 위의 점은 부동소수 오차로 locate에 실패할 수 있어 무게중심 쪽으로 살짝 밀어 넣는다
+        double x = best[0] + (centroidX[bestTriangle] - best[0]) * 1e-6;
+        double y = best[1] + (centroidY[bestTriangle] - best[1]) * 1e-6;
+        return new Coordinate(x, y);
+    }
+
+    private boolean contains(int t, double x, double y) {
+        int a = triangles[t * 3];
+        int b = triangles[t * 3 + 1];
+        int c = triangles[t * 3 + 2];
+        return cross(vx[a], vy[a], vx[b], vy[b], x, y) >= -EPSILON
+                && cross(vx[b], vy[b], vx[c], vy[c], x, y) >= -EPSILON
+                && cross(vx[c], vy[c], vx[a], vy[a], x, y) >= -EPSILON;
+    }
+
+    /**
+     * 삼각형 위에서 (x, y)에 가장 가까운 점 (Ericson, Real-Time Collision Detection 5.1.5)
+     */
+    private double[] closestPoint(int t, double px, double py) {
+        int a = triangles[t * 3];
+        int b = triangles[t * 3 + 1];
+        int c = triangles[t * 3 + 2];
+        double ax = vx[a], ay = vy[a], bx = vx[b], by = vy[b], cx = vx[c], cy = vy[c];
+        double abx = bx - ax, aby = by - ay, acx = cx - ax, acy = cy - ay;
+        double apx = px - ax, apy = py - ay;
+        double d1 = abx * apx + aby * apy;
+        double d2 = acx * apx + acy * apy;
+        if (d1 <= 0 && d2 <= 0) return new double[]{ax, ay};
+
+        double bpx = px - bx, bpy = py - by;
+        double d3 = abx * bpx + aby * bpy;
+        double d4 = acx * bpx + acy * bpy;
+        if (d3 >= 0 && d4 <= d3) return new double[]{bx, by};
+
+        double vc = d1 * d4 - d3 * d2;
+        if (vc <= 0 && d1 >= 0 && d3 <= 0) {
+            double v = d1 / (d1 - d3);
+            return new double[]{ax + v * abx, ay + v * aby};
+        }
+
+        double cpx = px - cx, cpy = py - cy;
+        double d5 = abx * cpx + aby * cpy;
+        double d6 = acx * cpx + acy * cpy;
+        if (d6 >= 0 && d5 <= d6) return new double[]{cx, cy};
+
+        double vb = d5 * d2 - d1 * d6;
+        if (vb <= 0 && d2 >= 0 && d6 <= 0) {
+            double w = d2 / (d2 - d6);
+            return new double[]{ax + w * acx, ay + w * acy};
+        }
+
+        double va = d3 * d6 - d5 * d4;
+        if (va <= 0 && (d4 - d3) >= 0 && (d5 - d6) >= 0) {
+            double w = (d4 - d3) / ((d4 - d3) + (d5 - d6));
+            return new double[]{bx + w * (cx - bx), by + w * (cy - by)};
+        }
+
+        double denom = 1.0 / (va + vb + vc);
+        double v = vb * denom;
+        double w = vc * denom;
+        return new double[]{ax + abx * v + acx * w, ay + aby * v + acy * w};
+    }
+
+    /**
+     * (b - a) × (c - a). 양수면 c가 a→b의 왼쪽(반시계)에 있다.
+     */
+    static double cross(double ax, double ay, double bx, double by, double cx, double cy) {
+        return (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+    }
+}
@@ -0,0 +1,192 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.locationtech.jts.geom.Coordinate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NavMesh 위의 경로 탐색.
+ * 삼각형을 노드로 A*를 돌려 통과할 삼각형 통로(corridor)를 찾고,
+ * 통로의 공유 변(portal)에 funnel 알고리즘을 적용해 장애물 모서리만 꺾이는 any-angle 경로를 만든다.
+ * 결과가 이미 직선화되어 있으므로 별도의 smoothing이 필요 없다.
+ */
+public final class NavMeshAStar {
+
+    private static final double EPSILON_SQ = 1e-12;
+
+    private NavMeshAStar() {
+    }
+
+    /**
+     * start에서 goal까지의 좌표 경로 (양 끝 포함). 두 점 중 하나가 메시 밖이거나 경로가 없으면 null.
+     * 한도에 걸리거나 탐색 스레드가 인터럽트되면(취소된 후보 구간) 경로 없이 null로 끝난다.
+     */
+    public static List<Coordinate> search(NavMesh mesh, Coordinate start, Coordinate goal, SearchBudget budget) {
+        int startTriangle = mesh.locate(start.x, start.y);
+        int goalTriangle = mesh.locate(goal.x, goal.y);
+        if (startTriangle < 0 || goalTriangle < 0) return null;
+
+        int[] corridor = findCorridor(mesh, startTriangle, start, goalTriangle, goal, budget);
+        if (corridor == null) return null;
+        return funnel(mesh, corridor, start, goal);
+    }
+
+    /**
+     * 삼각형 통로 탐색. 각 삼각형에 들어온 변의 중점을 그 삼각형의 대표점으로 삼아 비용을 잰다.
+     */
+    static int[] findCorridor(NavMesh mesh, int startTriangle, Coordinate start,
+                              int goalTriangle, Coordinate goal, SearchBudget budget) {
+        if (startTriangle == goalTriangle) return new int[]{startTriangle};
+
+        int count = mesh.triangleCount();
+        double[] entryX = new double[count];
+        double[] entryY = new double[count];
+
+        try (SearchContext ctx = SearchContext.acquire(count)) {
+            entryX[startTriangle] = start.x;
+            entryY[startTriangle] = start.y;
+            ctx.visit(startTriangle, 0.0, -1);
+            ctx.open.insertOrDecrease(startTriangle, Math.hypot(goal.x - start.x, goal.y - start.y));
+
+            while (!ctx.open.isEmpty()) {
+                int current = ctx.open.poll();
+                if (current == goalTriangle) return reconstruct(ctx, goalTriangle);
+                if (!budget.tick()) return null;
+                ctx.markClosed(current);
+
+                for (int i = 0; i < 3; i++) {
+                    int next = mesh.neighbor(current, i);
+                    if (next < 0 || ctx.isClosed(next)) continue;
+                    int a = mesh.vertex(current, i);
+                    int b = mesh.vertex(current, (i + 1) % 3);
+                    double mx = (mesh.vertexX(a) + mesh.vertexX(b)) * 0.5;
+                    double my = (mesh.vertexY(a) + mesh.vertexY(b)) * 0.5;
+                    double tentative = ctx.g[current] + Math.hypot(mx - entryX[current], my - entryY[current]);
+                    if (tentative >= ctx.costOf(next)) continue;
+                    entryX[next] = mx;
+                    entryY[next] = my;
+                    ctx.visit(next, tentative, current);
+                    ctx.open.insertOrDecrease(next, tentative + Math.hypot(goal.x - mx, goal.y - my));
+                }
+            }
+            return null;
+        }
+    }
+
+    private static int[] reconstruct(SearchContext ctx, int goal) {
+        int length = 0;
+        for (int t = goal; t != -1; t = ctx.parent[t]) length++;
+        int[] corridor = new int[length];
+        for (int t = goal, i = length - 1; t != -1; t = ctx.parent[t], i--) {
+            corridor[i] = t;
+        }
+        return corridor;
+    }
+
+    /**
+     * Simple Stupid Funnel Algorithm (Mononen).
+     * 진행 방향 기준 왼쪽/오른쪽 경계를 좁혀 가다가 한쪽이 반대쪽을 넘어서면 그 꼭짓점을 경로에 추가하고 다시 시작한다.
+     */
+    static List<Coordinate> funnel(NavMesh mesh, int[] corridor, Coordinate start, Coordinate goal) {
+        int portalCount = corridor.length + 1;
+        double[] leftX = new double[portalCount];
+        double[] leftY = new double[portalCount];
+        double[] rightX = new double[portalCount];
+        double[] rightY = new double[portalCount];
+        leftX[0] = rightX[0] = start.x;
+        leftY[0] = rightY[0] = start.y;
+        for (int k = 0; k + 1 < corridor.length; k++) {
+            int from = corridor[k];
+            int to = corridor[k + 1];
+            int edge = 0;
+            while (mesh.neighbor(from, edge) != to) edge++;
+            // 반시계 삼각형에서 변 (i, i+1)을 바깥쪽으로 넘을 때 i+1이 왼쪽, i가 오른쪽
+            int left = mesh.vertex(from, (edge + 1) % 3);
+            int right = mesh.vertex(from, edge);
+            leftX[k + 1] = mesh.vertexX(left);
+            leftY[k + 1] = mesh.vertexY(left);
+            rightX[k + 1] = mesh.vertexX(right);
+            rightY[k + 1] = mesh.vertexY(right);
+        }
+        leftX[portalCount - 1] = rightX[portalCount - 1] = goal.x;
+        leftY[portalCount - 1] = rightY[portalCount - 1] = goal.y;
+        return funnel(leftX, leftY, rightX, rightY);
+    }
+
+    static List<Coordinate> funnel(double[] leftX, double[] leftY, double[] rightX, double[] rightY) {
+        int portalCount = leftX.length;
+        List<Coordinate> path = new ArrayList<>();
+        double apexX = leftX[0], apexY = leftY[0];
+        double funnelLeftX = apexX, funnelLeftY = apexY;
+        double funnelRightX = apexX, funnelRightY = apexY;
+        int apexIndex = 0, leftIndex = 0, rightIndex = 0;
+        path.add(new Coordinate(apexX, apexY));
+
+        for (int i = 1; i < portalCount; i++) {
+            double lx = leftX[i], ly = leftY[i];
+            double rx = rightX[i], ry = rightY[i];
+
+            // 오른쪽 경계 갱신
+            if (NavMesh.cross(apexX, apexY, funnelRightX, funnelRightY, rx, ry) >= 0) {
+                if (same(apexX, apexY, funnelRightX, funnelRightY)
+                        || NavMesh.cross(apexX, apexY, funnelLeftX, funnelLeftY, rx, ry) < 0) {
+                    funnelRightX = rx;
+                    funnelRightY = ry;
+                    rightIndex = i;
+                } else {
+                    // 오른쪽이 왼쪽을 넘어섬: 왼쪽 꼭짓점이 새 꼭지(apex)
+                    apexX = funnelLeftX;
+                    apexY = funnelLeftY;
+                    apexIndex = leftIndex;
+                    append(path, apexX, apexY);
+                    funnelLeftX = funnelRightX = apexX;
+                    funnelLeftY = funnelRightY = apexY;
+                    leftIndex = rightIndex = apexIndex;
+                    i = apexIndex;
+                    continue;
+                }
+            }
+
+            // 왼쪽 경계 갱신
+            if (NavMesh.cross(apexX, apexY, funnelLeftX, funnelLeftY, lx, ly) <= 0) {
+                if (same(apexX, apexY, funnelLeftX, funnelLeftY)
+                        || NavMesh.cross(apexX, apexY, funnelRightX, funnelRightY, lx, ly) > 0) {
+                    funnelLeftX = lx;
+                    funnelLeftY = ly;
+                    leftIndex = i;
+                } else {
+                    apexX = funnelRightX;
+                    apexY = funnelRightY;
+                    apexIndex = rightIndex;
+                    append(path, apexX, apexY);
+                    funnelLeftX = funnelRightX = apexX;
+                    funnelLeftY = funnelRightY = apexY;
+                    leftIndex = rightIndex = apexIndex;
+                    i = apexIndex;
+                }
+            }
+        }
+
+        if (path.size() == 1) {
+            path.add(new Coordinate(leftX[portalCount - 1], leftY[portalCount - 1]));
+        } else {
+            append(path, leftX[portalCount - 1], leftY[portalCount - 1]);
+        }
+        return path;
+    }
+
+    /**
+     * 같은 꼭짓점이 연달아 꼭지가 되는 경우가 있어 직전 점과 같으면 추가하지 않는다.
+     */
+    private static void append(List<Coordinate> path, double x, double y) {
+        Coordinate last = path.get(path.size() - 1);
+        if (!same(last.x, last.y, x, y)) path.add(new Coordinate(x, y));
+    }
+
+    private static boolean same(double ax, double ay, double bx, double by) {
+        double dx = ax - bx;
+        double dy = ay - by;
+        return dx * dx + dy * dy < EPSILON_SQ;
+    }
+}
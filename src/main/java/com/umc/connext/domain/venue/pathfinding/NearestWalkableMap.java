@@ -0,0 +1,118 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * 셀마다 "가장 가까운 이동 가능 셀"을 미리 계산해 둔 표 (유클리드 거리 변환, Felzenszwalb-Huttenlocher).
+ * 열 방향 1차원 변환 후 행 방향으로 포물선 하한 포락선을 구하는 두 번의 선형 패스로 끝나며,
+ * 거리 대신 최근접 셀 번호를 기록해 두므로 좌표 보정은 배열 한 번 조회다.
+ * 이동 가능 셀 자신은 자기 번호를 가진다.
+ */
+public final class NearestWalkableMap {
+
+    private static final int NONE = -1;
+
+    private final GridSpec spec;
+    private final int[] nearest;
+
+    private NearestWalkableMap(GridSpec spec, int[] nearest) {
+        this.spec = spec;
+        this.nearest = nearest;
+    }
+
+    public static NearestWalkableMap build(WalkabilityGrid grid) {
+        GridSpec spec = grid.spec();
+        int cols = spec.cols();
+        int rows = spec.rows();
+
+        // 1단계: 같은 열에서 가장 가까운 이동 가능 행
+        int[] columnNearestRow = new int[spec.cellCount()];
+        for (int col = 0; col < cols; col++) {
+            int last = NONE;
+            for (int row = 0; row < rows; row++) {
+                int cell = spec.cell(col, row);
+                if (!grid.isBlocked(cell)) last = row;
+                columnNearestRow[cell] = last;
+            }
+            last = NONE;
+            for (int row = rows - 1; row >= 0; row--) {
+                int cell = spec.cell(col, row);
+                if (!grid.isBlocked(cell)) last = row;
+                int above = columnNearestRow[cell];
+                if (last != NONE && (above == NONE || last - row < row - above)) columnNearestRow[cell] = last;
+            }
+        }
+
+        // 2단계: 행마다 (col - q)² + f(q) 포물선들의 하한 포락선
+        int[] nearest = new int[spec.cellCount()];
+        double[] f = new double[cols];
+        int[] vertices = new int[cols];
+        double[] boundaries = new double[cols + 1];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int nearestRow = columnNearestRow[spec.cell(col, row)];
+                f[col] = nearestRow == NONE ? Double.POSITIVE_INFINITY : (double) (nearestRow - row) * (nearestRow - row);
+            }
+
+            int k = -1;
+            for (int q = 0; q < cols; q++) {
+                if (Double.isInfinite(f[q])) continue;
+                double s = Double.NEGATIVE_INFINITY;
+                while (k >= 0) {
+                    int v = vertices[k];
+                    s = ((f[q] + (double) q * q) - (f[v] + (double) v * v)) / (2.0 * (q - v));
+                    if (s <= boundaries[k]) k--;
+                    else break;
+                }
+                k++;
+                vertices[k] = q;
+                boundaries[k] = k == 0 ? Double.NEGATIVE_INFINITY : s;
+                boundaries[k + 1] = Double.POSITIVE_INFINITY;
+            }
+
+            if (k < 0) {
+                for (int col = 0; col < cols; col++) nearest[spec.cell(col, row)] = NONE;
+                continue;
+            }
+            int j = 0;
+            for (int col = 0; col < cols; col++) {
+                while (boundaries[j + 1] < col) j++;
+                int q = vertices[j];
+                nearest[spec.cell(col, row)] = spec.cell(q, columnNearestRow[spec.cell(q, row)]);
+            }
+        }
+        return new NearestWalkableMap(spec, nearest);
+    }
+
+    public GridSpec spec() {
+        return spec;
+    }
+
+    /**
+     * 좌표가 격자 안의 이동 가능 셀에 있는지
+     */
+    public boolean isWalkableAt(double x, double y) {
+        int cell = spec.cellAt(x, y);
+        return cell >= 0 && nearest[cell] == cell;
+    }
+
+    /**
+     * 셀에서 가장 가까운 이동 가능 셀 (층 전체가 막혀 있으면 -1)
+     */
+    public int nearestCell(int cell) {
+        return nearest[cell];
+    }
+
+    /**
+     * 좌표에서 가장 가까운 이동 가능 셀. 격자 밖 좌표는 가장자리 셀로 끌어들인 뒤 찾으며,
+     * maxRadius 셀보다 멀면 -1.
+     */
+    public int nearestCell(double x, double y, int maxRadius) {
+        int col = Math.max(0, Math.min(spec.cols() - 1, spec.col(x)));
+        int row = Math.max(0, Math.min(spec.rows() - 1, spec.row(y)));
+        int cell = spec.cell(col, row);
+        int target = nearest[cell];
+        if (target == NONE) return NONE;
+        long dc = spec.colOf(target) - col;
+        long dr = spec.rowOf(target) - row;
+        return dc * dc + dr * dr <= (long) maxRadius * maxRadius ? target : NONE;
+    }
+}
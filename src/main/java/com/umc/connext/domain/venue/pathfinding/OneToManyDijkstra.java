@@ -0,0 +1,108 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * 한 출발 노드에서 여러 목표 노드까지의 최단 비용을 한 번의 Dijkstra로 구한다.
+ * 목표가 모두 확정되면 즉시 멈추므로, 목표 수만큼 A*를 반복하는 것보다 탐색 영역이 훨씬 작다.
+ */
+public final class OneToManyDijkstra {
+
+    private static final double SQRT2 = Math.sqrt(2.0);
+    private static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+
+    /**
+     * 이 횟수마다 한 번 스레드 인터럽트(행렬/모임 계산 시간 초과로 인한 취소)를 확인한다
+     */
+    private static final int INTERRUPT_CHECK_INTERVAL = 256;
+
+    private OneToManyDijkstra() {
+    }
+
+    /**
+     * @param targets     목표 노드 (중복/음수 허용, 음수는 도달 불가로 처리)
+     * @param withPaths   true면 각 목표까지의 노드 경로도 함께 복원
+     * @param maxSettled  확정 노드 수 한도 (넘거나 스레드가 인터럽트되면 남은 목표는 도달 불가)
+     */
+    public static Result search(VenueGraph graph, int source, int[] targets, boolean withPaths, int maxSettled) {
+        return search(graph, source, targets, withPaths, maxSettled, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 서로 다른 목표 노드가 stopAfter개 확정되면 멈춘다. 확정 순서가 곧 비용 순서이므로 "가까운 N개" 질의에 쓴다.
+     */
+    public static Result search(VenueGraph graph, int source, int[] targets, boolean withPaths, int maxSettled,
+                                int stopAfter) {
+        double[] distances = new double[targets.length];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        int[][] paths = withPaths ? new int[targets.length][] : null;
+        if (source < 0 || graph.isBlocked(source)) return new Result(distances, paths);
+
+        GridSpec spec = graph.spec();
+        try (SearchContext ctx = SearchContext.acquire(graph.nodeCount())) {
+            int[] pending = Arrays.stream(targets)
+                    .filter(t -> t >= 0 && !graph.isBlocked(t))
+                    .distinct()
+                    .sorted()
+                    .toArray();
+            int remaining = Math.min(pending.length, stopAfter);
+
+            ctx.visit(source, 0.0, -1);
+            ctx.open.insertOrDecrease(source, 0.0);
+            int settled = 0;
+            while (!ctx.open.isEmpty() && remaining > 0 && settled++ < maxSettled) {
+                if (settled % INTERRUPT_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) break;
+                int current = ctx.open.poll();
+                ctx.markClosed(current);
+                if (Arrays.binarySearch(pending, current) >= 0) remaining--;
+
+                double currentG = ctx.g[current];
+                int cell = graph.cellOfNode(current);
+                int col = spec.colOf(cell);
+                int row = spec.rowOf(cell);
+                int layerBase = current - cell;
+                WalkabilityGrid grid = graph.grid(graph.layerOfNode(current));
+                for (int d = 0; d < DX.length; d++) {
+                    if (!grid.canStep(col, row, DX[d], DY[d])) continue;
+                    int next = layerBase + spec.cell(col + DX[d], row + DY[d]);
+                    double step = (DX[d] != 0 && DY[d] != 0) ? spec.cellSize() * SQRT2 : spec.cellSize();
+                    relax(ctx, current, next, currentG + step);
+                }
+                for (int e = graph.edgeBegin(current), end = graph.edgeEnd(current); e < end; e++) {
+                    relax(ctx, current, graph.edgeTarget(e), currentG + graph.edgeCost(e));
+                }
+            }
+
+            for (int t = 0; t < targets.length; t++) {
+                int target = targets[t];
+                if (target < 0 || !ctx.isClosed(target)) continue;
+                distances[t] = ctx.g[target];
+                if (withPaths) paths[t] = reconstruct(ctx, target);
+            }
+        }
+        return new Result(distances, paths);
+    }
+
+    private static void relax(SearchContext ctx, int from, int next, double tentative) {
+        if (ctx.isClosed(next) || tentative >= ctx.costOf(next)) return;
+        ctx.visit(next, tentative, from);
+        ctx.open.insertOrDecrease(next, tentative);
+    }
+
+    private static int[] reconstruct(SearchContext ctx, int goal) {
+        int length = 0;
+        for (int node = goal; node != -1; node = ctx.parent[node]) length++;
+        int[] path = new int[length];
+        for (int node = goal, i = length - 1; node != -1; node = ctx.parent[node], i--) {
+            path[i] = node;
+        }
+        return path;
+    }
+
+    /**
+     * distances[i]: targets[i]까지의 비용 (도달 불가면 +Infinity), paths[i]: 노드 경로 (withPaths=false면 paths 자체가 null)
+     */
+    public record Result(double[] distances, int[][] paths) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * Encoded Polyline Algorithm Format (Google) 인코더.
+ * 좌표를 정수로 반올림한 뒤 직전 점과의 차이를 5비트 단위 가변 길이 문자로 적으므로,
+ * 좌표 JSON 배열보다 훨씬 짧은 문자열로 경로를 내려보낼 수 있다. 지도 위경도 대신 공연장 평면 좌표(x, y)를 그대로 쓴다.
+ */
+public final class PolylineEncoder {
+
+    private PolylineEncoder() {
+    }
+
+    /**
+     * path의 [from, to) 구간을 인코딩한다.
+     *
+     * @param precision 소수점 자릿수 (1이면 0.1 단위)
+     */
+    public static String encode(RoutePath path, int from, int to, int precision) {
+        double factor = Math.pow(10, precision);
+        StringBuilder encoded = new StringBuilder((to - from) * 6);
+        long previousX = 0;
+        long previousY = 0;
+        for (int i = from; i < to; i++) {
+            long x = Math.round(path.x(i) * factor);
+            long y = Math.round(path.y(i) * factor);
+            append(encoded, x - previousX);
+            append(encoded, y - previousY);
+            previousX = x;
+            previousY = y;
+        }
+        return encoded.toString();
+    }
+
+    private static void append(StringBuilder encoded, long delta) {
+        long value = delta < 0 ? ~(delta << 1) : delta << 1;
+        while (value >= 0x20) {
+            encoded.append((char) ((0x20 | (value & 0x1f)) + 63));
+            value >>= 5;
+        }
+        encoded.append((char) (value + 63));
+    }
+}
@@ -0,0 +1,124 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import com.umc.connext.common.enums.DirectionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RoutePath에서 회전/층 이동 안내를 만든다.
+ * 각 단계는 안내가 발생하는 좌표 대신 경로 인덱스를 가리키므로 좌표 DTO 변환은 응답 조립 시 한 번만 일어난다.
+ */
+public final class RouteGuide {
+
+    private static final double MIN_STRAIGHT_BEFORE_TURN = 2.0;
+    private static final String DEFAULT_CONNECTOR_NAME = "계단";
+
+    private RouteGuide() {
+    }
+
+    /**
+     * 안내 한 단계. distance는 직진 단계에서만 0보다 크다.
+     */
+    public record Step(DirectionType type, String description, double distance, int pointIndex) {}
+
+    /**
+     * 층 전환 지점 (pathIndex는 전환 직전 좌표의 경로 인덱스)
+     */
+    public record Transition(int pathIndex, String name) {}
+
+    public static List<Step> build(RoutePath path, List<Transition> transitions) {
+        if (path == null || path.size() < 2) return Collections.emptyList();
+
+        List<Step> steps = new ArrayList<>();
+        steps.add(new Step(DirectionType.START, "경로 안내를 시작합니다.", 0, 0));
+
+        double accumulated = 0;
+        int lastTurnIndex = 0;
+
+        for (int i = 0; i < path.size() - 1; i++) {
+            accumulated += path.segmentLength(i);
+
+            // 층 변경 (계단/엘리베이터)
+            if (path.floor(i) != path.floor(i + 1)) {
+                if (accumulated > 0) {
+                    steps.add(straight(accumulated, lastTurnIndex));
+                    accumulated = 0;
+                }
+                boolean up = path.floor(i + 1) > path.floor(i);
+                steps.add(new Step(
+                        up ? DirectionType.STAIRS_UP : DirectionType.STAIRS_DOWN,
+                        String.format("%s을(를) 통해 %d층으로 이동하세요.", transitionName(i, transitions), path.floor(i + 1)),
+                        0, i));
+                lastTurnIndex = i + 1;
+                continue;
+            }
+
+            // 방향 전환 (같은 층의 다음 구간이 있을 때만)
+            if (i + 2 < path.size() && path.floor(i + 1) == path.floor(i + 2)) {
+                DirectionType turn = direction(turnAngle(path, i));
+                if (turn != DirectionType.STRAIGHT) {
+                    if (accumulated >= MIN_STRAIGHT_BEFORE_TURN) {
+                        steps.add(straight(accumulated, lastTurnIndex));
+                    }
+                    steps.add(new Step(turn, String.format("%s하세요.", turnDescription(turn)), 0, i + 1));
+                    accumulated = 0;
+                    lastTurnIndex = i + 1;
+                }
+            }
+        }
+
+        if (accumulated > 0) {
+            steps.add(straight(accumulated, lastTurnIndex));
+        }
+        steps.add(new Step(DirectionType.ARRIVE, "목적지에 도착했습니다.", 0, path.size() - 1));
+        return steps;
+    }
+
+    private static Step straight(double distance, int pointIndex) {
+        return new Step(DirectionType.STRAIGHT, String.format("약 %.0fm 직진하세요.", distance), distance, pointIndex);
+    }
+
+    /**
+     * i → i+1 → i+2 에서 꺾이는 각도 (도, 오른쪽이 양수, -180 ~ 180)
+     */
+    private static double turnAngle(RoutePath path, int i) {
+        double angle1 = Math.atan2(path.y(i + 1) - path.y(i), path.x(i + 1) - path.x(i));
+        double angle2 = Math.atan2(path.y(i + 2) - path.y(i + 1), path.x(i + 2) - path.x(i + 1));
+        double diff = Math.toDegrees(angle2 - angle1);
+        if (diff > 180) diff -= 360;
+        if (diff < -180) diff += 360;
+        return diff;
+    }
+
+    private static DirectionType direction(double angle) {
+        if (angle > -30 && angle < 30) return DirectionType.STRAIGHT;
+        if (angle >= 30 && angle < 60) return DirectionType.SLIGHT_RIGHT;
+        if (angle >= 60 && angle < 120) return DirectionType.RIGHT;
+        if (angle <= -30 && angle > -60) return DirectionType.SLIGHT_LEFT;
+        if (angle <= -60 && angle > -120) return DirectionType.LEFT;
+        return DirectionType.STRAIGHT;
+    }
+
+    private static String turnDescription(DirectionType type) {
+        return switch (type) {
+            case LEFT -> "좌회전";
+            case RIGHT -> "우회전";
+            case SLIGHT_LEFT -> "왼쪽 방향으로 이동";
+            case SLIGHT_RIGHT -> "오른쪽 방향으로 이동";
+            default -> "이동";
+        };
+    }
+
+    private static String transitionName(int index, List<Transition> transitions) {
+        if (transitions == null) return DEFAULT_CONNECTOR_NAME;
+        for (Transition transition : transitions) {
+            // 경로 인덱스와 근접한 전환 지점
+            if (Math.abs(transition.pathIndex() - index) <= 1) {
+                return transition.name() != null ? transition.name() : DEFAULT_CONNECTOR_NAME;
+            }
+        }
+        return DEFAULT_CONNECTOR_NAME;
+    }
+}
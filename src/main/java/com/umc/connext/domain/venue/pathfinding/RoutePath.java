@@ -0,0 +1,96 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * 경로 좌표를 x/y/층 배열에 나란히 담은 불변 폴리라인.
+ * 탐색 결과 조립, 거리 합산, 안내 생성은 모두 이 표현에서 double로 계산하고,
+ * BigDecimal 좌표 DTO는 응답으로 내보낼 때 한 번만 만든다.
+ */
+public final class RoutePath {
+
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] floors;
+    private final int size;
+
+    private RoutePath(double[] xs, double[] ys, int[] floors, int size) {
+        this.xs = xs;
+        this.ys = ys;
+        this.floors = floors;
+        this.size = size;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double x(int index) {
+        return xs[index];
+    }
+
+    public double y(int index) {
+        return ys[index];
+    }
+
+    public int floor(int index) {
+        return floors[index];
+    }
+
+    /**
+     * index → index + 1 구간 길이 (층이 바뀌는 구간은 두 점의 평면 거리)
+     */
+    public double segmentLength(int index) {
+        return Math.hypot(xs[index + 1] - xs[index], ys[index + 1] - ys[index]);
+    }
+
+    public double length() {
+        double total = 0;
+        for (int i = 0; i + 1 < size; i++) total += segmentLength(i);
+        return total;
+    }
+
+    public static final class Builder {
+
+        private double[] xs;
+        private double[] ys;
+        private int[] floors;
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 4);
+            this.xs = new double[capacity];
+            this.ys = new double[capacity];
+            this.floors = new int[capacity];
+        }
+
+        public Builder add(double x, double y, int floor) {
+            if (size == xs.length) {
+                xs = Arrays.copyOf(xs, size * 2);
+                ys = Arrays.copyOf(ys, size * 2);
+                floors = Arrays.copyOf(floors, size * 2);
+            }
+            xs[size] = x;
+            ys[size] = y;
+            floors[size] = floor;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public RoutePath build() {
+            return new RoutePath(Arrays.copyOf(xs, size), Arrays.copyOf(ys, size), Arrays.copyOf(floors, size), size);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * 탐색 한도. 확장 횟수와 벽시계 마감 시각 중 먼저 닿는 쪽에서 탐색을 멈춘다.
+ * 한 요청 안의 여러 탐색(층별 구간, 계층 정제 등)이 같은 인스턴스를 공유해 요청 전체의 마감을 지키며,
+ * 한 스레드에서만 사용한다 (다른 스레드의 탐색에는 fork()로 나눠 준다).
+ * 탐색 스레드가 인터럽트되면(병렬 후보 탐색의 취소) 한도에 걸린 것처럼 멈춘다.
+ */
+public final class SearchBudget {
+
+    /**
+     * System.nanoTime() 호출 비용을 줄이기 위해 이 횟수마다 한 번만 시계를 본다
+     */
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    private final int maxExpansions;
+    private final long deadlineNanos;
+    private int expansions;
+    private boolean timedOut;
+    private boolean exhausted;
+
+    private SearchBudget(int maxExpansions, long deadlineNanos) {
+        this.maxExpansions = maxExpansions;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * timeBudgetMs가 0 이하이면 마감 없이 확장 횟수만 제한한다.
+     */
+    public static SearchBudget of(int maxExpansions, long timeBudgetMs) {
+        long deadline = timeBudgetMs > 0 ? System.nanoTime() + timeBudgetMs * 1_000_000L : Long.MAX_VALUE;
+        return new SearchBudget(maxExpansions, deadline);
+    }
+
+    public static SearchBudget expansions(int maxExpansions) {
+        return new SearchBudget(maxExpansions, Long.MAX_VALUE);
+    }
+
+    /**
+     * 같은 확장 한도와 마감 시각을 갖는 새 한도 (확장 횟수는 따로 센다). 다른 스레드에서 도는 탐색에 넘겨준다.
+     */
+    public SearchBudget fork() {
+        return new SearchBudget(maxExpansions, deadlineNanos);
+    }
+
+    /**
+     * 확장 한 번을 소비한다. 한도나 마감을 넘었으면 false.
+     */
+    boolean tick() {
+        if (++expansions > maxExpansions) {
+            exhausted = true;
+            return false;
+        }
+        if (expansions % CLOCK_CHECK_INTERVAL != 0) return true;
+        if (Thread.currentThread().isInterrupted()) {
+            exhausted = true;
+            return false;
+        }
+        if (deadlineNanos != Long.MAX_VALUE && System.nanoTime() > deadlineNanos) {
+            timedOut = true;
+            exhausted = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 한도(확장 횟수 또는 마감)에 한 번이라도 걸렸는지
+     */
+    public boolean exhausted() {
+        return exhausted;
+    }
+
+    /**
+     * 마감 시각을 넘겨서 멈췄는지 (false면 확장 횟수 한도 또는 취소)
+     */
+    public boolean timedOut() {
+        return timedOut;
+    }
+
+    /**
+     * System.nanoTime() 기준 마감 시각 (마감이 없으면 Long.MAX_VALUE)
+     */
+    public long deadlineNanos() {
+        return deadlineNanos;
+    }
+
+    public int expansions() {
+        return expansions;
+    }
+}
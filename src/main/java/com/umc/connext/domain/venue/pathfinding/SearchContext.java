@@ -0,0 +1,106 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 탐색 한 번에 필요한 원시 배열 묶음 (g 비용, 부모, 방문/종료 세대 번호, open set 힙).
+ * 배열을 매번 비우는 대신 세대 번호(generation)를 올려 이전 탐색의 값을 무효화하므로
+ * 재사용 시 초기화 비용이 없다. 한 번에 한 스레드만 사용하며, acquire/release로 풀에서 빌려 쓴다.
+ */
+final class SearchContext implements AutoCloseable {
+
+    /**
+     * 풀에 보관할 최대 개수. 동시에 이보다 많이 필요하면 새로 만들고 반납 시 버린다.
+     */
+    private static final int MAX_POOLED = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final ConcurrentLinkedDeque<SearchContext> POOL = new ConcurrentLinkedDeque<>();
+    private static final AtomicInteger POOLED = new AtomicInteger();
+
+    double[] g = new double[0];
+    int[] parent = new int[0];
+    private int[] seen = new int[0];
+    private int[] closed = new int[0];
+    final IndexedMinHeap open = new IndexedMinHeap(0);
+    private int generation;
+
+    private SearchContext() {
+    }
+
+    /**
+     * 노드 수 capacity 이상을 담을 수 있는 컨텍스트를 빌린다. try-with-resources로 반납할 것.
+     */
+    static SearchContext acquire(int capacity) {
+        SearchContext context = POOL.pollFirst();
+        if (context == null) {
+            context = new SearchContext();
+        } else {
+            POOLED.decrementAndGet();
+        }
+        context.reset(capacity);
+        return context;
+    }
+
+    @Override
+    public void close() {
+        open.clear();
+        if (POOLED.incrementAndGet() <= MAX_POOLED) {
+            POOL.offerFirst(this);
+        } else {
+            POOLED.decrementAndGet();
+        }
+    }
+
+    /**
+     * 같은 컨텍스트로 다음 탐색을 시작한다 (이전 탐색 값은 모두 무효화). 같은 격자에서 탐색을 여러 번 돌릴 때 사용.
+     */
+    void restart() {
+        reset(g.length);
+    }
+
+    private void reset(int capacity) {
+        if (capacity > g.length) {
+            g = new double[capacity];
+            parent = new int[capacity];
+            seen = new int[capacity];
+            closed = new int[capacity];
+            generation = 0;
+        }
+        open.ensureCapacity(capacity);
+        open.clear();
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+    }
+
+    boolean isSeen(int node) {
+        return seen[node] == generation;
+    }
+
+    /**
+     * 이번 탐색에서 처음 만난 노드로 표시하고 g/부모를 기록한다.
+     */
+    void visit(int node, double cost, int from) {
+        seen[node] = generation;
+        g[node] = cost;
+        parent[node] = from;
+    }
+
+    /**
+     * 이번 탐색에서 아직 만나지 않은 노드는 무한대 비용으로 본다.
+     */
+    double costOf(int node) {
+        return seen[node] == generation ? g[node] : Double.POSITIVE_INFINITY;
+    }
+
+    boolean isClosed(int node) {
+        return closed[node] == generation;
+    }
+
+    void markClosed(int node) {
+        closed[node] = generation;
+    }
+}
@@ -0,0 +1,39 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+/**
+ * 한도가 있는 탐색의 결과.
+ * 한도에 걸려 멈춘 경우 path는 지금까지 목표에 가장 가까이 다가간 노드까지의 부분 경로다.
+ */
+public record SearchResult(Status status, int[] path) {
+
+    public enum Status {
+        FOUND,
+        // 탐색 공간을 모두 확인했지만 경로 없음
+        UNREACHABLE,
+        // 확장 횟수 또는 마감 시각 초과
+        BUDGET_EXHAUSTED
+    }
+
+    public static SearchResult found(int[] path) {
+        return new SearchResult(Status.FOUND, path);
+    }
+
+    public static SearchResult unreachable() {
+        return new SearchResult(Status.UNREACHABLE, null);
+    }
+
+    public static SearchResult exhausted(int[] partial) {
+        return new SearchResult(Status.BUDGET_EXHAUSTED, partial);
+    }
+
+    public boolean found() {
+        return status == Status.FOUND;
+    }
+
+    /**
+     * 찾았으면 경로, 아니면 null (부분 경로는 버린다)
+     */
+    public int[] pathOrNull() {
+        return found() ? path : null;
+    }
+}
@@ -0,0 +1,224 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 좌석(구역/열/번호) → 좌표 색인.
+ * 좌석마다 좌표와 함께 "좌석으로 들어가는 통로 지점"(가장 가까운 이동 가능 셀)과 그 지점에서 좌석까지의 직선 거리를
+ * 적재 시점에 계산해 배열에 나란히 담아 둔다. 좌석 블록은 장애물이므로 경로 탐색은 통로 지점까지만 하고,
+ * 마지막 구간(통로 → 좌석)은 미리 계산한 값을 그대로 붙인다.
+ * 좌석표가 없거나 좌석을 찾지 못하면 구역 출입 지점(구역 중심에서 가장 가까운 통로)으로 대신 안내한다.
+ */
+public final class SeatIndex {
+
+    public static final int NONE = -1;
+
+    private static final SeatIndex EMPTY = new SeatIndex(0, 0);
+
+    /**
+     * 적재 입력: 좌석 한 개
+     */
+    public record Seat(String section, String row, int number, int floor, double x, double y) {}
+
+    /**
+     * 적재 입력: 좌석 구역 한 개 (center는 구역 중심)
+     */
+    public record Section(String section, int floor, double centerX, double centerY) {}
+
+    private final String[] seatSection;
+    private final double[] seatX;
+    private final double[] seatY;
+    private final int[] seatFloor;
+    private final double[] approachX;
+    private final double[] approachY;
+    private final float[] lastLeg;
+    private final Map<String, Integer> seatByKey;
+
+    private final String[] portalSection;
+    private final int[] portalFloor;
+    private final double[] portalX;
+    private final double[] portalY;
+    private final Map<String, Integer> portalByKey;
+    private int seatCount;
+    private int portalCount;
+
+    private SeatIndex(int seatCount, int portalCount) {
+        this.seatSection = new String[seatCount];
+        this.seatX = new double[seatCount];
+        this.seatY = new double[seatCount];
+        this.seatFloor = new int[seatCount];
+        this.approachX = new double[seatCount];
+        this.approachY = new double[seatCount];
+        this.lastLeg = new float[seatCount];
+        this.seatByKey = new HashMap<>(Math.max(16, seatCount * 2));
+        this.portalSection = new String[portalCount];
+        this.portalFloor = new int[portalCount];
+        this.portalX = new double[portalCount];
+        this.portalY = new double[portalCount];
+        this.portalByKey = new HashMap<>(Math.max(16, portalCount * 4));
+    }
+
+    public static SeatIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param walkable 층 번호 → 해당 층의 최근접 이동 가능 셀 표 (층이 없으면 null). 통로 지점을 찾지 못한 좌석/구역은 제외된다.
+     */
+    public static SeatIndex build(List<Seat> seats, List<Section> sections, IntFunction<NearestWalkableMap> walkable) {
+        if (seats.isEmpty() && sections.isEmpty()) return EMPTY;
+        SeatIndex index = new SeatIndex(seats.size(), sections.size());
+
+        for (Seat seat : seats) {
+            double[] approach = nearestWalkable(walkable.apply(seat.floor()), seat.x(), seat.y());
+            if (approach == null) continue;
+            int i = index.seatCount++;
+            index.seatSection[i] = seat.section();
+            index.seatX[i] = seat.x();
+            index.seatY[i] = seat.y();
+            index.seatFloor[i] = seat.floor();
+            index.approachX[i] = approach[0];
+            index.approachY[i] = approach[1];
+            index.lastLeg[i] = (float) Math.hypot(seat.x() - approach[0], seat.y() - approach[1]);
+            index.seatByKey.put(seatKey(seat.floor(), seat.section(), seat.row(), seat.number()), i);
+            index.seatByKey.putIfAbsent(seatKey(seat.section(), seat.row(), seat.number()), i);
+        }
+
+        for (Section section : sections) {
+            double[] portal = nearestWalkable(walkable.apply(section.floor()), section.centerX(), section.centerY());
+            if (portal == null) continue;
+            int p = index.portalCount++;
+            index.portalSection[p] = section.section();
+            index.portalFloor[p] = section.floor();
+            index.portalX[p] = portal[0];
+            index.portalY[p] = portal[1];
+            index.portalByKey.put(normalizeSection(section.section()) + '\u0000' + section.floor(), p);
+            index.portalByKey.putIfAbsent(normalizeSection(section.section()), p);
+        }
+        return index;
+    }
+
+    public int seatCount() {
+        return seatCount;
+    }
+
+    public int portalCount() {
+        return portalCount;
+    }
+
+    /**
+     * 예매내역의 층/구역/열/번호로 좌석을 찾는다. 표기 차이("A구역", "12열", 공백, 대소문자)는 무시한다.
+     * 같은 층의 좌석을 먼저 찾고, 층이 없거나 맞지 않으면 층과 관계없이 같은 구역/열/번호의 좌석.
+     */
+    public int findSeat(String section, String row, Integer number, Integer floor) {
+        if (section == null || row == null || number == null) return NONE;
+        Integer i = floor != null ? seatByKey.get(seatKey(floor, section, row, number)) : null;
+        if (i == null) i = seatByKey.get(seatKey(section, row, number));
+        return i == null ? NONE : i;
+    }
+
+    /**
+     * 구역 출입 지점. 같은 층의 구역을 먼저 찾고, 없으면 층과 관계없이 같은 이름의 구역.
+     */
+    public int findPortal(String section, Integer floor) {
+        if (section == null) return NONE;
+        String key = normalizeSection(section);
+        Integer p = floor != null ? portalByKey.get(key + '\u0000' + floor) : null;
+        if (p == null) p = portalByKey.get(key);
+        return p == null ? NONE : p;
+    }
+
+    public String seatSection(int i) {
+        return seatSection[i];
+    }
+
+    public double seatX(int i) {
+        return seatX[i];
+    }
+
+    public double seatY(int i) {
+        return seatY[i];
+    }
+
+    public int seatFloor(int i) {
+        return seatFloor[i];
+    }
+
+    /**
+     * 좌석으로 들어가는 통로 지점 (경로 탐색의 도착점)
+     */
+    public double approachX(int i) {
+        return approachX[i];
+    }
+
+    public double approachY(int i) {
+        return approachY[i];
+    }
+
+    /**
+     * 통로 지점 → 좌석 직선 거리
+     */
+    public double lastLegLength(int i) {
+        return lastLeg[i];
+    }
+
+    public String portalSection(int p) {
+        return portalSection[p];
+    }
+
+    public int portalFloor(int p) {
+        return portalFloor[p];
+    }
+
+    public double portalX(int p) {
+        return portalX[p];
+    }
+
+    public double portalY(int p) {
+        return portalY[p];
+    }
+
+    private static double[] nearestWalkable(NearestWalkableMap map, double x, double y) {
+        if (map == null) return null;
+        GridSpec spec = map.spec();
+        int col = Math.max(0, Math.min(spec.cols() - 1, spec.col(x)));
+        int row = Math.max(0, Math.min(spec.rows() - 1, spec.row(y)));
+        int cell = map.nearestCell(spec.cell(col, row));
+        if (cell < 0) return null;
+        return new double[]{spec.cellCenterX(cell), spec.cellCenterY(cell)};
+    }
+
+    /**
+     * 구역 표기 차이를 없앤 비교용 키 ("A구역" → "A")
+     */
+    public static String sectionKey(String section) {
+        return normalizeSection(section);
+    }
+
+    /**
+     * 좌석 표기 차이를 없앤 비교용 키. 층마다 구역 이름이 겹칠 수 있으므로 층을 포함한다.
+     */
+    public static String seatKey(int floor, String section, String row, int number) {
+        return seatKey(section, row, number) + '\u0000' + floor;
+    }
+
+    private static String seatKey(String section, String row, int number) {
+        return normalizeSection(section) + '\u0000' + normalize(row, "열") + '\u0000' + number;
+    }
+
+    private static String normalizeSection(String section) {
+        return normalize(section, "구역");
+    }
+
+    private static String normalize(String value, String suffix) {
+        String normalized = value.replaceAll("\\s+", "").toUpperCase(Locale.ROOT);
+        if (normalized.endsWith(suffix) && normalized.length() > suffix.length()) {
+            normalized = normalized.substring(0, normalized.length() - suffix.length());
+        }
+        return normalized;
+    }
+}
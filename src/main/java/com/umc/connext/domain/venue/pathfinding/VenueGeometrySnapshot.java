@@ -0,0 +1,134 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import com.umc.connext.domain.venue.enums.PathEngineType;
+import com.umc.connext.domain.venue.spatial.VenueSpatialIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 공연장 하나의 경로 탐색용 기하 데이터를 한 번에 적재해 둔 불변 스냅샷.
+ * 공연장 데이터가 바뀌면 통째로 교체되며, version으로 어느 적재본에서 나온 결과인지 구분한다.
+ */
+public final class VenueGeometrySnapshot {
+
+    private final Long venueId;
+    private final long version;
+    private final PathEngineType pathEngine;
+    private final GridSpec gridSpec;
+    private final Map<Integer, FloorGeometry> floors;
+    private final List<FacilityPoint> facilities;
+    private final Map<Integer, List<FacilityPoint>> facilitiesByFloor;
+    private final VenueGraph graph;
+    private final FacilityDistanceFields facilityFields;
+    private final VenueSpatialIndex spatialIndex;
+    private final SeatIndex seats;
+    private final ExitFlowField exitField;
+
+    public VenueGeometrySnapshot(Long venueId, long version, PathEngineType pathEngine, GridSpec gridSpec,
+                                 Map<Integer, FloorGeometry> floors, List<FacilityPoint> facilities,
+                                 VenueGraph graph, FacilityDistanceFields facilityFields,
+                                 VenueSpatialIndex spatialIndex, SeatIndex seats, ExitFlowField exitField) {
+        this.venueId = venueId;
+        this.version = version;
+        this.pathEngine = pathEngine;
+        this.gridSpec = gridSpec;
+        this.floors = Collections.unmodifiableMap(new TreeMap<>(floors));
+        this.facilities = List.copyOf(facilities);
+        this.facilitiesByFloor = groupByFloor(this.facilities);
+        this.graph = graph;
+        this.facilityFields = facilityFields;
+        this.spatialIndex = spatialIndex;
+        this.seats = seats;
+        this.exitField = exitField;
+    }
+
+    public Long venueId() {
+        return venueId;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 적재 시점의 공연장 경로 탐색 엔진 설정
+     */
+    public PathEngineType pathEngine() {
+        return pathEngine;
+    }
+
+    public GridSpec gridSpec() {
+        return gridSpec;
+    }
+
+    /**
+     * 해당 층의 기하 데이터 (구역이 하나도 없는 층이면 null)
+     */
+    public FloorGeometry floor(int floor) {
+        return floors.get(floor);
+    }
+
+    public List<FacilityPoint> facilities() {
+        return facilities;
+    }
+
+    /**
+     * 해당 층에서 보이는 시설물 (계단/엘리베이터는 연결된 모든 층에 포함)
+     */
+    public List<FacilityPoint> facilitiesOn(int floor) {
+        return facilitiesByFloor.getOrDefault(floor, List.of());
+    }
+
+    /**
+     * 모든 층과 계단/엘리베이터를 하나로 묶은 탐색 그래프
+     */
+    public VenueGraph graph() {
+        return graph;
+    }
+
+    /**
+     * 시설물별 보행 거리장 (가까운 시설물 질의용)
+     */
+    public FacilityDistanceFields facilityFields() {
+        return facilityFields;
+    }
+
+    /**
+     * 구역 폴리곤 공간 색인 (좌표 → 층/구역 조회용)
+     */
+    public VenueSpatialIndex spatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * 좌석/구역 출입 지점 색인 (예매 좌석까지 안내용)
+     */
+    public SeatIndex seats() {
+        return seats;
+    }
+
+    /**
+     * 모든 출구로 향하는 흐름장 (가장 가까운 출구 안내용)
+     */
+    public ExitFlowField exitField() {
+        return exitField;
+    }
+
+    private static Map<Integer, List<FacilityPoint>> groupByFloor(List<FacilityPoint> facilities) {
+        Map<Integer, List<FacilityPoint>> byFloor = new HashMap<>();
+        for (FacilityPoint facility : facilities) {
+            byFloor.computeIfAbsent(facility.floor(), f -> new ArrayList<>()).add(facility);
+            for (int floor : facility.connectedFloors()) {
+                if (floor == facility.floor()) continue;
+                byFloor.computeIfAbsent(floor, f -> new ArrayList<>()).add(facility);
+            }
+        }
+        byFloor.replaceAll((floor, list) -> List.copyOf(list));
+        return byFloor;
+    }
+}
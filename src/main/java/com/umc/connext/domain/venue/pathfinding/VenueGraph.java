@@ -0,0 +1,368 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import com.umc.connext.common.enums.FacilityType;
+
+import java.util.*;
+
+/**
+ * 모든 층의 이동 가능 격자를 층(layer)별로 쌓고, 계단/엘리베이터를 층 사이의 수직 간선으로 연결한 그래프.
+ * 노드 번호는 layer * cellCount + cell 이며, 모든 층이 같은 GridSpec을 공유한다.
+ * 수직 간선은 연결 시설이 있는 셀에만 존재하므로 CSR 배열(portalNodes / edgeOffsets)로 압축해 둔다.
+ * 층별 연결 요소를 수직 간선으로 합친 공연장 전체 연결 요소도 함께 계산해 층 간 도달 불가를 탐색 없이 판정한다.
+ */
+public final class VenueGraph {
+
+    /**
+     * 한 층을 오르내릴 때의 비용 (좌표 단위, 수평 이동 거리와 같은 척도)
+     */
+    public static final double STAIRS_COST_PER_FLOOR = 50.0;
+    public static final double ELEVATOR_COST_PER_FLOOR = 80.0;
+
+    private final GridSpec spec;
+    private final int[] layerFloors;
+    private final WalkabilityGrid[] grids;
+    private final NearestWalkableMap[] nearestWalkable;
+    private final ComponentLabels[] components;
+    private final List<FacilityPoint> connectors;
+    // 연결 시설별 layer → 시설이 연결된 노드 (그 층에 없으면 -1)
+    private final int[][] connectorNodes;
+
+    private final long[] portalBits;
+    private final int[] portalNodes;
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+    private final double[] edgeCosts;
+    private final int[] edgeConnectors;
+    private final int[][] layerPortals;
+    private final double minCostPerFloor;
+
+    // layer별 연결 요소 번호를 이어 붙인 인덱스의 시작점과, 그 인덱스 → 공연장 전체 연결 요소 번호
+    private final int[] componentBase;
+    private final int[] venueComponents;
+    private final int[] venueComponentSizes;
+    private final int mainComponent;
+
+    private VenueGraph(GridSpec spec, int[] layerFloors, WalkabilityGrid[] grids, NearestWalkableMap[] nearestWalkable,
+                       ComponentLabels[] components, List<FacilityPoint> connectors, int[][] connectorNodes,
+                       SortedMap<Integer, List<double[]>> edgesBySource) {
+        this.spec = spec;
+        this.layerFloors = layerFloors;
+        this.grids = grids;
+        this.nearestWalkable = nearestWalkable;
+        this.components = components;
+        this.connectors = List.copyOf(connectors);
+        this.connectorNodes = connectorNodes;
+
+        int portalCount = edgesBySource.size();
+        int edgeCount = edgesBySource.values().stream().mapToInt(List::size).sum();
+        this.portalBits = new long[(int) (((long) layerFloors.length * spec.cellCount() + 63) >>> 6)];
+        this.portalNodes = new int[portalCount];
+        this.edgeOffsets = new int[portalCount + 1];
+        this.edgeTargets = new int[edgeCount];
+        this.edgeCosts = new double[edgeCount];
+        this.edgeConnectors = new int[edgeCount];
+
+        List<List<Integer>> portalsByLayer = new ArrayList<>();
+        for (int i = 0; i < layerFloors.length; i++) portalsByLayer.add(new ArrayList<>());
+
+        int p = 0;
+        int e = 0;
+        for (Map.Entry<Integer, List<double[]>> entry : edgesBySource.entrySet()) {
+            int node = entry.getKey();
+            portalNodes[p] = node;
+            edgeOffsets[p] = e;
+            portalBits[node >>> 6] |= 1L << node;
+            portalsByLayer.get(layerOfNode(node)).add(node);
+            for (double[] edge : entry.getValue()) {
+                edgeTargets[e] = (int) edge[0];
+                edgeCosts[e] = edge[1];
+                edgeConnectors[e] = (int) edge[2];
+                e++;
+            }
+            p++;
+        }
+        edgeOffsets[portalCount] = e;
+
+        this.layerPortals = new int[layerFloors.length][];
+        for (int i = 0; i < layerFloors.length; i++) {
+            layerPortals[i] = portalsByLayer.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        double min = Double.POSITIVE_INFINITY;
+        for (FacilityPoint connector : this.connectors) {
+            min = Math.min(min, costPerFloor(connector));
+        }
+        this.minCostPerFloor = Double.isInfinite(min) ? 0.0 : min;
+
+        // 수직 간선 양 끝의 층별 연결 요소를 union-find로 합친다
+        this.componentBase = new int[layerFloors.length + 1];
+        for (int i = 0; i < layerFloors.length; i++) {
+            componentBase[i + 1] = componentBase[i] + components[i].componentCount();
+        }
+        int[] roots = new int[componentBase[layerFloors.length]];
+        for (int i = 0; i < roots.length; i++) roots[i] = i;
+        for (int from = 0; from < portalNodes.length; from++) {
+            int source = localComponent(portalNodes[from]);
+            for (int k = edgeOffsets[from]; k < edgeOffsets[from + 1]; k++) {
+                int a = find(roots, source);
+                int b = find(roots, localComponent(edgeTargets[k]));
+                if (a != b) roots[Math.max(a, b)] = Math.min(a, b);
+            }
+        }
+        this.venueComponents = new int[roots.length];
+        int[] renumber = new int[roots.length];
+        Arrays.fill(renumber, -1);
+        int venueCount = 0;
+        for (int i = 0; i < roots.length; i++) {
+            int root = find(roots, i);
+            if (renumber[root] < 0) renumber[root] = venueCount++;
+            venueComponents[i] = renumber[root];
+        }
+        this.venueComponentSizes = new int[venueCount];
+        for (int layer = 0; layer < layerFloors.length; layer++) {
+            for (int label = 0; label < components[layer].componentCount(); label++) {
+                venueComponentSizes[venueComponents[componentBase[layer] + label]] += components[layer].sizeOf(label);
+            }
+        }
+        int largest = ComponentLabels.BLOCKED;
+        for (int c = 0; c < venueCount; c++) {
+            if (largest == ComponentLabels.BLOCKED || venueComponentSizes[c] > venueComponentSizes[largest]) largest = c;
+        }
+        this.mainComponent = largest;
+    }
+
+    private int localComponent(int node) {
+        int layer = layerOfNode(node);
+        return componentBase[layer] + components[layer].labelOf(cellOfNode(node));
+    }
+
+    private static int find(int[] roots, int i) {
+        while (roots[i] != i) {
+            roots[i] = roots[roots[i]];
+            i = roots[i];
+        }
+        return i;
+    }
+
+    /**
+     * 층별 기하와 연결 시설로 그래프를 만든다.
+     * 시설 좌표가 장애물 위에 찍혀 있으면 각 층에서 snapRadius 셀 이내의 가장 가까운 이동 가능 셀에 연결한다.
+     */
+    public static VenueGraph build(GridSpec spec, SortedMap<Integer, FloorGeometry> floors,
+                                   Collection<FacilityPoint> facilities, int snapRadius) {
+        int[] layerFloors = floors.keySet().stream().mapToInt(Integer::intValue).toArray();
+        WalkabilityGrid[] grids = floors.values().stream().map(FloorGeometry::grid).toArray(WalkabilityGrid[]::new);
+        NearestWalkableMap[] nearestWalkable = floors.values().stream()
+                .map(FloorGeometry::nearestWalkable).toArray(NearestWalkableMap[]::new);
+        ComponentLabels[] components = floors.values().stream().map(FloorGeometry::components).toArray(ComponentLabels[]::new);
+
+        List<FacilityPoint> connectors = new ArrayList<>();
+        List<int[]> connectorNodes = new ArrayList<>();
+        SortedMap<Integer, List<double[]>> edgesBySource = new TreeMap<>();
+        for (FacilityPoint facility : facilities) {
+            if (!facility.isConnector()) continue;
+
+            // 실제로 존재하는 층에만, 층 번호 순으로 연결
+            List<int[]> stops = new ArrayList<>();
+            new TreeSet<>(facility.connectedFloors()).forEach(floor -> {
+                int layer = Arrays.binarySearch(layerFloors, floor);
+                if (layer < 0) return;
+                int cell = nearestWalkable[layer].nearestCell(facility.x(), facility.y(), snapRadius);
+                if (cell >= 0) stops.add(new int[]{floor, layer * spec.cellCount() + cell});
+            });
+            if (stops.size() < 2) continue;
+
+            int connectorIndex = connectors.size();
+            connectors.add(facility);
+            int[] nodes = new int[layerFloors.length];
+            Arrays.fill(nodes, -1);
+            for (int[] stop : stops) nodes[stop[1] / spec.cellCount()] = stop[1];
+            connectorNodes.add(nodes);
+            double perFloor = costPerFloor(facility);
+            for (int i = 0; i + 1 < stops.size(); i++) {
+                int[] lower = stops.get(i);
+                int[] upper = stops.get(i + 1);
+                int lowerCell = lower[1] % spec.cellCount();
+                int upperCell = upper[1] % spec.cellCount();
+                // 층마다 보정된 셀이 다를 수 있으므로 수평 거리도 비용에 포함해 휴리스틱의 허용성을 지킨다
+                double cost = perFloor * (upper[0] - lower[0])
+                        + GridAStar.octile(spec.colOf(lowerCell), spec.rowOf(lowerCell),
+                        spec.colOf(upperCell), spec.rowOf(upperCell), spec.cellSize(), spec.cellSize() * Math.sqrt(2.0));
+                edgesBySource.computeIfAbsent(lower[1], k -> new ArrayList<>())
+                        .add(new double[]{upper[1], cost, connectorIndex});
+                edgesBySource.computeIfAbsent(upper[1], k -> new ArrayList<>())
+                        .add(new double[]{lower[1], cost, connectorIndex});
+            }
+        }
+        return new VenueGraph(spec, layerFloors, grids, nearestWalkable, components, connectors,
+                connectorNodes.toArray(int[][]::new), edgesBySource);
+    }
+
+    public static double costPerFloor(FacilityPoint connector) {
+        return connector.type() == FacilityType.ELEVATOR ? ELEVATOR_COST_PER_FLOOR : STAIRS_COST_PER_FLOOR;
+    }
+
+    public GridSpec spec() {
+        return spec;
+    }
+
+    public int layerCount() {
+        return layerFloors.length;
+    }
+
+    public int nodeCount() {
+        return layerFloors.length * spec.cellCount();
+    }
+
+    public int floorOfLayer(int layer) {
+        return layerFloors[layer];
+    }
+
+    /**
+     * 층 번호에 해당하는 layer (없는 층이면 -1)
+     */
+    public int layerOf(int floor) {
+        int layer = Arrays.binarySearch(layerFloors, floor);
+        return layer < 0 ? -1 : layer;
+    }
+
+    public WalkabilityGrid grid(int layer) {
+        return grids[layer];
+    }
+
+    public NearestWalkableMap nearestWalkable(int layer) {
+        return nearestWalkable[layer];
+    }
+
+    public ComponentLabels components(int layer) {
+        return components[layer];
+    }
+
+    /**
+     * 노드가 속한 공연장 전체 연결 요소 번호 (막힌 노드면 ComponentLabels.BLOCKED)
+     */
+    public int venueComponentOf(int node) {
+        int layer = layerOfNode(node);
+        int label = components[layer].labelOf(cellOfNode(node));
+        return label == ComponentLabels.BLOCKED ? ComponentLabels.BLOCKED : venueComponents[componentBase[layer] + label];
+    }
+
+    /**
+     * layer의 층별 연결 요소 label이 속한 공연장 전체 연결 요소 번호
+     */
+    public int venueComponentOf(int layer, int label) {
+        return venueComponents[componentBase[layer] + label];
+    }
+
+    public int venueComponentSize(int venueComponent) {
+        return venueComponentSizes[venueComponent];
+    }
+
+    /**
+     * 셀 수가 가장 많은 공연장 전체 연결 요소 (주 동선)
+     */
+    public int mainComponent() {
+        return mainComponent;
+    }
+
+    /**
+     * 두 노드가 계단/엘리베이터를 포함해 서로 걸어서 닿을 수 있는지
+     */
+    public boolean connected(int nodeA, int nodeB) {
+        int a = venueComponentOf(nodeA);
+        return a != ComponentLabels.BLOCKED && a == venueComponentOf(nodeB);
+    }
+
+    /**
+     * node와 같은 layer에서 maxRadius 셀 이내에 있는, targetComponent(공연장 전체 번호)에 속한 가장 가까운 노드 (없으면 -1)
+     */
+    public int nearestNodeIn(int node, int targetComponent, int maxRadius) {
+        int layer = layerOfNode(node);
+        int cell = components[layer].nearestCellWhere(cellOfNode(node),
+                label -> venueComponentOf(layer, label) == targetComponent, maxRadius);
+        return cell < 0 ? -1 : node(layer, cell);
+    }
+
+    public int node(int layer, int cell) {
+        return layer * spec.cellCount() + cell;
+    }
+
+    public int layerOfNode(int node) {
+        return node / spec.cellCount();
+    }
+
+    public int cellOfNode(int node) {
+        return node % spec.cellCount();
+    }
+
+    public List<FacilityPoint> connectors() {
+        return connectors;
+    }
+
+    /**
+     * connectors()의 index번째 시설로 fromLayer에서 toLayer까지 오르내릴 때 거치는 노드 (양 끝 포함, 층 순서).
+     * 시설이 두 층 중 하나에 연결되어 있지 않으면 null. 이웃한 두 노드 사이에는 항상 수직 간선이 있다.
+     */
+    public int[] connectorChain(int index, int fromLayer, int toLayer) {
+        int[] nodes = connectorNodes[index];
+        if (nodes[fromLayer] < 0 || nodes[toLayer] < 0) return null;
+        int step = toLayer >= fromLayer ? 1 : -1;
+        int[] chain = new int[Math.abs(toLayer - fromLayer) + 1];
+        int size = 0;
+        for (int layer = fromLayer; layer != toLayer + step; layer += step) {
+            if (nodes[layer] >= 0) chain[size++] = nodes[layer];
+        }
+        return Arrays.copyOf(chain, size);
+    }
+
+    public boolean isBlocked(int node) {
+        return grids[layerOfNode(node)].isBlocked(cellOfNode(node));
+    }
+
+    public boolean isPortal(int node) {
+        return (portalBits[node >>> 6] & (1L << node)) != 0;
+    }
+
+    /**
+     * 해당 layer에서 다른 층으로 나갈 수 있는 노드들 (휴리스틱 계산용, 수정 금지)
+     */
+    int[] portalsOf(int layer) {
+        return layerPortals[layer];
+    }
+
+    public double minCostPerFloor() {
+        return minCostPerFloor;
+    }
+
+    /**
+     * 수직 간선 구간 [edgeBegin, edgeEnd). 연결 시설이 없는 노드면 빈 구간.
+     */
+    public int edgeBegin(int node) {
+        if (!isPortal(node)) return 0;
+        return edgeOffsets[Arrays.binarySearch(portalNodes, node)];
+    }
+
+    public int edgeEnd(int node) {
+        if (!isPortal(node)) return 0;
+        return edgeOffsets[Arrays.binarySearch(portalNodes, node) + 1];
+    }
+
+    public int edgeTarget(int edge) {
+        return edgeTargets[edge];
+    }
+
+    public double edgeCost(int edge) {
+        return edgeCosts[edge];
+    }
+
+    /**
+     * from → to 수직 간선 중 가장 싼 것을 만든 연결 시설 (간선이 없으면 null)
+     */
+    public FacilityPoint connectorBetween(int from, int to) {
+        int best = -1;
+        for (int e = edgeBegin(from), end = edgeEnd(from); e < end; e++) {
+            if (edgeTargets[e] == to && (best < 0 || edgeCosts[e] < edgeCosts[best])) best = e;
+        }
+        return best < 0 ? null : connectors.get(edgeConnectors[best]);
+    }
+}
@@ -0,0 +1,131 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+
+import java.util.Collection;
+
+/**
+ * 한 층의 이동 가능 영역을 GridSpec 해상도로 래스터화한 비트셋.
+ * 셀 중심이 장애물 폴리곤 내부(또는 경계)에 있으면 막힌 셀로 기록한다.
+ * 생성 이후에는 불변이므로 여러 요청 스레드에서 동시에 읽어도 안전하다.
+ */
+public final class WalkabilityGrid {
+
+    private final GridSpec spec;
+    private final long[] blocked;
+
+    private WalkabilityGrid(GridSpec spec, long[] blocked) {
+        this.spec = spec;
+        this.blocked = blocked;
+    }
+
+    public static WalkabilityGrid rasterize(GridSpec spec, Collection<? extends Geometry> obstacles) {
+        long[] bits = new long[(spec.cellCount() + 63) >>> 6];
+        Coordinate probe = new Coordinate();
+
+        for (Geometry obstacle : obstacles) {
+            Envelope env = obstacle.getEnvelopeInternal();
+            int minCol = Math.max(0, spec.col(env.getMinX()));
+            int maxCol = Math.min(spec.cols() - 1, spec.col(env.getMaxX()));
+            int minRow = Math.max(0, spec.row(env.getMinY()));
+            int maxRow = Math.min(spec.rows() - 1, spec.row(env.getMaxY()));
+            if (minCol > maxCol || minRow > maxRow) continue;
+
+            IndexedPointInAreaLocator locator = new IndexedPointInAreaLocator(obstacle);
+            for (int row = minRow; row <= maxRow; row++) {
+                probe.y = spec.centerY(row);
+                for (int col = minCol; col <= maxCol; col++) {
+                    int cell = spec.cell(col, row);
+                    if ((bits[cell >>> 6] & (1L << cell)) != 0) continue;
+                    probe.x = spec.centerX(col);
+                    if (locator.locate(probe) != Location.EXTERIOR) {
+                        bits[cell >>> 6] |= 1L << cell;
+                    }
+                }
+            }
+        }
+        return new WalkabilityGrid(spec, bits);
+    }
+
+    public GridSpec spec() {
+        return spec;
+    }
+
+    /**
+     * 격자 밖은 막힌 것으로 취급한다.
+     */
+    public boolean isBlocked(int col, int row) {
+        if (!spec.contains(col, row)) return true;
+        return isBlocked(spec.cell(col, row));
+    }
+
+    public boolean isBlocked(int cell) {
+        return (blocked[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public boolean isBlockedAt(double x, double y) {
+        return isBlocked(spec.col(x), spec.row(y));
+    }
+
+    public int blockedCount() {
+        int count = 0;
+        for (long word : blocked) count += Long.bitCount(word);
+        return count;
+    }
+
+    /**
+     * 두 좌표 사이 직선이 지나는 모든 셀이 비어 있는지 검사한다.
+     */
+    public boolean hasLineOfSight(double x0, double y0, double x1, double y1) {
+        return hasLineOfSight(spec.col(x0), spec.row(y0), spec.col(x1), spec.row(y1));
+    }
+
+    /**
+     * Supercover Bresenham: 선분이 스치는 셀을 빠짐없이 방문한다.
+     * 격자 꼭짓점을 정확히 지나는 경우 양옆 셀 중 하나라도 막혀 있으면 시야가 없는 것으로 본다.
+     */
+    public boolean hasLineOfSight(int col0, int row0, int col1, int row1) {
+        if (isBlocked(col0, row0) || isBlocked(col1, row1)) return false;
+
+        int nx = Math.abs(col1 - col0);
+        int ny = Math.abs(row1 - row0);
+        int sx = Integer.signum(col1 - col0);
+        int sy = Integer.signum(row1 - row0);
+        int col = col0;
+        int row = row0;
+
+        for (int ix = 0, iy = 0; ix < nx || iy < ny; ) {
+            long decision = (1L + 2L * ix) * ny - (1L + 2L * iy) * nx;
+            if (decision == 0) {
+                if (isBlocked(col + sx, row) || isBlocked(col, row + sy)) return false;
+                col += sx;
+                row += sy;
+                ix++;
+                iy++;
+            } else if (decision < 0) {
+                col += sx;
+                ix++;
+            } else {
+                row += sy;
+                iy++;
+            }
+            if (isBlocked(col, row)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 이웃 셀로 이동 가능한지 (대각선은 모서리를 파고들지 않도록 양쪽 직교 셀도 비어 있어야 함)
+     */
+    public boolean canStep(int col, int row, int dx, int dy) {
+        if (isBlocked(col + dx, row + dy)) return false;
+        if (dx != 0 && dy != 0) {
+            return !isBlocked(col + dx, row) && !isBlocked(col, row + dy);
+        }
+        return true;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,6 +53,20 @@ public interface VenueFacilityRepository extends JpaRepository<VenueFacility, Lo
         );
     }
 
+    // 화면 영역(사각형) 안의 시설물 조회 (floor가 null이면 모든 층)
+    @Query("SELECT f FROM VenueFacility f WHERE f.venueId = :venueId " +
+            "AND (:floor IS NULL OR f.floor = :floor) " +
+            "AND f.x BETWEEN :minX AND :maxX " +
+            "AND f.y BETWEEN :minY AND :maxY")
+    List<VenueFacility> findAllInViewport(
+            @Param("venueId") Long venueId,
+            @Param("floor") Integer floor,
+            @Param("minX") BigDecimal minX,
+            @Param("minY") BigDecimal minY,
+            @Param("maxX") BigDecimal maxX,
+            @Param("maxY") BigDecimal maxY
+    );
+
     // ID와 공연장 ID로 시설물 단건 조회
     Optional<VenueFacility> findByIdAndVenueId(Long id, Long venueId);
 
@@ -0,0 +1,22 @@
+package com.umc.connext.domain.venue.repository;
+
+import com.umc.connext.domain.venue.entity.VenueSeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface VenueSeatRepository extends JpaRepository<VenueSeat, Long> {
+
+    // 공연장의 모든 좌석 조회
+    List<VenueSeat> findAllByVenueId(Long venueId);
+
+    // 공연장의 모든 좌석 삭제 (좌석표 교체 시 같은 좌석을 바로 다시 넣을 수 있도록 즉시 실행)
+    @Modifying
+    @Query("DELETE FROM VenueSeat s WHERE s.venueId = :venueId")
+    int deleteAllInBatchByVenueId(@Param("venueId") Long venueId);
+}
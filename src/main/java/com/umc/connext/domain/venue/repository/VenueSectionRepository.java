@@ -2,6 +2,8 @@ package com.umc.connext.domain.venue.repository;
 
 import com.umc.connext.domain.venue.entity.VenueSection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -30,4 +32,24 @@ public interface VenueSectionRepository extends JpaRepository<VenueSection, Long
 
     // 공연장의 모든 구역 삭제
     void deleteAllByVenueId(Long venueId);
+
+    // 폴리곤 컬럼이 비어 있는 구역 (기존 데이터 backfill용)
+    List<VenueSection> findTop500ByGeomIsNull();
+
+    // 화면 영역(사각형)과 경계 사각형이 겹치는 구역 (floor가 null이면 모든 층)
+    @Query(value = """
+        SELECT s.* FROM venue_sections s
+        WHERE s.venue_id = :venueId
+          AND (:floor IS NULL OR s.floor = :floor)
+          AND MBRIntersects(s.geom, ST_MakeEnvelope(POINT(:minX, :minY), POINT(:maxX, :maxY)))
+          AND ST_Dimension(s.geom) = 2
+        """, nativeQuery = true)
+    List<VenueSection> findAllIntersecting(
+            @Param("venueId") Long venueId,
+            @Param("floor") Integer floor,
+            @Param("minX") double minX,
+            @Param("minY") double minY,
+            @Param("maxX") double maxX,
+            @Param("maxY") double maxY
+    );
 }
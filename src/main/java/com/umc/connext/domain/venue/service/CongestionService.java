@@ -0,0 +1,105 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.PathFindingAdminDTO;
+import com.umc.connext.domain.venue.event.VenueGeometryChangedEvent;
+import com.umc.connext.domain.venue.pathfinding.CongestionLayer;
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연장별 혼잡도 비용 층 관리.
+ * 안내 세션의 위치 갱신과 관리자 입력으로 밀도를 올리고, 주기적으로 반감기에 맞춰 줄인다.
+ * 혼잡도 층은 스냅샷 버전에 묶여 있어 공연장 데이터가 바뀌면 새 격자 기준으로 다시 시작한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CongestionService {
+
+    private final VenueGeometrySnapshotService snapshotService;
+    private final PathFindingProperties properties;
+
+    private final ConcurrentHashMap<Long, Holder> layers = new ConcurrentHashMap<>();
+
+    /**
+     * 스냅샷 버전에 맞는 혼잡도 층 (없으면 만든다)
+     */
+    public CongestionLayer layerFor(VenueGeometrySnapshot snapshot) {
+        Holder holder = layers.compute(snapshot.venueId(), (venueId, current) ->
+                current != null && current.version() == snapshot.version() ? current
+                        : new Holder(snapshot.version(), newLayer(snapshot.graph())));
+        return holder.layer();
+    }
+
+    /**
+     * 안내 중인 사용자의 위치 한 건을 반영한다.
+     */
+    public void recordPing(CongestionLayer layer, int graphLayer, double x, double y) {
+        layer.addObservation(graphLayer, x, y, properties.getCongestion().getPingWeight());
+    }
+
+    public PathFindingAdminDTO.CongestionStatus setArea(Long venueId, PathFindingAdminDTO.CongestionAreaRequest request) {
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        int graphLayer = snapshot.graph().layerOf(request.floor());
+        if (graphLayer < 0) {
+            throw GeneralException.notFound("해당 층의 구역 정보가 없습니다.");
+        }
+        CongestionLayer layer = layerFor(snapshot);
+        int changed = layer.setLevel(graphLayer, request.minX(), request.minY(), request.maxX(), request.maxY(), request.level());
+        log.info("Congestion area set: venueId={}, floor={}, area=({}, {})-({}, {}), level={}, changedBlocks={}",
+                venueId, request.floor(), request.minX(), request.minY(), request.maxX(), request.maxY(),
+                request.level(), changed);
+        return status(snapshot, layer, changed);
+    }
+
+    public PathFindingAdminDTO.CongestionStatus clear(Long venueId) {
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        CongestionLayer layer = layerFor(snapshot);
+        int congested = layer.congestedBlockCount();
+        layer.clear();
+        log.info("Congestion cleared: venueId={}, clearedBlocks={}", venueId, congested);
+        return status(snapshot, layer, congested);
+    }
+
+    /**
+     * 반감기 기준으로 모든 공연장의 밀도를 줄인다. 배수가 바뀐 블록만 세션에 전달된다.
+     */
+    @Scheduled(fixedDelayString = "${pathfinding.congestion.decay-interval-ms:10000}")
+    public void decay() {
+        PathFindingProperties.Congestion config = properties.getCongestion();
+        double factor = Math.pow(0.5, config.getDecayIntervalMs() / (config.getHalfLifeSeconds() * 1000.0));
+        layers.values().forEach(holder -> holder.layer().decay(factor));
+    }
+
+    @EventListener
+    public void onVenueGeometryChanged(VenueGeometryChangedEvent event) {
+        if (layers.remove(event.venueId()) != null) {
+            log.info("Congestion layer dropped: venueId={}", event.venueId());
+        }
+    }
+
+    private CongestionLayer newLayer(VenueGraph graph) {
+        PathFindingProperties.Congestion config = properties.getCongestion();
+        return new CongestionLayer(graph.spec(), graph.layerCount(), config.getBlockCells(),
+                config.getSaturationPerBlock(), config.getMaxPenalty(), config.getQuantum(), config.getChangeLogSize());
+    }
+
+    private PathFindingAdminDTO.CongestionStatus status(VenueGeometrySnapshot snapshot, CongestionLayer layer, int changed) {
+        return PathFindingAdminDTO.CongestionStatus.builder()
+                .changedBlocks(changed)
+                .congestedBlocks(layer.congestedBlockCount())
+                .blockSize(snapshot.gridSpec().cellSize() * properties.getCongestion().getBlockCells())
+                .build();
+    }
+
+    private record Holder(long version, CongestionLayer layer) {}
+}
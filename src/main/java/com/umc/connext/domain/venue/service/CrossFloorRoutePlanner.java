@@ -0,0 +1,373 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.FloorTransition;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.pathfinding.FacilityPoint;
+import com.umc.connext.domain.venue.pathfinding.GridSpec;
+import com.umc.connext.domain.venue.pathfinding.NavMesh;
+import com.umc.connext.domain.venue.pathfinding.NavMeshAStar;
+import com.umc.connext.domain.venue.pathfinding.RoutePath;
+import com.umc.connext.domain.venue.pathfinding.SearchBudget;
+import com.umc.connext.domain.venue.pathfinding.SearchResult;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 층 간 경로. 두 층을 바로 잇는 계단/엘리베이터 중 직선 거리 하한이 작은 상위 K개를 골라, 후보마다 "출발 → 계단"과
+ * "계단 → 도착" 두 구간을 크기가 제한된 전용 스레드 풀에서 동시에 탐색한다 (NavMesh 엔진은 메시 위, 격자 엔진은 층별 격자 위).
+ * 완성된 후보의 비용보다 하한이 큰 후보는 그 즉시 취소하므로 응답 시간은 구간 하나의 탐색 시간에 가깝고,
+ * 첫 번째 계단이 막혀 있어도 다음 후보로 경로가 만들어진다.
+ * 구간 탐색은 요청의 탐색 한도(확장 횟수와 마감 시각)를 그대로 나눠 받으며, 풀의 대기열이 가득 차면 요청 스레드가 직접 탐색한다.
+ */
+@Slf4j
+@Component
+public class CrossFloorRoutePlanner {
+
+    private final RouteAssembler routeAssembler;
+    private final PathFindingProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public CrossFloorRoutePlanner(RouteAssembler routeAssembler, PathFindingProperties properties) {
+        this.routeAssembler = routeAssembler;
+        this.properties = properties;
+        PathFindingProperties.CrossFloor crossFloor = properties.getCrossFloor();
+        int threads = Math.max(1, crossFloor.getParallelism());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, crossFloor.getQueueCapacity())), runnable -> {
+                    Thread thread = new Thread(runnable, "cross-floor-leg-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 격자 엔진의 구간 탐색 (layer 격자 위에서 fromCell → toCell, 같은 층 탐색과 같은 전략을 쓴다)
+     */
+    @FunctionalInterface
+    public interface GridLegSearch {
+        SearchResult search(int layer, int fromCell, int toCell, SearchBudget budget);
+    }
+
+    /**
+     * NavMesh 위의 층 간 경로. 두 층을 바로 잇는 후보가 없거나, 모든 후보 구간이 막혔거나, 시간 안에 하나도 끝나지 않으면 null
+     * (호출 측은 층 그래프 전체를 쓰는 격자 탐색으로 넘어간다).
+     */
+    public PathFindingResponse plan(VenueGraph graph, NavMesh startMesh, NavMesh endMesh,
+                                    Coordinate start, int startFloor, Coordinate end, int endFloor, SearchBudget budget) {
+        List<Candidate<List<Coordinate>>> candidates = new ArrayList<>();
+        for (FacilityPoint connector : graph.connectors()) {
+            if (!connector.connectedFloors().contains(startFloor) || !connector.connectedFloors().contains(endFloor)) {
+                continue;
+            }
+            Coordinate position = new Coordinate(connector.x(), connector.y());
+            Coordinate entry = routeAssembler.snapToMesh(position, startMesh);
+            Coordinate exit = routeAssembler.snapToMesh(position, endMesh);
+            if (entry == null || exit == null) continue;
+            double floorCost = VenueGraph.costPerFloor(connector) * Math.abs(endFloor - startFloor);
+            candidates.add(new Candidate<>(connector, entry, exit, null, floorCost,
+                    start.distance(entry), exit.distance(end)));
+        }
+
+        long startedAt = System.nanoTime();
+        Candidate<List<Coordinate>> best = evaluate(limit(candidates), (candidate, side, legBudget) -> side == 0
+                        ? NavMeshAStar.search(startMesh, start, candidate.entry, legBudget)
+                        : NavMeshAStar.search(endMesh, candidate.exit, end, legBudget),
+                CrossFloorRoutePlanner::length, budget, startFloor, endFloor);
+        if (best == null) return null;
+
+        PathFindingResponse response = toResponse(best, startFloor, endFloor);
+        log.info("Cross-floor navmesh path found: floor {} -> {}, via={}, distance={}, {}ms",
+                startFloor, endFloor, best.connector.displayName(),
+                response.getTotalDistance(), (System.nanoTime() - startedAt) / 1_000_000);
+        return response;
+    }
+
+    /**
+     * 격자 위의 층 간 경로. 후보마다 출발 층과 도착 층의 구간을 legSearch로 병렬 탐색하고 계단 노드로 이어 붙인다.
+     * 같은 층 연결 요소가 달라 갈 수 없는 후보는 탐색 없이 뺀다.
+     * 두 층을 바로 잇는 후보가 없거나, 모든 후보 구간이 막혔거나, 한도 안에 끝나지 않으면 null
+     * (호출 측은 중간 층 환승까지 보는 층 그래프 전체 탐색으로 넘어간다).
+     */
+    public PathFindingResponse planOnGrid(VenueGraph graph, int startNode, Coordinate start, int endNode, Coordinate end,
+                                          SearchBudget budget, GridLegSearch legSearch) {
+        GridSpec spec = graph.spec();
+        int startLayer = graph.layerOfNode(startNode);
+        int endLayer = graph.layerOfNode(endNode);
+        int startCell = graph.cellOfNode(startNode);
+        int endCell = graph.cellOfNode(endNode);
+        Coordinate startCenter = center(spec, startCell);
+        Coordinate endCenter = center(spec, endCell);
+
+        List<Candidate<int[]>> candidates = new ArrayList<>();
+        List<FacilityPoint> connectors = graph.connectors();
+        for (int i = 0; i < connectors.size(); i++) {
+            int[] chain = graph.connectorChain(i, startLayer, endLayer);
+            if (chain == null) continue;
+            int entryCell = graph.cellOfNode(chain[0]);
+            int exitCell = graph.cellOfNode(chain[chain.length - 1]);
+            if (!graph.components(startLayer).connected(startCell, entryCell)
+                    || !graph.components(endLayer).connected(exitCell, endCell)) {
+                continue;
+            }
+            // 셀 중심끼리의 직선 거리는 셀 경로 길이의 하한이다
+            Coordinate entry = center(spec, entryCell);
+            Coordinate exit = center(spec, exitCell);
+            candidates.add(new Candidate<>(connectors.get(i), entry, exit, chain, chainCost(graph, chain),
+                    startCenter.distance(entry), exit.distance(endCenter)));
+        }
+
+        long startedAt = System.nanoTime();
+        Candidate<int[]> best = evaluate(limit(candidates), (candidate, side, legBudget) -> {
+            SearchResult result = side == 0
+                    ? legSearch.search(startLayer, startCell, graph.cellOfNode(candidate.chain[0]), legBudget)
+                    : legSearch.search(endLayer, graph.cellOfNode(candidate.chain[candidate.chain.length - 1]), endCell, legBudget);
+            return result.status() == SearchResult.Status.FOUND ? result.path() : null;
+        }, cells -> length(spec, cells), budget, graph.floorOfLayer(startLayer), graph.floorOfLayer(endLayer));
+        if (best == null) return null;
+
+        int[] toConnector = best.leg(0);
+        int[] fromConnector = best.leg(1);
+        int[] chain = best.chain;
+        int[] nodes = new int[toConnector.length + chain.length - 2 + fromConnector.length];
+        int size = 0;
+        for (int cell : toConnector) nodes[size++] = graph.node(startLayer, cell);
+        for (int k = 1; k + 1 < chain.length; k++) nodes[size++] = chain[k];
+        for (int cell : fromConnector) nodes[size++] = graph.node(endLayer, cell);
+
+        int startFloor = graph.floorOfLayer(startLayer);
+        int endFloor = graph.floorOfLayer(endLayer);
+        PathFindingResponse response = routeAssembler.toResponse(graph, nodes, start, end, startFloor, endFloor);
+        log.info("Cross-floor grid path found: floor {} -> {}, via={}, distance={}, {}ms",
+                startFloor, endFloor, best.connector.displayName(),
+                response.getTotalDistance(), (System.nanoTime() - startedAt) / 1_000_000);
+        return response;
+    }
+
+    /**
+     * 후보들의 두 구간을 병렬로 탐색해 비용이 가장 작은 완성 후보를 고른다 (없으면 null).
+     * 요청에 마감이 없어도 설정의 최대 탐색 시간까지만 기다리고, 끝나지 않은 구간은 모두 취소한다.
+     */
+    private <P> Candidate<P> evaluate(List<Candidate<P>> candidates, LegSearch<P> search, ToDoubleFunction<P> length,
+                                      SearchBudget budget, int startFloor, int endFloor) {
+        if (candidates.isEmpty()) return null;
+
+        long startedAt = System.nanoTime();
+        long deadline = budget.deadlineNanos() != Long.MAX_VALUE
+                ? budget.deadlineNanos()
+                : startedAt + Math.max(1, properties.getSearch().getMaxTimeBudgetMs()) * 1_000_000L;
+        CompletionService<Leg<P>> completion = new ExecutorCompletionService<>(executor);
+        for (Candidate<P> candidate : candidates) {
+            for (int side = 0; side < 2; side++) {
+                int legSide = side;
+                // SearchBudget은 한 스레드 전용이므로 구간마다 같은 한도의 사본을 넘긴다
+                SearchBudget legBudget = budget.fork();
+                candidate.futures[side] = completion.submit(() -> {
+                    P path = search.search(candidate, legSide, legBudget);
+                    return new Leg<>(candidate, legSide, path, path == null ? 0.0 : length.applyAsDouble(path));
+                });
+            }
+        }
+
+        Candidate<P> best = null;
+        int pending = candidates.size() * 2;
+        try {
+            while (pending > 0) {
+                Future<Leg<P>> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    log.warn("Cross-floor candidates timed out: floor {} -> {}, {}ms",
+                            startFloor, endFloor, (System.nanoTime() - startedAt) / 1_000_000);
+                    break;
+                }
+                pending--;
+                Leg<P> leg = result(done);
+                if (leg == null) continue;
+
+                Candidate<P> candidate = leg.candidate();
+                if (candidate.cancelled) continue;
+                if (leg.path() == null) {
+                    // 이 계단으로는 갈 수 없음: 반대쪽 구간도 더 볼 필요 없다
+                    candidate.cancel();
+                    continue;
+                }
+                candidate.complete(leg.side(), leg.path(), leg.length());
+                if (candidate.complete() && (best == null || candidate.bound() < best.bound())) {
+                    best = candidate;
+                }
+                if (best != null) {
+                    for (Candidate<P> other : candidates) {
+                        if (other != best && !other.cancelled && other.bound() >= best.bound()) other.cancel();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (Candidate<P> candidate : candidates) {
+                if (candidate != best) candidate.cancel();
+            }
+        }
+
+        if (best == null) {
+            log.info("No cross-floor route among {} connector candidates: floor {} -> {}",
+                    candidates.size(), startFloor, endFloor);
+        }
+        return best;
+    }
+
+    /**
+     * 직선 거리 하한 순으로 상위 K개
+     */
+    private <P> List<Candidate<P>> limit(List<Candidate<P>> candidates) {
+        candidates.sort(Comparator.comparingDouble(Candidate::bound));
+        int limit = Math.max(1, properties.getCrossFloor().getConnectorCandidates());
+        return candidates.size() > limit ? new ArrayList<>(candidates.subList(0, limit)) : candidates;
+    }
+
+    private <P> Leg<P> result(Future<Leg<P>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            log.error("Cross-floor leg search failed", e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * 계단 노드 사이 수직 간선 비용의 합
+     */
+    private static double chainCost(VenueGraph graph, int[] chain) {
+        double cost = 0.0;
+        for (int k = 0; k + 1 < chain.length; k++) {
+            double step = Double.POSITIVE_INFINITY;
+            for (int e = graph.edgeBegin(chain[k]), last = graph.edgeEnd(chain[k]); e < last; e++) {
+                if (graph.edgeTarget(e) == chain[k + 1]) step = Math.min(step, graph.edgeCost(e));
+            }
+            cost += step;
+        }
+        return cost;
+    }
+
+    private static Coordinate center(GridSpec spec, int cell) {
+        return new Coordinate(spec.cellCenterX(cell), spec.cellCenterY(cell));
+    }
+
+    private static double length(List<Coordinate> path) {
+        double length = 0;
+        for (int i = 0; i + 1 < path.size(); i++) length += path.get(i).distance(path.get(i + 1));
+        return length;
+    }
+
+    private static double length(GridSpec spec, int[] cells) {
+        double length = 0;
+        for (int i = 0; i + 1 < cells.length; i++) {
+            length += Math.hypot(spec.cellCenterX(cells[i]) - spec.cellCenterX(cells[i + 1]),
+                    spec.cellCenterY(cells[i]) - spec.cellCenterY(cells[i + 1]));
+        }
+        return length;
+    }
+
+    private PathFindingResponse toResponse(Candidate<List<Coordinate>> candidate, int startFloor, int endFloor) {
+        List<Coordinate> toConnector = candidate.leg(0);
+        List<Coordinate> fromConnector = candidate.leg(1);
+        RoutePath.Builder builder = RoutePath.builder(toConnector.size() + fromConnector.size());
+        for (Coordinate c : toConnector) builder.add(c.x, c.y, startFloor);
+        int transitionIndex = builder.size() - 1;
+        for (Coordinate c : fromConnector) builder.add(c.x, c.y, endFloor);
+
+        FacilityPoint connector = candidate.connector;
+        List<FloorTransition> transitions = new ArrayList<>();
+        transitions.add(FloorTransition.builder()
+                .stairsId(connector.id())
+                .stairsName(connector.displayName())
+                .fromFloor(startFloor)
+                .toFloor(endFloor)
+                .x(BigDecimal.valueOf(connector.x()))
+                .y(BigDecimal.valueOf(connector.y()))
+                .pathIndex(transitionIndex)
+                .build());
+        return PathFindingResponse.successMultiFloor(builder.build(), startFloor, endFloor, transitions);
+    }
+
+    /**
+     * 후보의 한 구간(side 0: 출발 → 계단, 1: 계단 → 도착) 탐색. 갈 수 없거나 한도에 걸리면 null.
+     */
+    @FunctionalInterface
+    private interface LegSearch<P> {
+        P search(Candidate<P> candidate, int side, SearchBudget budget);
+    }
+
+    private record Leg<P>(Candidate<P> candidate, int side, P path, double length) {}
+
+    /**
+     * 계단/엘리베이터 후보 하나. 구간이 끝나기 전에는 직선 거리를, 끝난 뒤에는 실제 경로 길이를 하한으로 쓴다
+     * (두 구간이 모두 끝나면 bound가 곧 후보의 비용). 상태는 요청 스레드에서만 바꾼다.
+     */
+    private static final class Candidate<P> {
+
+        private final FacilityPoint connector;
+        private final Coordinate entry;
+        private final Coordinate exit;
+        // 격자 후보의 계단 노드 (출발 층 → 도착 층, NavMesh 후보면 null)
+        private final int[] chain;
+        private final double floorCost;
+        private final double[] lengths;
+        private final Object[] legs = new Object[2];
+        private final Future<?>[] futures = new Future<?>[2];
+        private boolean cancelled;
+
+        private Candidate(FacilityPoint connector, Coordinate entry, Coordinate exit, int[] chain, double floorCost,
+                          double straightToConnector, double straightFromConnector) {
+            this.connector = connector;
+            this.entry = entry;
+            this.exit = exit;
+            this.chain = chain;
+            this.floorCost = floorCost;
+            this.lengths = new double[]{straightToConnector, straightFromConnector};
+        }
+
+        private void complete(int side, P path, double length) {
+            legs[side] = path;
+            lengths[side] = length;
+        }
+
+        private boolean complete() {
+            return legs[0] != null && legs[1] != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private P leg(int side) {
+            return (P) legs[side];
+        }
+
+        private double bound() {
+            return lengths[0] + lengths[1] + floorCost;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            for (Future<?> future : futures) {
+                if (future != null) future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.code.ErrorCode;
+import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.PathFindingAdminDTO;
+import com.umc.connext.domain.venue.pathfinding.EgressSimulation;
+import com.umc.connext.domain.venue.pathfinding.ExitFlowField;
+import com.umc.connext.domain.venue.pathfinding.SeatIndex;
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 공연장 배치의 구역별 대피 시간 시뮬레이션 (관리자용, 오프라인).
+ * 좌석표가 있으면 좌석마다 관객 한 명을, 없으면 좌석 구역 출입 지점에 구역당 정해진 수의 관객을 두고
+ * 스냅샷의 출구 흐름장을 따라 대피시킨다. 관객 이동은 전용 ForkJoinPool에서 묶음 단위로 병렬 처리한다.
+ */
+@Slf4j
+@Service
+public class EgressSimulationService {
+
+    private final VenueGeometrySnapshotService snapshotService;
+    private final PathFindingProperties properties;
+    private final ForkJoinPool pool;
+
+    public EgressSimulationService(VenueGeometrySnapshotService snapshotService, PathFindingProperties properties) {
+        this.snapshotService = snapshotService;
+        this.properties = properties;
+        this.pool = new ForkJoinPool(Math.max(1, properties.getEgress().getParallelism()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public PathFindingAdminDTO.EgressSimulationResult simulate(Long venueId, PathFindingAdminDTO.EgressSimulationRequest request) {
+        PathFindingProperties.Egress defaults = properties.getEgress();
+        PathFindingAdminDTO.EgressSimulationRequest options = request != null ? request
+                : PathFindingAdminDTO.EgressSimulationRequest.builder().build();
+
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        ExitFlowField exits = snapshot.exitField();
+        if (exits.isEmpty()) {
+            throw GeneralException.notFound("공연장에 등록된 출구가 없습니다.");
+        }
+
+        int agentsPerSection = options.agentsPerSection() != null ? options.agentsPerSection() : defaults.getAgentsPerSection();
+        List<EgressSimulation.Spawn> spawns = spawns(snapshot, agentsPerSection);
+        long agents = spawns.stream().mapToLong(EgressSimulation.Spawn::agents).sum();
+        if (agents == 0) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "좌석표나 좌석 구역이 없어 배치할 관객이 없습니다.");
+        }
+        if (agents > defaults.getMaxAgents()) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST,
+                    String.format("관객은 최대 %d명까지 시뮬레이션할 수 있습니다. (요청: %d명)", defaults.getMaxAgents(), agents));
+        }
+
+        EgressSimulation.Settings settings = new EgressSimulation.Settings(
+                valueOr(options.walkingSpeed(), defaults.getWalkingSpeed()),
+                defaults.getTimeStepSeconds(),
+                valueOr(options.maxSeconds(), defaults.getMaxSeconds()),
+                valueOr(options.exitFlowRate(), defaults.getExitFlowRate()),
+                valueOr(options.stairFlowRate(), defaults.getStairFlowRate()),
+                valueOr(options.elevatorFlowRate(), defaults.getElevatorFlowRate()));
+
+        long startedAt = System.nanoTime();
+        EgressSimulation.Result result = EgressSimulation.run(snapshot.graph(), exits, spawns, settings, pool);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        log.info("Egress simulated: venueId={}, version={}, agents={}, evacuated={}, unreachable={}, seconds={}, steps={}, {}ms",
+                venueId, snapshot.version(), result.agents(), result.evacuated(), result.unreachable(),
+                result.simulatedSeconds(), result.steps(), elapsedMs);
+        return toResult(result, elapsedMs);
+    }
+
+    /**
+     * 좌석표의 좌석은 통로 지점에서 출발하고 좌석 → 통로 거리를 먼저 걷는다.
+     * 좌석표에 없는 좌석 구역은 구역 출입 지점에 agentsPerSection명을 둔다.
+     */
+    private List<EgressSimulation.Spawn> spawns(VenueGeometrySnapshot snapshot, int agentsPerSection) {
+        VenueGraph graph = snapshot.graph();
+        SeatIndex seats = snapshot.seats();
+        List<EgressSimulation.Spawn> spawns = new ArrayList<>();
+        Set<String> seated = new HashSet<>();
+
+        for (int i = 0; i < seats.seatCount(); i++) {
+            int node = nodeAt(graph, seats.seatFloor(i), seats.approachX(i), seats.approachY(i));
+            if (node < 0) continue;
+            String section = SeatIndex.sectionKey(seats.seatSection(i));
+            seated.add(section);
+            spawns.add(new EgressSimulation.Spawn(section, node, 1, seats.lastLegLength(i)));
+        }
+        if (agentsPerSection > 0) {
+            for (int p = 0; p < seats.portalCount(); p++) {
+                String section = SeatIndex.sectionKey(seats.portalSection(p));
+                if (seated.contains(section)) continue;
+                int node = nodeAt(graph, seats.portalFloor(p), seats.portalX(p), seats.portalY(p));
+                if (node < 0) continue;
+                spawns.add(new EgressSimulation.Spawn(section, node, agentsPerSection, 0.0));
+            }
+        }
+        return spawns;
+    }
+
+    private static int nodeAt(VenueGraph graph, int floor, double x, double y) {
+        int layer = graph.layerOf(floor);
+        return layer < 0 ? -1 : graph.node(layer, graph.spec().cellAt(x, y));
+    }
+
+    private static double valueOr(Double value, double fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private static PathFindingAdminDTO.EgressSimulationResult toResult(EgressSimulation.Result result, long elapsedMs) {
+        List<PathFindingAdminDTO.EgressSectionTime> sections = result.sections().stream()
+                .sorted(Comparator.comparingDouble(EgressSimulation.SectionResult::maxSeconds).reversed())
+                .map(s -> PathFindingAdminDTO.EgressSectionTime.builder()
+                        .section(s.section())
+                        .agents(s.agents())
+                        .evacuated(s.evacuated())
+                        .unreachable(s.unreachable())
+                        .meanSeconds(round(s.meanSeconds()))
+                        .p90Seconds(round(s.p90Seconds()))
+                        .maxSeconds(round(s.maxSeconds()))
+                        .build())
+                .toList();
+        List<PathFindingAdminDTO.EgressBottleneck> bottlenecks = result.gates().stream()
+                .map(g -> PathFindingAdminDTO.EgressBottleneck.builder()
+                        .facilityId(g.facility().id())
+                        .name(g.facility().name())
+                        .type(g.facility().type())
+                        .floor(g.facility().floor())
+                        .flowRate(g.flowRate())
+                        .passed(g.passed())
+                        .maxQueue(g.maxQueue())
+                        .averageWaitSeconds(g.passed() == 0 ? 0.0 : round(g.totalWaitSeconds() / g.passed()))
+                        .maxWaitSeconds(round(g.maxWaitSeconds()))
+                        .lastPassSeconds(round(g.lastPassSeconds()))
+                        .build())
+                .toList();
+        double totalSeconds = result.sections().stream()
+                .mapToDouble(EgressSimulation.SectionResult::maxSeconds)
+                .max().orElse(0.0);
+        return PathFindingAdminDTO.EgressSimulationResult.builder()
+                .agents(result.agents())
+                .evacuated(result.evacuated())
+                .unreachable(result.unreachable())
+                .totalSeconds(result.evacuated() + result.unreachable() < result.agents()
+                        ? result.simulatedSeconds() : round(totalSeconds))
+                .steps(result.steps())
+                .elapsedMs(elapsedMs)
+                .sections(sections)
+                .bottlenecks(bottlenecks)
+                .build();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
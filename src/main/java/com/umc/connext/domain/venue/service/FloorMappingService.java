@@ -20,6 +20,7 @@ import java.util.*;
 public class FloorMappingService {
 
     private final VenueFloorConfigRepository floorConfigRepository;
+    private final VenueGeometrySnapshotService snapshotService;
 
     // 섹션 ID로 층 번호 조회 (캐시 적용)
     @Cacheable(value = "floorMapping", key = "#venueId + ':' + #sectionId")
@@ -70,6 +71,7 @@ public class FloorMappingService {
         config.setFloor(floor);
         config.setDescription(description);
 
+        snapshotService.invalidate(venueId);
         return floorConfigRepository.save(config);
     }
 
@@ -97,6 +99,7 @@ public class FloorMappingService {
             configs.add(config);
         }
 
+        snapshotService.invalidate(venueId);
         return floorConfigRepository.saveAll(configs);
     }
 
@@ -105,6 +108,7 @@ public class FloorMappingService {
     @CacheEvict(value = {"floorMapping", "floorSections"}, allEntries = true)
     public void removeFloorConfig(Long venueId, String sectionId) {
         floorConfigRepository.deleteByVenueIdAndSectionId(venueId, sectionId);
+        snapshotService.invalidate(venueId);
     }
 
     // 공연장의 모든 층 설정 삭제 (캐시 전체 제거)
@@ -112,6 +116,7 @@ public class FloorMappingService {
     @CacheEvict(value = {"floorMapping", "floorSections"}, allEntries = true)
     public void removeAllFloorConfigs(Long venueId) {
         floorConfigRepository.deleteAllByVenueId(venueId);
+        snapshotService.invalidate(venueId);
     }
 
     // 공연장에 층 설정이 존재하는지 확인
@@ -0,0 +1,264 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.code.ErrorCode;
+import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.concert.entity.ConcertDetail;
+import com.umc.connext.domain.concert.repository.ConcertDetailRepository;
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.Coordinate;
+import com.umc.connext.domain.venue.dto.MeetupRequest;
+import com.umc.connext.domain.venue.dto.MeetupResponse;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.pathfinding.DistanceField;
+import com.umc.connext.domain.venue.pathfinding.FacilityDistanceFields;
+import com.umc.connext.domain.venue.pathfinding.FacilityPoint;
+import com.umc.connext.domain.venue.pathfinding.GridSpec;
+import com.umc.connext.domain.venue.pathfinding.MeetupSearch;
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 일행 만남 장소 계산.
+ * 사람마다 findPath를 따로 부르지 않고 한 번의 일괄 계산으로 끝낸다.
+ * 사람마다 거리장을 하나씩 전용 ForkJoinPool에서 병렬로 계산한 뒤,
+ * - 시설물 모드: 해당 타입 시설물 노드에서 사람별 거리를 읽어 후보끼리 비교한다.
+ * - 임의 지점 모드: 모든 노드에서 사람별 거리를 합친다.
+ * 경로는 같은 거리장을 따라 내려가 만들므로 다시 탐색하지 않는다.
+ */
+@Slf4j
+@Service
+public class MeetupService {
+
+    private final VenueGeometrySnapshotService snapshotService;
+    private final RouteAssembler routeAssembler;
+    private final ConcertDetailRepository concertDetailRepository;
+    private final PathFindingProperties properties;
+    private final ForkJoinPool pool;
+
+    public MeetupService(VenueGeometrySnapshotService snapshotService,
+                         RouteAssembler routeAssembler,
+                         ConcertDetailRepository concertDetailRepository,
+                         PathFindingProperties properties) {
+        this.snapshotService = snapshotService;
+        this.routeAssembler = routeAssembler;
+        this.concertDetailRepository = concertDetailRepository;
+        this.properties = properties;
+        this.pool = new ForkJoinPool(Math.max(1, properties.getMeetup().getParallelism()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public MeetupResponse findMeetup(Long venueId, MeetupRequest request) {
+        PathFindingProperties.Meetup limits = properties.getMeetup();
+        List<Coordinate> members = request.getMembers();
+        if (members.size() > limits.getMaxMembers()) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST,
+                    String.format("일행은 최대 %d명까지 요청할 수 있습니다.", limits.getMaxMembers()));
+        }
+        MeetupSearch.Objective objective = request.getObjective() == null
+                ? MeetupSearch.Objective.MIN_MAX : request.getObjective();
+        Integer intermission = request.getConcertDetailId() == null ? null
+                : concertDetailRepository.findById(request.getConcertDetailId())
+                .map(ConcertDetail::getIntermission)
+                .orElseThrow(() -> GeneralException.notFound("공연 회차를 찾을 수 없습니다."));
+
+        long startedAt = System.nanoTime();
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        VenueGraph graph = snapshot.graph();
+
+        org.locationtech.jts.geom.Coordinate[] starts = new org.locationtech.jts.geom.Coordinate[members.size()];
+        int[] startNodes = new int[members.size()];
+        for (int m = 0; m < members.size(); m++) {
+            Coordinate member = members.get(m);
+            if (member.getX() == null || member.getY() == null || member.getFloor() == null) {
+                throw new GeneralException(ErrorCode.BAD_REQUEST, "좌표의 x, y, floor는 필수입니다.");
+            }
+            int layer = graph.layerOf(member.getFloor());
+            starts[m] = layer < 0 ? null : routeAssembler.snapToWalkable(
+                    new org.locationtech.jts.geom.Coordinate(member.getX().doubleValue(), member.getY().doubleValue()),
+                    graph.nearestWalkable(layer));
+            if (starts[m] == null) {
+                throw new GeneralException(ErrorCode.BAD_REQUEST,
+                        String.format("%d번째 위치 근처에 이동 가능한 영역이 없습니다.", m + 1));
+            }
+            startNodes[m] = graph.node(layer, graph.spec().cellAt(starts[m].x, starts[m].y));
+        }
+
+        MeetupResponse response = request.getFacilityType() != null
+                ? meetAtFacility(snapshot, request, objective, starts, startNodes, limits.getTimeoutMs())
+                : meetAtPoint(graph, request, objective, starts, startNodes, limits.getTimeoutMs());
+
+        if (intermission != null) {
+            // 인터미션 왕복 가능 여부는 대피 시뮬레이션과 같은 보행 속도(좌표 단위/초)로 판단한다
+            double walkingSpeed = properties.getEgress().getWalkingSpeed();
+            double roundTripSeconds = response.getMaxDistance().doubleValue() * 2 / walkingSpeed;
+            response.setIntermissionMinutes(intermission);
+            response.setFitsIntermission(roundTripSeconds <= intermission * 60.0);
+        }
+        log.info("Meetup computed: venueId={}, members={}, objective={}, facilityType={}, max={}, {}ms",
+                venueId, members.size(), objective, request.getFacilityType(), response.getMaxDistance(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return response;
+    }
+
+    /**
+     * 사람별 거리장은 "그 사람까지의 거리"이므로 시설물 노드에서 값을 읽으면 곧 그 사람의 보행 거리다.
+     */
+    private MeetupResponse meetAtFacility(VenueGeometrySnapshot snapshot, MeetupRequest request,
+                                          MeetupSearch.Objective objective,
+                                          org.locationtech.jts.geom.Coordinate[] starts, int[] startNodes, long timeoutMs) {
+        VenueGraph graph = snapshot.graph();
+        FacilityDistanceFields facilityFields = snapshot.facilityFields();
+        List<FacilityPoint> candidates = facilityFields.facilitiesOf(request.getFacilityType());
+        if (candidates.isEmpty()) {
+            throw GeneralException.notFound("해당 타입의 시설물이 없습니다.");
+        }
+
+        DistanceField[] fields = memberFields(graph, startNodes, timeoutMs);
+        double[][] distances = new double[candidates.size()][startNodes.length];
+        for (int c = 0; c < candidates.size(); c++) {
+            int facilityNode = facilityFields.nodeOf(candidates.get(c).id());
+            for (int m = 0; m < startNodes.length; m++) distances[c][m] = fields[m].distance(facilityNode);
+        }
+        MeetupSearch.Result best = MeetupSearch.bestCandidate(distances, objective);
+        if (!best.found()) {
+            throw GeneralException.notFound("일행 모두가 갈 수 있는 시설물이 없습니다.");
+        }
+
+        FacilityPoint facility = candidates.get(best.index());
+        int facilityNode = facilityFields.nodeOf(facility.id());
+        org.locationtech.jts.geom.Coordinate end = routeAssembler.snapToWalkable(
+                new org.locationtech.jts.geom.Coordinate(facility.x(), facility.y()),
+                graph.nearestWalkable(graph.layerOfNode(facilityNode)));
+
+        List<MeetupResponse.Member> members = new ArrayList<>(startNodes.length);
+        for (int m = 0; m < startNodes.length; m++) {
+            PathFindingResponse route = null;
+            if (request.isIncludeRoutes() && end != null) {
+                route = routeAssembler.toResponse(graph, reverse(fields[m].descend(graph, facilityNode)), starts[m], end,
+                        request.getMembers().get(m).getFloor(), facility.floor());
+            }
+            members.add(member(m, best.distances()[m], route));
+        }
+        return MeetupResponse.builder()
+                .objective(objective)
+                .meetingPoint(new Coordinate(scale(facility.x()), scale(facility.y()), facility.floor()))
+                .facilityId(facility.id())
+                .facilityName(facility.name())
+                .facilityType(facility.type())
+                .maxDistance(scale(best.max()))
+                .totalDistance(scale(best.sum()))
+                .members(members)
+                .build();
+    }
+
+    /**
+     * 모든 노드에서 사람별 거리를 합친다. 경로는 만남 노드에서 각 사람 쪽으로 내려간 뒤 뒤집는다.
+     */
+    private MeetupResponse meetAtPoint(VenueGraph graph, MeetupRequest request, MeetupSearch.Objective objective,
+                                       org.locationtech.jts.geom.Coordinate[] starts, int[] startNodes, long timeoutMs) {
+        DistanceField[] fields = memberFields(graph, startNodes, timeoutMs);
+
+        MeetupSearch.Result best = MeetupSearch.bestNode(fields, graph.nodeCount(), objective);
+        if (!best.found()) {
+            throw GeneralException.notFound("일행 모두가 갈 수 있는 지점이 없습니다. 서로 이어지지 않은 구역에 있는지 확인해 주세요.");
+        }
+
+        int meetNode = best.index();
+        int meetFloor = graph.floorOfLayer(graph.layerOfNode(meetNode));
+        GridSpec spec = graph.spec();
+        int cell = graph.cellOfNode(meetNode);
+        org.locationtech.jts.geom.Coordinate end =
+                new org.locationtech.jts.geom.Coordinate(spec.cellCenterX(cell), spec.cellCenterY(cell));
+
+        List<MeetupResponse.Member> members = new ArrayList<>(startNodes.length);
+        for (int m = 0; m < startNodes.length; m++) {
+            PathFindingResponse route = null;
+            if (request.isIncludeRoutes()) {
+                int[] nodes = reverse(fields[m].descend(graph, meetNode));
+                route = routeAssembler.toResponse(graph, nodes, starts[m], end,
+                        request.getMembers().get(m).getFloor(), meetFloor);
+            }
+            members.add(member(m, best.distances()[m], route));
+        }
+        return MeetupResponse.builder()
+                .objective(objective)
+                .meetingPoint(new Coordinate(scale(end.x), scale(end.y), meetFloor))
+                .maxDistance(scale(best.max()))
+                .totalDistance(scale(best.sum()))
+                .members(members)
+                .build();
+    }
+
+    /**
+     * 사람별 거리장을 병렬로 계산한다.
+     */
+    private DistanceField[] memberFields(VenueGraph graph, int[] startNodes, long timeoutMs) {
+        List<Callable<DistanceField>> tasks = new ArrayList<>(startNodes.length);
+        for (int source : startNodes) {
+            tasks.add(() -> DistanceField.compute(graph, new int[]{source},
+                    VenueGeometrySnapshotService.DISTANCE_FIELD_QUANTUM));
+        }
+        return runAll(tasks, timeoutMs).toArray(new DistanceField[0]);
+    }
+
+    private List<DistanceField> runAll(List<Callable<DistanceField>> tasks, long timeoutMs) {
+        List<Future<DistanceField>> futures;
+        try {
+            futures = pool.invokeAll(tasks, timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorCode.INTERNAL_SERVER_ERROR, "만남 장소 계산이 중단되었습니다.");
+        }
+
+        List<DistanceField> results = new ArrayList<>(futures.size());
+        for (Future<DistanceField> future : futures) {
+            if (future.isCancelled()) {
+                throw new GeneralException(ErrorCode.INTERNAL_SERVER_ERROR, "만남 장소 계산 시간이 초과되었습니다. 일행 수를 줄여 주세요.");
+            }
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GeneralException(ErrorCode.INTERNAL_SERVER_ERROR, "만남 장소 계산이 중단되었습니다.");
+            } catch (ExecutionException e) {
+                log.error("Meetup distance field task failed", e.getCause());
+                throw new GeneralException(ErrorCode.INTERNAL_SERVER_ERROR, "만남 장소 계산 중 오류가 발생했습니다.");
+            }
+        }
+        return results;
+    }
+
+    private static MeetupResponse.Member member(int index, double distance, PathFindingResponse route) {
+        return MeetupResponse.Member.builder()
+                .index(index)
+                .distance(scale(distance))
+                .route(route)
+                .build();
+    }
+
+    private static int[] reverse(int[] nodes) {
+        for (int i = 0, j = nodes.length - 1; i < j; i++, j--) {
+            int tmp = nodes[i];
+            nodes[i] = nodes[j];
+            nodes[j] = tmp;
+        }
+        return nodes;
+    }
+
+    private static BigDecimal scale(double value) {
+        return BigDecimal.valueOf(value).setScale(1, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,288 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.code.ErrorCode;
+import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.NavigationSessionResponse;
+import com.umc.connext.domain.venue.dto.PathFindingRequest;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.enums.PathFailureReason;
+import com.umc.connext.domain.venue.event.VenueGeometryChangedEvent;
+import com.umc.connext.domain.venue.pathfinding.CongestionLayer;
+import com.umc.connext.domain.venue.pathfinding.DStarLite;
+import com.umc.connext.domain.venue.pathfinding.GridSpec;
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 혼잡도를 반영하는 안내 세션.
+ * 세션마다 목적지 기준 D* Lite 탐색 상태를 들고 있다가, 위치가 갱신되면 그 사이 비용이 바뀐 혼잡도 블록만
+ * 다시 맞추고 현재 위치에서 이어서 계산하므로 매번 처음부터 탐색하지 않는다.
+ * 세션의 위치 갱신은 혼잡도 ping으로도 쓰인다. 공연장 데이터가 바뀌면 해당 공연장의 세션은 모두 폐기된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NavigationSessionService {
+
+    private final VenueGeometrySnapshotService snapshotService;
+    private final CongestionService congestionService;
+    private final RouteAssembler routeAssembler;
+    private final RouteHandleStore routeHandles;
+    private final PathFindingProperties properties;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Session> sessions = new LinkedHashMap<>(64, 0.75f, true);
+
+    public NavigationSessionResponse start(Long venueId, PathFindingRequest request) {
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        VenueGraph graph = snapshot.graph();
+        GridSpec spec = graph.spec();
+        int startLayer = graph.layerOf(request.getStartFloor());
+        int endLayer = graph.layerOf(request.getEndFloor());
+        if (startLayer < 0 || endLayer < 0) {
+            throw GeneralException.notFound("해당 층의 구역 정보가 없습니다.");
+        }
+        org.locationtech.jts.geom.Coordinate start = routeAssembler.snapToWalkable(
+                new org.locationtech.jts.geom.Coordinate(request.getStartX().doubleValue(), request.getStartY().doubleValue()),
+                graph.nearestWalkable(startLayer));
+        org.locationtech.jts.geom.Coordinate end = routeAssembler.snapToWalkable(
+                new org.locationtech.jts.geom.Coordinate(request.getEndX().doubleValue(), request.getEndY().doubleValue()),
+                graph.nearestWalkable(endLayer));
+        if (start == null || end == null) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST,
+                    "출발지 또는 도착지가 이동 불가능한 영역에 있으며, 근처에 진입 가능한 경로가 없습니다.");
+        }
+
+        int startNode = graph.node(startLayer, spec.cellAt(start.x, start.y));
+        int endNode = graph.node(endLayer, spec.cellAt(end.x, end.y));
+        if (!graph.connected(startNode, endNode)) {
+            int[] reconciled = routeAssembler.reconcileComponents(startNode, endNode, graph);
+            if (reconciled == null) {
+                throw GeneralException.notFound("출발지와 도착지가 서로 이어지지 않은 구역에 있습니다.");
+            }
+            if (reconciled[0] != startNode) {
+                startNode = reconciled[0];
+                start = cellCenter(graph, startNode);
+            }
+            if (reconciled[1] != endNode) {
+                endNode = reconciled[1];
+                end = cellCenter(graph, endNode);
+            }
+        }
+
+        CongestionLayer congestion = congestionService.layerFor(snapshot);
+        Session session = new Session(venueId, snapshot.version(), congestion, endNode, end, request.getEndFloor());
+        // 탐색 전에 순번을 읽어 두므로, 탐색 도중 바뀐 블록은 다음 위치 갱신에서 다시 반영된다
+        session.seenSequence = congestion.sequence();
+        session.search = newSearch(graph, startNode, session);
+        Step step = replan(graph, session, start, request.getStartFloor(), 0, false);
+        if (!step.route().isSuccess()) {
+            return step.toResponse(null);
+        }
+
+        String sessionId = UUID.randomUUID().toString();
+        store(sessionId, session);
+        log.info("Navigation session started: venueId={}, sessionId={}, floor {} -> {}, expanded={}",
+                venueId, sessionId, request.getStartFloor(), request.getEndFloor(), step.expanded());
+        return step.toResponse(sessionId);
+    }
+
+    /**
+     * 현재 위치를 갱신하고 경로를 다시 맞춘다.
+     */
+    public NavigationSessionResponse move(Long venueId, String sessionId, BigDecimal x, BigDecimal y, Integer floor) {
+        Session session = find(venueId, sessionId);
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        if (snapshot.version() != session.version) {
+            remove(sessionId);
+            throw GeneralException.notFound("공연장 정보가 바뀌어 안내 세션이 종료되었습니다. 안내를 다시 시작해 주세요.");
+        }
+        VenueGraph graph = snapshot.graph();
+        int layer = graph.layerOf(floor);
+        if (layer < 0) {
+            throw GeneralException.notFound("해당 층의 구역 정보가 없습니다.");
+        }
+        org.locationtech.jts.geom.Coordinate position = routeAssembler.snapToWalkable(
+                new org.locationtech.jts.geom.Coordinate(x.doubleValue(), y.doubleValue()), graph.nearestWalkable(layer));
+        if (position == null) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "현재 위치 근처에 이동 가능한 영역이 없습니다.");
+        }
+        int node = graph.node(layer, graph.spec().cellAt(position.x, position.y));
+        if (!graph.connected(node, session.goal)) {
+            int[] reconciled = routeAssembler.reconcileComponents(node, session.goal, graph);
+            if (reconciled == null || reconciled[1] != session.goal) {
+                throw GeneralException.notFound("현재 위치에서 목적지로 이어지는 경로가 없습니다.");
+            }
+            node = reconciled[0];
+            position = cellCenter(graph, node);
+        }
+
+        synchronized (session) {
+            long now = System.currentTimeMillis();
+            if (now - session.lastPingAt >= properties.getCongestion().getPingIntervalSeconds() * 1000L) {
+                congestionService.recordPing(session.congestion, layer, position.x, position.y);
+                session.lastPingAt = now;
+            }
+
+            long sequence = session.congestion.sequence();
+            int[] changed = session.congestion.changedSince(session.seenSequence);
+            session.seenSequence = sequence;
+            int changedRegions;
+            if (changed == null) {
+                // 변경 기록을 따라잡지 못했으면 현재 위치에서 처음부터 다시 계산한다
+                session.search = newSearch(graph, node, session);
+                changedRegions = -1;
+            } else {
+                for (int block : changed) {
+                    int[] bounds = session.congestion.cellBounds(block);
+                    session.search.regionChanged(session.congestion.layerOfBlock(block), bounds[0], bounds[1], bounds[2], bounds[3]);
+                }
+                if (node != session.search.start()) session.search.moveStart(node);
+                changedRegions = changed.length;
+            }
+            Step step = replan(graph, session, position, floor, Math.max(0, changedRegions), changedRegions != 0);
+            session.expiresAt = now + properties.getNavigationSession().getTtlSeconds() * 1000L;
+            log.debug("Navigation session moved: sessionId={}, changedRegions={}, expanded={}, states={}",
+                    sessionId, changedRegions, step.expanded(), session.search.stateCount());
+            return step.toResponse(sessionId);
+        }
+    }
+
+    public void end(Long venueId, String sessionId) {
+        find(venueId, sessionId);
+        remove(sessionId);
+    }
+
+    @EventListener
+    public void onVenueGeometryChanged(VenueGeometryChangedEvent event) {
+        int removed = 0;
+        synchronized (lock) {
+            Iterator<Session> iterator = sessions.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().venueId.equals(event.venueId())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.info("Navigation sessions invalidated: venueId={}, removed={}", event.venueId(), removed);
+        }
+    }
+
+    private DStarLite newSearch(VenueGraph graph, int startNode, Session session) {
+        return new DStarLite(graph, startNode, session.goal, session.congestion::multiplierOf,
+                properties.getNavigationSession().getMaxStates());
+    }
+
+    /**
+     * 탐색을 이어서 계산하고 경로를 조립한다. 혼잡 구역 근처의 꺾이는 지점은 직선화에서 남긴다.
+     */
+    private Step replan(VenueGraph graph, Session session, org.locationtech.jts.geom.Coordinate position,
+                        Integer floor, int changedRegions, boolean replanned) {
+        DStarLite search = session.search;
+        if (!search.computeShortestPath(properties.getNavigationSession().getMaxExpansions())) {
+            log.warn("Navigation search stopped by limit: venueId={}, states={}, expanded={}",
+                    session.venueId, search.stateCount(), search.lastExpanded());
+            return new Step(PathFindingResponse.fail(PathFailureReason.SEARCH_LIMIT_EXCEEDED,
+                    "탐색 한도 안에 목적지까지의 경로를 찾지 못했습니다."), search.lastExpanded(), null, changedRegions, replanned);
+        }
+        int[] nodes = search.path();
+        if (nodes == null) {
+            return new Step(PathFindingResponse.fail(PathFailureReason.UNREACHABLE, "경로를 찾을 수 없습니다."),
+                    search.lastExpanded(), null, changedRegions, replanned);
+        }
+        // 안내/폴리라인 API를 routeId로 그대로 쓸 수 있게 보관한다
+        PathFindingResponse route = routeHandles.register(session.venueId, routeAssembler.toResponse(
+                graph, nodes, position, session.end, floor, session.endFloor, session.congestion::nearCongestion));
+        BigDecimal cost = BigDecimal.valueOf(search.costToGoal()).setScale(1, RoundingMode.HALF_UP);
+        return new Step(route, search.lastExpanded(), cost, changedRegions, replanned);
+    }
+
+    private Session find(Long venueId, String sessionId) {
+        synchronized (lock) {
+            Session session = sessions.get(sessionId);
+            if (session != null && session.expiresAt < System.currentTimeMillis()) {
+                sessions.remove(sessionId);
+                session = null;
+            }
+            if (session == null || !session.venueId.equals(venueId)) {
+                throw GeneralException.notFound("안내 세션이 없거나 만료되었습니다.");
+            }
+            return session;
+        }
+    }
+
+    private void store(String sessionId, Session session) {
+        PathFindingProperties.NavigationSession config = properties.getNavigationSession();
+        session.expiresAt = System.currentTimeMillis() + config.getTtlSeconds() * 1000L;
+        synchronized (lock) {
+            sessions.put(sessionId, session);
+            Iterator<Map.Entry<String, Session>> eldest = sessions.entrySet().iterator();
+            while (sessions.size() > config.getMaxSessions() && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private void remove(String sessionId) {
+        synchronized (lock) {
+            sessions.remove(sessionId);
+        }
+    }
+
+    private static org.locationtech.jts.geom.Coordinate cellCenter(VenueGraph graph, int node) {
+        int cell = graph.cellOfNode(node);
+        return new org.locationtech.jts.geom.Coordinate(graph.spec().cellCenterX(cell), graph.spec().cellCenterY(cell));
+    }
+
+    private static final class Session {
+        private final Long venueId;
+        private final long version;
+        private final CongestionLayer congestion;
+        private final int goal;
+        private final org.locationtech.jts.geom.Coordinate end;
+        private final Integer endFloor;
+        private DStarLite search;
+        private long seenSequence;
+        private long lastPingAt;
+        private volatile long expiresAt;
+
+        private Session(Long venueId, long version, CongestionLayer congestion, int goal,
+                        org.locationtech.jts.geom.Coordinate end, Integer endFloor) {
+            this.venueId = venueId;
+            this.version = version;
+            this.congestion = congestion;
+            this.goal = goal;
+            this.end = end;
+            this.endFloor = endFloor;
+        }
+    }
+
+    private record Step(PathFindingResponse route, int expanded, BigDecimal cost, int changedRegions, boolean replanned) {
+
+        private NavigationSessionResponse toResponse(String sessionId) {
+            return NavigationSessionResponse.builder()
+                    .sessionId(sessionId)
+                    .replanned(replanned)
+                    .changedRegions(changedRegions)
+                    .expandedNodes(expanded)
+                    .weightedCost(cost)
+                    .route(route)
+                    .build();
+        }
+    }
+}
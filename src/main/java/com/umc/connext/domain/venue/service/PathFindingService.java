@@ -1,26 +1,44 @@
 package com.umc.connext.domain.venue.service;
 
-import com.umc.connext.common.enums.DirectionType;
-import com.umc.connext.common.enums.SectionType;
+import com.umc.connext.common.code.ErrorCode;
+import com.umc.connext.common.enums.FacilityType;
 import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.venue.config.PathFindingProperties;
 import com.umc.connext.domain.venue.dto.*;
 import com.umc.connext.domain.venue.entity.VenueFacility;
-import com.umc.connext.domain.venue.entity.VenueSection;
+import com.umc.connext.domain.venue.enums.PathEngineType;
+import com.umc.connext.domain.venue.enums.PathFailureReason;
+import com.umc.connext.domain.venue.pathfinding.BidirectionalAStar;
+import com.umc.connext.domain.venue.pathfinding.ComponentLabels;
+import com.umc.connext.domain.venue.pathfinding.ExitFlowField;
+import com.umc.connext.domain.venue.pathfinding.FacilityDistanceFields;
+import com.umc.connext.domain.venue.pathfinding.FacilityPoint;
+import com.umc.connext.domain.venue.pathfinding.FloorGeometry;
+import com.umc.connext.domain.venue.pathfinding.GridAStar;
+import com.umc.connext.domain.venue.pathfinding.GridSpec;
+import com.umc.connext.domain.venue.pathfinding.HierarchicalGrid;
+import com.umc.connext.domain.venue.pathfinding.LayeredAStar;
+import com.umc.connext.domain.venue.pathfinding.LazyThetaStar;
+import com.umc.connext.domain.venue.pathfinding.NavMesh;
+import com.umc.connext.domain.venue.pathfinding.NavMeshAStar;
+import com.umc.connext.domain.venue.pathfinding.PolylineEncoder;
+import com.umc.connext.domain.venue.pathfinding.RouteGuide;
+import com.umc.connext.domain.venue.pathfinding.RoutePath;
+import com.umc.connext.domain.venue.pathfinding.SearchBudget;
+import com.umc.connext.domain.venue.pathfinding.SearchResult;
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import com.umc.connext.domain.venue.pathfinding.WalkabilityGrid;
 import com.umc.connext.domain.venue.repository.VenueFacilityRepository;
-import com.umc.connext.domain.venue.repository.VenueSectionRepository;
+import com.umc.connext.domain.venue.spatial.VenueSpatialIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.locationtech.jts.geom.LineString;
-import org.locationtech.jts.geom.Point;
-import org.locationtech.jts.geom.Polygon;
-import org.locationtech.jts.geom.GeometryFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,63 +46,131 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PathFindingService {
 
-    private final VenueSectionRepository sectionRepository;
     private final VenueFacilityRepository facilityRepository;
 
-    private final GeometryFactory geometryFactory = new GeometryFactory();
+    private final VenueGeometrySnapshotService snapshotService;
+    private final PathRouteCache routeCache;
+    private final RouteHandleStore routeHandles;
+    private final RouteAssembler routeAssembler;
+    private final CrossFloorRoutePlanner crossFloorRoutePlanner;
+    private final PathFindingProperties properties;
 
-    private static final double GRID_SIZE = 10.0;
+    private static final double GRID_SIZE = VenueGeometrySnapshotService.GRID_SIZE;
     private static final int MAX_ASTAR_ITERATIONS = 20000;
-    private static final int MIN_SEARCH_FLOOR = -2;
-    private static final int MAX_SEARCH_FLOOR = 10;
 
     /**
      * 메인 경로 탐색 메서드
+     * 같은 스냅샷 버전에서 같은 셀 간의 요청은 경로 캐시에서 바로 응답한다.
+     * 캐시에는 안내 없는 경로만 두고, 안내는 요청마다 캐시된 경로에서 만든다 (탐색은 다시 하지 않음).
      */
     public PathFindingResponse findPath(Long venueId, PathFindingRequest request) {
-        log.info("Pathfinding request: start(floor={}, x={}, y={}), end(floor={}, x={}, y={}), guide={}",
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        GridSpec spec = snapshot.gridSpec();
+        PathRouteCache.RouteKey key = new PathRouteCache.RouteKey(
+                venueId, snapshot.version(),
+                request.getStartFloor(), spec.col(request.getStartX().doubleValue()), spec.row(request.getStartY().doubleValue()),
+                request.getEndFloor(), spec.col(request.getEndX().doubleValue()), spec.row(request.getEndY().doubleValue())
+        );
+        PathFindingResponse cached = routeCache.getOrCompute(key, timeBudgetMs(request.getTimeBudgetMs()),
+                () -> computePath(snapshot, request));
+        // 캐시된 응답은 요청 사이에 공유되므로 routeId는 요청마다 사본에 붙인다
+        PathFindingResponse route = routeHandles.register(venueId, cached);
+
+        // (옵션) 상세 안내 가이드 생성
+        // 경로 찾기에 성공했고, 사용자가 가이드를 요청했을 때만 수행
+        if (route.isSuccess() && request.isIncludeGuide()) {
+            return route.withNavigationSteps(generateNavigationSteps(route));
+        }
+        return route;
+    }
+
+    private PathFindingResponse computePath(VenueGeometrySnapshot snapshot, PathFindingRequest request) {
+        log.info("Pathfinding request: start(floor={}, x={}, y={}), end(floor={}, x={}, y={})",
                 request.getStartFloor(), request.getStartX(), request.getStartY(),
-                request.getEndFloor(), request.getEndX(), request.getEndY(), request.isIncludeGuide());
+                request.getEndFloor(), request.getEndX(), request.getEndY());
 
         // 층 정보 보정 (사용자가 잘못된 층 정보를 보냈을 경우 보정)
-        int fixedStartFloor = validateAndCorrectFloor(venueId, request.getStartX(), request.getStartY(), request.getStartFloor());
-        int fixedEndFloor = validateAndCorrectFloor(venueId, request.getEndX(), request.getEndY(), request.getEndFloor());
-
-        PathFindingResponse response;
+        int fixedStartFloor = validateAndCorrectFloor(snapshot.spatialIndex(), request.getStartX(), request.getStartY(), request.getStartFloor());
+        int fixedEndFloor = validateAndCorrectFloor(snapshot.spatialIndex(), request.getEndX(), request.getEndY(), request.getEndFloor());
 
         // 같은 층 vs 다른 층 분기 처리
         if (fixedStartFloor == fixedEndFloor) {
-            response = findPathOnSameFloor(
-                    venueId,
+            return findPathOnSameFloor(
+                    snapshot,
                     request.getStartX(), request.getStartY(),
                     request.getEndX(), request.getEndY(),
-                    fixedStartFloor
-            );
-        } else {
-            response = findPathAcrossFloors(
-                    venueId,
-                    request.getStartX(), request.getStartY(), fixedStartFloor,
-                    request.getEndX(), request.getEndY(), fixedEndFloor
+                    fixedStartFloor,
+                    request.getTimeBudgetMs()
             );
         }
+        return findPathAcrossFloors(
+                snapshot,
+                request.getStartX(), request.getStartY(), fixedStartFloor,
+                request.getEndX(), request.getEndY(), fixedEndFloor,
+                request.getTimeBudgetMs()
+        );
+    }
 
-        // (옵션) 상세 안내 가이드 생성
-        // 경로 찾기에 성공했고, 사용자가 가이드를 요청했을 때만 수행
-        if (response.isSuccess() && request.isIncludeGuide()) {
-            List<NavigationStep> steps = generateNavigationSteps(response.getCoordinates(), response.getFloorTransitions());
-
-            // 기존 응답에 가이드 추가하여 재빌드
-            return PathFindingResponse.builder()
-                    .coordinates(response.getCoordinates())
-                    .totalDistance(response.getTotalDistance())
-                    .startFloor(response.getStartFloor())
-                    .endFloor(response.getEndFloor())
-                    .floorTransitions(response.getFloorTransitions())
-                    .navigationSteps(steps) // 가이드 추가
-                    .build();
+    /**
+     * 보관된 경로의 단계별 안내 (경로 탐색 없이 만든다)
+     */
+    public List<NavigationStep> getRouteGuide(Long venueId, String routeId) {
+        return generateNavigationSteps(findRoute(venueId, routeId));
+    }
+
+    /**
+     * 보관된 경로를 층별 구간 좌표 목록으로
+     */
+    public RouteSegmentResponse getRouteSegments(Long venueId, String routeId) {
+        return toSegments(findRoute(venueId, routeId), null);
+    }
+
+    /**
+     * 보관된 경로를 층별 인코딩 폴리라인으로
+     */
+    public RouteSegmentResponse getRoutePolyline(Long venueId, String routeId, int precision) {
+        return toSegments(findRoute(venueId, routeId), precision);
+    }
+
+    private PathFindingResponse findRoute(Long venueId, String routeId) {
+        PathFindingResponse route = routeHandles.get(venueId, routeId);
+        if (route == null) {
+            throw GeneralException.notFound("경로를 찾을 수 없습니다. 보관 기간이 지났다면 경로를 다시 탐색해 주세요.");
         }
+        return route;
+    }
 
-        return response;
+    /**
+     * 층이 바뀌는 지점마다 구간을 나눈다. precision이 있으면 좌표 대신 인코딩 폴리라인을 담는다.
+     */
+    private RouteSegmentResponse toSegments(PathFindingResponse route, Integer precision) {
+        RoutePath path = route.getPath();
+        List<RouteSegmentResponse.Segment> segments = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= path.size(); i++) {
+            if (i < path.size() && path.floor(i) == path.floor(from)) continue;
+
+            double distance = 0;
+            for (int k = from; k + 1 < i; k++) distance += path.segmentLength(k);
+            RouteSegmentResponse.Segment.SegmentBuilder segment = RouteSegmentResponse.Segment.builder()
+                    .floor(path.floor(from))
+                    .startIndex(from)
+                    .endIndex(i - 1)
+                    .distance(BigDecimal.valueOf(distance).setScale(2, RoundingMode.HALF_UP));
+            if (precision != null) {
+                segment.polyline(PolylineEncoder.encode(path, from, i, precision));
+            } else {
+                segment.coordinates(route.getCoordinates().subList(from, i));
+            }
+            segments.add(segment.build());
+            from = i;
+        }
+        return RouteSegmentResponse.builder()
+                .routeId(route.getRouteId())
+                .totalDistance(route.getTotalDistance())
+                .precision(precision)
+                .segments(segments)
+                .build();
     }
 
     /**
@@ -125,49 +211,24 @@ public class PathFindingService {
     }
 
     private PathFindingResponse findPathOnSameFloor(
-            Long venueId,
+            VenueGeometrySnapshot snapshot,
             BigDecimal startX, BigDecimal startY,
             BigDecimal endX, BigDecimal endY,
-            Integer floor
+            Integer floor,
+            Long timeBudgetMs
     ) {
         log.info("=== PathFinding Debug: Floor {} ===", floor);
 
-        List<VenueSection> currentFloorSections = sectionRepository.findAllByVenueIdAndFloor(venueId, floor);
-        log.info("Current floor sections: {}", currentFloorSections.size());
-
-        currentFloorSections.forEach(s ->
-            log.debug("Section ID: {}, Type: {}, Vertices: {}",
-                s.getSectionId(), s.getType(),
-                s.getVerticesList() != null ? s.getVerticesList().size() : 0)
-        );
-
-        List<VenueSection> obstacleSections = currentFloorSections.stream()
-                .filter(s -> {
-                    if (s.getType() == null) return true;
-                    return s.getType() == SectionType.WALL
-                            || s.getType() == SectionType.SEAT
-                            || s.getType() == SectionType.STAGE
-                            || s.getType() == SectionType.UNKNOWN;
-                })
-                .collect(Collectors.toList());
-
-        log.info("Obstacle sections after filtering: {}", obstacleSections.size());
-
-        List<VenueSection> otherFloorSections = sectionRepository.findAllByVenueId(venueId).stream()
-                .filter(s -> !floor.equals(s.getFloor()))
-                .collect(Collectors.toList());
-
-        log.info("Other floor sections added as obstacles: {}", otherFloorSections.size());
-        obstacleSections.addAll(otherFloorSections);
-
-        log.info("Total obstacle sections: {}", obstacleSections.size());
-
-        List<Polygon> obstacles = convertToJTSPolygons(obstacleSections);
-        log.info("Successfully converted polygons: {}", obstacles.size());
-
-        if (obstacles.isEmpty()) {
-            log.warn("No obstacles found on floor {}. Path may be direct line.", floor);
+        FloorGeometry floorGeometry = snapshot.floor(floor);
+        if (floorGeometry == null) {
+            return PathFindingResponse.fail(PathFailureReason.NO_FLOOR_DATA, "해당 층의 구역 정보가 없습니다.");
+        }
+        NavMesh navMesh = floorGeometry.navMesh();
+        if (snapshot.pathEngine() == PathEngineType.NAVMESH && navMesh != null) {
+            return findPathOnNavMesh(navMesh, startX, startY, endX, endY, floor);
         }
+        long startedAt = System.nanoTime();
+        WalkabilityGrid grid = floorGeometry.grid();
 
         // 시작점/도착점 보정 (장애물 내부에 있을 경우 가장 가까운 이동 가능 좌표로 이동)
         org.locationtech.jts.geom.Coordinate rawStart =
@@ -177,8 +238,8 @@ public class PathFindingService {
 
         log.info("Raw start: ({}, {}), Raw end: ({}, {})", rawStart.x, rawStart.y, rawEnd.x, rawEnd.y);
 
-        org.locationtech.jts.geom.Coordinate validStart = findNearestWalkablePoint(rawStart, obstacles);
-        org.locationtech.jts.geom.Coordinate validEnd = findNearestWalkablePoint(rawEnd, obstacles);
+        org.locationtech.jts.geom.Coordinate validStart = routeAssembler.snapToWalkable(rawStart, floorGeometry.nearestWalkable());
+        org.locationtech.jts.geom.Coordinate validEnd = routeAssembler.snapToWalkable(rawEnd, floorGeometry.nearestWalkable());
 
         log.info("Valid start: {}, Valid end: {}", validStart != null, validEnd != null);
         if (validStart != null && validEnd != null) {
@@ -186,491 +247,479 @@ public class PathFindingService {
                 validStart.x, validStart.y, validEnd.x, validEnd.y);
         }
 
-        if (validStart == null || validEnd == null) {
-            return PathFindingResponse.fail("출발지 또는 도착지가 이동 불가능한 영역에 있으며, 근처에 진입 가능한 경로가 없습니다.");
+        if (validStart == null || validEnd == null || isColliding(validStart, grid) || isColliding(validEnd, grid)) {
+            return PathFindingResponse.fail(PathFailureReason.START_OR_END_BLOCKED,
+                    "출발지 또는 도착지가 이동 불가능한 영역에 있으며, 근처에 진입 가능한 경로가 없습니다.");
+        }
+
+        // 서로 다른 연결 요소면 고립된 쪽을 가까운 주 동선으로 옮기고, 옮길 곳이 없으면 탐색 없이 도달 불가
+        GridSpec spec = grid.spec();
+        int startCell = spec.cellAt(validStart.x, validStart.y);
+        int endCell = spec.cellAt(validEnd.x, validEnd.y);
+        ComponentLabels components = floorGeometry.components();
+        if (!components.connected(startCell, endCell)) {
+            int[] reconciled = routeAssembler.reconcileComponents(startCell, endCell, components);
+            if (reconciled == null) {
+                log.info("Unreachable by component labels: floor={}, start={}, end={}",
+                        floor, components.labelOf(startCell), components.labelOf(endCell));
+                return PathFindingResponse.fail(PathFailureReason.UNREACHABLE, "출발지와 도착지가 서로 이어지지 않은 구역에 있습니다.");
+            }
+            if (reconciled[0] != startCell) {
+                startCell = reconciled[0];
+                validStart = new org.locationtech.jts.geom.Coordinate(spec.cellCenterX(startCell), spec.cellCenterY(startCell));
+            }
+            if (reconciled[1] != endCell) {
+                endCell = reconciled[1];
+                validEnd = new org.locationtech.jts.geom.Coordinate(spec.cellCenterX(endCell), spec.cellCenterY(endCell));
+            }
+            log.info("Moved isolated endpoint into the same component: start=({}, {}), end=({}, {})",
+                    validStart.x, validStart.y, validEnd.x, validEnd.y);
         }
 
-        // A* 알고리즘 수행
-        List<org.locationtech.jts.geom.Coordinate> pathCoords = aStarSearch(validStart, validEnd, obstacles);
+        // 격자 탐색 수행 (전략은 pathfinding.search.grid-strategy)
+        PathFindingProperties.GridStrategy strategy = properties.getSearch().getGridStrategy();
+        SearchBudget budget = searchBudget(timeBudgetMs, spec.cellCount(), MAX_ASTAR_ITERATIONS);
+        SearchResult result = aStarSearch(startCell, endCell, grid, floorGeometry.hierarchy(), strategy, budget);
 
-        log.info("A* search returned path with {} coordinates", pathCoords.size());
+        log.info("{} search finished: status={}, expansions={}", strategy, result.status(), budget.expansions());
 
-        if (pathCoords.isEmpty()) {
-            return PathFindingResponse.fail("경로를 찾을 수 없습니다 (장애물로 완전히 막혀있음)");
+        if (result.status() == SearchResult.Status.UNREACHABLE) {
+            return PathFindingResponse.fail(PathFailureReason.UNREACHABLE, "경로를 찾을 수 없습니다 (장애물로 완전히 막혀있음)");
         }
+        boolean partial = result.status() == SearchResult.Status.BUDGET_EXHAUSTED;
+        PathFailureReason limitReason = budget.timedOut()
+                ? PathFailureReason.TIME_BUDGET_EXCEEDED : PathFailureReason.SEARCH_LIMIT_EXCEEDED;
+        if (partial && result.path().length < 2) {
+            return PathFindingResponse.fail(limitReason, "탐색 한도 안에 경로를 찾지 못했습니다.");
+        }
+
+        // 양 끝은 셀 중심 대신 실제 출발/도착 좌표를 사용 (부분 경로의 끝은 마지막으로 도달한 셀 중심)
+        List<org.locationtech.jts.geom.Coordinate> pathCoords = toGridPath(result.path(), validStart, partial ? null : validEnd, spec);
 
-        // 경로 부드럽게 만들기 (직선화)
-        List<org.locationtech.jts.geom.Coordinate> smoothedPath = smoothPath(pathCoords, obstacles);
-        log.info("Path smoothing: {} coordinates -> {} coordinates", pathCoords.size(), smoothedPath.size());
+        // 경로 부드럽게 만들기 (직선화) - any-angle 탐색 결과는 이미 직선화되어 있음
+        List<org.locationtech.jts.geom.Coordinate> smoothedPath = pathCoords;
+        if (strategy != PathFindingProperties.GridStrategy.LAZY_THETA_STAR) {
+            smoothedPath = routeAssembler.smooth(pathCoords, grid);
+            log.info("Path smoothing: {} coordinates -> {} coordinates", pathCoords.size(), smoothedPath.size());
+        }
 
         // 결과 변환
-        List<Coordinate> coordinates = smoothedPath.stream()
-                .map(c -> new Coordinate(
-                        BigDecimal.valueOf(c.x).setScale(1, RoundingMode.HALF_UP),
-                        BigDecimal.valueOf(c.y).setScale(1, RoundingMode.HALF_UP),
-                        floor
-                ))
-                .collect(Collectors.toList());
-
-        BigDecimal totalDistance = calculateTotalDistance(coordinates);
-        log.info("Final path distance: {}", totalDistance);
-
-        return PathFindingResponse.success(coordinates, totalDistance, floor);
+        RoutePath path = toRoutePath(smoothedPath, floor);
+        log.info("Grid path {}: floor={}, points={}, distance={}, {}ms", partial ? "partial" : "found",
+                floor, path.size(), path.length(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        PathFindingResponse response = PathFindingResponse.success(path, floor);
+        if (partial) {
+            return PathFindingResponse.partial(limitReason, "탐색 한도 안에 목적지까지 가지 못해 가장 가까이 간 지점까지의 경로를 반환합니다.", response);
+        }
+        return response;
     }
 
-    private PathFindingResponse findPathAcrossFloors(
-            Long venueId,
-            BigDecimal startX, BigDecimal startY, Integer startFloor,
-            BigDecimal endX, BigDecimal endY, Integer endFloor
+    /**
+     * 내비게이션 메시 엔진. 삼각형 통로를 찾고 funnel로 바로 직선화된 경로를 만든다.
+     */
+    private PathFindingResponse findPathOnNavMesh(
+            NavMesh navMesh,
+            BigDecimal startX, BigDecimal startY,
+            BigDecimal endX, BigDecimal endY,
+            Integer floor
     ) {
-        // 두 층을 연결하는 수단(계단/엘리베이터) 조회
-        List<VenueFacility> stairs = facilityRepository.findStairsConnectingFloors(venueId, startFloor, endFloor);
-        if (stairs.isEmpty()) {
-            return PathFindingResponse.fail("두 층을 연결하는 계단/엘리베이터가 없습니다.");
+        long startedAt = System.nanoTime();
+        org.locationtech.jts.geom.Coordinate validStart = routeAssembler.snapToMesh(
+                new org.locationtech.jts.geom.Coordinate(startX.doubleValue(), startY.doubleValue()), navMesh);
+        org.locationtech.jts.geom.Coordinate validEnd = routeAssembler.snapToMesh(
+                new org.locationtech.jts.geom.Coordinate(endX.doubleValue(), endY.doubleValue()), navMesh);
+        if (validStart == null || validEnd == null) {
+            return PathFindingResponse.fail(PathFailureReason.START_OR_END_BLOCKED,
+                    "출발지 또는 도착지가 이동 불가능한 영역에 있으며, 근처에 진입 가능한 경로가 없습니다.");
         }
 
-        // 가장 효율적인(가까운) 계단 찾기
-        VenueFacility bestStairs = stairs.stream().min(Comparator.comparingDouble(s -> {
-            double d1 = calculateDistance(startX.doubleValue(), startY.doubleValue(), s.getX().doubleValue(), s.getY().doubleValue());
-            double d2 = calculateDistance(s.getX().doubleValue(), s.getY().doubleValue(), endX.doubleValue(), endY.doubleValue());
-            return d1 + d2;
-        })).orElse(null);
-
-        if (bestStairs == null) return PathFindingResponse.fail("이동 가능한 계단을 찾을 수 없습니다.");
-
-        // 경로 쪼개서 계산 (Start -> 계단, 계단 -> End)
-        PathFindingResponse pathToStairs = findPathOnSameFloor(venueId, startX, startY, bestStairs.getX(), bestStairs.getY(), startFloor);
-        if (!pathToStairs.isSuccess()) return PathFindingResponse.fail("출발지에서 계단까지의 경로를 찾을 수 없습니다.");
+        List<org.locationtech.jts.geom.Coordinate> path =
+                NavMeshAStar.search(navMesh, validStart, validEnd, SearchBudget.expansions(MAX_ASTAR_ITERATIONS));
+        if (path == null) {
+            log.warn("NavMesh search failed: floor={}, triangles={}", floor, navMesh.triangleCount());
+            return PathFindingResponse.fail(PathFailureReason.UNREACHABLE, "경로를 찾을 수 없습니다 (장애물로 완전히 막혀있음)");
+        }
 
-        PathFindingResponse pathFromStairs = findPathOnSameFloor(venueId, bestStairs.getX(), bestStairs.getY(), endX, endY, endFloor);
-        if (!pathFromStairs.isSuccess()) return PathFindingResponse.fail("계단에서 도착지까지의 경로를 찾을 수 없습니다.");
+        RoutePath routePath = toRoutePath(path, floor);
+        log.info("NavMesh path found: floor={}, triangles={}, points={}, distance={}, {}ms",
+                floor, navMesh.triangleCount(), routePath.size(), routePath.length(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return PathFindingResponse.success(routePath, floor);
+    }
 
-        // 두 경로 합치기
-        return mergePathsWithStairs(pathToStairs, pathFromStairs, bestStairs, startFloor, endFloor);
+    private RoutePath toRoutePath(List<org.locationtech.jts.geom.Coordinate> path, int floor) {
+        RoutePath.Builder builder = RoutePath.builder(path.size());
+        for (org.locationtech.jts.geom.Coordinate c : path) {
+            builder.add(c.x, c.y, floor);
+        }
+        return builder.build();
     }
 
-    private List<NavigationStep> generateNavigationSteps(List<Coordinate> path, List<FloorTransition> transitions) {
-        if (path == null || path.size() < 2) return Collections.emptyList();
+    /**
+     * 층 간 경로. 먼저 두 층을 바로 잇는 계단 후보들을 병렬로 평가하고(NavMesh 엔진은 메시 위, 아니면 층별 격자 위),
+     * 후보로 경로를 만들지 못했을 때만 모든 층과 계단/엘리베이터를 묶은 그래프에서 한 번의 탐색으로 찾는다.
+     * 그래프 탐색은 중간 층을 거치는 경로(1층 → 2층 → 3층)도 그대로 찾아지며, 한 계단이 막혀 있어도 다른 연결 시설로 우회한다.
+     */
+    private PathFindingResponse findPathAcrossFloors(
+            VenueGeometrySnapshot snapshot,
+            BigDecimal startX, BigDecimal startY, Integer startFloor,
+            BigDecimal endX, BigDecimal endY, Integer endFloor,
+            Long timeBudgetMs
+    ) {
+        VenueGraph graph = snapshot.graph();
+        int startLayer = graph.layerOf(startFloor);
+        int endLayer = graph.layerOf(endFloor);
+        if (startLayer < 0 || endLayer < 0) {
+            return PathFindingResponse.fail(PathFailureReason.NO_FLOOR_DATA, "해당 층의 구역 정보가 없습니다.");
+        }
+        if (graph.connectors().isEmpty()) {
+            return PathFindingResponse.fail(PathFailureReason.NO_CONNECTOR, "두 층을 연결하는 계단/엘리베이터가 없습니다.");
+        }
+        if (snapshot.pathEngine() == PathEngineType.NAVMESH) {
+            PathFindingResponse meshRoute = findPathAcrossFloorsOnNavMesh(
+                    snapshot, startX, startY, startFloor, endX, endY, endFloor, timeBudgetMs);
+            if (meshRoute != null) return meshRoute;
+        }
 
-        List<NavigationStep> steps = new ArrayList<>();
-        int stepOrder = 1;
+        org.locationtech.jts.geom.Coordinate validStart = routeAssembler.snapToWalkable(
+                new org.locationtech.jts.geom.Coordinate(startX.doubleValue(), startY.doubleValue()), graph.nearestWalkable(startLayer));
+        org.locationtech.jts.geom.Coordinate validEnd = routeAssembler.snapToWalkable(
+                new org.locationtech.jts.geom.Coordinate(endX.doubleValue(), endY.doubleValue()), graph.nearestWalkable(endLayer));
+        if (validStart == null || validEnd == null) {
+            return PathFindingResponse.fail(PathFailureReason.START_OR_END_BLOCKED,
+                    "출발지 또는 도착지가 이동 불가능한 영역에 있으며, 근처에 진입 가능한 경로가 없습니다.");
+        }
 
-        // 출발
-        steps.add(NavigationStep.builder()
-                .stepOrder(stepOrder++)
-                .description("경로 안내를 시작합니다.")
-                .type(DirectionType.START)
-                .coordinate(path.get(0))
-                .distance(BigDecimal.ZERO)
-                .build());
-
-        double accumulatedDist = 0;
-        int lastTurnIndex = 0;
-
-        for (int i = 0; i < path.size() - 1; i++) {
-            Coordinate curr = path.get(i);
-            Coordinate next = path.get(i + 1);
-
-            // 거리 누적
-            double dist = curr.distanceTo(next);
-            accumulatedDist += dist;
-
-            // [Case A] 층 변경 감지 (계단/엘리베이터)
-            if (!curr.getFloor().equals(next.getFloor())) {
-                // 직진해온 거리가 있다면 먼저 추가
-                if (accumulatedDist > 0) {
-                    addStraightStep(steps, stepOrder++, accumulatedDist, path.get(lastTurnIndex));
-                    accumulatedDist = 0;
-                }
+        GridSpec spec = graph.spec();
+        int startNode = graph.node(startLayer, spec.cellAt(validStart.x, validStart.y));
+        int endNode = graph.node(endLayer, spec.cellAt(validEnd.x, validEnd.y));
 
-                boolean isUp = next.getFloor() > curr.getFloor();
-                String transName = findTransitionName(i, transitions);
-                steps.add(NavigationStep.builder()
-                        .stepOrder(stepOrder++)
-                        .description(String.format("%s을(를) 통해 %d층으로 이동하세요.", transName, next.getFloor()))
-                        .type(isUp ? DirectionType.STAIRS_UP : DirectionType.STAIRS_DOWN)
-                        .coordinate(curr)
-                        .distance(BigDecimal.ZERO)
-                        .build());
-
-                lastTurnIndex = i + 1;
-                continue; // 층 이동 시 방향 계산 건너뜀
+        // 계단/엘리베이터까지 포함한 연결 요소가 다르면 고립된 쪽을 옮기거나 바로 도달 불가
+        if (!graph.connected(startNode, endNode)) {
+            int[] reconciled = routeAssembler.reconcileComponents(startNode, endNode, graph);
+            if (reconciled == null) {
+                log.info("Unreachable by component labels: floor {} -> {}", startFloor, endFloor);
+                return PathFindingResponse.fail(PathFailureReason.UNREACHABLE, "출발지와 도착지가 서로 이어지지 않은 구역에 있습니다.");
             }
-
-            // [Case B] 방향 전환 감지 (다음 점이 존재할 때)
-            if (i + 2 < path.size()) {
-                Coordinate nextNext = path.get(i + 2);
-
-                // 같은 층 내에서만 각도 계산
-                if (next.getFloor().equals(nextNext.getFloor())) {
-                    double angle = calculateTurnAngle(curr, next, nextNext);
-                    DirectionType turnType = getDirectionFromAngle(angle);
-
-                    // 회전이 발생하면
-                    if (turnType != DirectionType.STRAIGHT) {
-                        // 지금까지의 직진 거리 안내 (2m 이상일 때만)
-                        if (accumulatedDist >= 2.0) {
-                            addStraightStep(steps, stepOrder++, accumulatedDist, path.get(lastTurnIndex));
-                        }
-
-                        // 회전 안내
-                        steps.add(NavigationStep.builder()
-                                .stepOrder(stepOrder++)
-                                .description(String.format("%s하세요.", getTurnDescription(turnType)))
-                                .type(turnType)
-                                .coordinate(next)
-                                .distance(BigDecimal.ZERO)
-                                .build());
-
-                        accumulatedDist = 0;
-                        lastTurnIndex = i + 1;
-                    }
-                }
+            if (reconciled[0] != startNode) {
+                startNode = reconciled[0];
+                int cell = graph.cellOfNode(startNode);
+                validStart = new org.locationtech.jts.geom.Coordinate(spec.cellCenterX(cell), spec.cellCenterY(cell));
+            }
+            if (reconciled[1] != endNode) {
+                endNode = reconciled[1];
+                int cell = graph.cellOfNode(endNode);
+                validEnd = new org.locationtech.jts.geom.Coordinate(spec.cellCenterX(cell), spec.cellCenterY(cell));
             }
         }
-
-        // 마지막 남은 직진 거리 추가
-        if (accumulatedDist > 0) {
-            addStraightStep(steps, stepOrder++, accumulatedDist, path.get(lastTurnIndex));
+        SearchBudget budget = searchBudget(timeBudgetMs, graph.nodeCount(), MAX_ASTAR_ITERATIONS * graph.layerCount());
+
+        // 두 층을 바로 잇는 계단 후보별 구간을 층별 격자에서 병렬로 평가한다 (같은 층 탐색과 같은 전략)
+        PathFindingProperties.GridStrategy strategy = properties.getSearch().getGridStrategy();
+        PathFindingResponse planned = crossFloorRoutePlanner.planOnGrid(graph, startNode, validStart, endNode, validEnd, budget,
+                (layer, fromCell, toCell, legBudget) -> {
+                    FloorGeometry floorGeometry = snapshot.floor(graph.floorOfLayer(layer));
+                    return aStarSearch(fromCell, toCell, floorGeometry.grid(), floorGeometry.hierarchy(), strategy, legBudget);
+                });
+        if (planned != null) return planned;
+
+        // 후보로 경로를 못 만들었으면 중간 층 환승까지 보는 층 그래프 전체 탐색 (남은 한도 안에서)
+        SearchResult result = LayeredAStar.search(graph, startNode, endNode, budget);
+        if (result.status() == SearchResult.Status.UNREACHABLE) {
+            log.warn("Multi-floor search failed: floor {} -> {}, connectors={}", startFloor, endFloor, graph.connectors().size());
+            return PathFindingResponse.fail(PathFailureReason.UNREACHABLE, "층 간 이동 경로를 찾을 수 없습니다.");
+        }
+        if (result.status() == SearchResult.Status.BUDGET_EXHAUSTED) {
+            PathFailureReason reason = budget.timedOut()
+                    ? PathFailureReason.TIME_BUDGET_EXCEEDED : PathFailureReason.SEARCH_LIMIT_EXCEEDED;
+            int[] nodes = result.path();
+            log.warn("Multi-floor search stopped by budget: floor {} -> {}, reason={}, expansions={}",
+                    startFloor, endFloor, reason, budget.expansions());
+            if (nodes.length < 2) {
+                return PathFindingResponse.fail(reason, "탐색 한도 안에 층 간 이동 경로를 찾지 못했습니다.");
+            }
+            // 부분 경로는 마지막으로 도달한 노드에서 끝난다
+            int lastNode = nodes[nodes.length - 1];
+            int lastCell = graph.cellOfNode(lastNode);
+            org.locationtech.jts.geom.Coordinate reached =
+                    new org.locationtech.jts.geom.Coordinate(spec.cellCenterX(lastCell), spec.cellCenterY(lastCell));
+            int reachedFloor = graph.floorOfLayer(graph.layerOfNode(lastNode));
+            return PathFindingResponse.partial(reason,
+                    "탐색 한도 안에 목적지까지 가지 못해 가장 가까이 간 지점까지의 경로를 반환합니다.",
+                    routeAssembler.toResponse(graph, nodes, validStart, reached, startFloor, reachedFloor));
         }
 
-        // 도착
-        steps.add(NavigationStep.builder()
-                .stepOrder(stepOrder)
-                .description("목적지에 도착했습니다.")
-                .type(DirectionType.ARRIVE)
-                .coordinate(path.get(path.size() - 1))
-                .distance(BigDecimal.ZERO)
-                .build());
-
-        return steps;
+        PathFindingResponse response = routeAssembler.toResponse(graph, result.path(), validStart, validEnd, startFloor, endFloor);
+        log.info("Multi-floor path found: floor {} -> {}, transitions={}, distance={}",
+                startFloor, endFloor, response.getFloorTransitions().size(), response.getTotalDistance());
+        return response;
     }
 
-    private void addStraightStep(List<NavigationStep> steps, int order, double distance, Coordinate coord) {
-        steps.add(NavigationStep.builder()
-                .stepOrder(order)
-                .description(String.format("약 %.0fm 직진하세요.", distance))
-                .type(DirectionType.STRAIGHT)
-                .coordinate(coord)
-                .distance(BigDecimal.valueOf(distance).setScale(1, RoundingMode.HALF_UP))
-                .build());
+    /**
+     * 두 층의 메시가 모두 있을 때 계단 후보별 구간을 병렬로 탐색한다. 메시가 없거나 후보로 경로를 못 만들면 null.
+     */
+    private PathFindingResponse findPathAcrossFloorsOnNavMesh(
+            VenueGeometrySnapshot snapshot,
+            BigDecimal startX, BigDecimal startY, Integer startFloor,
+            BigDecimal endX, BigDecimal endY, Integer endFloor,
+            Long timeBudgetMs
+    ) {
+        FloorGeometry startGeometry = snapshot.floor(startFloor);
+        FloorGeometry endGeometry = snapshot.floor(endFloor);
+        if (startGeometry == null || endGeometry == null
+                || startGeometry.navMesh() == null || endGeometry.navMesh() == null) {
+            return null;
+        }
+        org.locationtech.jts.geom.Coordinate validStart = routeAssembler.snapToMesh(
+                new org.locationtech.jts.geom.Coordinate(startX.doubleValue(), startY.doubleValue()), startGeometry.navMesh());
+        org.locationtech.jts.geom.Coordinate validEnd = routeAssembler.snapToMesh(
+                new org.locationtech.jts.geom.Coordinate(endX.doubleValue(), endY.doubleValue()), endGeometry.navMesh());
+        if (validStart == null || validEnd == null) return null;
+
+        int triangles = Math.max(startGeometry.navMesh().triangleCount(), endGeometry.navMesh().triangleCount());
+        return crossFloorRoutePlanner.plan(snapshot.graph(), startGeometry.navMesh(), endGeometry.navMesh(),
+                validStart, startFloor, validEnd, endFloor, searchBudget(timeBudgetMs, triangles, MAX_ASTAR_ITERATIONS));
     }
 
-    private double calculateTurnAngle(Coordinate p1, Coordinate p2, Coordinate p3) {
-        double angle1 = Math.atan2(p2.getY().doubleValue() - p1.getY().doubleValue(),
-                p2.getX().doubleValue() - p1.getX().doubleValue());
-        double angle2 = Math.atan2(p3.getY().doubleValue() - p2.getY().doubleValue(),
-                p3.getX().doubleValue() - p2.getX().doubleValue());
-
-        double angleDiff = Math.toDegrees(angle2 - angle1);
-        if (angleDiff > 180) angleDiff -= 360;
-        if (angleDiff < -180) angleDiff += 360;
-        return angleDiff;
+    /**
+     * 요청별 탐색 한도. 시간 한도가 있으면 시간으로 끊고(확장 횟수는 노드 수로 사실상 무제한),
+     * 시간 한도가 꺼져 있으면 기존처럼 확장 횟수로 끊는다.
+     */
+    private SearchBudget searchBudget(Long requestedMs, int nodeCount, int maxExpansions) {
+        long timeBudgetMs = timeBudgetMs(requestedMs);
+        if (timeBudgetMs <= 0) {
+            return SearchBudget.expansions(maxExpansions);
+        }
+        return SearchBudget.of(Math.max(nodeCount, maxExpansions), timeBudgetMs);
     }
 
-    private DirectionType getDirectionFromAngle(double angle) {
-        if (angle > -30 && angle < 30) return DirectionType.STRAIGHT;
-        if (angle >= 30 && angle < 60) return DirectionType.SLIGHT_RIGHT;
-        if (angle >= 60 && angle < 120) return DirectionType.RIGHT;
-        if (angle <= -30 && angle > -60) return DirectionType.SLIGHT_LEFT;
-        if (angle <= -60 && angle > -120) return DirectionType.LEFT;
-        return DirectionType.STRAIGHT;
+    /**
+     * 요청 시간 한도를 설정 최대값으로 자르고, 없으면 기본값 (0 이하면 시간 제한 없음)
+     */
+    private long timeBudgetMs(Long requestedMs) {
+        PathFindingProperties.Search search = properties.getSearch();
+        return requestedMs != null
+                ? Math.min(requestedMs, search.getMaxTimeBudgetMs())
+                : search.getDefaultTimeBudgetMs();
     }
 
-    private String getTurnDescription(DirectionType type) {
-        switch (type) {
-            case LEFT: return "좌회전";
-            case RIGHT: return "우회전";
-            case SLIGHT_LEFT: return "왼쪽 방향으로 이동";
-            case SLIGHT_RIGHT: return "오른쪽 방향으로 이동";
-            default: return "이동";
+    /**
+     * 좌표를 가장 가까운 이동 가능 지점으로 보정한다 (앱에서 핀을 끄는 동안 호출).
+     * 층별로 미리 계산한 최근접 셀 표를 한 번 조회할 뿐이라 DB 접근이나 탐색이 없다.
+     */
+    public SnapResponse snap(Long venueId, BigDecimal x, BigDecimal y, Integer floor) {
+        FloorGeometry floorGeometry = snapshotService.get(venueId).floor(floor);
+        if (floorGeometry == null) {
+            throw GeneralException.notFound("해당 층의 구역 정보가 없습니다.");
         }
-    }
 
-    private String findTransitionName(int index, List<FloorTransition> transitions) {
-        if (transitions == null) return "계단";
-        for (FloorTransition t : transitions) {
-            // 경로 인덱스와 근접한 트랜지션 찾기
-            if (Math.abs(t.getPathIndex() - index) <= 1) {
-                return t.getStairsName() != null ? t.getStairsName() : "계단";
-            }
+        org.locationtech.jts.geom.Coordinate raw = new org.locationtech.jts.geom.Coordinate(x.doubleValue(), y.doubleValue());
+        org.locationtech.jts.geom.Coordinate snapped = routeAssembler.snapToWalkable(raw, floorGeometry.nearestWalkable());
+        if (snapped == null) {
+            return SnapResponse.builder()
+                    .found(false)
+                    .moved(false)
+                    .x(x).y(y).floor(floor)
+                    .distance(BigDecimal.ZERO)
+                    .build();
         }
-        return "계단";
+        boolean moved = snapped != raw;
+        return SnapResponse.builder()
+                .found(true)
+                .moved(moved)
+                .x(moved ? BigDecimal.valueOf(snapped.x).setScale(1, RoundingMode.HALF_UP) : x)
+                .y(moved ? BigDecimal.valueOf(snapped.y).setScale(1, RoundingMode.HALF_UP) : y)
+                .floor(floor)
+                .distance(BigDecimal.valueOf(raw.distance(snapped)).setScale(1, RoundingMode.HALF_UP))
+                .build();
     }
 
-    private Integer validateAndCorrectFloor(Long venueId, BigDecimal x, BigDecimal y, Integer inputFloor) {
-        if (isPointOnFloor(venueId, x, y, inputFloor)) {
-            return inputFloor;
-        }
-        log.warn("Point out of floor range: x={}, y={}, floor={}. Searching other floors.", x, y, inputFloor);
-        for (int floor = MIN_SEARCH_FLOOR; floor <= MAX_SEARCH_FLOOR; floor++) {
-            if (floor == inputFloor) continue;
-            if (isPointOnFloor(venueId, x, y, floor)) {
-                return floor;
-            }
+    /**
+     * 가까운 시설물 조회. 가장 가까운 한 곳은 타입별 거리장에서 출발 셀 값을 읽는 O(1) 조회이고 경로는 거리장을 따라 내려가 만든다.
+     * 여러 곳은 해당 타입 시설물까지 한 번의 Dijkstra로 구하며 limit개가 확정되면 멈춘다.
+     */
+    public List<NearestFacilityResponse> findNearestFacilities(
+            Long venueId,
+            FacilityType type,
+            BigDecimal x, BigDecimal y, Integer floor,
+            int limit, boolean includeRoute
+    ) {
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        int fixedFloor = validateAndCorrectFloor(snapshot.spatialIndex(), x, y, floor);
+        VenueGraph graph = snapshot.graph();
+        int layer = graph.layerOf(fixedFloor);
+        if (layer < 0) {
+            throw GeneralException.notFound("해당 층의 구역 정보가 없습니다.");
         }
-        return inputFloor;
-    }
-
-    private boolean isPointOnFloor(Long venueId, BigDecimal x, BigDecimal y, Integer floor) {
-        List<VenueSection> sections = sectionRepository.findAllByVenueIdAndFloor(venueId, floor);
-        if (sections.isEmpty()) return false;
-        Point point = geometryFactory.createPoint(new org.locationtech.jts.geom.Coordinate(x.doubleValue(), y.doubleValue()));
-        for (VenueSection section : sections) {
-            try {
-                if (section.getVerticesList() == null || section.getVerticesList().size() < 3) continue;
-                Polygon polygon = createPolygon(section.getVerticesList());
-                if (polygon.intersects(point)) return true;
-            } catch (Exception ignored) {}
-        }
-        return false;
-    }
 
-    private org.locationtech.jts.geom.Coordinate findNearestWalkablePoint(org.locationtech.jts.geom.Coordinate target, List<Polygon> obstacles) {
-        if (!isColliding(target, obstacles)) {
-            log.debug("Target ({}, {}) is already walkable", target.x, target.y);
-            return target;
-        }
-
-        log.debug("Target ({}, {}) is in collision, searching for nearest walkable point", target.x, target.y);
-        int maxSteps = 20;
-        Set<String> visited = new HashSet<>();
-        Queue<org.locationtech.jts.geom.Coordinate> queue = new LinkedList<>();
-        queue.add(target);
-        visited.add(getKey(target));
-        int[][] directions = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}, {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
-
-        while (!queue.isEmpty()) {
-            org.locationtech.jts.geom.Coordinate current = queue.poll();
-            if (current.distance(target) > (GRID_SIZE * maxSteps)) continue;
-            for (int[] dir : directions) {
-                double nx = current.x + (dir[0] * (GRID_SIZE / 2));
-                double ny = current.y + (dir[1] * (GRID_SIZE / 2));
-                org.locationtech.jts.geom.Coordinate next = new org.locationtech.jts.geom.Coordinate(nx, ny);
-                String key = getKey(next);
-                if (visited.contains(key)) continue;
-                if (!isColliding(next, obstacles)) {
-                    log.debug("Found walkable point: ({}, {}) at distance {}", next.x, next.y, next.distance(target));
-                    return next;
-                }
-                visited.add(key);
-                queue.add(next);
-            }
+        org.locationtech.jts.geom.Coordinate start = routeAssembler.snapToWalkable(
+                new org.locationtech.jts.geom.Coordinate(x.doubleValue(), y.doubleValue()), graph.nearestWalkable(layer));
+        if (start == null) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "출발지 근처에 이동 가능한 영역이 없습니다.");
         }
-        log.warn("No walkable point found within search radius for target ({}, {})", target.x, target.y);
-        return null;
-    }
-
-    private List<org.locationtech.jts.geom.Coordinate> aStarSearch(org.locationtech.jts.geom.Coordinate start, org.locationtech.jts.geom.Coordinate end, List<Polygon> obstacles) {
-        if (isColliding(start, obstacles)) {
-            log.warn("A* Search: Start point is in collision");
-            return Collections.emptyList();
-        }
-
-        log.debug("A* Search started: start({}, {}), end({}, {}), obstacles={}",
-            start.x, start.y, end.x, end.y, obstacles.size());
-        PriorityQueue<Node> openList = new PriorityQueue<>(Comparator.comparingDouble(n -> n.fCost));
-        Map<String, Node> allNodes = new HashMap<>();
-        Set<String> closedSet = new HashSet<>();
-        Node startNode = new Node(start, null, 0, start.distance(end));
-        openList.add(startNode);
-        allNodes.put(getKey(start), startNode);
-        int[][] directions = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}, {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
-        int iterations = 0;
-
-        while (!openList.isEmpty()) {
-            if (iterations++ > MAX_ASTAR_ITERATIONS) break;
-            Node current = openList.poll();
-            String currentKey = getKey(current.coord);
-            if (closedSet.contains(currentKey)) continue;
-            closedSet.add(currentKey);
-            if (current.coord.distance(end) < GRID_SIZE) return reconstructPath(current, end);
-
-            for (int[] dir : directions) {
-                double newX = current.coord.x + (dir[0] * GRID_SIZE);
-                double newY = current.coord.y + (dir[1] * GRID_SIZE);
-                org.locationtech.jts.geom.Coordinate neighborCoord = new org.locationtech.jts.geom.Coordinate(newX, newY);
-                String neighborKey = getKey(neighborCoord);
-                if (closedSet.contains(neighborKey)) continue;
-                if (isColliding(neighborCoord, obstacles)) continue;
-                if (isPathColliding(current.coord, neighborCoord, obstacles)) continue;
-
-                double moveCost = (dir[0] != 0 && dir[1] != 0) ? 1.414 * GRID_SIZE : GRID_SIZE;
-                double gCost = current.gCost + moveCost;
-                double hCost = neighborCoord.distance(end);
-
-                Node existing = allNodes.get(neighborKey);
-                if (existing == null || gCost < existing.gCost) {
-                    Node neighbor = new Node(neighborCoord, current, gCost, hCost);
-                    allNodes.put(neighborKey, neighbor);
-                    openList.add(neighbor);
+        int startNode = graph.node(layer, graph.spec().cellAt(start.x, start.y));
+
+        FacilityDistanceFields fields = snapshot.facilityFields();
+        List<NearestFacilityResponse> result = new ArrayList<>();
+        for (FacilityDistanceFields.FacilityDistance candidate : fields.nearest(graph, type, startNode, limit, includeRoute)) {
+            FacilityPoint facility = candidate.facility();
+            PathFindingResponse route = null;
+            if (includeRoute) {
+                int[] nodes = candidate.path();
+                int facilityNode = fields.nodeOf(facility.id());
+                org.locationtech.jts.geom.Coordinate end = routeAssembler.snapToWalkable(
+                        new org.locationtech.jts.geom.Coordinate(facility.x(), facility.y()),
+                        graph.nearestWalkable(graph.layerOfNode(facilityNode)));
+                if (nodes != null && end != null) {
+                    route = routeAssembler.toResponse(graph, nodes, start, end, fixedFloor, facility.floor());
                 }
             }
+            result.add(NearestFacilityResponse.builder()
+                    .facilityId(facility.id())
+                    .name(facility.name())
+                    .type(facility.type())
+                    .floor(facility.floor())
+                    .x(BigDecimal.valueOf(facility.x()))
+                    .y(BigDecimal.valueOf(facility.y()))
+                    .walkingDistance(BigDecimal.valueOf(candidate.distance()).setScale(1, RoundingMode.HALF_UP))
+                    .route(route)
+                    .build());
         }
-        log.warn("A* Search: No path found after {} iterations", MAX_ASTAR_ITERATIONS);
-        return Collections.emptyList();
+        log.info("Nearest facilities: venueId={}, type={}, floor={}, found={}", venueId, type, fixedFloor, result.size());
+        return result;
     }
 
-    private List<Polygon> convertToJTSPolygons(List<VenueSection> sections) {
-        if (sections == null || sections.isEmpty()) {
-            log.warn("No sections provided for polygon conversion");
-            return new ArrayList<>();
-        }
-        List<Polygon> polygons = new ArrayList<>();
-        for (VenueSection section : sections) {
-            List<Coordinate> vertices = section.getVerticesList();
-            if (vertices == null) {
-                log.debug("Section ID: {} has null vertices", section.getSectionId());
-                continue;
-            }
-            if (vertices.size() < 3) {
-                log.debug("Section ID: {} has insufficient vertices ({}), skipping", section.getSectionId(), vertices.size());
-                continue;
-            }
-            try {
-                Polygon polygon = createPolygon(vertices);
-                polygons.add(polygon);
-                log.debug("Successfully created polygon for section ID: {}, vertices: {}, area: {}",
-                    section.getSectionId(), vertices.size(), polygon.getArea());
-            } catch (Exception e) {
-                log.error("Failed to convert section to polygon. sectionId={}, error={}", section.getSectionId(), e.getMessage());
-            }
+    /**
+     * 가장 가까운 출구 안내. 적재 시점에 만든 출구 흐름장을 따라 내려가기만 하므로 탐색이 없고,
+     * 관객 전체가 한꺼번에 요청해도 요청당 비용은 경로 길이에 비례한다.
+     * 경로 핸들/캐시에 넣지 않아 몰림 상황에서 다른 경로를 밀어내지 않는다.
+     */
+    public NearestFacilityResponse findExitRoute(Long venueId, BigDecimal x, BigDecimal y, Integer floor) {
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        ExitFlowField exits = snapshot.exitField();
+        if (exits.isEmpty()) {
+            throw GeneralException.notFound("공연장에 등록된 출구가 없습니다.");
         }
-        log.info("Polygon conversion complete: {} sections -> {} valid polygons", sections.size(), polygons.size());
-        return polygons;
-    }
-
-    private Polygon createPolygon(List<Coordinate> vertices) {
-        org.locationtech.jts.geom.Coordinate[] jtsCoords = new org.locationtech.jts.geom.Coordinate[vertices.size() + 1];
-        for (int i = 0; i < vertices.size(); i++) {
-            jtsCoords[i] = new org.locationtech.jts.geom.Coordinate(vertices.get(i).getX().doubleValue(), vertices.get(i).getY().doubleValue());
+        int fixedFloor = validateAndCorrectFloor(snapshot.spatialIndex(), x, y, floor);
+        VenueGraph graph = snapshot.graph();
+        int layer = graph.layerOf(fixedFloor);
+        if (layer < 0) {
+            throw GeneralException.notFound("해당 층의 구역 정보가 없습니다.");
         }
-        jtsCoords[vertices.size()] = jtsCoords[0];
-        return geometryFactory.createPolygon(geometryFactory.createLinearRing(jtsCoords));
-    }
 
-    private List<org.locationtech.jts.geom.Coordinate> smoothPath(List<org.locationtech.jts.geom.Coordinate> path, List<Polygon> obstacles) {
-        if (path.size() <= 2) return path;
-        List<org.locationtech.jts.geom.Coordinate> smoothed = new ArrayList<>();
-        smoothed.add(path.get(0));
-        int i = 0;
-        int iteration = 0;
-
-        log.debug("=== Path Smoothing Debug ===");
-        log.debug("Initial path size: {}, obstacles count: {}", path.size(), obstacles.size());
-
-        while (i < path.size() - 1) {
-            int j = path.size() - 1;
-            int originalJ = j;
-
-            while (j > i + 1 && isPathColliding(path.get(i), path.get(j), obstacles)) {
-                j--;
-            }
-
-            log.debug("Iteration {}: i={}, originalJ={}, finalJ={}, collision={}",
-                iteration, i, originalJ, j, originalJ != j);
-            log.debug("  Checking path from ({}, {}) to ({}, {})",
-                path.get(i).x, path.get(i).y, path.get(j).x, path.get(j).y);
-
-            if (j == i + 1) {
-                smoothed.add(path.get(i + 1));
-                i++;
-                log.debug("  -> No shortcut possible, adding next point");
-            } else {
-                smoothed.add(path.get(j));
-                i = j;
-                log.debug("  -> Shortcut found, jumping to position {}", j);
-            }
-            iteration++;
+        org.locationtech.jts.geom.Coordinate start = routeAssembler.snapToWalkable(
+                new org.locationtech.jts.geom.Coordinate(x.doubleValue(), y.doubleValue()), graph.nearestWalkable(layer));
+        if (start == null) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "출발지 근처에 이동 가능한 영역이 없습니다.");
         }
+        int startNode = graph.node(layer, graph.spec().cellAt(start.x, start.y));
 
-        log.debug("Path smoothing complete: {} -> {} coordinates", path.size(), smoothed.size());
-        return smoothed;
-    }
-
-    private boolean isColliding(org.locationtech.jts.geom.Coordinate coord, List<Polygon> obstacles) {
-        if (obstacles.isEmpty()) return false;
-
-        Point point = geometryFactory.createPoint(coord);
-        for (Polygon polygon : obstacles) {
-            if (polygon.intersects(point)) {
-                log.trace("Point ({}, {}) collides with obstacle (area: {})",
-                    coord.x, coord.y, polygon.getArea());
-                return true;
-            }
+        int[] nodes = exits.route(graph, startNode);
+        FacilityPoint exit = nodes == null ? null : exits.exitAt(nodes[nodes.length - 1]);
+        if (exit == null) {
+            throw GeneralException.notFound("현재 위치에서 갈 수 있는 출구가 없습니다.");
         }
-        return false;
+        org.locationtech.jts.geom.Coordinate end = routeAssembler.snapToWalkable(
+                new org.locationtech.jts.geom.Coordinate(exit.x(), exit.y()), graph.nearestWalkable(graph.layerOf(exit.floor())));
+        PathFindingResponse route = end == null
+                ? PathFindingResponse.fail("경로를 찾을 수 없습니다.")
+                : routeAssembler.toResponse(graph, nodes, start, end, fixedFloor, exit.floor());
+
+        log.debug("Exit route: venueId={}, floor={}, exitId={}, distance={}", venueId, fixedFloor, exit.id(),
+                exits.distance(startNode));
+        return NearestFacilityResponse.builder()
+                .facilityId(exit.id())
+                .name(exit.name())
+                .type(exit.type())
+                .floor(exit.floor())
+                .x(BigDecimal.valueOf(exit.x()))
+                .y(BigDecimal.valueOf(exit.y()))
+                .walkingDistance(BigDecimal.valueOf(exits.distance(startNode)).setScale(1, RoundingMode.HALF_UP))
+                .route(route)
+                .build();
     }
 
-    private boolean isPathColliding(org.locationtech.jts.geom.Coordinate from, org.locationtech.jts.geom.Coordinate to, List<Polygon> obstacles) {
-        if (isColliding(from, obstacles) || isColliding(to, obstacles)) {
-            log.debug("Path collision detected at endpoint: from({}, {}), to({}, {})",
-                from.x, from.y, to.x, to.y);
-            return true;
-        }
-        LineString path = geometryFactory.createLineString(new org.locationtech.jts.geom.Coordinate[]{from, to});
-        for (Polygon obstacle : obstacles) {
-            if (path.intersects(obstacle)) {
-                log.debug("LineString collision detected: from({}, {}), to({}, {})",
-                    from.x, from.y, to.x, to.y);
-                return true;
+    /**
+     * 안내는 응답의 double 경로(RoutePath)로 계산하고, 각 단계의 좌표는 이미 만들어 둔 응답 좌표를 가리킨다.
+     */
+    private List<NavigationStep> generateNavigationSteps(PathFindingResponse response) {
+        RoutePath path = response.getPath();
+        if (path == null) return Collections.emptyList();
+
+        List<RouteGuide.Transition> transitions = new ArrayList<>();
+        if (response.getFloorTransitions() != null) {
+            for (FloorTransition t : response.getFloorTransitions()) {
+                transitions.add(new RouteGuide.Transition(t.getPathIndex(), t.getStairsName()));
             }
         }
-        return false;
-    }
 
-    private List<org.locationtech.jts.geom.Coordinate> reconstructPath(Node endNode, org.locationtech.jts.geom.Coordinate realEnd) {
-        List<org.locationtech.jts.geom.Coordinate> path = new ArrayList<>();
-        path.add(realEnd);
-        Node current = endNode;
-        while (current != null) {
-            path.add(current.coord);
-            current = current.parent;
+        List<Coordinate> coordinates = response.getCoordinates();
+        List<NavigationStep> steps = new ArrayList<>();
+        int stepOrder = 1;
+        for (RouteGuide.Step step : RouteGuide.build(path, transitions)) {
+            steps.add(NavigationStep.builder()
+                    .stepOrder(stepOrder++)
+                    .description(step.description())
+                    .type(step.type())
+                    .coordinate(coordinates.get(step.pointIndex()))
+                    .distance(step.distance() > 0
+                            ? BigDecimal.valueOf(step.distance()).setScale(1, RoundingMode.HALF_UP)
+                            : BigDecimal.ZERO)
+                    .build());
         }
-        Collections.reverse(path);
-        return path;
+        return steps;
     }
 
-    private BigDecimal calculateTotalDistance(List<Coordinate> path) {
-        if (path == null || path.size() < 2) return BigDecimal.ZERO;
-        double total = 0;
-        for (int i = 0; i < path.size() - 1; i++) {
-            total += path.get(i).distanceTo(path.get(i + 1));
+    /**
+     * 층 정보 보정. 공간 색인에서 좌표를 포함하는 층을 바로 찾는다 (요청 층에 없으면 가장 가까운 층).
+     */
+    private Integer validateAndCorrectFloor(VenueSpatialIndex index, BigDecimal x, BigDecimal y, Integer inputFloor) {
+        int floor = index.resolveFloor(x.doubleValue(), y.doubleValue(), inputFloor);
+        if (floor != inputFloor) {
+            log.warn("Point out of floor range: x={}, y={}, floor={}. Corrected to floor {}.", x, y, inputFloor, floor);
         }
-        return BigDecimal.valueOf(total).setScale(2, RoundingMode.HALF_UP);
+        return floor;
     }
 
-    private double calculateDistance(double x1, double y1, double x2, double y2) {
-        return Math.sqrt(Math.pow(x1 - x2, 2) + Math.pow(y1 - y2, 2));
-    }
-
-    private PathFindingResponse mergePathsWithStairs(PathFindingResponse p1, PathFindingResponse p2, VenueFacility stairs, int f1, int f2) {
-        List<Coordinate> merged = new ArrayList<>(p1.getCoordinates());
-        int transIdx = merged.size() - 1;
-        List<Coordinate> p2Coords = p2.getCoordinates();
-        if (!p2Coords.isEmpty()) {
-            for (int i = 1; i < p2Coords.size(); i++) merged.add(p2Coords.get(i));
-        }
-        BigDecimal totalDist = p1.getTotalDistance().add(p2.getTotalDistance());
-        FloorTransition trans = FloorTransition.from(stairs, f1, f2, transIdx);
-        // 여기서도 NavigationStep을 바로 만들지 않고 데이터만 리턴 (메인 findPath에서 처리)
-        return PathFindingResponse.successMultiFloor(merged, totalDist, f1, f2, List.of(trans));
+    private SearchResult aStarSearch(int startCell, int endCell, WalkabilityGrid grid, HierarchicalGrid hierarchy,
+                                     PathFindingProperties.GridStrategy strategy, SearchBudget budget) {
+        log.debug("Grid search started: startCell={}, endCell={}, blockedCells={}", startCell, endCell, grid.blockedCount());
+
+        boolean anyAngle = strategy == PathFindingProperties.GridStrategy.LAZY_THETA_STAR;
+        if (hierarchy != null && hierarchy.isLongRoute(startCell, endCell)) {
+            // 먼 경로는 클러스터 추상 그래프에서 먼저 찾고 클러스터 안에서만 정제 (요청 한도를 그대로 공유)
+            SearchResult result = hierarchy.search(startCell, endCell, budget, anyAngle);
+            log.debug("Hierarchical search: clusters={}, entrances={}, status={}",
+                    hierarchy.clusterCount(), hierarchy.nodeCount(), result.status());
+            if (result.status() != SearchResult.Status.UNREACHABLE) return result;
+            // 추상 그래프에서 못 찾으면 남은 한도로 평면 탐색을 해 판정한다
+        }
+        return switch (strategy) {
+            case A_STAR -> GridAStar.search(grid, startCell, endCell, budget);
+            case LAZY_THETA_STAR -> LazyThetaStar.search(grid, startCell, endCell, budget);
+            case BIDIRECTIONAL_A_STAR -> BidirectionalAStar.search(grid, startCell, endCell, budget);
+        };
     }
 
-    private String getKey(org.locationtech.jts.geom.Coordinate c) {
-        return String.format("%.1f,%.1f", c.x, c.y);
+    /**
+     * 셀 경로를 좌표로 바꾼다. end가 null이면 마지막 셀 중심에서 끝난다.
+     */
+    private List<org.locationtech.jts.geom.Coordinate> toGridPath(int[] cells,
+                                                                  org.locationtech.jts.geom.Coordinate start,
+                                                                  org.locationtech.jts.geom.Coordinate end,
+                                                                  GridSpec spec) {
+        List<org.locationtech.jts.geom.Coordinate> path = new ArrayList<>(cells.length + 1);
+        path.add(start);
+        int last = end != null ? cells.length - 1 : cells.length;
+        for (int i = 1; i < last; i++) {
+            path.add(new org.locationtech.jts.geom.Coordinate(spec.cellCenterX(cells[i]), spec.cellCenterY(cells[i])));
+        }
+        if (end != null) path.add(end);
+        return path;
     }
 
-    private static class Node {
-        final org.locationtech.jts.geom.Coordinate coord;
-        Node parent;
-        double gCost, hCost, fCost;
-        Node(org.locationtech.jts.geom.Coordinate c, Node p, double g, double h) {
-            this.coord = c;
-            this.parent = p;
-            this.gCost = g;
-            this.hCost = h;
-            this.fCost = g + h;
-        }
+    private boolean isColliding(org.locationtech.jts.geom.Coordinate coord, WalkabilityGrid grid) {
+        return grid.isBlockedAt(coord.x, coord.y);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,199 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.code.ErrorCode;
+import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.Coordinate;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.dto.PathMatrixRequest;
+import com.umc.connext.domain.venue.dto.PathMatrixResponse;
+import com.umc.connext.domain.venue.pathfinding.OneToManyDijkstra;
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 여러 출발지 × 도착지 보행 거리 일괄 계산.
+ * 하나의 스냅샷을 공유하고, 출발지마다 한 번의 one-to-many Dijkstra로 모든 도착지를 한꺼번에 구하며,
+ * 출발지별 탐색은 크기가 제한된 전용 ForkJoinPool에서 병렬로 수행한다.
+ */
+@Slf4j
+@Service
+public class PathMatrixService {
+
+    private final VenueGeometrySnapshotService snapshotService;
+    private final RouteAssembler routeAssembler;
+    private final PathFindingProperties properties;
+    private final ForkJoinPool pool;
+
+    public PathMatrixService(VenueGeometrySnapshotService snapshotService,
+                             RouteAssembler routeAssembler,
+                             PathFindingProperties properties) {
+        this.snapshotService = snapshotService;
+        this.routeAssembler = routeAssembler;
+        this.properties = properties;
+        this.pool = new ForkJoinPool(Math.max(1, properties.getMatrix().getParallelism()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public PathMatrixResponse computeMatrix(Long venueId, PathMatrixRequest request) {
+        PathFindingProperties.Matrix limits = properties.getMatrix();
+        List<Coordinate> sources = request.getSources();
+        List<Coordinate> targets = request.getTargets();
+        validateLimits(request, limits);
+
+        // 출발지별로 계산할 도착지 인덱스 (pairs가 없으면 전체)
+        List<SortedSet<Integer>> wanted = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) wanted.add(new TreeSet<>());
+        if (request.getPairs() == null || request.getPairs().isEmpty()) {
+            for (SortedSet<Integer> set : wanted) {
+                for (int j = 0; j < targets.size(); j++) set.add(j);
+            }
+        } else {
+            for (PathMatrixRequest.Pair pair : request.getPairs()) {
+                wanted.get(pair.getSource()).add(pair.getTarget());
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        VenueGraph graph = snapshot.graph();
+
+        org.locationtech.jts.geom.Coordinate[] sourcePoints = new org.locationtech.jts.geom.Coordinate[sources.size()];
+        int[] sourceNodes = snapAll(graph, sources, sourcePoints);
+        org.locationtech.jts.geom.Coordinate[] targetPoints = new org.locationtech.jts.geom.Coordinate[targets.size()];
+        int[] targetNodes = snapAll(graph, targets, targetPoints);
+
+        List<Callable<OneToManyDijkstra.Result>> tasks = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            int source = sourceNodes[i];
+            int[] rowTargets = wanted.get(i).stream().mapToInt(j -> targetNodes[j]).toArray();
+            tasks.add(() -> OneToManyDijkstra.search(graph, source, rowTargets, request.isIncludePaths(), graph.nodeCount()));
+        }
+        List<OneToManyDijkstra.Result> results = runAll(tasks, limits.getTimeoutMs());
+
+        List<List<BigDecimal>> distances = new ArrayList<>(sources.size());
+        List<PathMatrixResponse.Entry> routes = request.isIncludePaths() ? new ArrayList<>() : null;
+        for (int i = 0; i < sources.size(); i++) {
+            List<BigDecimal> row = new ArrayList<>(Collections.nCopies(targets.size(), (BigDecimal) null));
+            OneToManyDijkstra.Result result = results.get(i);
+            int k = 0;
+            for (int j : wanted.get(i)) {
+                double distance = result.distances()[k];
+                if (!Double.isInfinite(distance)) {
+                    row.set(j, BigDecimal.valueOf(distance).setScale(1, RoundingMode.HALF_UP));
+                }
+                if (routes != null) {
+                    int[] nodes = result.paths()[k];
+                    PathFindingResponse route = nodes == null
+                            ? PathFindingResponse.fail("경로를 찾을 수 없습니다.")
+                            : routeAssembler.toResponse(graph, nodes, sourcePoints[i], targetPoints[j],
+                            sources.get(i).getFloor(), targets.get(j).getFloor());
+                    routes.add(new PathMatrixResponse.Entry(i, j, route));
+                }
+                k++;
+            }
+            distances.add(row);
+        }
+
+        log.info("Path matrix computed: venueId={}, sources={}, targets={}, paths={}, {}ms",
+                venueId, sources.size(), targets.size(), request.isIncludePaths(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return PathMatrixResponse.builder()
+                .sourceCount(sources.size())
+                .targetCount(targets.size())
+                .distances(distances)
+                .routes(routes)
+                .build();
+    }
+
+    private void validateLimits(PathMatrixRequest request, PathFindingProperties.Matrix limits) {
+        int sourceCount = request.getSources().size();
+        int targetCount = request.getTargets().size();
+        if (sourceCount > limits.getMaxSources() || targetCount > limits.getMaxTargets()) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, String.format(
+                    "출발지는 최대 %d개, 도착지는 최대 %d개까지 요청할 수 있습니다.", limits.getMaxSources(), limits.getMaxTargets()));
+        }
+        for (Coordinate point : request.getSources()) validatePoint(point);
+        for (Coordinate point : request.getTargets()) validatePoint(point);
+
+        long pairCount = (long) sourceCount * targetCount;
+        if (request.getPairs() != null && !request.getPairs().isEmpty()) {
+            for (PathMatrixRequest.Pair pair : request.getPairs()) {
+                if (pair.getSource() < 0 || pair.getSource() >= sourceCount
+                        || pair.getTarget() < 0 || pair.getTarget() >= targetCount) {
+                    throw new GeneralException(ErrorCode.BAD_REQUEST, "pairs의 인덱스가 범위를 벗어났습니다.");
+                }
+            }
+            pairCount = request.getPairs().size();
+        }
+        if (request.isIncludePaths() && pairCount > limits.getMaxRoutes()) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST,
+                    String.format("경로 포함 요청은 최대 %d쌍까지 가능합니다.", limits.getMaxRoutes()));
+        }
+    }
+
+    private void validatePoint(Coordinate point) {
+        if (point.getX() == null || point.getY() == null || point.getFloor() == null) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "좌표의 x, y, floor는 필수입니다.");
+        }
+    }
+
+    /**
+     * 좌표를 해당 층의 이동 가능 셀로 보정해 그래프 노드로 바꾼다. 층이 없거나 보정할 수 없으면 -1.
+     */
+    private int[] snapAll(VenueGraph graph, List<Coordinate> points, org.locationtech.jts.geom.Coordinate[] snapped) {
+        int[] nodes = new int[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            Coordinate point = points.get(i);
+            int layer = graph.layerOf(point.getFloor());
+            nodes[i] = -1;
+            if (layer < 0) continue;
+            org.locationtech.jts.geom.Coordinate valid = routeAssembler.snapToWalkable(
+                    new org.locationtech.jts.geom.Coordinate(point.getX().doubleValue(), point.getY().doubleValue()),
+                    graph.nearestWalkable(layer));
+            if (valid == null) continue;
+            snapped[i] = valid;
+            nodes[i] = graph.node(layer, graph.spec().cellAt(valid.x, valid.y));
+        }
+        return nodes;
+    }
+
+    private List<OneToManyDijkstra.Result> runAll(List<Callable<OneToManyDijkstra.Result>> tasks, long timeoutMs) {
+        List<Future<OneToManyDijkstra.Result>> futures;
+        try {
+            futures = pool.invokeAll(tasks, timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorCode.INTERNAL_SERVER_ERROR, "거리 계산이 중단되었습니다.");
+        }
+
+        List<OneToManyDijkstra.Result> results = new ArrayList<>(futures.size());
+        for (Future<OneToManyDijkstra.Result> future : futures) {
+            if (future.isCancelled()) {
+                throw new GeneralException(ErrorCode.INTERNAL_SERVER_ERROR, "거리 계산 시간이 초과되었습니다. 요청 규모를 줄여 주세요.");
+            }
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GeneralException(ErrorCode.INTERNAL_SERVER_ERROR, "거리 계산이 중단되었습니다.");
+            } catch (ExecutionException e) {
+                log.error("Path matrix task failed", e.getCause());
+                throw new GeneralException(ErrorCode.INTERNAL_SERVER_ERROR, "거리 계산 중 오류가 발생했습니다.");
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,182 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.PathFindingAdminDTO;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.event.VenueGeometryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 경로 탐색 결과 캐시.
+ * 출발/도착 좌표를 격자 셀 단위로 양자화해 키로 쓰므로 같은 셀 안의 요청은 같은 결과를 공유하며,
+ * 스냅샷 version이 키에 포함되어 공연장 데이터가 바뀌면 이전 결과는 자연히 사용되지 않는다.
+ * 동시에 들어온 같은 키의 미스는 한 번만 계산하고 나머지는 그 결과를 기다린다 (single-flight).
+ * 단, 진행 중인 계산의 시간 한도가 내 한도보다 짧으면 합류하지 않는다. 짧은 한도로 실패한 결과를 긴 한도의 요청이 받지 않도록.
+ * 캐시에는 성공한 경로만 두므로 캐시 적중은 한도와 관계없이 그대로 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PathRouteCache {
+
+    private final PathFindingProperties properties;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<RouteKey, PathFindingResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<RouteKey, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sharedLoads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * 캐시에 있으면 바로 반환하고, 없으면 loader로 계산한다. 성공한 경로만 캐시한다.
+     *
+     * @param timeBudgetMs loader가 쓰는 탐색 시간 한도 (0 이하면 시간 제한 없이 확장 횟수로만 끊는다)
+     */
+    public PathFindingResponse getOrCompute(RouteKey key, long timeBudgetMs, Supplier<PathFindingResponse> loader) {
+        if (!properties.getRouteCache().isEnabled()) {
+            return loader.get();
+        }
+
+        PathFindingResponse cached;
+        synchronized (lock) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        Flight mine = new Flight(new CompletableFuture<>(), timeBudgetMs);
+        Flight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            if (running.covers(timeBudgetMs)) {
+                sharedLoads.increment();
+                return await(running.result());
+            }
+            // 한도가 더 짧은 계산 대신 직접 계산하고, 이후 요청은 이쪽에 합류하도록 자리를 넘겨받는다
+            inFlight.replace(key, running, mine);
+        }
+
+        misses.increment();
+        try {
+            PathFindingResponse response = loader.get();
+            if (response.isSuccess()) {
+                put(key, response);
+            }
+            mine.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private PathFindingResponse await(CompletableFuture<PathFindingResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void put(RouteKey key, PathFindingResponse response) {
+        int maxEntries = properties.getRouteCache().getMaxEntries();
+        synchronized (lock) {
+            entries.put(key, response);
+            while (entries.size() > maxEntries) {
+                RouteKey eldest = entries.keySet().iterator().next();
+                entries.remove(eldest);
+                evictions.increment();
+            }
+        }
+    }
+
+    @EventListener
+    public void onVenueGeometryChanged(VenueGeometryChangedEvent event) {
+        int removed = 0;
+        synchronized (lock) {
+            Iterator<RouteKey> iterator = entries.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().venueId().equals(event.venueId())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        invalidations.add(removed);
+        if (removed > 0) {
+            log.info("Route cache invalidated: venueId={}, removed={}", event.venueId(), removed);
+        }
+    }
+
+    public PathFindingAdminDTO.RouteCacheStats stats() {
+        int size;
+        synchronized (lock) {
+            size = entries.size();
+        }
+        long hitCount = hits.sum();
+        long sharedCount = sharedLoads.sum();
+        long missCount = misses.sum();
+        long total = hitCount + sharedCount + missCount;
+        return PathFindingAdminDTO.RouteCacheStats.builder()
+                .enabled(properties.getRouteCache().isEnabled())
+                .size(size)
+                .maxEntries(properties.getRouteCache().getMaxEntries())
+                .hits(hitCount)
+                .misses(missCount)
+                .sharedLoads(sharedCount)
+                .evictions(evictions.sum())
+                .invalidations(invalidations.sum())
+                .hitRate(total == 0 ? 0.0 : (double) (hitCount + sharedCount) / total)
+                .build();
+    }
+
+    /**
+     * 진행 중인 계산과 그 계산의 탐색 시간 한도
+     */
+    private record Flight(CompletableFuture<PathFindingResponse> result, long timeBudgetMs) {
+
+        /**
+         * 이 계산의 결과를 주어진 한도의 요청에 그대로 줘도 되는지.
+         * 시간 한도가 없는 계산은 확장 횟수로 끊기므로 같은 방식의 요청끼리만 공유한다.
+         */
+        boolean covers(long requestedMs) {
+            return timeBudgetMs == requestedMs || (requestedMs > 0 && timeBudgetMs > requestedMs);
+        }
+    }
+
+    /**
+     * 캐시 키. 좌표는 스냅샷 격자의 (열, 행)으로 양자화한다.
+     * 안내(navigationSteps)는 캐시된 경로에서 요청마다 만들므로 안내 포함 여부는 키에 넣지 않는다.
+     */
+    public record RouteKey(
+            Long venueId,
+            long version,
+            int startFloor,
+            int startCol,
+            int startRow,
+            int endFloor,
+            int endCol,
+            int endRow
+    ) {
+    }
+}
@@ -0,0 +1,256 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.dto.FloorTransition;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.pathfinding.ComponentLabels;
+import com.umc.connext.domain.venue.pathfinding.FacilityPoint;
+import com.umc.connext.domain.venue.pathfinding.GridSpec;
+import com.umc.connext.domain.venue.pathfinding.NavMesh;
+import com.umc.connext.domain.venue.pathfinding.NearestWalkableMap;
+import com.umc.connext.domain.venue.pathfinding.RoutePath;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import com.umc.connext.domain.venue.pathfinding.WalkabilityGrid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * 탐색 결과(셀/노드 경로)를 응답 DTO로 조립한다.
+ * 출발/도착 좌표 보정, 시야(LOS) 기반 직선화, 층 전환 정보 생성을 경로 탐색 API들이 공통으로 사용한다.
+ */
+@Slf4j
+@Component
+public class RouteAssembler {
+
+    private static final int SNAP_RADIUS_CELLS = 20;
+
+    /**
+     * 그래프 노드 경로를 응답으로 변환한다.
+     * 층별 구간으로 나눠 각 구간을 직선화하고, 층이 바뀌는 지점마다 전환 정보를 남긴다.
+     */
+    public PathFindingResponse toResponse(
+            VenueGraph graph, int[] nodes,
+            org.locationtech.jts.geom.Coordinate validStart, org.locationtech.jts.geom.Coordinate validEnd,
+            Integer startFloor, Integer endFloor
+    ) {
+        return toResponse(graph, nodes, validStart, validEnd, startFloor, endFloor, null);
+    }
+
+    /**
+     * anchors가 참인 노드 중 방향이 꺾이는 노드는 직선화에서 지우지 않는다.
+     * 시야만 보는 직선화가 혼잡 구역을 피해 돌아가는 경로를 다시 혼잡 구역을 가로지르는 직선으로 펴지 않도록 쓴다.
+     */
+    public PathFindingResponse toResponse(
+            VenueGraph graph, int[] nodes,
+            org.locationtech.jts.geom.Coordinate validStart, org.locationtech.jts.geom.Coordinate validEnd,
+            Integer startFloor, Integer endFloor, IntPredicate anchors
+    ) {
+        GridSpec spec = graph.spec();
+        RoutePath.Builder merged = RoutePath.builder(nodes.length);
+        List<FloorTransition> transitions = new ArrayList<>();
+        FacilityPoint lastConnector = null;
+        int legStart = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            boolean legEnds = i == nodes.length - 1 || graph.layerOfNode(nodes[i + 1]) != graph.layerOfNode(nodes[i]);
+            if (!legEnds) continue;
+
+            int layer = graph.layerOfNode(nodes[i]);
+            int floor = graph.floorOfLayer(layer);
+            FacilityPoint nextConnector = i < nodes.length - 1 ? graph.connectorBetween(nodes[i], nodes[i + 1]) : null;
+
+            // 같은 계단으로 중간 층을 그대로 지나가는 경우 전환 하나로 합친다
+            boolean passThrough = legStart == i && legStart > 0 && nextConnector != null
+                    && lastConnector != null && Objects.equals(lastConnector.id(), nextConnector.id());
+            if (passThrough) {
+                transitions.get(transitions.size() - 1).setToFloor(graph.floorOfLayer(graph.layerOfNode(nodes[i + 1])));
+                legStart = i + 1;
+                continue;
+            }
+
+            List<org.locationtech.jts.geom.Coordinate> leg = new ArrayList<>(i - legStart + 2);
+            List<Integer> kept = new ArrayList<>();
+            for (int k = legStart; k <= i; k++) {
+                if (k == 0) leg.add(validStart);
+                if (k == nodes.length - 1) leg.add(validEnd);
+                if (k != 0 && k != nodes.length - 1) {
+                    int cell = graph.cellOfNode(nodes[k]);
+                    leg.add(new org.locationtech.jts.geom.Coordinate(spec.cellCenterX(cell), spec.cellCenterY(cell)));
+                }
+                if (anchors != null && k > legStart && k < i && anchors.test(nodes[k])
+                        && isTurn(spec, graph.cellOfNode(nodes[k - 1]), graph.cellOfNode(nodes[k]), graph.cellOfNode(nodes[k + 1]))) {
+                    kept.add(leg.size() - 1);
+                }
+            }
+            for (org.locationtech.jts.geom.Coordinate c : smoothBetween(leg, kept, graph.grid(layer))) {
+                merged.add(c.x, c.y, floor);
+            }
+
+            if (nextConnector != null) {
+                transitions.add(FloorTransition.builder()
+                        .stairsId(nextConnector.id())
+                        .stairsName(nextConnector.displayName())
+                        .fromFloor(floor)
+                        .toFloor(graph.floorOfLayer(graph.layerOfNode(nodes[i + 1])))
+                        .x(BigDecimal.valueOf(nextConnector.x()))
+                        .y(BigDecimal.valueOf(nextConnector.y()))
+                        .pathIndex(merged.size() - 1)
+                        .build());
+            }
+            lastConnector = nextConnector;
+            legStart = i + 1;
+        }
+
+        // 여기서도 NavigationStep을 바로 만들지 않고 데이터만 리턴 (메인 findPath에서 처리)
+        RoutePath path = merged.build();
+        if (transitions.isEmpty()) {
+            return PathFindingResponse.success(path, startFloor);
+        }
+        return PathFindingResponse.successMultiFloor(path, startFloor, endFloor, transitions);
+    }
+
+    /**
+     * 장애물 내부 좌표를 가장 가까운 이동 가능 셀 중심으로 보정한다 (반경 내에 없으면 null).
+     * 층별로 미리 계산한 최근접 셀 표를 한 번 조회한다.
+     */
+    public org.locationtech.jts.geom.Coordinate snapToWalkable(org.locationtech.jts.geom.Coordinate target, NearestWalkableMap map) {
+        if (map.isWalkableAt(target.x, target.y)) {
+            log.debug("Target ({}, {}) is already walkable", target.x, target.y);
+            return target;
+        }
+
+        int cell = map.nearestCell(target.x, target.y, SNAP_RADIUS_CELLS);
+        if (cell < 0) {
+            log.warn("No walkable point found within search radius for target ({}, {})", target.x, target.y);
+            return null;
+        }
+        org.locationtech.jts.geom.Coordinate next = new org.locationtech.jts.geom.Coordinate(
+                map.spec().cellCenterX(cell), map.spec().cellCenterY(cell));
+        log.debug("Found walkable point: ({}, {}) at distance {}", next.x, next.y, next.distance(target));
+        return next;
+    }
+
+    /**
+     * 출발/도착 셀이 서로 다른 연결 요소에 있으면, 셀 수가 적은 쪽(좌석 블록 안쪽 같은 고립 영역)의 점을
+     * 반대쪽 요소에서 가장 가까운 셀로 옮긴다. 반환값은 {출발 셀, 도착 셀}이며, 반경 안에 옮길 셀이 없으면 null.
+     */
+    public int[] reconcileComponents(int startCell, int endCell, ComponentLabels components) {
+        int startLabel = components.labelOf(startCell);
+        int endLabel = components.labelOf(endCell);
+        if (startLabel == ComponentLabels.BLOCKED || endLabel == ComponentLabels.BLOCKED) return null;
+        if (startLabel == endLabel) return new int[]{startCell, endCell};
+
+        if (components.sizeOf(startLabel) <= components.sizeOf(endLabel)) {
+            int moved = components.nearestCellIn(startCell, endLabel, SNAP_RADIUS_CELLS);
+            return moved < 0 ? null : new int[]{moved, endCell};
+        }
+        int moved = components.nearestCellIn(endCell, startLabel, SNAP_RADIUS_CELLS);
+        return moved < 0 ? null : new int[]{startCell, moved};
+    }
+
+    /**
+     * 층 간 경로용. 계단/엘리베이터로 이어진 공연장 전체 연결 요소 기준으로 같은 방식의 보정을 한다.
+     */
+    public int[] reconcileComponents(int startNode, int endNode, VenueGraph graph) {
+        int startComponent = graph.venueComponentOf(startNode);
+        int endComponent = graph.venueComponentOf(endNode);
+        if (startComponent == ComponentLabels.BLOCKED || endComponent == ComponentLabels.BLOCKED) return null;
+        if (startComponent == endComponent) return new int[]{startNode, endNode};
+
+        if (graph.venueComponentSize(startComponent) <= graph.venueComponentSize(endComponent)) {
+            int moved = graph.nearestNodeIn(startNode, endComponent, SNAP_RADIUS_CELLS);
+            return moved < 0 ? null : new int[]{moved, endNode};
+        }
+        int moved = graph.nearestNodeIn(endNode, startComponent, SNAP_RADIUS_CELLS);
+        return moved < 0 ? null : new int[]{startNode, moved};
+    }
+
+    /**
+     * 메시 밖(장애물 내부) 좌표를 가장 가까운 삼각형 위로 보정한다. 격자 보정과 같은 반경을 쓰며, 없으면 null.
+     */
+    public org.locationtech.jts.geom.Coordinate snapToMesh(org.locationtech.jts.geom.Coordinate target, NavMesh mesh) {
+        org.locationtech.jts.geom.Coordinate snapped =
+                mesh.clamp(target, SNAP_RADIUS_CELLS * VenueGeometrySnapshotService.GRID_SIZE);
+        if (snapped == null) {
+            log.warn("No navmesh triangle found within search radius for target ({}, {})", target.x, target.y);
+        }
+        return snapped;
+    }
+
+    /**
+     * 시야가 확보되는 가장 먼 지점으로 건너뛰며 불필요한 꺾임을 제거한다 (양 끝점은 유지)
+     */
+    public List<org.locationtech.jts.geom.Coordinate> smooth(List<org.locationtech.jts.geom.Coordinate> path, WalkabilityGrid grid) {
+        if (path.size() <= 2) return path;
+        List<org.locationtech.jts.geom.Coordinate> smoothed = new ArrayList<>();
+        smoothed.add(path.get(0));
+        int i = 0;
+        int iteration = 0;
+
+        log.debug("=== Path Smoothing Debug ===");
+        log.debug("Initial path size: {}, blocked cells: {}", path.size(), grid.blockedCount());
+
+        while (i < path.size() - 1) {
+            int j = path.size() - 1;
+            int originalJ = j;
+
+            while (j > i + 1 && isPathColliding(path.get(i), path.get(j), grid)) {
+                j--;
+            }
+
+            log.debug("Iteration {}: i={}, originalJ={}, finalJ={}, collision={}",
+                iteration, i, originalJ, j, originalJ != j);
+            log.debug("  Checking path from ({}, {}) to ({}, {})",
+                path.get(i).x, path.get(i).y, path.get(j).x, path.get(j).y);
+
+            if (j == i + 1) {
+                smoothed.add(path.get(i + 1));
+                i++;
+                log.debug("  -> No shortcut possible, adding next point");
+            } else {
+                smoothed.add(path.get(j));
+                i = j;
+                log.debug("  -> Shortcut found, jumping to position {}", j);
+            }
+            iteration++;
+        }
+
+        log.debug("Path smoothing complete: {} -> {} coordinates", path.size(), smoothed.size());
+        return smoothed;
+    }
+
+    /**
+     * kept 위치의 점을 구간 경계로 남기고 구간마다 따로 직선화한다.
+     */
+    private List<org.locationtech.jts.geom.Coordinate> smoothBetween(
+            List<org.locationtech.jts.geom.Coordinate> path, List<Integer> kept, WalkabilityGrid grid) {
+        if (kept.isEmpty()) return smooth(path, grid);
+        List<org.locationtech.jts.geom.Coordinate> smoothed = new ArrayList<>();
+        int from = 0;
+        for (int k = 0; k <= kept.size(); k++) {
+            int to = k < kept.size() ? kept.get(k) : path.size() - 1;
+            if (to <= from) continue;
+            List<org.locationtech.jts.geom.Coordinate> piece = smooth(new ArrayList<>(path.subList(from, to + 1)), grid);
+            // 구간 시작점은 앞 구간의 끝점과 같다
+            smoothed.addAll(smoothed.isEmpty() ? piece : piece.subList(1, piece.size()));
+            from = to;
+        }
+        return smoothed;
+    }
+
+    private static boolean isTurn(GridSpec spec, int previous, int cell, int next) {
+        int inCol = spec.colOf(cell) - spec.colOf(previous);
+        int inRow = spec.rowOf(cell) - spec.rowOf(previous);
+        int outCol = spec.colOf(next) - spec.colOf(cell);
+        int outRow = spec.rowOf(next) - spec.rowOf(cell);
+        return inCol != outCol || inRow != outRow;
+    }
+
+    private boolean isPathColliding(org.locationtech.jts.geom.Coordinate from, org.locationtech.jts.geom.Coordinate to, WalkabilityGrid grid) {
+        return !grid.hasLineOfSight(from.x, from.y, to.x, to.y);
+    }
+}
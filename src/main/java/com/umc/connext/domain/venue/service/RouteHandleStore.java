@@ -0,0 +1,87 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.event.VenueGeometryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 계산된 경로를 짧은 기간 보관하는 route id 저장소.
+ * 경로 응답마다 routeId를 붙여 두고, 안내/인코딩 폴리라인/층별 구간은 이 id로 나중에 꺼내 만들므로
+ * "미리보기 후 안내 시작" 흐름에서 같은 경로를 다시 탐색하지 않는다.
+ * 크기와 보관 시간이 제한되며, 공연장 데이터가 바뀌면 해당 공연장의 경로는 모두 폐기된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteHandleStore {
+
+    private final PathFindingProperties properties;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    /**
+     * 새 routeId를 붙인 사본을 보관하고 그 사본을 돌려준다.
+     * 넘겨받은 응답은 경로 캐시에서 여러 요청이 공유할 수 있으므로 고치지 않는다.
+     * 경로가 비어 있는 실패 응답은 보관하지 않고 그대로 돌려준다.
+     */
+    public PathFindingResponse register(Long venueId, PathFindingResponse route) {
+        if (route.getPath() == null || route.getPath().isEmpty()) return route;
+
+        PathFindingResponse registered = route.withRouteId(UUID.randomUUID().toString());
+        PathFindingProperties.RouteHandle config = properties.getRouteHandle();
+        long expiresAt = System.currentTimeMillis() + config.getTtlSeconds() * 1000L;
+        synchronized (lock) {
+            entries.put(registered.getRouteId(), new Entry(venueId, registered, expiresAt));
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > config.getMaxEntries() && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * 보관 중인 경로. 없거나, 만료되었거나, 다른 공연장의 경로이면 null.
+     */
+    public PathFindingResponse get(Long venueId, String routeId) {
+        synchronized (lock) {
+            Entry entry = entries.get(routeId);
+            if (entry == null) return null;
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(routeId);
+                return null;
+            }
+            return entry.venueId().equals(venueId) ? entry.route() : null;
+        }
+    }
+
+    @EventListener
+    public void onVenueGeometryChanged(VenueGeometryChangedEvent event) {
+        int removed = 0;
+        synchronized (lock) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().venueId().equals(event.venueId())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.info("Route handles invalidated: venueId={}, removed={}", event.venueId(), removed);
+        }
+    }
+
+    private record Entry(Long venueId, PathFindingResponse route, long expiresAt) {}
+}
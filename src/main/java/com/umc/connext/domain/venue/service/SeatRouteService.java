@@ -0,0 +1,105 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.code.ErrorCode;
+import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.reservation.entity.Reservation;
+import com.umc.connext.domain.reservation.repository.ReservationRepository;
+import com.umc.connext.domain.venue.dto.Coordinate;
+import com.umc.connext.domain.venue.dto.PathFindingRequest;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.dto.SeatRouteResponse;
+import com.umc.connext.domain.venue.pathfinding.SeatIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 예매내역의 좌석까지 경로 안내.
+ * 예매 좌석(구역/열/번호)을 스냅샷의 좌석 색인에서 찾아 좌석으로 들어가는 통로 지점까지 경로를 탐색하고,
+ * 통로에서 좌석까지의 마지막 구간은 색인에 미리 계산된 값을 붙인다.
+ * 통로 지점이 좌석마다 고정되어 있으므로 같은 열로 가는 요청은 경로 캐시를 함께 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SeatRouteService {
+
+    private final ReservationRepository reservationRepository;
+    private final VenueGeometrySnapshotService snapshotService;
+    private final PathFindingService pathFindingService;
+
+    public SeatRouteResponse routeToReservedSeat(
+            Long venueId, Long memberId, Long reservationId,
+            BigDecimal startX, BigDecimal startY, Integer startFloor,
+            boolean includeGuide
+    ) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> GeneralException.notFound("존재하지 않는 예매내역입니다."));
+        if (!reservation.getMember().getId().equals(memberId)) {
+            throw new GeneralException(ErrorCode.FORBIDDEN, "예매내역 조회 권한이 없습니다.");
+        }
+        if (!reservationRepository.findVenueIdsByReservationId(reservationId).contains(venueId)) {
+            throw GeneralException.notFound("해당 공연장의 예매내역이 아닙니다.");
+        }
+
+        SeatIndex seats = snapshotService.get(venueId).seats();
+        SeatRouteResponse.MatchType matchType;
+        int floor;
+        double seatX, seatY, approachX, approachY, lastLeg;
+        int seat = seats.findSeat(reservation.getSection(), reservation.getRow(), reservation.getSeat(),
+                reservation.getFloor());
+        if (seat != SeatIndex.NONE) {
+            matchType = SeatRouteResponse.MatchType.SEAT;
+            floor = seats.seatFloor(seat);
+            seatX = seats.seatX(seat);
+            seatY = seats.seatY(seat);
+            approachX = seats.approachX(seat);
+            approachY = seats.approachY(seat);
+            lastLeg = seats.lastLegLength(seat);
+        } else {
+            int portal = seats.findPortal(reservation.getSection(), reservation.getFloor());
+            if (portal == SeatIndex.NONE) {
+                throw GeneralException.notFound("좌석 위치 정보가 없습니다. 공연장 좌석표가 등록되지 않았거나 예매 구역을 찾을 수 없습니다.");
+            }
+            matchType = SeatRouteResponse.MatchType.SECTION;
+            floor = seats.portalFloor(portal);
+            seatX = approachX = seats.portalX(portal);
+            seatY = approachY = seats.portalY(portal);
+            lastLeg = 0;
+        }
+
+        PathFindingRequest request = PathFindingRequest.builder()
+                .startX(startX).startY(startY).startFloor(startFloor)
+                .endX(scale(approachX)).endY(scale(approachY)).endFloor(floor)
+                .includeGuide(includeGuide)
+                .build();
+        PathFindingResponse route = pathFindingService.findPath(venueId, request);
+
+        BigDecimal lastLegDistance = scale(lastLeg);
+        log.info("Seat route: reservationId={}, venueId={}, match={}, section={}, row={}, seat={}, success={}",
+                reservationId, venueId, matchType, reservation.getSection(), reservation.getRow(), reservation.getSeat(),
+                route.isSuccess());
+        return SeatRouteResponse.builder()
+                .reservationId(reservationId)
+                .matchType(matchType)
+                .floor(reservation.getFloor())
+                .section(reservation.getSection())
+                .row(reservation.getRow())
+                .seat(reservation.getSeat())
+                .seatPoint(new Coordinate(scale(seatX), scale(seatY), floor))
+                .approachPoint(new Coordinate(scale(approachX), scale(approachY), floor))
+                .lastLegDistance(lastLegDistance)
+                .totalDistance(route.isSuccess() ? route.getTotalDistance().add(lastLegDistance) : null)
+                .route(route)
+                .build();
+    }
+
+    private static BigDecimal scale(double value) {
+        return BigDecimal.valueOf(value).setScale(1, RoundingMode.HALF_UP);
+    }
+}
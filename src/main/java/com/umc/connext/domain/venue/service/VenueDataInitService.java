@@ -6,9 +6,12 @@ import com.umc.connext.domain.venue.entity.VenueSection;
 import com.umc.connext.domain.venue.repository.VenueFacilityRepository;
 import com.umc.connext.domain.venue.repository.VenueRepository;
 import com.umc.connext.domain.venue.repository.VenueSectionRepository;
+import com.umc.connext.domain.venue.spatial.SectionGeometryCleaner;
 import com.umc.connext.common.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,6 +31,8 @@ public class VenueDataInitService {
     private final VenueSectionRepository sectionRepository;
     private final VenueFacilityRepository facilityRepository;
     private final VenueRepository venueRepository;
+    private final VenueGeometrySnapshotService snapshotService;
+    private final VenueSectionGeometryService sectionGeometryService;
 
     @Transactional
     public InitResult initializeFromSvg(Long venueId, MultipartFile svgFile) {
@@ -61,14 +66,18 @@ public class VenueDataInitService {
             List<VenueSection> sections = parseResult.sections;
             List<VenueFacility> facilities = parseResult.facilities;
 
+            SectionGeometryCleaner.Stats geometryStats = sectionGeometryService.prepareForImport(sections);
             List<VenueSection> savedSections = sectionRepository.saveAll(sections);
             List<VenueFacility> savedFacilities = facilityRepository.saveAll(facilities);
+            snapshotService.invalidate(venueId);
 
-            log.info("공연장 초기화 완료 - VenueId: {}, 크기: {}x{}, 섹션: {}, 시설물: {}",
+            log.info("공연장 초기화 완료 - VenueId: {}, 크기: {}x{}, 섹션: {}, 시설물: {}, 폴리곤 보정: {}, 제외: {}, 꼭짓점: {} -> {}",
                     venueId, parseResult.svgWidth, parseResult.svgHeight,
-                    savedSections.size(), savedFacilities.size());
+                    savedSections.size(), savedFacilities.size(),
+                    geometryStats.repaired(), geometryStats.dropped(),
+                    geometryStats.verticesBefore(), geometryStats.verticesAfter());
 
-            return InitResult.success(savedSections.size(), savedFacilities.size());
+            return InitResult.success(savedSections.size(), savedFacilities.size(), geometryStats);
         } catch (GeneralException e) {
             log.error("공연장 초기화 실패 - VenueId: {}", venueId, e);
             return InitResult.failure(e.getMessage());
@@ -78,6 +87,28 @@ public class VenueDataInitService {
         }
     }
 
+    /**
+     * geom 컬럼 도입 이전에 적재된 구역을 채운다.
+     * SPATIAL INDEX는 db/venue-section-geometry.sql이 빈 geom이 없을 때 만들므로, 여기서 채운 경우 다음 기동 때 생성된다.
+     * 공간 질의를 못 쓰더라도 기존 기능(스냅샷, 레이아웃)은 동작하므로 실패해도 기동은 막지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSectionGeometry() {
+        try {
+            int total = 0;
+            int filled;
+            do {
+                filled = sectionGeometryService.backfillBatch();
+                total += filled;
+            } while (filled == VenueSectionGeometryService.BACKFILL_BATCH_SIZE);
+            if (total > 0) {
+                log.info("구역 폴리곤 backfill 완료 - 섹션: {} (공간 인덱스는 다음 기동 때 생성)", total);
+            }
+        } catch (Exception e) {
+            log.error("구역 폴리곤 backfill 실패", e);
+        }
+    }
+
     @Transactional(readOnly = true)
     public Map<String, Object> getVenueStats(Long venueId) {
         if (venueId == null || venueId <= 0) {
@@ -103,25 +134,41 @@ public class VenueDataInitService {
         private final String message;
         private final int sectionCount;
         private final int facilityCount;
+        private final int repairedSections;
+        private final int droppedSections;
+        private final long verticesBefore;
+        private final long verticesAfter;
 
-        private InitResult(boolean success, String message, int sectionCount, int facilityCount) {
+        private InitResult(boolean success, String message, int sectionCount, int facilityCount,
+                           int repairedSections, int droppedSections, long verticesBefore, long verticesAfter) {
             this.success = success;
             this.message = message;
             this.sectionCount = sectionCount;
             this.facilityCount = facilityCount;
+            this.repairedSections = repairedSections;
+            this.droppedSections = droppedSections;
+            this.verticesBefore = verticesBefore;
+            this.verticesAfter = verticesAfter;
         }
 
-        public static InitResult success(int sectionCount, int facilityCount) {
+        public static InitResult success(int sectionCount, int facilityCount, SectionGeometryCleaner.Stats geometryStats) {
             return new InitResult(
                     true,
-                    String.format("초기화 완료: %d개 섹션, %d개 시설물 저장됨", sectionCount, facilityCount),
+                    String.format("초기화 완료: %d개 섹션, %d개 시설물 저장됨 (폴리곤 보정 %d개, 제외 %d개, 꼭짓점 %d -> %d)",
+                            sectionCount, facilityCount,
+                            geometryStats.repaired(), geometryStats.dropped(),
+                            geometryStats.verticesBefore(), geometryStats.verticesAfter()),
                     sectionCount,
-                    facilityCount
+                    facilityCount,
+                    geometryStats.repaired(),
+                    geometryStats.dropped(),
+                    geometryStats.verticesBefore(),
+                    geometryStats.verticesAfter()
             );
         }
 
         public static InitResult failure(String message) {
-            return new InitResult(false, message, 0, 0);
+            return new InitResult(false, message, 0, 0, 0, 0, 0, 0);
         }
 
         public boolean isSuccess() {
@@ -139,6 +186,34 @@ public class VenueDataInitService {
         public int getFacilityCount() {
             return facilityCount;
         }
+
+        /**
+         * 유효하지 않아 고친 구역 폴리곤 수
+         */
+        public int getRepairedSections() {
+            return repairedSections;
+        }
+
+        /**
+         * 폴리곤이 남지 않아 적재에서 제외한 구역 수
+         */
+        public int getDroppedSections() {
+            return droppedSections;
+        }
+
+        /**
+         * 정리 전 전체 꼭짓점 수
+         */
+        public long getVerticesBefore() {
+            return verticesBefore;
+        }
+
+        /**
+         * 고침/단순화 후 전체 꼭짓점 수 (제외된 구역은 0)
+         */
+        public long getVerticesAfter() {
+            return verticesAfter;
+        }
     }
 
     // ==================== Validation Methods ====================
@@ -0,0 +1,324 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.enums.FacilityType;
+import com.umc.connext.common.enums.SectionType;
+import com.umc.connext.domain.venue.dto.PathFindingAdminDTO;
+import com.umc.connext.domain.venue.entity.Venue;
+import com.umc.connext.domain.venue.entity.VenueFacility;
+import com.umc.connext.domain.venue.enums.PathEngineType;
+import com.umc.connext.domain.venue.event.VenueGeometryChangedEvent;
+import com.umc.connext.domain.venue.entity.VenueSection;
+import com.umc.connext.domain.venue.pathfinding.ComponentLabels;
+import com.umc.connext.domain.venue.pathfinding.ExitFlowField;
+import com.umc.connext.domain.venue.pathfinding.FacilityDistanceFields;
+import com.umc.connext.domain.venue.pathfinding.FacilityPoint;
+import com.umc.connext.domain.venue.pathfinding.FloorGeometry;
+import com.umc.connext.domain.venue.pathfinding.GridSpec;
+import com.umc.connext.domain.venue.pathfinding.HierarchicalGrid;
+import com.umc.connext.domain.venue.pathfinding.NavMesh;
+import com.umc.connext.domain.venue.pathfinding.SeatIndex;
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import com.umc.connext.domain.venue.pathfinding.WalkabilityGrid;
+import com.umc.connext.domain.venue.repository.VenueFacilityRepository;
+import com.umc.connext.domain.venue.repository.VenueRepository;
+import com.umc.connext.domain.venue.repository.VenueSeatRepository;
+import com.umc.connext.domain.venue.repository.VenueSectionRepository;
+import com.umc.connext.domain.venue.spatial.VenueSpatialIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Polygon;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공연장별 경로 탐색 기하 스냅샷을 적재/캐시한다.
+ * 요청 경로에서는 DB 조회나 vertices JSON 파싱 없이 스냅샷만 사용하며,
+ * SVG 재적재나 층 설정 변경 시에만 invalidate 된다. 다시 적재는 VenueSnapshotPreloader가 백그라운드에서 하며,
+ * 그 전에 들어온 요청은 직접 적재한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VenueGeometrySnapshotService {
+
+    public static final double GRID_SIZE = 10.0;
+    private static final int GRID_MARGIN_CELLS = 5;
+    private static final int CONNECTOR_SNAP_RADIUS_CELLS = 20;
+    public static final double DISTANCE_FIELD_QUANTUM = 0.5;
+    private static final double NAVMESH_TOLERANCE = 0.01;
+    private static final int HPA_CLUSTER_SIZE_CELLS = 16;
+
+    private final VenueRepository venueRepository;
+    private final VenueSectionRepository sectionRepository;
+    private final VenueFacilityRepository facilityRepository;
+    private final VenueSeatRepository seatRepository;
+    private final VenueSectionGeometryService sectionGeometryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, VenueGeometrySnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<VenueGeometrySnapshot>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * 적재는 맵 잠금 밖에서 한다. 같은 공연장의 동시 요청은 진행 중인 적재 하나에 합류하고,
+     * 다른 공연장 조회는 적재가 끝나길 기다리지 않는다.
+     */
+    public VenueGeometrySnapshot get(Long venueId) {
+        VenueGeometrySnapshot cached = snapshots.get(venueId);
+        if (cached != null) return cached;
+
+        CompletableFuture<VenueGeometrySnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<VenueGeometrySnapshot> running = loading.putIfAbsent(venueId, mine);
+        if (running != null) return await(running);
+        // 자리를 잡기 직전에 다른 적재가 끝났을 수 있다
+        cached = snapshots.get(venueId);
+        if (cached != null) {
+            loading.remove(venueId, mine);
+            mine.complete(cached);
+            return cached;
+        }
+
+        VenueGeometrySnapshot loaded;
+        try {
+            loaded = load(venueId);
+        } catch (RuntimeException | Error e) {
+            loading.remove(venueId, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        VenueGeometrySnapshot existing = snapshots.putIfAbsent(venueId, loaded);
+        VenueGeometrySnapshot snapshot = existing != null ? existing : loaded;
+        // 적재 중에 invalidate 되었다면 자리가 이미 치워져 있다: 변경 전 데이터일 수 있으니 게시를 거둔다
+        if (!loading.remove(venueId, mine)) {
+            snapshots.remove(venueId, loaded);
+        }
+        mine.complete(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 공연장 구역 공간 색인. 경로 탐색 외의 기능(위치 조회, 레이아웃)도 이 색인을 공유한다.
+     */
+    public VenueSpatialIndex spatialIndex(Long venueId) {
+        return get(venueId).spatialIndex();
+    }
+
+    /**
+     * 공연장 데이터 변경 후 호출. 트랜잭션 안이라면 커밋 이후에 스냅샷을 버려
+     * 커밋 전 데이터로 다시 적재되는 일을 막는다.
+     */
+    public void invalidate(Long venueId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(venueId);
+                }
+            });
+            return;
+        }
+        evict(venueId);
+    }
+
+    /**
+     * 층별 고립 영역 진단.
+     * 계단/엘리베이터로 이어진 가장 큰 연결 요소(주 동선)에 닿지 않는 이동 가능 영역을 층마다 큰 순서로 나열한다.
+     * 대부분 SVG에서 통로가 끊겼거나 좌석 블록 안쪽이 막힌 경우라 데이터 점검에 쓴다.
+     */
+    public List<PathFindingAdminDTO.FloorIsolatedRegions> isolatedRegions(Long venueId) {
+        VenueGraph graph = get(venueId).graph();
+        GridSpec spec = graph.spec();
+        double halfCell = spec.cellSize() / 2;
+        List<PathFindingAdminDTO.FloorIsolatedRegions> result = new ArrayList<>();
+        for (int layer = 0; layer < graph.layerCount(); layer++) {
+            ComponentLabels components = graph.components(layer);
+            List<PathFindingAdminDTO.IsolatedRegion> regions = new ArrayList<>();
+            int walkable = 0;
+            int isolated = 0;
+            for (int label = 0; label < components.componentCount(); label++) {
+                int cells = components.sizeOf(label);
+                walkable += cells;
+                if (graph.venueComponentOf(layer, label) == graph.mainComponent()) continue;
+                isolated += cells;
+                regions.add(PathFindingAdminDTO.IsolatedRegion.builder()
+                        .componentId(label)
+                        .cells(cells)
+                        .area(cells * spec.cellSize() * spec.cellSize())
+                        .minX(spec.centerX(components.minCol(label)) - halfCell)
+                        .minY(spec.centerY(components.minRow(label)) - halfCell)
+                        .maxX(spec.centerX(components.maxCol(label)) + halfCell)
+                        .maxY(spec.centerY(components.maxRow(label)) + halfCell)
+                        .build());
+            }
+            regions.sort(Comparator.comparingInt(PathFindingAdminDTO.IsolatedRegion::cells).reversed());
+            result.add(PathFindingAdminDTO.FloorIsolatedRegions.builder()
+                    .floor(graph.floorOfLayer(layer))
+                    .componentCount(components.componentCount())
+                    .walkableCells(walkable)
+                    .isolatedCells(isolated)
+                    .regions(regions)
+                    .build());
+        }
+        return result;
+    }
+
+    private void evict(Long venueId) {
+        loading.remove(venueId);
+        if (snapshots.remove(venueId) != null) {
+            log.info("Venue geometry snapshot invalidated: venueId={}", venueId);
+        }
+        eventPublisher.publishEvent(new VenueGeometryChangedEvent(venueId));
+    }
+
+    private VenueGeometrySnapshot await(CompletableFuture<VenueGeometrySnapshot> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private VenueGeometrySnapshot load(Long venueId) {
+        long startedAt = System.nanoTime();
+        PathEngineType engine = venueRepository.findById(venueId)
+                .map(Venue::getPathEngine)
+                .orElse(PathEngineType.GRID);
+        List<VenueSection> sections = sectionRepository.findAllByVenueId(venueId);
+
+        // 구역별 폴리곤은 한 번만 만들고 층별 장애물 집합에서 공유한다
+        Map<VenueSection, Polygon> polygons = new LinkedHashMap<>();
+        Envelope bounds = new Envelope();
+        for (VenueSection section : sections) {
+            Polygon polygon = sectionGeometryService.toPolygon(section);
+            if (polygon == null) continue;
+            polygons.put(section, polygon);
+            bounds.expandToInclude(polygon.getEnvelopeInternal());
+        }
+
+        // 층 보정/위치 조회용 공간 색인도 같은 폴리곤으로 만든다
+        List<VenueSpatialIndex.Section> indexed = new ArrayList<>(polygons.size());
+        polygons.forEach((section, polygon) -> indexed.add(toIndexedSection(section, polygon)));
+        VenueSpatialIndex spatialIndex = VenueSpatialIndex.build(indexed);
+
+        // 모든 층이 같은 격자 규격을 쓰도록 공연장 전체 구역 범위로 격자를 잡는다
+        GridSpec spec = GridSpec.covering(bounds, GRID_SIZE, GRID_MARGIN_CELLS);
+
+        Set<Integer> floorNumbers = new TreeSet<>();
+        sections.forEach(s -> floorNumbers.add(s.getFloor()));
+
+        SortedMap<Integer, FloorGeometry> floors = new TreeMap<>();
+        for (Integer floor : floorNumbers) {
+            List<Polygon> obstacles = new ArrayList<>();
+            polygons.forEach((section, polygon) -> {
+                if (isObstacleOn(section, floor)) obstacles.add(polygon);
+            });
+            WalkabilityGrid grid = WalkabilityGrid.rasterize(spec, obstacles);
+            // 클러스터 출입구와 클러스터 내부 비용은 적재(=SVG 초기화 직후 preload) 시점에 한 번만 계산한다
+            HierarchicalGrid hierarchy = HierarchicalGrid.build(grid, HPA_CLUSTER_SIZE_CELLS);
+            NavMesh navMesh = engine == PathEngineType.NAVMESH ? buildNavMesh(venueId, floor, spec, obstacles) : null;
+            floors.put(floor, new FloorGeometry(floor, grid, hierarchy, navMesh));
+            log.debug("Floor geometry built: venueId={}, floor={}, obstacles={}, blockedCells={}, clusters={}, entrances={}, triangles={}",
+                    venueId, floor, obstacles.size(), grid.blockedCount(), hierarchy.clusterCount(), hierarchy.nodeCount(),
+                    navMesh == null ? 0 : navMesh.triangleCount());
+        }
+
+        List<FacilityPoint> facilities = facilityRepository.findAllByVenueId(venueId).stream()
+                .filter(f -> f.getX() != null && f.getY() != null && f.getFloor() != null)
+                .map(this::toFacilityPoint)
+                .toList();
+
+        VenueGraph graph = VenueGraph.build(spec, floors, facilities, CONNECTOR_SNAP_RADIUS_CELLS);
+        FacilityDistanceFields facilityFields =
+                FacilityDistanceFields.build(graph, facilities, CONNECTOR_SNAP_RADIUS_CELLS, DISTANCE_FIELD_QUANTUM);
+
+        ExitFlowField exitField =
+                ExitFlowField.build(graph, facilities, CONNECTOR_SNAP_RADIUS_CELLS, DISTANCE_FIELD_QUANTUM);
+        SeatIndex seats = buildSeatIndex(venueId, indexed, floors);
+
+        VenueGeometrySnapshot snapshot = new VenueGeometrySnapshot(
+                venueId, versionSequence.incrementAndGet(), engine, spec, floors, facilities, graph, facilityFields,
+                spatialIndex, seats, exitField);
+        log.info("Venue geometry snapshot loaded: venueId={}, version={}, engine={}, sections={}, floors={}, connectors={}, distanceFields={}, exits={}, seats={}, grid={}x{}, {}ms",
+                venueId, snapshot.version(), engine, polygons.size(), floorNumbers, graph.connectors().size(),
+                facilityFields.size(), exitField.exits().size(), seats.seatCount(), spec.cols(), spec.rows(), (System.nanoTime() - startedAt) / 1_000_000);
+        return snapshot;
+    }
+
+    /**
+     * 업로드된 좌석표와 좌석 구역 중심으로 좌석 색인을 만든다 (통로 지점은 층별 최근접 셀 표에서 찾음)
+     */
+    private SeatIndex buildSeatIndex(Long venueId, List<VenueSpatialIndex.Section> sections,
+                                     SortedMap<Integer, FloorGeometry> floors) {
+        List<SeatIndex.Seat> seats = seatRepository.findAllByVenueId(venueId).stream()
+                .map(seat -> new SeatIndex.Seat(seat.getSectionId(), seat.getRow(), seat.getSeatNumber(),
+                        seat.getFloor(), seat.getX().doubleValue(), seat.getY().doubleValue()))
+                .toList();
+        List<SeatIndex.Section> seatSections = sections.stream()
+                .filter(section -> section.type() == SectionType.SEAT && section.sectionId() != null)
+                .map(section -> new SeatIndex.Section(section.sectionId(), section.floor(), section.centerX(), section.centerY()))
+                .toList();
+        return SeatIndex.build(seats, seatSections, floor -> {
+            FloorGeometry geometry = floors.get(floor);
+            return geometry == null ? null : geometry.nearestWalkable();
+        });
+    }
+
+    /**
+     * 삼각분할은 장애물 데이터 품질에 민감하므로 실패하면 null을 돌려 해당 층은 격자 엔진으로 처리되게 한다.
+     */
+    private NavMesh buildNavMesh(Long venueId, Integer floor, GridSpec spec, List<Polygon> obstacles) {
+        try {
+            return NavMesh.build(spec, obstacles, NAVMESH_TOLERANCE);
+        } catch (Exception e) {
+            log.warn("Failed to build navmesh, falling back to grid. venueId={}, floor={}, error={}",
+                    venueId, floor, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 해당 층에서 통행할 수 없는 구역인지 (다른 층 구역은 모두 장애물로 취급)
+     */
+    private boolean isObstacleOn(VenueSection section, Integer floor) {
+        if (!floor.equals(section.getFloor())) return true;
+        SectionType type = section.getType();
+        if (type == null) return true;
+        return type == SectionType.WALL
+                || type == SectionType.SEAT
+                || type == SectionType.STAGE
+                || type == SectionType.UNKNOWN;
+    }
+
+    private FacilityPoint toFacilityPoint(VenueFacility facility) {
+        return new FacilityPoint(
+                facility.getId(),
+                facility.getName(),
+                FacilityType.fromString(facility.getType()),
+                facility.getFloor(),
+                facility.getX().doubleValue(),
+                facility.getY().doubleValue(),
+                facility.getConnectedFloorsList()
+        );
+    }
+
+    private VenueSpatialIndex.Section toIndexedSection(VenueSection section, Polygon polygon) {
+        // 중심 좌표가 없는 구역은 폴리곤 내부의 한 점으로 대신한다
+        double centerX = section.getCenterX() != null
+                ? section.getCenterX().doubleValue() : polygon.getInteriorPoint().getX();
+        double centerY = section.getCenterY() != null
+                ? section.getCenterY().doubleValue() : polygon.getInteriorPoint().getY();
+        return new VenueSpatialIndex.Section(
+                section.getId(), section.getSectionId(), section.getFloor(), section.getType(), centerX, centerY, polygon);
+    }
+}
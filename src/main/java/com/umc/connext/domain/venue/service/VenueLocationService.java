@@ -0,0 +1,109 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.code.ErrorCode;
+import com.umc.connext.common.enums.FacilityType;
+import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.venue.dto.Coordinate;
+import com.umc.connext.domain.venue.dto.LocateBatchRequest;
+import com.umc.connext.domain.venue.dto.LocateResponse;
+import com.umc.connext.domain.venue.pathfinding.FacilityPoint;
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.spatial.VenueSpatialIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * "지금 어느 구역에 있나" 위치 조회.
+ * 공연장 스냅샷의 공간 색인과 층별 시설물 목록만 읽으므로 DB를 거치지 않으며,
+ * 이동 중 위치가 바뀔 때마다(초당 여러 번) 호출해도 되도록 응답은 구역 식별자와 시설물 몇 개로 제한한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VenueLocationService {
+
+    public static final int DEFAULT_FACILITY_LIMIT = 3;
+
+    private final VenueGeometrySnapshotService snapshotService;
+
+    public LocateResponse locate(Long venueId, BigDecimal x, BigDecimal y, Integer floor,
+                                 FacilityType facilityType, int facilityLimit) {
+        VenueGeometrySnapshot snapshot = snapshot(venueId);
+        return locate(snapshot, x, y, floor, facilityType, facilityLimit);
+    }
+
+    /**
+     * 같은 스냅샷으로 여러 좌표를 한 번에 조회한다. 결과는 요청 순서를 따른다.
+     */
+    public List<LocateResponse> locateAll(Long venueId, LocateBatchRequest request) {
+        VenueGeometrySnapshot snapshot = snapshot(venueId);
+        int limit = request.getFacilityLimit() != null ? request.getFacilityLimit() : DEFAULT_FACILITY_LIMIT;
+        List<LocateResponse> result = new ArrayList<>(request.getPoints().size());
+        for (Coordinate point : request.getPoints()) {
+            result.add(locate(snapshot, point.getX(), point.getY(), point.getFloor(), request.getFacilityType(), limit));
+        }
+        log.debug("Batch locate: venueId={}, points={}", venueId, result.size());
+        return result;
+    }
+
+    private VenueGeometrySnapshot snapshot(Long venueId) {
+        VenueGeometrySnapshot snapshot = snapshotService.get(venueId);
+        if (snapshot.spatialIndex().sections().isEmpty()) {
+            throw GeneralException.notFound("공연장 구역 정보가 없습니다. ID=" + venueId);
+        }
+        return snapshot;
+    }
+
+    private LocateResponse locate(VenueGeometrySnapshot snapshot, BigDecimal x, BigDecimal y, Integer floor,
+                                  FacilityType facilityType, int facilityLimit) {
+        if (x == null || y == null || floor == null) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "좌표(x, y)와 층은 필수입니다.");
+        }
+        double px = x.doubleValue();
+        double py = y.doubleValue();
+
+        VenueSpatialIndex index = snapshot.spatialIndex();
+        int fixedFloor = index.resolveFloor(px, py, floor);
+        // 좌석 블록처럼 바깥 구역 안에 들어 있는 구역이 있으므로 가장 작은 구역을 현재 구역으로 본다
+        List<VenueSpatialIndex.Section> sections = index.sectionsAt(px, py, fixedFloor);
+        VenueSpatialIndex.Section section = sections.isEmpty() ? null : sections.get(0);
+
+        return LocateResponse.builder()
+                .floor(fixedFloor)
+                .section(section == null ? null : LocateResponse.SectionRef.builder()
+                        .id(section.id())
+                        .sectionId(section.sectionId())
+                        .type(section.type())
+                        .build())
+                .facilities(facilityLimit > 0
+                        ? nearbyFacilities(snapshot.facilitiesOn(fixedFloor), px, py, facilityType, facilityLimit)
+                        : null)
+                .build();
+    }
+
+    /**
+     * 층별 시설물은 수십 개 수준이라 직선 거리로 전부 비교한다
+     */
+    private List<LocateResponse.NearbyFacility> nearbyFacilities(List<FacilityPoint> facilities, double x, double y,
+                                                                 FacilityType type, int limit) {
+        return facilities.stream()
+                .filter(facility -> type == null || facility.type() == type)
+                .sorted(Comparator.comparingDouble(facility -> Math.hypot(facility.x() - x, facility.y() - y)))
+                .limit(limit)
+                .map(facility -> LocateResponse.NearbyFacility.builder()
+                        .id(facility.id())
+                        .type(facility.type())
+                        .name(facility.name())
+                        .distance(BigDecimal.valueOf(Math.hypot(facility.x() - x, facility.y() - y))
+                                .setScale(1, RoundingMode.HALF_UP))
+                        .build())
+                .toList();
+    }
+}
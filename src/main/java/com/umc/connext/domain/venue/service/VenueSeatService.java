@@ -0,0 +1,118 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.code.ErrorCode;
+import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.venue.dto.PathFindingAdminDTO;
+import com.umc.connext.domain.venue.entity.VenueSeat;
+import com.umc.connext.domain.venue.pathfinding.SeatIndex;
+import com.umc.connext.domain.venue.repository.VenueRepository;
+import com.umc.connext.domain.venue.repository.VenueSeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공연장 좌석표(좌석별 좌표) 적재.
+ * CSV 한 줄이 좌석 하나이며 열 순서는 floor,section,row,seat,x,y 이다 (첫 줄 헤더는 있어도 되고 없어도 됨).
+ * 업로드할 때마다 공연장의 좌석표 전체를 교체하고, 다음 경로 요청에서 좌석 색인이 다시 만들어진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VenueSeatService {
+
+    private static final int COLUMN_COUNT = 6;
+
+    private final VenueRepository venueRepository;
+    private final VenueSeatRepository seatRepository;
+    private final VenueGeometrySnapshotService snapshotService;
+
+    @Transactional
+    public PathFindingAdminDTO.SeatImportResult importSeats(Long venueId, MultipartFile file) {
+        if (!venueRepository.existsById(venueId)) {
+            throw GeneralException.notFound("공연장을 찾을 수 없습니다.");
+        }
+
+        List<VenueSeat> seats = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        int invalidLines = 0;
+        int duplicates = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                VenueSeat seat = parseLine(venueId, line);
+                if (seat == null) {
+                    // 헤더 줄은 오류로 세지 않는다
+                    if (lineNumber > 1) {
+                        invalidLines++;
+                        log.debug("Invalid seat line skipped: venueId={}, line={}", venueId, lineNumber);
+                    }
+                    continue;
+                }
+                // 좌석 색인과 같은 키로 비교해 "A구역"/"a" 같은 표기 차이만 있는 줄도 중복으로 센다
+                if (!seen.add(SeatIndex.seatKey(seat.getFloor(), seat.getSectionId(), seat.getRow(), seat.getSeatNumber()))) {
+                    duplicates++;
+                    continue;
+                }
+                seats.add(seat);
+            }
+        } catch (IOException e) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "좌석표 파일을 읽을 수 없습니다.");
+        }
+        if (seats.isEmpty()) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "좌석표에 유효한 좌석이 없습니다. (열 순서: floor,section,row,seat,x,y)");
+        }
+
+        int removed = seatRepository.deleteAllInBatchByVenueId(venueId);
+        seatRepository.saveAll(seats);
+        snapshotService.invalidate(venueId);
+
+        log.info("Seat table imported: venueId={}, seats={}, replaced={}, invalidLines={}, duplicates={}",
+                venueId, seats.size(), removed, invalidLines, duplicates);
+        return PathFindingAdminDTO.SeatImportResult.builder()
+                .imported(seats.size())
+                .invalidLines(invalidLines)
+                .duplicates(duplicates)
+                .build();
+    }
+
+    /**
+     * CSV 한 줄을 좌석으로. 열 수가 맞지 않거나 숫자 변환에 실패하면 null.
+     */
+    private VenueSeat parseLine(Long venueId, String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != COLUMN_COUNT) return null;
+        try {
+            String section = columns[1].trim();
+            String row = columns[2].trim();
+            if (section.isEmpty() || row.isEmpty()) return null;
+            return VenueSeat.builder()
+                    .venueId(venueId)
+                    .floor(Integer.parseInt(columns[0].trim()))
+                    .sectionId(section)
+                    .row(row)
+                    .seatNumber(Integer.parseInt(columns[3].trim()))
+                    .x(new BigDecimal(columns[4].trim()).setScale(1, RoundingMode.HALF_UP))
+                    .y(new BigDecimal(columns[5].trim()).setScale(1, RoundingMode.HALF_UP))
+                    .build();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.Coordinate;
+import com.umc.connext.domain.venue.entity.VenueSection;
+import com.umc.connext.domain.venue.repository.VenueSectionRepository;
+import com.umc.connext.domain.venue.spatial.MySqlGeometryCodec;
+import com.umc.connext.domain.venue.spatial.SectionGeometryCleaner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 구역 폴리곤의 geom 컬럼(SPATIAL INDEX 대상)을 관리한다.
+ * 적재 시점에 vertices JSON을 한 번만 폴리곤으로 바꿔 저장해 두고, 읽을 때는 저장된 WKB를 그대로 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VenueSectionGeometryService {
+
+    public static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final VenueSectionRepository sectionRepository;
+    private final PathFindingProperties properties;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    /**
+     * 구역 폴리곤. geom 컬럼이 있으면 그대로 읽고, 없으면(backfill 전 데이터) vertices를 파싱한다.
+     * 폴리곤을 만들 수 없는 구역이면 null.
+     */
+    public Polygon toPolygon(VenueSection section) {
+        Geometry stored = MySqlGeometryCodec.decode(section.getGeom());
+        if (stored instanceof Polygon polygon) return polygon;
+        if (stored != null) return null;
+        return parseVertices(section);
+    }
+
+    /**
+     * SVG 적재 직전 정리. 구역마다 폴리곤을 고치고 단순화해 geom에 넣으며,
+     * 폴리곤이 남지 않는 구역(꼭짓점 부족, 면적 없음)은 목록에서 뺀다.
+     */
+    public SectionGeometryCleaner.Stats prepareForImport(List<VenueSection> sections) {
+        SectionGeometryCleaner.Stats stats = new SectionGeometryCleaner.Stats();
+        Iterator<VenueSection> it = sections.iterator();
+        while (it.hasNext()) {
+            VenueSection section = it.next();
+            Polygon raw = parseVertices(section);
+            if (raw == null) {
+                stats.addUnparsable();
+                it.remove();
+                continue;
+            }
+            SectionGeometryCleaner.Cleaned cleaned = clean(raw);
+            stats.add(cleaned);
+            if (cleaned.outcome() == SectionGeometryCleaner.Outcome.DROPPED) {
+                log.debug("Degenerate section dropped at import: sectionId={}, vertices={}",
+                        section.getSectionId(), cleaned.verticesBefore());
+                it.remove();
+                continue;
+            }
+            if (cleaned.outcome() == SectionGeometryCleaner.Outcome.REPAIRED) {
+                log.debug("Invalid section polygon repaired: sectionId={}", section.getSectionId());
+            }
+            section.setGeom(MySqlGeometryCodec.encode(cleaned.polygon()));
+        }
+        return stats;
+    }
+
+    /**
+     * vertices로 geom 컬럼 값을 채운다 (기존 데이터 backfill). 적재 때와 같은 정리를 거치며,
+     * 폴리곤을 만들 수 없는 구역은 NOT NULL 제약을 지키기 위해 중심점을 넣어 두고
+     * 포함/교차 질의는 면(ST_Dimension = 2)만 보므로 걸리지 않는다.
+     */
+    public void assignGeometry(VenueSection section) {
+        Polygon raw = parseVertices(section);
+        Geometry geometry = raw == null ? null : clean(raw).polygon();
+        if (geometry == null) {
+            double x = section.getCenterX() != null ? section.getCenterX().doubleValue() : 0.0;
+            double y = section.getCenterY() != null ? section.getCenterY().doubleValue() : 0.0;
+            geometry = geometryFactory.createPoint(new org.locationtech.jts.geom.Coordinate(x, y));
+        }
+        section.setGeom(MySqlGeometryCodec.encode(geometry));
+    }
+
+    /**
+     * geom이 비어 있는 기존 구역을 한 묶음 채운다. 채운 구역 수를 돌려주며 0이면 끝난 것이다.
+     */
+    @Transactional
+    public int backfillBatch() {
+        List<VenueSection> sections = sectionRepository.findTop500ByGeomIsNull();
+        sections.forEach(this::assignGeometry);
+        sectionRepository.saveAll(sections);
+        return sections.size();
+    }
+
+    private SectionGeometryCleaner.Cleaned clean(Polygon raw) {
+        PathFindingProperties.Geometry geometry = properties.getGeometry();
+        return SectionGeometryCleaner.clean(raw, geometry.getSimplifyTolerance(), geometry.getMinArea());
+    }
+
+    private Polygon parseVertices(VenueSection section) {
+        List<Coordinate> vertices = section.getVerticesList();
+        if (vertices == null || vertices.size() < 3) {
+            log.debug("Section ID: {} has insufficient vertices, skipping", section.getSectionId());
+            return null;
+        }
+        try {
+            org.locationtech.jts.geom.Coordinate[] jtsCoords = new org.locationtech.jts.geom.Coordinate[vertices.size() + 1];
+            for (int i = 0; i < vertices.size(); i++) {
+                jtsCoords[i] = new org.locationtech.jts.geom.Coordinate(
+                        vertices.get(i).getX().doubleValue(), vertices.get(i).getY().doubleValue());
+            }
+            jtsCoords[vertices.size()] = jtsCoords[0];
+            return geometryFactory.createPolygon(geometryFactory.createLinearRing(jtsCoords));
+        } catch (Exception e) {
+            log.error("Failed to convert section to polygon. sectionId={}, error={}", section.getSectionId(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.umc.connext.domain.venue.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.umc.connext.common.code.ErrorCode;
 import com.umc.connext.common.enums.FacilityType;
 import com.umc.connext.common.enums.SectionType;
@@ -32,6 +30,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -55,8 +54,8 @@ public class VenueService {
     private final ConcertDetailRepository concertDetailRepository;
     private final ReservationRepository reservationRepository;
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     private final FloorMappingService floorMappingService;
+    private final VenueGeometrySnapshotService snapshotService;
 
     // ── 검색 ──
 
@@ -134,7 +133,7 @@ public class VenueService {
         for (Integer floor : allFloors) {
             List<VenueResDTO.SectionDto> sectionDtos = sectionsByFloor.getOrDefault(floor, Collections.emptyList())
                     .stream()
-                    .map(this::convertToSectionDto)
+                    .map(section -> convertToSectionDto(venueId, section))
                     .collect(Collectors.toList());
 
             List<VenueResDTO.FacilityDto> facilityDtos = facilitiesByFloor.getOrDefault(floor, Collections.emptyList())
@@ -265,18 +264,46 @@ public class VenueService {
     }
 
     public VenueLayoutResponse getVenueLayout(Long venueId, Integer floor) {
+        return getVenueLayout(venueId, floor, null, null, null, null);
+    }
+
+    /**
+     * 화면 영역(viewport)이 주어지면 SPATIAL INDEX로 영역과 겹치는 구역/시설물만 조회한다.
+     * 네 좌표는 모두 주거나 모두 생략해야 한다.
+     */
+    public VenueLayoutResponse getVenueLayout(Long venueId, Integer floor,
+                                              BigDecimal minX, BigDecimal minY, BigDecimal maxX, BigDecimal maxY) {
         Venue venue = venueRepository.findById(venueId)
                 .orElseThrow(() -> GeneralException.notFound("공연장을 찾을 수 없습니다. ID=" + venueId));
 
+        boolean viewport = minX != null || minY != null || maxX != null || maxY != null;
+        if (viewport && (minX == null || minY == null || maxX == null || maxY == null)) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "화면 영역은 minX, minY, maxX, maxY를 모두 지정해야 합니다.");
+        }
+        if (viewport && (minX.compareTo(maxX) > 0 || minY.compareTo(maxY) > 0)) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "화면 영역의 최솟값이 최댓값보다 클 수 없습니다.");
+        }
+
         // 섹션 조회
-        List<VenueSection> sections = (floor != null)
-                ? venueSectionRepository.findAllByVenueIdAndFloor(venueId, floor)
-                : venueSectionRepository.findAllByVenueId(venueId);
+        List<VenueSection> sections;
+        if (viewport) {
+            sections = venueSectionRepository.findAllIntersecting(venueId, floor,
+                    minX.doubleValue(), minY.doubleValue(), maxX.doubleValue(), maxY.doubleValue());
+        } else {
+            sections = (floor != null)
+                    ? venueSectionRepository.findAllByVenueIdAndFloor(venueId, floor)
+                    : venueSectionRepository.findAllByVenueId(venueId);
+        }
 
         // 시설물 조회
-        List<VenueFacility> facilities = (floor != null)
-                ? venueFacilityRepository.findAllByVenueIdAndFloor(venueId, floor)
-                : venueFacilityRepository.findAllByVenueId(venueId);
+        List<VenueFacility> facilities;
+        if (viewport) {
+            facilities = venueFacilityRepository.findAllInViewport(venueId, floor, minX, minY, maxX, maxY);
+        } else {
+            facilities = (floor != null)
+                    ? venueFacilityRepository.findAllByVenueIdAndFloor(venueId, floor)
+                    : venueFacilityRepository.findAllByVenueId(venueId);
+        }
 
         // 사용 가능한 층 목록
         List<Integer> floors = floorMappingService.getFloors(venueId);
@@ -345,11 +372,14 @@ public class VenueService {
                 .build();
     }
 
-    private VenueResDTO.SectionDto convertToSectionDto(VenueSection section) {
+    /**
+     * fullPath가 없는 구역은 스냅샷에 풀어 둔 외곽선으로 SVG path를 만든다 (적재 때 단순화된 외곽선)
+     */
+    private VenueResDTO.SectionDto convertToSectionDto(Long venueId, VenueSection section) {
         String finalPathData = section.getFullPath();
 
         if (finalPathData == null || finalPathData.isEmpty()) {
-            finalPathData = convertVerticesToSvgPath(section.getVertices());
+            finalPathData = convertVerticesToSvgPath(snapshotService.spatialIndex(venueId).vertexArray(section.getId()));
         }
 
         String typeStr = (section.getType() != null) ? section.getType().toString() : SectionType.UNKNOWN.toString();
@@ -372,26 +402,19 @@ public class VenueService {
                 .build();
     }
 
-    private String convertVerticesToSvgPath(String verticesJson) {
-        if (verticesJson == null || verticesJson.isEmpty()) return "";
-        try {
-            List<Map<String, Object>> points = objectMapper.readValue(verticesJson, new TypeReference<>() {});
-            if (points.isEmpty()) return "";
-
-            StringBuilder sb = new StringBuilder();
-            Map<String, Object> start = points.get(0);
-            sb.append("M ").append(start.get("x")).append(" ").append(start.get("y"));
-
-            for (int i = 1; i < points.size(); i++) {
-                Map<String, Object> p = points.get(i);
-                sb.append(" L ").append(p.get("x")).append(" ").append(p.get("y"));
-            }
-            sb.append(" Z");
-            return sb.toString();
-        } catch (Exception e) {
-            log.warn("SVG 변환 오류: {}", e.getMessage());
-            return "";
+    private String convertVerticesToSvgPath(double[] packed) {
+        if (packed == null || packed.length == 0) return "";
+        StringBuilder sb = new StringBuilder();
+        sb.append("M ").append(formatCoordinate(packed[0])).append(" ").append(formatCoordinate(packed[1]));
+        for (int i = 2; i < packed.length; i += 2) {
+            sb.append(" L ").append(formatCoordinate(packed[i])).append(" ").append(formatCoordinate(packed[i + 1]));
         }
+        sb.append(" Z");
+        return sb.toString();
+    }
+
+    private String formatCoordinate(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
     }
 
     private void validateVenueId(Long venueId) {
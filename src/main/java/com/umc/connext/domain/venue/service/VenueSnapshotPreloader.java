@@ -0,0 +1,74 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.event.VenueGeometryChangedEvent;
+import com.umc.connext.domain.venue.repository.VenueRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공연장 데이터가 바뀐 뒤 기하 스냅샷을 백그라운드에서 다시 적재한다.
+ * 거리장 계산이 관리자 요청 스레드나 첫 사용자 요청에 걸리지 않게 하려는 것이며,
+ * 스레드 하나와 길이가 정해진 대기열만 쓰고 같은 공연장의 중복 요청은 하나로 합친다.
+ * 삭제된 공연장은 적재하지 않는다.
+ */
+@Slf4j
+@Component
+public class VenueSnapshotPreloader {
+
+    private static final int QUEUE_CAPACITY = 32;
+
+    private final VenueGeometrySnapshotService snapshotService;
+    private final VenueRepository venueRepository;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public VenueSnapshotPreloader(VenueGeometrySnapshotService snapshotService, VenueRepository venueRepository) {
+        this.snapshotService = snapshotService;
+        this.venueRepository = venueRepository;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "venue-snapshot-preload");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @EventListener
+    public void onVenueGeometryChanged(VenueGeometryChangedEvent event) {
+        Long venueId = event.venueId();
+        if (!pending.add(venueId)) return;
+        try {
+            executor.execute(() -> preload(venueId));
+        } catch (RuntimeException e) {
+            // 대기열이 가득 찼으면 다음 요청에서 적재되도록 둔다
+            pending.remove(venueId);
+            log.warn("Venue geometry preload skipped: venueId={}, queued={}", venueId, executor.getQueue().size());
+        }
+    }
+
+    private void preload(Long venueId) {
+        pending.remove(venueId);
+        try {
+            if (!venueRepository.existsById(venueId)) {
+                log.debug("Venue geometry preload skipped for deleted venue: venueId={}", venueId);
+                return;
+            }
+            snapshotService.get(venueId);
+        } catch (Exception e) {
+            log.error("Failed to preload venue geometry snapshot. venueId={}, error={}", venueId, e.getMessage());
+        }
+    }
+}
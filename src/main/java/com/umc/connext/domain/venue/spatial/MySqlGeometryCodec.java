@@ -0,0 +1,49 @@
+package com.umc.connext.domain.venue.spatial;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * MySQL 공간 컬럼의 내부 저장 형식 ↔ JTS Geometry 변환.
+ * MySQL은 geometry 값을 "SRID(4바이트, 리틀 엔디언) + WKB"로 저장하므로 byte[] 컬럼으로 그대로 읽고 쓸 수 있다.
+ * 공연장 좌표는 SVG 평면 좌표이므로 SRID는 항상 0이다.
+ */
+public final class MySqlGeometryCodec {
+
+    public static final int SRID = 0;
+
+    private static final int SRID_BYTES = 4;
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private MySqlGeometryCodec() {
+    }
+
+    public static byte[] encode(Geometry geometry) {
+        byte[] wkb = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN).write(geometry);
+        return ByteBuffer.allocate(SRID_BYTES + wkb.length)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(SRID)
+                .put(wkb)
+                .array();
+    }
+
+    /**
+     * 저장 값이 비었거나 WKB가 깨져 있으면 null
+     */
+    public static Geometry decode(byte[] value) {
+        if (value == null || value.length <= SRID_BYTES) return null;
+        try {
+            return new WKBReader(GEOMETRY_FACTORY).read(Arrays.copyOfRange(value, SRID_BYTES, value.length));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.umc.connext.domain.venue.spatial;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.GeometryFixer;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+/**
+ * SVG에서 읽은 구역 폴리곤을 적재 전에 정리한다.
+ * 자기 교차 등으로 유효하지 않은 링은 GeometryFixer로 고치고, 위상을 유지하는 단순화로 꼭짓점을 줄인 뒤,
+ * 면적이 거의 없는 도형은 버린다. 이후의 충돌 판정/래스터화/공간 색인은 항상 유효한 작은 폴리곤만 받는다.
+ */
+public final class SectionGeometryCleaner {
+
+    private SectionGeometryCleaner() {
+    }
+
+    public enum Outcome {
+        // 원래부터 유효
+        VALID,
+        // 유효하지 않아 고침
+        REPAIRED,
+        // 고쳐도 폴리곤이 남지 않거나 면적이 너무 작아 버림
+        DROPPED
+    }
+
+    /**
+     * 정리 결과. DROPPED면 polygon은 null이다.
+     */
+    public record Cleaned(Polygon polygon, Outcome outcome, int verticesBefore, int verticesAfter) {}
+
+    /**
+     * @param tolerance 단순화 허용 오차 (좌표 단위, 0 이하면 단순화하지 않음)
+     * @param minArea   이보다 작은 면적의 도형은 버린다
+     */
+    public static Cleaned clean(Polygon raw, double tolerance, double minArea) {
+        int before = raw.getNumPoints();
+        boolean repaired = !raw.isValid();
+        Polygon polygon = repaired ? largestPolygon(GeometryFixer.fix(raw)) : raw;
+        if (polygon != null && tolerance > 0) {
+            polygon = largestPolygon(TopologyPreservingSimplifier.simplify(polygon, tolerance));
+        }
+        if (polygon == null || polygon.isEmpty() || polygon.getArea() < minArea) {
+            return new Cleaned(null, Outcome.DROPPED, before, 0);
+        }
+        return new Cleaned(polygon, repaired ? Outcome.REPAIRED : Outcome.VALID, before, polygon.getNumPoints());
+    }
+
+    /**
+     * 고친 결과가 여러 조각(MultiPolygon 등)이면 가장 큰 폴리곤을 구역으로 삼는다
+     */
+    private static Polygon largestPolygon(Geometry geometry) {
+        if (geometry == null || geometry.isEmpty()) return null;
+        if (geometry instanceof Polygon polygon) return polygon;
+        Polygon best = null;
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+            if (geometry.getGeometryN(i) instanceof Polygon part
+                    && (best == null || part.getArea() > best.getArea())) {
+                best = part;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 적재 한 번의 정리 통계
+     */
+    public static final class Stats {
+
+        private int sections;
+        private int repaired;
+        private int dropped;
+        private long verticesBefore;
+        private long verticesAfter;
+
+        public void add(Cleaned cleaned) {
+            sections++;
+            verticesBefore += cleaned.verticesBefore();
+            verticesAfter += cleaned.verticesAfter();
+            if (cleaned.outcome() == Outcome.REPAIRED) repaired++;
+            if (cleaned.outcome() == Outcome.DROPPED) dropped++;
+        }
+
+        /**
+         * 폴리곤조차 만들 수 없던 구역 (꼭짓점 부족, 링 생성 실패)
+         */
+        public void addUnparsable() {
+            sections++;
+            dropped++;
+        }
+
+        public int sections() {
+            return sections;
+        }
+
+        public int repaired() {
+            return repaired;
+        }
+
+        public int dropped() {
+            return dropped;
+        }
+
+        public long verticesBefore() {
+            return verticesBefore;
+        }
+
+        public long verticesAfter() {
+            return verticesAfter;
+        }
+    }
+}
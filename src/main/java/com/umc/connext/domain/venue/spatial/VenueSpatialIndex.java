@@ -0,0 +1,184 @@
+package com.umc.connext.domain.venue.spatial;
+
+import com.umc.connext.common.enums.SectionType;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * 공연장 하나의 구역 폴리곤을 층 정보와 함께 STRtree에 색인한 불변 공간 색인.
+ * "이 좌표를 포함하는 층/구역은?" 질의를 DB 조회나 폴리곤 생성 없이 처리하며,
+ * 경로 탐색의 층 보정, 위치 조회, 레이아웃 API가 같은 인스턴스를 공유한다 (VenueGeometrySnapshot에 실려 함께 교체됨).
+ */
+public final class VenueSpatialIndex {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private final STRtree tree;
+    private final List<Section> sections;
+    private final SortedSet<Integer> floors;
+    private final Map<Long, double[]> vertexArrays;
+
+    private VenueSpatialIndex(STRtree tree, List<Section> sections, SortedSet<Integer> floors,
+                              Map<Long, double[]> vertexArrays) {
+        this.tree = tree;
+        this.sections = sections;
+        this.floors = floors;
+        this.vertexArrays = vertexArrays;
+    }
+
+    /**
+     * 색인에 담기는 구역. polygon은 공유되므로 수정하지 않는다.
+     */
+    public record Section(
+            Long id,
+            String sectionId,
+            int floor,
+            SectionType type,
+            double centerX,
+            double centerY,
+            Polygon polygon
+    ) {}
+
+    private record Entry(Section section, PreparedGeometry prepared) {}
+
+    public static VenueSpatialIndex build(Collection<Section> sections) {
+        STRtree tree = new STRtree();
+        SortedSet<Integer> floors = new TreeSet<>();
+        Map<Long, double[]> vertexArrays = new HashMap<>();
+        for (Section section : sections) {
+            tree.insert(section.polygon().getEnvelopeInternal(),
+                    new Entry(section, PreparedGeometryFactory.prepare(section.polygon())));
+            floors.add(section.floor());
+            if (section.id() != null) vertexArrays.put(section.id(), pack(section.polygon()));
+        }
+        tree.build();
+        return new VenueSpatialIndex(tree, List.copyOf(sections), Collections.unmodifiableSortedSet(floors),
+                Map.copyOf(vertexArrays));
+    }
+
+    public List<Section> sections() {
+        return sections;
+    }
+
+    /**
+     * 구역 외곽선 꼭짓점 [x0, y0, x1, y1, ...] (닫는 점 제외). 색인을 만들 때 한 번만 풀어 두며 공유되므로 수정하지 않는다.
+     * 적재 때 정리·단순화된 geom 기준이라 원본 vertices와 꼭짓점 수가 다를 수 있다. 색인에 없는 구역이면 null.
+     */
+    public double[] vertexArray(Long sectionId) {
+        return vertexArrays.get(sectionId);
+    }
+
+    /**
+     * 구역이 하나라도 있는 층 번호
+     */
+    public SortedSet<Integer> floors() {
+        return floors;
+    }
+
+    /**
+     * 좌표를 포함(경계 포함)하는 모든 층의 구역
+     */
+    public List<Section> sectionsAt(double x, double y) {
+        return query(x, y, null);
+    }
+
+    /**
+     * 좌표를 포함(경계 포함)하는 해당 층의 구역
+     */
+    public List<Section> sectionsAt(double x, double y, int floor) {
+        return query(x, y, floor);
+    }
+
+    /**
+     * 좌표를 포함하는 구역이 있는 층 번호
+     */
+    public SortedSet<Integer> floorsAt(double x, double y) {
+        SortedSet<Integer> result = new TreeSet<>();
+        for (Section section : query(x, y, null)) result.add(section.floor());
+        return result;
+    }
+
+    public boolean isOnFloor(double x, double y, int floor) {
+        Point point = GEOMETRY_FACTORY.createPoint(new Coordinate(x, y));
+        for (Entry entry : candidates(new Envelope(x, x, y, y))) {
+            if (entry.section().floor() == floor && entry.prepared().intersects(point)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 좌표가 속한 층. requestedFloor에 구역이 있으면 그대로, 아니면 좌표를 포함하는 층 중 요청 층에 가장 가까운 층
+     * (같은 거리면 낮은 층), 어느 층에도 없으면 requestedFloor.
+     */
+    public int resolveFloor(double x, double y, int requestedFloor) {
+        if (isOnFloor(x, y, requestedFloor)) return requestedFloor;
+        int best = requestedFloor;
+        int bestGap = Integer.MAX_VALUE;
+        for (int floor : floorsAt(x, y)) {
+            int gap = Math.abs(floor - requestedFloor);
+            if (gap < bestGap) {
+                bestGap = gap;
+                best = floor;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 사각형과 겹치는 구역 (floor가 null이면 모든 층). 화면 영역(viewport) 조회용.
+     */
+    public List<Section> sectionsIntersecting(Envelope envelope, Integer floor) {
+        Geometry area = GEOMETRY_FACTORY.toGeometry(envelope);
+        List<Section> result = new ArrayList<>();
+        for (Entry entry : candidates(envelope)) {
+            if (floor != null && entry.section().floor() != floor) continue;
+            if (entry.prepared().intersects(area)) result.add(entry.section());
+        }
+        return result;
+    }
+
+    private List<Section> query(double x, double y, Integer floor) {
+        Point point = GEOMETRY_FACTORY.createPoint(new Coordinate(x, y));
+        List<Section> result = new ArrayList<>();
+        for (Entry entry : candidates(new Envelope(x, x, y, y))) {
+            if (floor != null && entry.section().floor() != floor) continue;
+            if (entry.prepared().intersects(point)) result.add(entry.section());
+        }
+        // 작은 구역(좌석 블록 등)이 바깥 구역보다 먼저 오도록 면적 순
+        result.sort(Comparator.comparingDouble(section -> section.polygon().getArea()));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Entry> candidates(Envelope envelope) {
+        return tree.query(envelope);
+    }
+
+    private static double[] pack(Polygon polygon) {
+        Coordinate[] ring = polygon.getExteriorRing().getCoordinates();
+        int count = ring.length - 1;
+        double[] packed = new double[count * 2];
+        for (int i = 0; i < count; i++) {
+            packed[i * 2] = ring[i].x;
+            packed[i * 2 + 1] = ring[i].y;
+        }
+        return packed;
+    }
+}
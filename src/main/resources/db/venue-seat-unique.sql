@@ -0,0 +1,18 @@
+-- venue_seats 좌석 유일 제약에 floor 포함 (MySQL 전용, mysql 프로필에서만 실행)
+-- 층마다 같은 구역/열/번호가 있을 수 있으므로 좌석 색인(SeatIndex.seatKey)과 같이 층까지 묶는다.
+-- 층이 빠진 예전 제약이 남아 있을 때만 다시 만든다. 새로 만든 테이블은 Hibernate가 이미 floor를 포함해 만든다.
+SET @venue_seat_unique_ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE()
+        AND table_name = 'venue_seats'
+        AND index_name = 'uq_venue_seat') > 0
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE()
+        AND table_name = 'venue_seats'
+        AND index_name = 'uq_venue_seat'
+        AND column_name = 'floor') = 0,
+    'ALTER TABLE venue_seats DROP INDEX uq_venue_seat, ADD CONSTRAINT uq_venue_seat UNIQUE (venue_id, floor, section_id, seat_row, seat_number)',
+    'DO 0');
+PREPARE venue_seat_unique_stmt FROM @venue_seat_unique_ddl;
+EXECUTE venue_seat_unique_stmt;
+DEALLOCATE PREPARE venue_seat_unique_stmt;
@@ -0,0 +1,15 @@
+-- venue_sections.geom NOT NULL + SPATIAL INDEX (MySQL 전용, mysql 프로필에서만 실행)
+-- Hibernate는 기존 행이 있어도 추가할 수 있도록 geom을 NULL 허용 컬럼으로 만들고, 기동 후 backfill이 값을 채운다.
+-- SPATIAL INDEX는 NOT NULL + SRID가 지정된 컬럼에만 걸 수 있으므로 두 변경을 함께 한다.
+-- 인덱스가 이미 있거나 geom이 빈 구역이 남아 있으면(backfill 전) 건너뛰고, 다음 기동 때 다시 시도한다.
+SET @venue_section_geom_ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE()
+        AND table_name = 'venue_sections'
+        AND index_name = 'sidx_venue_section_geom') = 0
+    AND (SELECT COUNT(*) FROM venue_sections WHERE geom IS NULL) = 0,
+    'ALTER TABLE venue_sections MODIFY COLUMN geom GEOMETRY NOT NULL SRID 0, ADD SPATIAL INDEX sidx_venue_section_geom (geom)',
+    'DO 0');
+PREPARE venue_section_geom_stmt FROM @venue_section_geom_ddl;
+EXECUTE venue_section_geom_stmt;
+DEALLOCATE PREPARE venue_section_geom_stmt;
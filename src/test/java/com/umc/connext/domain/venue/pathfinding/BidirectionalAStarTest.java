@@ -0,0 +1,82 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BidirectionalAStarTest {
+
+    private static final double EPSILON = 1e-6;
+
+    private final VenueGraph graph = TestGraphs.walledFloor();
+    private final WalkabilityGrid grid = graph.grid(0);
+    private final GridSpec spec = graph.spec();
+
+    @Test
+    void findsOptimalPathAroundWall() {
+        int[][] pairs = {{2, 2, 20, 2}, {0, 0, 29, 19}, {9, 14, 12, 14}, {28, 5, 20, 5}};
+        for (int[] pair : pairs) {
+            int start = spec.cell(pair[0], pair[1]);
+            int goal = spec.cell(pair[2], pair[3]);
+            SearchResult result = BidirectionalAStar.search(grid, start, goal, SearchBudget.expansions(100_000));
+
+            assertEquals(SearchResult.Status.FOUND, result.status());
+            assertValidPath(result.path(), start, goal);
+            assertEquals(TestGraphs.dijkstra(graph, node -> 1.0, start, goal),
+                    TestGraphs.length(spec, result.path()), EPSILON);
+        }
+    }
+
+    @Test
+    void sameCellIsSingleNodePath() {
+        int cell = spec.cell(3, 3);
+
+        assertArrayEquals(new int[]{cell}, BidirectionalAStar.search(grid, cell, cell, SearchBudget.expansions(1)).path());
+    }
+
+    @Test
+    void enclosedGoalIsUnreachable() {
+        SearchResult result = BidirectionalAStar.search(grid, spec.cell(2, 2), spec.cell(25, 5), SearchBudget.expansions(100_000));
+
+        assertEquals(SearchResult.Status.UNREACHABLE, result.status());
+        assertNull(result.pathOrNull());
+        // 막힌 셀로의 탐색도 도달 불가
+        assertEquals(SearchResult.Status.UNREACHABLE,
+                BidirectionalAStar.search(grid, spec.cell(2, 2), spec.cell(10, 2), SearchBudget.expansions(100_000)).status());
+    }
+
+    @Test
+    void budgetExhaustionReturnsPartialPathFromStart() {
+        int start = spec.cell(2, 2);
+        int goal = spec.cell(20, 2);
+        SearchResult result = BidirectionalAStar.search(grid, start, goal, SearchBudget.expansions(10));
+
+        assertEquals(SearchResult.Status.BUDGET_EXHAUSTED, result.status());
+        assertNull(result.pathOrNull());
+        assertNotNull(result.path());
+        assertEquals(start, result.path()[0]);
+        for (int i = 0; i + 1 < result.path().length; i++) {
+            assertAdjacent(result.path()[i], result.path()[i + 1]);
+        }
+    }
+
+    private void assertValidPath(int[] path, int start, int goal) {
+        assertEquals(start, path[0]);
+        assertEquals(goal, path[path.length - 1]);
+        for (int i = 0; i < path.length; i++) {
+            assertTrue(!grid.isBlocked(path[i]), "path must avoid blocked cells");
+            if (i + 1 < path.length) assertAdjacent(path[i], path[i + 1]);
+        }
+    }
+
+    private void assertAdjacent(int a, int b) {
+        int dx = spec.colOf(b) - spec.colOf(a);
+        int dy = spec.rowOf(b) - spec.rowOf(a);
+        assertTrue(Math.abs(dx) <= 1 && Math.abs(dy) <= 1 && (dx != 0 || dy != 0), "path cells must be neighbours");
+        assertTrue(grid.canStep(spec.colOf(a), spec.rowOf(a), dx, dy), "path must not cut corners");
+    }
+}
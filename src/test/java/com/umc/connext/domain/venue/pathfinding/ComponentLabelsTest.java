@@ -0,0 +1,68 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.umc.connext.domain.venue.pathfinding.TestGraphs.rectangle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComponentLabelsTest {
+
+    // 20 × 10 셀, x = 8 ~ 10 위치의 벽이 층을 왼쪽(0 ~ 7열)과 오른쪽(10 ~ 19열)으로 완전히 나눈다
+    private final GridSpec spec = new GridSpec(0, 0, 1.0, 20, 10);
+    private final WalkabilityGrid grid = WalkabilityGrid.rasterize(spec, List.of(rectangle(8, 0, 10, 10)));
+    private final ComponentLabels labels = ComponentLabels.label(grid);
+
+    @Test
+    void wallSplitsFloorIntoTwoComponents() {
+        int left = labels.labelOf(spec.cell(0, 0));
+        int right = labels.labelOf(spec.cell(19, 9));
+
+        assertEquals(2, labels.componentCount());
+        assertNotEquals(left, right);
+        assertEquals(8 * 10, labels.sizeOf(left));
+        assertEquals(10 * 10, labels.sizeOf(right));
+        assertEquals(ComponentLabels.BLOCKED, labels.labelOf(spec.cell(8, 5)));
+
+        assertEquals(0, labels.minCol(left));
+        assertEquals(7, labels.maxCol(left));
+        assertEquals(10, labels.minCol(right));
+        assertEquals(19, labels.maxCol(right));
+        assertEquals(0, labels.minRow(right));
+        assertEquals(9, labels.maxRow(right));
+    }
+
+    @Test
+    void connectedOnlyWithinSameComponent() {
+        assertTrue(labels.connected(spec.cell(0, 0), spec.cell(7, 9)));
+        assertTrue(labels.connected(spec.cell(10, 0), spec.cell(19, 9)));
+        assertFalse(labels.connected(spec.cell(7, 5), spec.cell(10, 5)));
+        // 막힌 셀은 자기 자신과도 이어지지 않는다
+        assertFalse(labels.connected(spec.cell(8, 5), spec.cell(8, 5)));
+    }
+
+    @Test
+    void nearestCellInOtherComponentCrossesWall() {
+        int right = labels.labelOf(spec.cell(19, 9));
+
+        assertEquals(spec.cell(10, 5), labels.nearestCellIn(spec.cell(7, 5), right, 3));
+        assertEquals(-1, labels.nearestCellIn(spec.cell(7, 5), right, 2));
+    }
+
+    @Test
+    void diagonalContactDoesNotConnect() {
+        // (0, 0)은 대각선으로만 (1, 1)과 닿는다: 대각 이동은 양쪽 직교 셀이 비어 있어야 하므로 따로 센다
+        GridSpec small = new GridSpec(0, 0, 1.0, 3, 3);
+        ComponentLabels corner = ComponentLabels.label(WalkabilityGrid.rasterize(small,
+                List.of(rectangle(1, 0, 2, 1), rectangle(0, 1, 1, 2))));
+
+        assertEquals(2, corner.componentCount());
+        assertFalse(corner.connected(small.cell(0, 0), small.cell(1, 1)));
+        assertEquals(1, corner.sizeOf(corner.labelOf(small.cell(0, 0))));
+        assertEquals(6, corner.sizeOf(corner.labelOf(small.cell(1, 1))));
+    }
+}
@@ -0,0 +1,117 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CongestionLayerTest {
+
+    // 10 × 6 셀, 블록 4셀 → 블록 3 × 2 (오른쪽/아래 블록은 격자 경계에서 잘림)
+    private final GridSpec spec = new GridSpec(0, 0, 1.0, 10, 6);
+
+    private CongestionLayer layer() {
+        return new CongestionLayer(spec, 2, 4, 8, 3.0, 0.25, 16);
+    }
+
+    private int node(int layer, int col, int row) {
+        return layer * spec.cellCount() + spec.cell(col, row);
+    }
+
+    @Test
+    void setLevelPublishesQuantizedMultiplier() {
+        CongestionLayer layer = layer();
+
+        assertEquals(1, layer.setLevel(1, 0.5, 0.5, 3.5, 3.5, 1.0));
+        assertEquals(4.0, layer.multiplierOf(node(1, 2, 2)), 0.0);
+        assertEquals(1.0, layer.multiplierOf(node(0, 2, 2)), 0.0);
+        assertEquals(1.0, layer.multiplierOf(node(1, 4, 2)), 0.0);
+
+        // 포화 대비 0.3 → 추가 비용 0.9 → 0.25 단위로 1.0
+        layer.setLevel(1, 4.5, 0.5, 4.5, 0.5, 0.3);
+        assertEquals(2.0, layer.multiplierOf(node(1, 5, 1)), 0.0);
+        assertEquals(2, layer.congestedBlockCount());
+    }
+
+    @Test
+    void unchangedMultiplierIsNotRecorded() {
+        CongestionLayer layer = layer();
+        layer.setLevel(0, 0, 0, 9, 5, 0.5);
+        long sequence = layer.sequence();
+
+        assertEquals(0, layer.setLevel(0, 0, 0, 9, 5, 0.5));
+        // 발행 단위보다 작은 밀도 변화도 세션에 알리지 않는다
+        layer.addObservation(0, 1.5, 1.5, 0.1);
+        assertEquals(sequence, layer.sequence());
+        assertArrayEquals(new int[0], layer.changedSince(sequence));
+    }
+
+    @Test
+    void changedSinceListsDistinctBlocks() {
+        CongestionLayer layer = layer();
+        long since = layer.sequence();
+
+        layer.setLevel(0, 8.5, 4.5, 8.5, 4.5, 1.0);
+        layer.setLevel(0, 8.5, 4.5, 8.5, 4.5, 0.5);
+        layer.setLevel(1, 0.5, 0.5, 0.5, 0.5, 1.0);
+
+        int[] changed = layer.changedSince(since);
+        Arrays.sort(changed);
+        assertEquals(2, changed.length);
+
+        int edgeBlock = changed[0];
+        assertEquals(0, layer.layerOfBlock(edgeBlock));
+        assertArrayEquals(new int[]{8, 4, 9, 5}, layer.cellBounds(edgeBlock));
+        assertEquals(1, layer.layerOfBlock(changed[1]));
+        assertArrayEquals(new int[]{0, 0, 3, 3}, layer.cellBounds(changed[1]));
+    }
+
+    @Test
+    void changedSinceReturnsNullAfterLogOverflow() {
+        CongestionLayer layer = layer();
+        long since = layer.sequence();
+
+        for (int i = 0; i < 9; i++) {
+            layer.setLevel(0, 0, 0, 9, 5, (i % 2 == 0) ? 1.0 : 0.0);
+        }
+
+        assertTrue(layer.sequence() - since > 16);
+        assertNull(layer.changedSince(since));
+    }
+
+    @Test
+    void decayReturnsToBaseline() {
+        CongestionLayer layer = layer();
+        layer.setLevel(0, 0, 0, 3, 3, 1.0);
+        double previous = layer.multiplierOf(node(0, 0, 0));
+
+        for (int i = 0; i < 20; i++) {
+            layer.decay(0.5);
+            double current = layer.multiplierOf(node(0, 0, 0));
+            assertTrue(current <= previous);
+            previous = current;
+        }
+
+        assertEquals(1.0, previous, 0.0);
+        assertEquals(0, layer.congestedBlockCount());
+    }
+
+    @Test
+    void nearCongestionLooksAtNeighbourBlocks() {
+        CongestionLayer layer = layer();
+        layer.setLevel(0, 0.5, 0.5, 0.5, 0.5, 1.0);
+
+        assertTrue(layer.nearCongestion(node(0, 5, 5)));
+        assertFalse(layer.nearCongestion(node(0, 9, 5)));
+        assertFalse(layer.nearCongestion(node(1, 0, 0)));
+
+        layer.clear();
+        assertFalse(layer.nearCongestion(node(0, 5, 5)));
+        assertEquals(0, layer.congestedBlockCount());
+    }
+}
@@ -0,0 +1,142 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DStarLiteTest {
+
+    private static final double EPSILON = 1e-6;
+    private static final int MAX_STATES = 1_000_000;
+    private static final int MAX_EXPANSIONS = 1_000_000;
+
+    private final VenueGraph graph = TestGraphs.twoFloors();
+    private final GridSpec spec = graph.spec();
+    private final int start = graph.node(0, spec.cell(2, 2));
+    private final int goal = graph.node(0, spec.cell(37, 2));
+
+    @Test
+    void initialSearchMatchesDijkstra() {
+        DStarLite search = new DStarLite(graph, start, goal, node -> 1.0, MAX_STATES);
+
+        assertTrue(search.computeShortestPath(MAX_EXPANSIONS));
+        assertEquals(TestGraphs.dijkstra(graph, node -> 1.0, start, goal), search.costToGoal(), EPSILON);
+        assertPathCost(search, node -> 1.0);
+    }
+
+    @Test
+    void moveStartAccumulatesKeyModifier() {
+        DStarLite search = new DStarLite(graph, start, goal, node -> 1.0, MAX_STATES);
+        search.computeShortestPath(MAX_EXPANSIONS);
+
+        search.moveStart(start);
+        assertEquals(0.0, search.km(), 0.0);
+
+        int first = search.path()[5];
+        search.moveStart(first);
+        double expected = new LayeredAStar.Heuristic(graph, start).estimate(first);
+        assertEquals(expected, search.km(), EPSILON);
+
+        int second = graph.node(0, spec.cell(10, 20));
+        search.moveStart(second);
+        expected += new LayeredAStar.Heuristic(graph, first).estimate(second);
+        assertEquals(expected, search.km(), EPSILON);
+        assertEquals(second, search.start());
+
+        assertTrue(search.computeShortestPath(MAX_EXPANSIONS));
+        DStarLite fresh = new DStarLite(graph, second, goal, node -> 1.0, MAX_STATES);
+        fresh.computeShortestPath(MAX_EXPANSIONS);
+        assertEquals(fresh.costToGoal(), search.costToGoal(), EPSILON);
+        assertPathCost(search, node -> 1.0);
+    }
+
+    @Test
+    void regionChangedMatchesFreshSearch() {
+        CongestionLayer congestion = new CongestionLayer(spec, graph.layerCount(), 4, 8, 3.0, 0.25, 256);
+        DStarLite search = new DStarLite(graph, start, goal, congestion::multiplierOf, MAX_STATES);
+        search.computeShortestPath(MAX_EXPANSIONS);
+        int moved = search.path()[3];
+
+        // 사용자가 몇 칸 움직이는 사이 1층 벽 틈 주변이 붐비게 된다
+        long since = congestion.sequence();
+        congestion.setLevel(0, 12, 24, 22, 30, 1.0);
+        notifyChanged(search, congestion, since);
+        search.moveStart(moved);
+
+        assertTrue(search.computeShortestPath(MAX_EXPANSIONS));
+        assertMatchesFresh(search, congestion, moved);
+
+        // 혼잡이 풀린 변화도 같은 방식으로 반영된다
+        since = congestion.sequence();
+        congestion.clear();
+        notifyChanged(search, congestion, since);
+        assertTrue(search.computeShortestPath(MAX_EXPANSIONS));
+        assertMatchesFresh(search, congestion, moved);
+    }
+
+    @Test
+    void repeatedChangesStayConsistent() {
+        CongestionLayer congestion = new CongestionLayer(spec, graph.layerCount(), 4, 8, 3.0, 0.25, 256);
+        DStarLite search = new DStarLite(graph, start, goal, congestion::multiplierOf, MAX_STATES);
+        search.computeShortestPath(MAX_EXPANSIONS);
+
+        double[][] areas = {
+                {0, 0, 10, 10, 0.5}, {20, 0, 40, 30, 1.0}, {0, 20, 40, 30, 0.75}, {5, 5, 35, 25, 0.25}};
+        for (int i = 0; i < areas.length; i++) {
+            long since = congestion.sequence();
+            double[] area = areas[i];
+            congestion.setLevel(i % 2, area[0], area[1], area[2], area[3], area[4]);
+            if (i % 2 == 1) congestion.decay(0.5);
+            notifyChanged(search, congestion, since);
+
+            assertTrue(search.computeShortestPath(MAX_EXPANSIONS));
+            assertEquals(TestGraphs.dijkstra(graph, congestion::multiplierOf, start, goal), search.costToGoal(), EPSILON);
+            assertPathCost(search, congestion::multiplierOf);
+        }
+    }
+
+    private void notifyChanged(DStarLite search, CongestionLayer congestion, long since) {
+        for (int block : congestion.changedSince(since)) {
+            int[] bounds = congestion.cellBounds(block);
+            search.regionChanged(congestion.layerOfBlock(block), bounds[0], bounds[1], bounds[2], bounds[3]);
+        }
+    }
+
+    private void assertMatchesFresh(DStarLite search, CongestionLayer congestion, int from) {
+        DStarLite fresh = new DStarLite(graph, from, goal, congestion::multiplierOf, MAX_STATES);
+        fresh.computeShortestPath(MAX_EXPANSIONS);
+        assertEquals(fresh.costToGoal(), search.costToGoal(), EPSILON);
+        assertEquals(TestGraphs.dijkstra(graph, congestion::multiplierOf, from, goal), search.costToGoal(), EPSILON);
+        assertPathCost(search, congestion::multiplierOf);
+    }
+
+    /**
+     * path()가 출발점에서 도착점까지 이어지고, 간선 비용 합이 costToGoal과 같아야 한다.
+     */
+    private void assertPathCost(DStarLite search, DStarLite.CostModel cost) {
+        int[] path = search.path();
+        assertNotNull(path);
+        assertEquals(search.start(), path[0]);
+        assertEquals(goal, path[path.length - 1]);
+        double total = 0.0;
+        for (int i = 0; i + 1 < path.length; i++) {
+            total += stepCost(path[i], path[i + 1]) * 0.5 * (cost.multiplier(path[i]) + cost.multiplier(path[i + 1]));
+        }
+        assertEquals(search.costToGoal(), total, EPSILON);
+    }
+
+    private double stepCost(int from, int to) {
+        for (int e = graph.edgeBegin(from); e < graph.edgeEnd(from); e++) {
+            if (graph.edgeTarget(e) == to) return graph.edgeCost(e);
+        }
+        int a = graph.cellOfNode(from);
+        int b = graph.cellOfNode(to);
+        assertEquals(graph.layerOfNode(from), graph.layerOfNode(to));
+        int dx = Math.abs(spec.colOf(a) - spec.colOf(b));
+        int dy = Math.abs(spec.rowOf(a) - spec.rowOf(b));
+        assertTrue(dx <= 1 && dy <= 1 && dx + dy > 0, "path nodes must be grid neighbours");
+        return dx + dy == 2 ? spec.cellSize() * Math.sqrt(2.0) : spec.cellSize();
+    }
+}
@@ -0,0 +1,92 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistanceFieldTest {
+
+    private static final double QUANTUM = 0.05;
+
+    private final VenueGraph graph = TestGraphs.twoFloors();
+    private final GridSpec spec = graph.spec();
+    private final int west = graph.node(0, spec.cell(2, 2));
+    private final int east = graph.node(1, spec.cell(37, 27));
+
+    @Test
+    void multiSourceDistanceIsNearestSource() {
+        DistanceField field = DistanceField.compute(graph, new int[]{west, east}, QUANTUM);
+
+        for (int node = 0; node < graph.nodeCount(); node += 7) {
+            if (graph.isBlocked(node)) continue;
+            double expected = Math.min(TestGraphs.dijkstra(graph, n -> 1.0, west, node),
+                    TestGraphs.dijkstra(graph, n -> 1.0, east, node));
+            // 반올림 오차는 quantum의 절반까지
+            assertEquals(expected, field.distance(node), QUANTUM / 2 + 1e-9, "node " + node);
+        }
+        assertEquals(0.0, field.distance(west), 0.0);
+        assertEquals(0.0, field.distance(east), 0.0);
+    }
+
+    @Test
+    void descendEndsAtSourceWithDecreasingDistance() {
+        DistanceField field = DistanceField.compute(graph, new int[]{west, east}, QUANTUM);
+        int[] starts = {graph.node(0, spec.cell(30, 5)), graph.node(1, spec.cell(10, 20)), graph.node(0, spec.cell(20, 28))};
+
+        for (int start : starts) {
+            int[] path = field.descend(graph, start);
+            assertNotNull(path);
+            assertEquals(start, path[0]);
+            int last = path[path.length - 1];
+            assertTrue(last == west || last == east);
+            for (int i = 0; i + 1 < path.length; i++) {
+                assertTrue(field.distance(path[i + 1]) < field.distance(path[i]));
+            }
+        }
+    }
+
+    @Test
+    void blockedAndEnclosedNodesAreUnreachable() {
+        DistanceField field = DistanceField.compute(graph, new int[]{west}, QUANTUM);
+        int wall = graph.node(0, spec.cell(15, 5));
+
+        assertFalse(field.isReachable(wall));
+        assertEquals(Double.POSITIVE_INFINITY, field.distance(wall));
+        assertNull(field.descend(graph, wall));
+
+        VenueGraph walled = TestGraphs.walledFloor();
+        DistanceField room = DistanceField.compute(walled, new int[]{walled.node(0, walled.spec().cell(2, 2))}, QUANTUM);
+        int inside = walled.node(0, walled.spec().cell(25, 5));
+        assertFalse(room.isReachable(inside));
+        assertNull(room.descend(walled, inside));
+        assertTrue(room.isReachable(walled.node(0, walled.spec().cell(28, 5))));
+    }
+
+    @Test
+    void quantumGrowsToFitFarthestDistance() {
+        // 1e-4 단위로는 가장 먼 거리가 char 범위를 넘으므로 quantum이 커져야 한다
+        DistanceField field = DistanceField.compute(graph, new int[]{west}, 1e-4);
+        int far = graph.node(1, spec.cell(37, 27));
+
+        double expected = TestGraphs.dijkstra(graph, n -> 1.0, west, far);
+        assertTrue(expected / 1e-4 > Character.MAX_VALUE);
+        assertEquals(expected, field.distance(far), 0.01);
+    }
+
+    @Test
+    void interruptedComputationIsCancelled() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> DistanceField.compute(graph, new int[]{west}, QUANTUM));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import com.umc.connext.common.enums.FacilityType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EgressSimulationTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private final VenueGraph graph = TestGraphs.twoFloors();
+    private final GridSpec spec = graph.spec();
+    // 1층 왼쪽 벽면 가운데 출구
+    private final FacilityPoint exit = new FacilityPoint(10L, "exit", FacilityType.EXIT, 1, 0.5, 15.5, List.of());
+    private final ExitFlowField exits = ExitFlowField.build(graph, List.of(exit), 3, 0.05);
+
+    @Test
+    void exitFlowRateBoundsQueuedAgents() {
+        // 출구에서 정확히 10만큼 떨어진 같은 칸에 10명, 출구는 초당 2명
+        EgressSimulation.Settings settings = new EgressSimulation.Settings(1.0, 0.5, 600, 2.0, 1.0, 1.0);
+        List<EgressSimulation.Spawn> spawns = List.of(new EgressSimulation.Spawn("A", graph.node(0, spec.cell(10, 15)), 10, 0.0));
+
+        EgressSimulation.Result result = run(spawns, settings);
+
+        assertEquals(10, result.agents());
+        assertEquals(10, result.evacuated());
+        assertEquals(0, result.unreachable());
+        assertEquals(1, result.gates().size());
+
+        EgressSimulation.GateResult gate = result.gates().get(0);
+        assertEquals(exit, gate.facility());
+        assertTrue(gate.exit());
+        assertEquals(10, gate.passed());
+        // 10초에 모두 도착하고, 비어 있던 동안 쌓인 여력 1명 외에는 단계당 1명씩 나간다
+        assertTrue(gate.lastPassSeconds() >= 10.0 + 8 / 2.0 - EPSILON);
+        assertTrue(gate.lastPassSeconds() <= 10.0 + 10 / 2.0 + EPSILON);
+        assertTrue(gate.maxQueue() >= 8);
+        assertTrue(gate.maxWaitSeconds() > 0.0);
+
+        EgressSimulation.SectionResult section = result.sections().get(0);
+        assertEquals("A", section.section());
+        assertEquals(10, section.evacuated());
+        assertEquals(gate.lastPassSeconds(), section.maxSeconds(), 1e-3);
+        assertTrue(section.meanSeconds() <= section.p90Seconds() && section.p90Seconds() <= section.maxSeconds());
+    }
+
+    @Test
+    void upperFloorAgentsPassStairsGate() {
+        EgressSimulation.Settings settings = new EgressSimulation.Settings(1.2, 0.25, 600, 1.0, 0.5, 0.5);
+        List<EgressSimulation.Spawn> spawns = List.of(new EgressSimulation.Spawn("B", graph.node(1, spec.cell(5, 10)), 6, 0.0));
+
+        EgressSimulation.Result result = run(spawns, settings);
+
+        assertEquals(6, result.evacuated());
+        assertEquals(2, result.gates().size());
+        EgressSimulation.GateResult stairs = result.gates().get(0);
+        EgressSimulation.GateResult door = result.gates().get(1);
+        assertEquals("stairs-west", stairs.facility().name());
+        assertFalse(stairs.exit());
+        assertEquals(0.5, stairs.flowRate(), 0.0);
+        assertEquals(6, stairs.passed());
+        assertEquals(6, door.passed());
+        // 계단이 초당 0.5명으로 막으므로 출구에는 한 명씩 도착한다
+        assertTrue(door.lastPassSeconds() > stairs.lastPassSeconds());
+        assertTrue(stairs.lastPassSeconds() >= 5 / 0.5 - EPSILON);
+    }
+
+    @Test
+    void unreachableSpawnIsCountedSeparately() {
+        EgressSimulation.Settings settings = new EgressSimulation.Settings(1.0, 0.5, 600, 2.0, 1.0, 1.0);
+        List<EgressSimulation.Spawn> spawns = List.of(
+                new EgressSimulation.Spawn("A", graph.node(0, spec.cell(10, 15)), 3, 0.0),
+                // 벽 안쪽 셀
+                new EgressSimulation.Spawn("A", graph.node(0, spec.cell(15, 5)), 4, 0.0),
+                new EgressSimulation.Spawn("C", graph.node(0, spec.cell(16, 10)), 2, 0.0));
+
+        EgressSimulation.Result result = run(spawns, settings);
+
+        assertEquals(9, result.agents());
+        assertEquals(3, result.evacuated());
+        assertEquals(6, result.unreachable());
+        assertEquals(2, result.sections().size());
+        assertEquals(7, result.sections().get(0).agents());
+        assertEquals(4, result.sections().get(0).unreachable());
+        assertEquals(3, result.sections().get(0).evacuated());
+        assertEquals(2, result.sections().get(1).unreachable());
+        assertEquals(0, result.sections().get(1).evacuated());
+    }
+
+    @Test
+    void simulationStopsAtMaxSeconds() {
+        EgressSimulation.Settings settings = new EgressSimulation.Settings(1.0, 0.5, 5, 2.0, 1.0, 1.0);
+        List<EgressSimulation.Spawn> spawns = List.of(new EgressSimulation.Spawn("A", graph.node(0, spec.cell(10, 15)), 10, 0.0));
+
+        EgressSimulation.Result result = run(spawns, settings);
+
+        assertEquals(0, result.evacuated());
+        assertEquals(10, result.steps());
+        assertEquals(5.0, result.simulatedSeconds(), EPSILON);
+    }
+
+    private EgressSimulation.Result run(List<EgressSimulation.Spawn> spawns, EgressSimulation.Settings settings) {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            return EgressSimulation.run(graph, exits, spawns, settings, pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalGridTest {
+
+    private static final double EPSILON = 1e-6;
+    /**
+     * 추상 경로를 정제한 결과가 평면 최단 경로보다 길어도 되는 비율
+     */
+    private static final double MAX_RATIO = 1.25;
+
+    private static final int[][] PAIRS = {{2, 2, 20, 2}, {0, 0, 29, 19}, {1, 18, 28, 10}, {28, 5, 3, 12}, {4, 0, 16, 0}};
+
+    private final VenueGraph graph = TestGraphs.walledFloor();
+    private final WalkabilityGrid grid = graph.grid(0);
+    private final GridSpec spec = graph.spec();
+    private final HierarchicalGrid hierarchy = HierarchicalGrid.build(grid, 5);
+
+    @Test
+    void refinedPathIsConnectedGridPathNearOptimal() {
+        for (int[] pair : PAIRS) {
+            int start = spec.cell(pair[0], pair[1]);
+            int goal = spec.cell(pair[2], pair[3]);
+            assertTrue(hierarchy.isLongRoute(start, goal));
+
+            SearchResult result = hierarchy.search(start, goal, SearchBudget.expansions(100_000), false);
+
+            assertEquals(SearchResult.Status.FOUND, result.status());
+            int[] path = result.path();
+            assertEquals(start, path[0]);
+            assertEquals(goal, path[path.length - 1]);
+            for (int i = 0; i + 1 < path.length; i++) {
+                int dx = spec.colOf(path[i + 1]) - spec.colOf(path[i]);
+                int dy = spec.rowOf(path[i + 1]) - spec.rowOf(path[i]);
+                assertTrue(Math.abs(dx) <= 1 && Math.abs(dy) <= 1 && (dx != 0 || dy != 0), "cells must be neighbours");
+                assertTrue(grid.canStep(spec.colOf(path[i]), spec.rowOf(path[i]), dx, dy), "step must be walkable");
+            }
+            double optimal = TestGraphs.dijkstra(graph, node -> 1.0, start, goal);
+            double length = TestGraphs.length(spec, path);
+            assertTrue(length >= optimal - EPSILON);
+            assertTrue(length <= optimal * MAX_RATIO, "refined path is too long: " + length + " vs " + optimal);
+        }
+    }
+
+    @Test
+    void anyAngleRefinementKeepsLineOfSight() {
+        for (int[] pair : PAIRS) {
+            int start = spec.cell(pair[0], pair[1]);
+            int goal = spec.cell(pair[2], pair[3]);
+
+            SearchResult result = hierarchy.search(start, goal, SearchBudget.expansions(100_000), true);
+
+            assertEquals(SearchResult.Status.FOUND, result.status());
+            int[] path = result.path();
+            assertEquals(start, path[0]);
+            assertEquals(goal, path[path.length - 1]);
+            for (int i = 0; i + 1 < path.length; i++) {
+                assertTrue(grid.hasLineOfSight(spec.colOf(path[i]), spec.rowOf(path[i]),
+                        spec.colOf(path[i + 1]), spec.rowOf(path[i + 1])), "turning points must see each other");
+            }
+            // 평면 Lazy Theta* 결과와 비교해 일정 비율 안
+            double flat = TestGraphs.length(spec, LazyThetaStar.search(grid, start, goal, SearchBudget.expansions(100_000)).path());
+            assertTrue(TestGraphs.length(spec, path) <= flat * MAX_RATIO);
+        }
+    }
+
+    @Test
+    void enclosedGoalIsUnreachable() {
+        SearchResult result = hierarchy.search(spec.cell(2, 2), spec.cell(25, 5), SearchBudget.expansions(100_000), false);
+
+        assertEquals(SearchResult.Status.UNREACHABLE, result.status());
+    }
+
+    @Test
+    void budgetExhaustionReturnsPartialPathFromStart() {
+        int start = spec.cell(0, 0);
+        SearchResult result = hierarchy.search(start, spec.cell(29, 19), SearchBudget.expansions(20), false);
+
+        assertEquals(SearchResult.Status.BUDGET_EXHAUSTED, result.status());
+        assertEquals(start, result.path()[0]);
+    }
+
+    @Test
+    void nearbyClustersAreNotLongRoutes() {
+        assertFalse(hierarchy.isLongRoute(spec.cell(2, 2), spec.cell(7, 7)));
+        assertTrue(hierarchy.isLongRoute(spec.cell(2, 2), spec.cell(12, 2)));
+    }
+}
@@ -0,0 +1,135 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedMinHeapTest {
+
+    @Test
+    void pollReturnsNodesInKeyOrder() {
+        IndexedMinHeap heap = new IndexedMinHeap(8);
+        heap.insertOrDecrease(3, 5.0);
+        heap.insertOrDecrease(1, 2.0);
+        heap.insertOrDecrease(7, 9.0);
+        heap.insertOrDecrease(0, 1.0);
+
+        assertEquals(4, heap.size());
+        assertEquals(0, heap.peek());
+        assertEquals(1.0, heap.minKey(), 0.0);
+        assertEquals(List.of(0, 1, 3, 7), drain(heap));
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void insertOrDecreaseOnlyLowersKey() {
+        IndexedMinHeap heap = new IndexedMinHeap(4);
+        heap.insertOrDecrease(0, 3.0);
+        heap.insertOrDecrease(1, 4.0);
+
+        heap.insertOrDecrease(1, 10.0);
+        assertEquals(2, heap.size());
+        assertEquals(0, heap.peek());
+
+        heap.insertOrDecrease(1, 1.0);
+        assertEquals(1, heap.peek());
+        assertEquals(1.0, heap.minKey(), 0.0);
+    }
+
+    @Test
+    void updateMovesKeyInBothDirections() {
+        IndexedMinHeap heap = new IndexedMinHeap(4);
+        heap.insertOrDecrease(0, 1.0);
+        heap.insertOrDecrease(1, 2.0);
+        heap.insertOrDecrease(2, 3.0);
+
+        heap.update(0, 5.0);
+        assertEquals(1, heap.peek());
+        heap.update(2, 0.5);
+        assertEquals(2, heap.peek());
+        heap.update(3, 4.0);
+        assertEquals(List.of(2, 1, 3, 0), drain(heap));
+    }
+
+    @Test
+    void removeAndClearResetPositions() {
+        IndexedMinHeap heap = new IndexedMinHeap(4);
+        heap.insertOrDecrease(0, 1.0);
+        heap.insertOrDecrease(1, 2.0);
+        heap.insertOrDecrease(2, 3.0);
+
+        heap.remove(0);
+        heap.remove(0);
+        assertFalse(heap.contains(0));
+        assertEquals(1, heap.peek());
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(1));
+        assertFalse(heap.contains(2));
+
+        // 비운 뒤 같은 노드를 다시 넣을 수 있다
+        heap.insertOrDecrease(2, 7.0);
+        assertTrue(heap.contains(2));
+        assertEquals(List.of(2), drain(heap));
+    }
+
+    @Test
+    void ensureCapacityKeepsContents() {
+        IndexedMinHeap heap = new IndexedMinHeap(2);
+        heap.insertOrDecrease(1, 2.0);
+        heap.ensureCapacity(16);
+        heap.insertOrDecrease(15, 1.0);
+        heap.insertOrDecrease(8, 3.0);
+
+        assertFalse(heap.contains(9));
+        assertEquals(List.of(15, 1, 8), drain(heap));
+    }
+
+    @Test
+    void randomOperationsMatchSortedOrder() {
+        Random random = new Random(42);
+        int n = 200;
+        IndexedMinHeap heap = new IndexedMinHeap(n);
+        double[] keys = new double[n];
+        Arrays.fill(keys, Double.NaN);
+        for (int i = 0; i < 2000; i++) {
+            int node = random.nextInt(n);
+            double key = random.nextDouble() * 100;
+            if (random.nextInt(5) == 0) {
+                heap.remove(node);
+                keys[node] = Double.NaN;
+            } else {
+                heap.update(node, key);
+                keys[node] = key;
+            }
+        }
+
+        double previous = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        while (!heap.isEmpty()) {
+            double key = heap.minKey();
+            int node = heap.poll();
+            assertEquals(keys[node], key, 0.0);
+            assertTrue(key >= previous);
+            previous = key;
+            count++;
+        }
+        int expected = 0;
+        for (double key : keys) if (!Double.isNaN(key)) expected++;
+        assertEquals(expected, count);
+    }
+
+    private static List<Integer> drain(IndexedMinHeap heap) {
+        List<Integer> nodes = new ArrayList<>();
+        while (!heap.isEmpty()) nodes.add(heap.poll());
+        return nodes;
+    }
+}
@@ -0,0 +1,84 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyThetaStarTest {
+
+    private static final double EPSILON = 1e-6;
+
+    private final VenueGraph graph = TestGraphs.walledFloor();
+    private final WalkabilityGrid grid = graph.grid(0);
+    private final GridSpec spec = graph.spec();
+
+    @Test
+    void openLineOfSightGivesStraightSegment() {
+        int start = spec.cell(1, 18);
+        int goal = spec.cell(28, 10);
+
+        SearchResult result = LazyThetaStar.search(grid, start, goal, SearchBudget.expansions(10_000));
+
+        assertEquals(SearchResult.Status.FOUND, result.status());
+        assertArrayEquals(new int[]{start, goal}, result.path());
+    }
+
+    @Test
+    void turningPointsKeepLineOfSightAndBeatGridPath() {
+        int[][] pairs = {{2, 2, 20, 2}, {0, 0, 29, 19}, {28, 5, 20, 5}};
+        for (int[] pair : pairs) {
+            int start = spec.cell(pair[0], pair[1]);
+            int goal = spec.cell(pair[2], pair[3]);
+            SearchResult result = LazyThetaStar.search(grid, start, goal, SearchBudget.expansions(100_000));
+
+            assertEquals(SearchResult.Status.FOUND, result.status());
+            int[] path = result.path();
+            assertEquals(start, path[0]);
+            assertEquals(goal, path[path.length - 1]);
+            for (int i = 0; i + 1 < path.length; i++) {
+                assertTrue(grid.hasLineOfSight(spec.colOf(path[i]), spec.rowOf(path[i]),
+                        spec.colOf(path[i + 1]), spec.rowOf(path[i + 1])), "turning points must see each other");
+            }
+            // 8방향 격자 최단 경로보다 길지 않고, 직선 거리보다 짧지 않다
+            double length = TestGraphs.length(spec, path);
+            assertTrue(length <= TestGraphs.dijkstra(graph, node -> 1.0, start, goal) + EPSILON);
+            assertTrue(length >= TestGraphs.length(spec, new int[]{start, goal}) - EPSILON);
+        }
+    }
+
+    @Test
+    void pathAroundWallBendsAtGap() {
+        int start = spec.cell(2, 2);
+        int goal = spec.cell(20, 2);
+        SearchResult result = LazyThetaStar.search(grid, start, goal, SearchBudget.expansions(100_000));
+
+        assertEquals(SearchResult.Status.FOUND, result.status());
+        int[] path = result.path();
+        assertTrue(path.length >= 3);
+        for (int i = 1; i + 1 < path.length; i++) {
+            assertTrue(spec.rowOf(path[i]) >= 14, "turning points must sit around the gap above the wall");
+        }
+    }
+
+    @Test
+    void enclosedGoalIsUnreachable() {
+        SearchResult result = LazyThetaStar.search(grid, spec.cell(2, 2), spec.cell(25, 5), SearchBudget.expansions(100_000));
+
+        assertEquals(SearchResult.Status.UNREACHABLE, result.status());
+        assertNull(result.path());
+    }
+
+    @Test
+    void budgetExhaustionReturnsPartialPathFromStart() {
+        int start = spec.cell(2, 2);
+        SearchResult result = LazyThetaStar.search(grid, start, spec.cell(20, 2), SearchBudget.expansions(10));
+
+        assertEquals(SearchResult.Status.BUDGET_EXHAUSTED, result.status());
+        assertNotNull(result.path());
+        assertEquals(start, result.path()[0]);
+    }
+}
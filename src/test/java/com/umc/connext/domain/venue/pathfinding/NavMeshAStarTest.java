@@ -0,0 +1,144 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NavMeshAStarTest {
+
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * ㄴ자를 좌우로 뒤집은 통로: 가로 팔 [0, 8] × [0, 2], 모서리 [8, 10] × [0, 2], 세로 팔 [8, 10] × [2, 10].
+     * 사각형마다 삼각형 두 개로 나누며, T1은 시계 방향으로 넣어 방향 보정도 함께 확인한다.
+     */
+    private static NavMesh lCorridor() {
+        List<Coordinate[]> triangles = new ArrayList<>();
+        triangles.add(triangle(0, 0, 8, 0, 8, 2));     // T0
+        triangles.add(triangle(0, 0, 0, 2, 8, 2));     // T1 (시계 방향)
+        triangles.add(triangle(8, 0, 10, 0, 10, 2));   // T2
+        triangles.add(triangle(8, 0, 10, 2, 8, 2));    // T3
+        triangles.add(triangle(8, 2, 10, 2, 10, 10));  // T4
+        triangles.add(triangle(8, 2, 10, 10, 8, 10));  // T5
+        return NavMesh.fromTriangles(triangles);
+    }
+
+    private static Coordinate[] triangle(double ax, double ay, double bx, double by, double cx, double cy) {
+        return new Coordinate[]{new Coordinate(ax, ay), new Coordinate(bx, by), new Coordinate(cx, cy)};
+    }
+
+    @Test
+    void fromTrianglesSharesVerticesAndLinksEdges() {
+        NavMesh mesh = lCorridor();
+
+        assertEquals(6, mesh.triangleCount());
+        assertEquals(8, mesh.vertexCount());
+
+        int links = 0;
+        for (int t = 0; t < mesh.triangleCount(); t++) {
+            // 모든 삼각형은 반시계 방향으로 저장된다
+            int a = mesh.vertex(t, 0), b = mesh.vertex(t, 1), c = mesh.vertex(t, 2);
+            assertTrue(NavMesh.cross(mesh.vertexX(a), mesh.vertexY(a), mesh.vertexX(b), mesh.vertexY(b),
+                    mesh.vertexX(c), mesh.vertexY(c)) > 0);
+            for (int i = 0; i < 3; i++) {
+                int other = mesh.neighbor(t, i);
+                if (other < 0) continue;
+                links++;
+                assertTrue(neighborsOf(mesh, other).contains(t), "adjacency must be symmetric");
+            }
+        }
+        // 내부 변 5개 × 양쪽
+        assertEquals(10, links);
+
+        assertEquals(List.of(0), neighborsOf(mesh, 1));
+        assertEquals(List.of(3), neighborsOf(mesh, 2));
+        assertEquals(List.of(0, 2, 4), sorted(neighborsOf(mesh, 3)));
+        assertEquals(List.of(3, 5), sorted(neighborsOf(mesh, 4)));
+    }
+
+    @Test
+    void fromTrianglesDropsDegenerateTriangles() {
+        List<Coordinate[]> triangles = new ArrayList<>();
+        triangles.add(triangle(0, 0, 4, 0, 0, 4));
+        triangles.add(triangle(0, 0, 2, 0, 4, 0));
+        NavMesh mesh = NavMesh.fromTriangles(triangles);
+
+        assertEquals(1, mesh.triangleCount());
+        assertEquals(List.of(), neighborsOf(mesh, 0));
+    }
+
+    @Test
+    void funnelBendsAtInnerCorner() {
+        NavMesh mesh = lCorridor();
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate goal = new Coordinate(9, 9);
+
+        int[] corridor = NavMeshAStar.findCorridor(mesh, mesh.locate(1, 1), start, mesh.locate(9, 9), goal, SearchBudget.expansions(100));
+        assertArrayEquals(new int[]{1, 0, 3, 4, 5}, corridor);
+
+        List<Coordinate> path = NavMeshAStar.funnel(mesh, corridor, start, goal);
+        assertPath(path, 1, 1, 8, 2, 9, 9);
+        assertPath(NavMeshAStar.search(mesh, start, goal, SearchBudget.expansions(100)), 1, 1, 8, 2, 9, 9);
+    }
+
+    @Test
+    void funnelKeepsStraightLineOfSight() {
+        NavMesh mesh = lCorridor();
+
+        // 가로 팔 안에서는 여러 삼각형을 지나도 꺾이지 않는다
+        assertPath(NavMeshAStar.search(mesh, new Coordinate(0.5, 1.5), new Coordinate(9.5, 0.5), SearchBudget.expansions(100)),
+                0.5, 1.5, 9.5, 0.5);
+        // 같은 삼각형 안
+        assertPath(NavMeshAStar.search(mesh, new Coordinate(9, 4), new Coordinate(9.5, 3), SearchBudget.expansions(100)),
+                9, 4, 9.5, 3);
+    }
+
+    @Test
+    void funnelBendsAtBothCornersOfZigzag() {
+        // +x 방향으로 가는 통로: x = 2에서는 y ∈ [1, 3], x = 4에서는 y ∈ [-3, -1]만 열려 있다 (왼쪽 = +y)
+        double[] leftX = {0, 2, 4, 6};
+        double[] leftY = {0, 3, -1, 0};
+        double[] rightX = {0, 2, 4, 6};
+        double[] rightY = {0, 1, -3, 0};
+
+        List<Coordinate> path = NavMeshAStar.funnel(leftX, leftY, rightX, rightY);
+        assertPath(path, 0, 0, 2, 1, 4, -1, 6, 0);
+    }
+
+    @Test
+    void searchOutsideMeshReturnsNull() {
+        NavMesh mesh = lCorridor();
+
+        assertNull(NavMeshAStar.search(mesh, new Coordinate(1, 1), new Coordinate(5, 5), SearchBudget.expansions(100)));
+        assertEquals(-1, mesh.locate(5, 5));
+    }
+
+    private static void assertPath(List<Coordinate> path, double... xy) {
+        assertEquals(xy.length / 2, path.size(), "path " + path);
+        for (int i = 0; i < path.size(); i++) {
+            assertEquals(xy[i * 2], path.get(i).x, EPSILON);
+            assertEquals(xy[i * 2 + 1], path.get(i).y, EPSILON);
+        }
+    }
+
+    private static List<Integer> neighborsOf(NavMesh mesh, int t) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            if (mesh.neighbor(t, i) >= 0) result.add(mesh.neighbor(t, i));
+        }
+        return result;
+    }
+
+    private static List<Integer> sorted(List<Integer> values) {
+        List<Integer> copy = new ArrayList<>(values);
+        copy.sort(null);
+        return copy;
+    }
+}
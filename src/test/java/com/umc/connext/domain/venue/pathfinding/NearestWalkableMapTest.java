@@ -0,0 +1,82 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.umc.connext.domain.venue.pathfinding.TestGraphs.rectangle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearestWalkableMapTest {
+
+    private final GridSpec spec = new GridSpec(0, 0, 1.0, 37, 23);
+
+    @Test
+    void nearestCellMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            List<Geometry> obstacles = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                double x = random.nextInt(spec.cols());
+                double y = random.nextInt(spec.rows());
+                obstacles.add(rectangle(x, y, x + 1 + random.nextInt(10), y + 1 + random.nextInt(8)));
+            }
+            WalkabilityGrid grid = WalkabilityGrid.rasterize(spec, obstacles);
+            NearestWalkableMap map = NearestWalkableMap.build(grid);
+
+            for (int cell = 0; cell < spec.cellCount(); cell++) {
+                int nearest = map.nearestCell(cell);
+                long expected = bruteForceDistance(grid, cell);
+                if (expected == Long.MAX_VALUE) {
+                    assertEquals(-1, nearest);
+                    continue;
+                }
+                // 같은 거리의 셀이 여럿이면 어느 쪽이든 된다
+                assertFalse(grid.isBlocked(nearest));
+                assertEquals(expected, distance(cell, nearest), "cell " + cell + " in round " + round);
+                if (!grid.isBlocked(cell)) assertEquals(cell, nearest);
+            }
+        }
+    }
+
+    @Test
+    void fullyBlockedFloorHasNoNearestCell() {
+        NearestWalkableMap map = NearestWalkableMap.build(WalkabilityGrid.rasterize(spec, List.of(rectangle(0, 0, 37, 23))));
+
+        assertEquals(-1, map.nearestCell(0));
+        assertEquals(-1, map.nearestCell(10.5, 10.5, 100));
+    }
+
+    @Test
+    void coordinateLookupRespectsRadiusAndClampsOutsideGrid() {
+        // 왼쪽 열 0 ~ 9가 막혀 있다
+        WalkabilityGrid grid = WalkabilityGrid.rasterize(spec, List.of(rectangle(0, 0, 10, 23)));
+        NearestWalkableMap map = NearestWalkableMap.build(grid);
+
+        assertEquals(spec.cell(10, 5), map.nearestCell(4.5, 5.5, 6));
+        assertEquals(-1, map.nearestCell(4.5, 5.5, 5));
+        assertEquals(spec.cell(10, 5), map.nearestCell(-3.0, 5.5, 10));
+        assertFalse(map.isWalkableAt(4.5, 5.5));
+        assertTrue(map.isWalkableAt(10.5, 5.5));
+        assertFalse(map.isWalkableAt(-1.0, 5.5));
+    }
+
+    private long bruteForceDistance(WalkabilityGrid grid, int cell) {
+        long best = Long.MAX_VALUE;
+        for (int other = 0; other < spec.cellCount(); other++) {
+            if (!grid.isBlocked(other)) best = Math.min(best, distance(cell, other));
+        }
+        return best;
+    }
+
+    private long distance(int a, int b) {
+        long dc = spec.colOf(a) - spec.colOf(b);
+        long dr = spec.rowOf(a) - spec.rowOf(b);
+        return dc * dc + dr * dr;
+    }
+}
@@ -0,0 +1,39 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class SeatIndexTest {
+
+    private final NearestWalkableMap walkable =
+            NearestWalkableMap.build(WalkabilityGrid.rasterize(new GridSpec(0, 0, 1.0, 20, 20), List.of()));
+
+    @Test
+    void sameSeatOnTwoFloorsKeepsBoth() {
+        SeatIndex index = SeatIndex.build(List.of(
+                new SeatIndex.Seat("A", "12", 7, 1, 3.5, 3.5),
+                new SeatIndex.Seat("A구역", "12열", 7, 2, 15.5, 15.5)), List.of(), floor -> walkable);
+
+        assertEquals(2, index.seatCount());
+        int first = index.findSeat("a", "12", 7, 1);
+        int second = index.findSeat("A", "12", 7, 2);
+        assertEquals(1, index.seatFloor(first));
+        assertEquals(2, index.seatFloor(second));
+        assertNotEquals(first, second);
+
+        // 층이 없거나 맞지 않으면 층과 관계없이 찾는다
+        assertEquals(first, index.findSeat("A", "12", 7, null));
+        assertEquals(first, index.findSeat("A", "12", 7, 3));
+        assertEquals(SeatIndex.NONE, index.findSeat("A", "13", 7, 1));
+    }
+
+    @Test
+    void seatKeySeparatesFloorsAndIgnoresNotation() {
+        assertEquals(SeatIndex.seatKey(1, "A구역", "12열", 7), SeatIndex.seatKey(1, " a ", "12", 7));
+        assertNotEquals(SeatIndex.seatKey(1, "A", "12", 7), SeatIndex.seatKey(2, "A", "12", 7));
+    }
+}
@@ -0,0 +1,126 @@
+package com.umc.connext.domain.venue.pathfinding;
+
+import com.umc.connext.common.enums.FacilityType;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * 경로 탐색 단위 테스트용 작은 공연장 그래프와 기준 Dijkstra.
+ */
+final class TestGraphs {
+
+    static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+
+    private TestGraphs() {
+    }
+
+    /**
+     * 40 × 30 셀(셀 크기 1) 두 층.
+     * 1층에는 x = 15 ~ 17 위치에 위쪽 네 줄만 비운 벽이 있고, 2층은 비어 있다.
+     * 계단 두 개(왼쪽 아래, 오른쪽 위)가 두 층을 잇는다.
+     */
+    static VenueGraph twoFloors() {
+        GridSpec spec = new GridSpec(0, 0, 1.0, 40, 30);
+        SortedMap<Integer, List<Geometry>> obstacles = new TreeMap<>();
+        obstacles.put(1, List.of(rectangle(15, 0, 17, 26)));
+        obstacles.put(2, List.of());
+        List<FacilityPoint> facilities = List.of(
+                new FacilityPoint(1L, "stairs-west", FacilityType.STAIRS, 1, 5.5, 5.5, List.of(1, 2)),
+                new FacilityPoint(2L, "stairs-east", FacilityType.STAIRS, 1, 35.5, 25.5, List.of(1, 2)));
+        return graph(spec, obstacles, facilities);
+    }
+
+    /**
+     * 30 × 20 셀(셀 크기 1) 한 층.
+     * x = 10 ~ 12 위치에 위쪽 다섯 줄만 비운 벽이 있고, 셀 (24 ~ 26, 4 ~ 6)은 사방이 막힌 방이다.
+     */
+    static VenueGraph walledFloor() {
+        GridSpec spec = new GridSpec(0, 0, 1.0, 30, 20);
+        SortedMap<Integer, List<Geometry>> obstacles = new TreeMap<>();
+        obstacles.put(1, List.of(
+                rectangle(10, 0, 12, 15),
+                rectangle(23, 3, 28, 4), rectangle(23, 7, 28, 8),
+                rectangle(23, 4, 24, 7), rectangle(27, 4, 28, 7)));
+        return graph(spec, obstacles, List.of());
+    }
+
+    static VenueGraph graph(GridSpec spec, SortedMap<Integer, List<Geometry>> obstacles,
+                            Collection<FacilityPoint> facilities) {
+        SortedMap<Integer, FloorGeometry> floors = new TreeMap<>();
+        obstacles.forEach((floor, geometries) -> {
+            WalkabilityGrid grid = WalkabilityGrid.rasterize(spec, geometries);
+            floors.put(floor, new FloorGeometry(floor, grid, HierarchicalGrid.build(grid, 8), null));
+        });
+        return VenueGraph.build(spec, floors, facilities, 3);
+    }
+
+    static Geometry rectangle(double minX, double minY, double maxX, double maxY) {
+        return GEOMETRY_FACTORY.toGeometry(new Envelope(minX, maxX, minY, maxY));
+    }
+
+    /**
+     * 노드 비용 배수(간선 양 끝 배수의 평균을 곱한다)를 반영한 기준 Dijkstra 비용 (도달 불가면 +Infinity)
+     */
+    static double dijkstra(VenueGraph graph, IntToDoubleFunction multiplier, int source, int target) {
+        double[] distance = new double[graph.nodeCount()];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        PriorityQueue<double[]> open = new PriorityQueue<>(Comparator.comparingDouble(entry -> entry[0]));
+        distance[source] = 0.0;
+        open.add(new double[]{0.0, source});
+        GridSpec spec = graph.spec();
+        while (!open.isEmpty()) {
+            double[] top = open.poll();
+            int node = (int) top[1];
+            if (top[0] > distance[node]) continue;
+            if (node == target) return distance[node];
+            int cell = graph.cellOfNode(node);
+            int col = spec.colOf(cell);
+            int row = spec.rowOf(cell);
+            WalkabilityGrid grid = graph.grid(graph.layerOfNode(node));
+            List<double[]> steps = new ArrayList<>();
+            for (int d = 0; d < DX.length; d++) {
+                if (!grid.canStep(col, row, DX[d], DY[d])) continue;
+                double step = (DX[d] != 0 && DY[d] != 0) ? spec.cellSize() * Math.sqrt(2.0) : spec.cellSize();
+                steps.add(new double[]{node - cell + spec.cell(col + DX[d], row + DY[d]), step});
+            }
+            for (int e = graph.edgeBegin(node); e < graph.edgeEnd(node); e++) {
+                steps.add(new double[]{graph.edgeTarget(e), graph.edgeCost(e)});
+            }
+            for (double[] step : steps) {
+                int next = (int) step[0];
+                double tentative = distance[node] + step[1] * 0.5 * (multiplier.applyAsDouble(node) + multiplier.applyAsDouble(next));
+                if (tentative < distance[next]) {
+                    distance[next] = tentative;
+                    open.add(new double[]{tentative, next});
+                }
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * 셀 중심을 잇는 선분 길이의 합
+     */
+    static double length(GridSpec spec, int[] cells) {
+        double total = 0.0;
+        for (int i = 0; i + 1 < cells.length; i++) {
+            total += Math.hypot(spec.cellCenterX(cells[i]) - spec.cellCenterX(cells[i + 1]),
+                    spec.cellCenterY(cells[i]) - spec.cellCenterY(cells[i + 1]));
+        }
+        return total;
+    }
+}
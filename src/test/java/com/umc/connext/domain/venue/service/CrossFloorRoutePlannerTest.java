@@ -0,0 +1,212 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.enums.FacilityType;
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.FloorTransition;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.pathfinding.FacilityPoint;
+import com.umc.connext.domain.venue.pathfinding.FloorGeometry;
+import com.umc.connext.domain.venue.pathfinding.GridSpec;
+import com.umc.connext.domain.venue.pathfinding.HierarchicalGrid;
+import com.umc.connext.domain.venue.pathfinding.LazyThetaStar;
+import com.umc.connext.domain.venue.pathfinding.SearchBudget;
+import com.umc.connext.domain.venue.pathfinding.SearchResult;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import com.umc.connext.domain.venue.pathfinding.WalkabilityGrid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CrossFloorRoutePlannerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final GridSpec spec = new GridSpec(0, 0, 1.0, 40, 30);
+    private final VenueGraph graph = twoFloors(spec);
+    private final PathFindingProperties properties = new PathFindingProperties();
+    private CrossFloorRoutePlanner planner;
+
+    // 1층 왼쪽 아래에서 2층 왼쪽 아래로: 서쪽 계단이 훨씬 가깝다
+    private final Coordinate start = new Coordinate(3.5, 3.5);
+    private final Coordinate end = new Coordinate(8.5, 8.5);
+    private final int startNode = graph.node(graph.layerOf(1), spec.cellAt(start.x, start.y));
+    private final int endNode = graph.node(graph.layerOf(2), spec.cellAt(end.x, end.y));
+    private final int westCell = spec.cellAt(5.5, 5.5);
+
+    @AfterEach
+    void shutdown() {
+        if (planner != null) planner.shutdown();
+    }
+
+    @Test
+    void gridRouteUsesCheapestConnector() {
+        planner = planner(4, 64);
+
+        PathFindingResponse route = planner.planOnGrid(graph, startNode, start, endNode, end,
+                SearchBudget.of(100_000, 5_000), this::search);
+
+        assertNotNull(route);
+        assertTrue(route.isSuccess());
+        FloorTransition transition = route.getFloorTransitions().get(0);
+        assertEquals("stairs-west", transition.getStairsName());
+        assertEquals(1, transition.getFromFloor());
+        assertEquals(2, transition.getToFloor());
+        assertEquals(start.x, route.getCoordinates().get(0).getX().doubleValue(), 1e-9);
+        assertEquals(end.y, route.getCoordinates().get(route.getCoordinates().size() - 1).getY().doubleValue(), 1e-9);
+    }
+
+    @Test
+    void blockedConnectorFallsBackToNextCandidate() {
+        planner = planner(4, 64);
+
+        // 서쪽 계단으로 가는 구간이 막혀 있으면 동쪽 계단으로 돌아간다
+        PathFindingResponse route = planner.planOnGrid(graph, startNode, start, endNode, end,
+                SearchBudget.of(100_000, 5_000), (layer, from, to, budget) ->
+                        to == westCell || from == westCell ? SearchResult.unreachable() : search(layer, from, to, budget));
+
+        assertNotNull(route);
+        assertEquals("stairs-east", route.getFloorTransitions().get(0).getStairsName());
+    }
+
+    @Test
+    void candidatesBoundedByFinishedRouteAreCancelled() throws Exception {
+        planner = planner(4, 64);
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger interrupted = new AtomicInteger();
+
+        // 동쪽 계단 구간은 끝나지 않는다: 서쪽 후보가 완성되면 하한이 더 큰 동쪽 후보가 취소되어야 한다
+        PathFindingResponse route = planner.planOnGrid(graph, startNode, start, endNode, end,
+                SearchBudget.of(100_000, 10_000), (layer, from, to, budget) -> {
+                    if (to == westCell || from == westCell) return search(layer, from, to, budget);
+                    started.incrementAndGet();
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS * 2));
+                    } catch (InterruptedException e) {
+                        interrupted.incrementAndGet();
+                    }
+                    return SearchResult.unreachable();
+                });
+
+        assertNotNull(route);
+        assertEquals("stairs-west", route.getFloorTransitions().get(0).getStairsName());
+        // 시작 전에 취소된 구간은 아예 실행되지 않으므로, 시작한 구간이 모두 인터럽트되었는지만 본다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (interrupted.get() < started.get()) {
+            assertTrue(System.nanoTime() < deadline, "pruned legs were not interrupted");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void requestDeadlineCancelsPendingLegs() throws Exception {
+        planner = planner(4, 64);
+        CountDownLatch cancelled = new CountDownLatch(4);
+
+        long startedAt = System.nanoTime();
+        PathFindingResponse route = planner.planOnGrid(graph, startNode, start, endNode, end,
+                SearchBudget.of(100_000, 100), (layer, from, to, budget) -> blockUntilCancelled(cancelled));
+
+        assertNull(route);
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt) < TIMEOUT_SECONDS);
+        assertTrue(cancelled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "timed out legs were not interrupted");
+    }
+
+    @Test
+    void budgetWithoutDeadlineStillWaitsOnlyUpToMaxTimeBudget() throws Exception {
+        properties.getSearch().setMaxTimeBudgetMs(100);
+        planner = planner(4, 64);
+        CountDownLatch cancelled = new CountDownLatch(4);
+
+        // 시간 한도가 꺼진 요청이어도 설정의 최대 탐색 시간이 지나면 기다리지 않는다
+        long startedAt = System.nanoTime();
+        PathFindingResponse route = planner.planOnGrid(graph, startNode, start, endNode, end,
+                SearchBudget.expansions(100_000), (layer, from, to, budget) -> blockUntilCancelled(cancelled));
+
+        assertNull(route);
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt) < TIMEOUT_SECONDS);
+        assertTrue(cancelled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "timed out legs were not interrupted");
+    }
+
+    @Test
+    void fullQueueRunsLegsOnCallerThread() {
+        planner = planner(1, 1);
+        Thread caller = Thread.currentThread();
+        CountDownLatch callerRan = new CountDownLatch(1);
+        AtomicBoolean workerWaited = new AtomicBoolean();
+
+        // 스레드 하나와 대기열 하나가 차 있으면 나머지 구간은 요청 스레드가 직접 탐색한다
+        PathFindingResponse route = planner.planOnGrid(graph, startNode, start, endNode, end,
+                SearchBudget.of(100_000, 10_000), (layer, from, to, budget) -> {
+                    if (Thread.currentThread() == caller) {
+                        callerRan.countDown();
+                    } else {
+                        try {
+                            workerWaited.set(callerRan.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            return SearchResult.unreachable();
+                        }
+                    }
+                    return search(layer, from, to, budget);
+                });
+
+        assertEquals(0, callerRan.getCount());
+        assertTrue(workerWaited.get());
+        assertNotNull(route);
+        assertEquals("stairs-west", route.getFloorTransitions().get(0).getStairsName());
+    }
+
+    private CrossFloorRoutePlanner planner(int parallelism, int queueCapacity) {
+        properties.getCrossFloor().setParallelism(parallelism);
+        properties.getCrossFloor().setQueueCapacity(queueCapacity);
+        return new CrossFloorRoutePlanner(new RouteAssembler(), properties);
+    }
+
+    private SearchResult search(int layer, int from, int to, SearchBudget budget) {
+        return LazyThetaStar.search(graph.grid(layer), from, to, budget);
+    }
+
+    private static SearchResult blockUntilCancelled(CountDownLatch cancelled) {
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS * 2));
+        } catch (InterruptedException e) {
+            cancelled.countDown();
+        }
+        return SearchResult.unreachable();
+    }
+
+    /**
+     * 40 × 30 셀 두 층. 1층에는 x = 15 ~ 17 위치에 위쪽 네 줄만 비운 벽이 있고,
+     * 계단 두 개(왼쪽 아래, 오른쪽 위)가 두 층을 잇는다.
+     */
+    private static VenueGraph twoFloors(GridSpec spec) {
+        GeometryFactory factory = new GeometryFactory();
+        SortedMap<Integer, List<Geometry>> obstacles = new TreeMap<>();
+        obstacles.put(1, List.of(factory.toGeometry(new Envelope(15, 17, 0, 26))));
+        obstacles.put(2, List.of());
+        SortedMap<Integer, FloorGeometry> floors = new TreeMap<>();
+        obstacles.forEach((floor, geometries) -> {
+            WalkabilityGrid grid = WalkabilityGrid.rasterize(spec, geometries);
+            floors.put(floor, new FloorGeometry(floor, grid, HierarchicalGrid.build(grid, 8), null));
+        });
+        List<FacilityPoint> facilities = List.of(
+                new FacilityPoint(1L, "stairs-west", FacilityType.STAIRS, 1, 5.5, 5.5, List.of(1, 2)),
+                new FacilityPoint(2L, "stairs-east", FacilityType.STAIRS, 1, 35.5, 25.5, List.of(1, 2)));
+        return VenueGraph.build(spec, floors, facilities, 3);
+    }
+}
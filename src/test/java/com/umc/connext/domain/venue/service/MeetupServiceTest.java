@@ -0,0 +1,218 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.common.code.ErrorCode;
+import com.umc.connext.common.enums.FacilityType;
+import com.umc.connext.common.exception.GeneralException;
+import com.umc.connext.domain.concert.entity.ConcertDetail;
+import com.umc.connext.domain.concert.repository.ConcertDetailRepository;
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.Coordinate;
+import com.umc.connext.domain.venue.dto.MeetupRequest;
+import com.umc.connext.domain.venue.dto.MeetupResponse;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.enums.PathEngineType;
+import com.umc.connext.domain.venue.pathfinding.FacilityDistanceFields;
+import com.umc.connext.domain.venue.pathfinding.FacilityPoint;
+import com.umc.connext.domain.venue.pathfinding.FloorGeometry;
+import com.umc.connext.domain.venue.pathfinding.GridSpec;
+import com.umc.connext.domain.venue.pathfinding.HierarchicalGrid;
+import com.umc.connext.domain.venue.pathfinding.MeetupSearch;
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.pathfinding.VenueGraph;
+import com.umc.connext.domain.venue.pathfinding.WalkabilityGrid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class MeetupServiceTest {
+
+    private static final Long VENUE_ID = 1L;
+    private static final double EPSILON = VenueGeometrySnapshotService.DISTANCE_FIELD_QUANTUM;
+
+    private final GridSpec spec = new GridSpec(0, 0, 1.0, 30, 5);
+    private final PathFindingProperties properties = new PathFindingProperties();
+
+    @Mock
+    private VenueGeometrySnapshotService snapshotService;
+
+    @Mock
+    private ConcertDetailRepository concertDetailRepository;
+
+    private MeetupService meetupService;
+
+    @BeforeEach
+    void setUp() {
+        meetupService = new MeetupService(snapshotService, new RouteAssembler(), concertDetailRepository, properties);
+    }
+
+    @AfterEach
+    void shutdown() {
+        meetupService.shutdown();
+    }
+
+    @Test
+    void minMaxPointMeetsHalfwayBetweenFarthestMembers() {
+        given(snapshotService.get(VENUE_ID)).willReturn(snapshot(List.of()));
+
+        MeetupResponse response = meetupService.findMeetup(VENUE_ID, request(MeetupSearch.Objective.MIN_MAX, null));
+
+        // 양 끝 두 사람(x = 2.5, 26.5)의 가운데에서 만난다
+        assertEquals(14.5, response.getMeetingPoint().getX().doubleValue(), 1e-9);
+        assertEquals(2.5, response.getMeetingPoint().getY().doubleValue(), 1e-9);
+        assertEquals(1, response.getMeetingPoint().getFloor());
+        assertEquals(12.0, response.getMaxDistance().doubleValue(), EPSILON);
+        assertEquals(34.0, response.getTotalDistance().doubleValue(), EPSILON);
+        assertNull(response.getFacilityId());
+        assertNull(response.getFitsIntermission());
+
+        // 사람마다 만남 지점까지 이어지는 경로가 붙는다
+        for (MeetupResponse.Member member : response.getMembers()) {
+            PathFindingResponse route = member.getRoute();
+            assertTrue(route.isSuccess());
+            Coordinate last = route.getCoordinates().get(route.getCoordinates().size() - 1);
+            assertEquals(0, response.getMeetingPoint().getX().compareTo(last.getX()));
+            assertEquals(0, response.getMeetingPoint().getY().compareTo(last.getY()));
+        }
+    }
+
+    @Test
+    void minSumPointMeetsAtMedianMember() {
+        given(snapshotService.get(VENUE_ID)).willReturn(snapshot(List.of()));
+
+        MeetupResponse response = meetupService.findMeetup(VENUE_ID, request(MeetupSearch.Objective.MIN_SUM, null));
+
+        // 합 최소는 가운데 사람(x = 4.5) 자리: 합은 줄고 가장 먼 사람의 거리는 늘어난다
+        assertEquals(4.5, response.getMeetingPoint().getX().doubleValue(), 1e-9);
+        assertEquals(24.0, response.getTotalDistance().doubleValue(), EPSILON);
+        assertEquals(22.0, response.getMaxDistance().doubleValue(), EPSILON);
+        assertEquals(0.0, response.getMembers().get(1).getDistance().doubleValue(), EPSILON);
+    }
+
+    @Test
+    void facilityModePicksCandidateByObjective() {
+        List<FacilityPoint> stores = List.of(
+                new FacilityPoint(10L, "store-west", FacilityType.STORE, 1, 3.5, 4.5, List.of()),
+                new FacilityPoint(11L, "store-middle", FacilityType.STORE, 1, 14.5, 4.5, List.of()));
+        given(snapshotService.get(VENUE_ID)).willReturn(snapshot(stores));
+
+        MeetupResponse minMax = meetupService.findMeetup(VENUE_ID, request(MeetupSearch.Objective.MIN_MAX, FacilityType.STORE));
+        MeetupResponse minSum = meetupService.findMeetup(VENUE_ID, request(MeetupSearch.Objective.MIN_SUM, FacilityType.STORE));
+
+        // 가장 먼 사람 기준이면 가운데 판매대, 합 기준이면 두 사람이 모인 서쪽 판매대
+        assertEquals(11L, minMax.getFacilityId());
+        assertEquals("store-middle", minMax.getFacilityName());
+        assertEquals(FacilityType.STORE, minMax.getFacilityType());
+        assertEquals(10L, minSum.getFacilityId());
+        assertTrue(minMax.getMaxDistance().compareTo(minSum.getMaxDistance()) < 0);
+        assertTrue(minSum.getTotalDistance().compareTo(minMax.getTotalDistance()) < 0);
+    }
+
+    @Test
+    void membersInSeparatedRegionsHaveNoMeetingPoint() {
+        given(snapshotService.get(VENUE_ID))
+                .willReturn(snapshot(List.of(new GeometryFactory().toGeometry(new Envelope(14, 16, 0, 5))), List.of()));
+
+        GeneralException e = assertThrows(GeneralException.class,
+                () -> meetupService.findMeetup(VENUE_ID, request(MeetupSearch.Objective.MIN_MAX, null)));
+
+        assertEquals(ErrorCode.NOT_FOUND, e.getErrorCode());
+    }
+
+    @Test
+    void missingFacilityTypeIsNotFound() {
+        given(snapshotService.get(VENUE_ID)).willReturn(snapshot(List.of()));
+
+        GeneralException e = assertThrows(GeneralException.class,
+                () -> meetupService.findMeetup(VENUE_ID, request(MeetupSearch.Objective.MIN_MAX, FacilityType.STORE)));
+
+        assertEquals(ErrorCode.NOT_FOUND, e.getErrorCode());
+    }
+
+    @Test
+    void tooManyMembersIsRejected() {
+        properties.getMeetup().setMaxMembers(2);
+
+        GeneralException e = assertThrows(GeneralException.class,
+                () -> meetupService.findMeetup(VENUE_ID, request(MeetupSearch.Objective.MIN_MAX, null)));
+
+        assertEquals(ErrorCode.BAD_REQUEST, e.getErrorCode());
+    }
+
+    @Test
+    void intermissionFitIsJudgedByRoundTripOfFarthestMember() {
+        given(snapshotService.get(VENUE_ID)).willReturn(snapshot(List.of()));
+        ConcertDetail detail = mock(ConcertDetail.class);
+        given(detail.getIntermission()).willReturn(1);
+        given(concertDetailRepository.findById(5L)).willReturn(Optional.of(detail));
+
+        // 가장 먼 사람 12 → 왕복 24 / 1.2 = 20초, 1분 인터미션 안에 들어온다
+        MeetupResponse fits = meetupService.findMeetup(VENUE_ID, request(MeetupSearch.Objective.MIN_MAX, null, 5L));
+        assertEquals(1, fits.getIntermissionMinutes());
+        assertTrue(fits.getFitsIntermission());
+
+        // 보행 속도가 느리면 같은 거리도 들어오지 못한다
+        properties.getEgress().setWalkingSpeed(0.1);
+        MeetupResponse tooSlow = meetupService.findMeetup(VENUE_ID, request(MeetupSearch.Objective.MIN_MAX, null, 5L));
+        assertFalse(tooSlow.getFitsIntermission());
+    }
+
+    private MeetupRequest request(MeetupSearch.Objective objective, FacilityType facilityType) {
+        return request(objective, facilityType, null);
+    }
+
+    /**
+     * 한 줄(y = 2.5)에 선 세 사람: 서쪽 끝 두 명(x = 2.5, 4.5)과 동쪽 끝 한 명(x = 26.5)
+     */
+    private static MeetupRequest request(MeetupSearch.Objective objective, FacilityType facilityType, Long concertDetailId) {
+        List<Coordinate> members = new ArrayList<>();
+        for (double x : new double[]{2.5, 4.5, 26.5}) {
+            members.add(new Coordinate(BigDecimal.valueOf(x), BigDecimal.valueOf(2.5), 1));
+        }
+        return MeetupRequest.builder()
+                .members(members)
+                .objective(objective)
+                .facilityType(facilityType)
+                .concertDetailId(concertDetailId)
+                .build();
+    }
+
+    private VenueGeometrySnapshot snapshot(List<FacilityPoint> facilities) {
+        return snapshot(List.of(), facilities);
+    }
+
+    /**
+     * 30 × 5 셀 한 층짜리 공연장
+     */
+    private VenueGeometrySnapshot snapshot(List<Geometry> obstacles, List<FacilityPoint> facilities) {
+        WalkabilityGrid grid = WalkabilityGrid.rasterize(spec, obstacles);
+        SortedMap<Integer, FloorGeometry> floors = new TreeMap<>(Map.of(1, new FloorGeometry(1, grid, HierarchicalGrid.build(grid, 8), null)));
+        VenueGraph graph = VenueGraph.build(spec, floors, facilities, 3);
+        FacilityDistanceFields facilityFields = FacilityDistanceFields.build(graph, facilities, 3,
+                VenueGeometrySnapshotService.DISTANCE_FIELD_QUANTUM);
+        return new VenueGeometrySnapshot(VENUE_ID, 1L, PathEngineType.GRID, spec, floors, facilities,
+                graph, facilityFields, null, null, null);
+    }
+}
@@ -0,0 +1,167 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.enums.PathFailureReason;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathRouteCacheTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final PathRouteCache cache = new PathRouteCache(new PathFindingProperties());
+    private final PathRouteCache.RouteKey key = new PathRouteCache.RouteKey(1L, 1L, 1, 2, 3, 1, 20, 30);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalKeysComputeOnce() throws Exception {
+        BlockingLoader loader = new BlockingLoader(success());
+        Future<PathFindingResponse> first = executor.submit(() -> cache.getOrCompute(key, 1000, loader));
+        loader.awaitStarted();
+
+        Future<PathFindingResponse> second = executor.submit(() -> cache.getOrCompute(key, 1000, loader));
+        // 같은 한도의 두 번째 요청은 진행 중인 계산에 합류해 기다린다
+        awaitSharedLoads(1);
+        loader.release();
+
+        assertSame(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, loader.calls());
+        assertEquals(1, cache.stats().misses());
+
+        // 이후 요청은 캐시 적중
+        assertSame(first.get(), cache.getOrCompute(key, 1000, loader));
+        assertEquals(1, loader.calls());
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void largerBudgetDoesNotJoinSmallerFlight() throws Exception {
+        BlockingLoader shortRun = new BlockingLoader(PathFindingResponse.fail(PathFailureReason.TIME_BUDGET_EXCEEDED, "timeout"));
+        Future<PathFindingResponse> first = executor.submit(() -> cache.getOrCompute(key, 100, shortRun));
+        shortRun.awaitStarted();
+
+        // 한도가 더 긴 요청은 짧은 한도의 실패를 받지 않고 직접 계산한다
+        PathFindingResponse longRun = success();
+        AtomicInteger longCalls = new AtomicInteger();
+        PathFindingResponse result = cache.getOrCompute(key, 1000, () -> {
+            longCalls.incrementAndGet();
+            return longRun;
+        });
+        assertSame(longRun, result);
+        assertEquals(1, longCalls.get());
+        assertEquals(0, cache.stats().sharedLoads());
+
+        shortRun.release();
+        assertFalse(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).isSuccess());
+        // 짧은 한도의 실패는 캐시된 성공을 덮지 않는다
+        assertSame(longRun, cache.getOrCompute(key, 100, shortRun));
+        assertEquals(1, shortRun.calls());
+    }
+
+    @Test
+    void smallerBudgetJoinsLargerFlight() throws Exception {
+        BlockingLoader loader = new BlockingLoader(success());
+        Future<PathFindingResponse> first = executor.submit(() -> cache.getOrCompute(key, 1000, loader));
+        loader.awaitStarted();
+
+        Future<PathFindingResponse> second = executor.submit(() -> cache.getOrCompute(key, 100, loader));
+        awaitSharedLoads(1);
+        loader.release();
+
+        assertSame(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, loader.calls());
+    }
+
+    @Test
+    void failedAndPartialResponsesAreNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        PathFindingResponse failed = PathFindingResponse.fail(PathFailureReason.UNREACHABLE, "unreachable");
+        PathFindingResponse partial = PathFindingResponse.partial(PathFailureReason.TIME_BUDGET_EXCEEDED, "timeout", success());
+
+        assertSame(failed, cache.getOrCompute(key, 1000, counting(calls, failed)));
+        assertSame(failed, cache.getOrCompute(key, 1000, counting(calls, failed)));
+        assertSame(partial, cache.getOrCompute(key, 1000, counting(calls, partial)));
+
+        assertEquals(3, calls.get());
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().hits());
+    }
+
+    private void awaitSharedLoads(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (cache.stats().sharedLoads() < expected) {
+            assertTrue(System.nanoTime() < deadline, "second caller did not join the in-flight computation");
+            Thread.sleep(5);
+        }
+    }
+
+    private static Supplier<PathFindingResponse> counting(AtomicInteger calls, PathFindingResponse response) {
+        return () -> {
+            calls.incrementAndGet();
+            return response;
+        };
+    }
+
+    private static PathFindingResponse success() {
+        return PathFindingResponse.builder().success(true).build();
+    }
+
+    /**
+     * release() 전까지 계산을 붙잡아 두는 loader
+     */
+    private static final class BlockingLoader implements Supplier<PathFindingResponse> {
+
+        private final PathFindingResponse response;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private BlockingLoader(PathFindingResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public PathFindingResponse get() {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                if (!released.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) throw new IllegalStateException("not released");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return response;
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        int calls() {
+            return calls.get();
+        }
+    }
+}
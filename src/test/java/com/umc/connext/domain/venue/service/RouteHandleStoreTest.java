@@ -0,0 +1,43 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.config.PathFindingProperties;
+import com.umc.connext.domain.venue.dto.PathFindingResponse;
+import com.umc.connext.domain.venue.enums.PathFailureReason;
+import com.umc.connext.domain.venue.pathfinding.RoutePath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RouteHandleStoreTest {
+
+    private final RouteHandleStore store = new RouteHandleStore(new PathFindingProperties());
+
+    @Test
+    void sharedResponseGetsOwnRouteIdPerRegistration() {
+        PathFindingResponse cached = PathFindingResponse.success(
+                RoutePath.builder(2).add(0, 0, 1).add(3, 4, 1).build(), 1);
+
+        PathFindingResponse first = store.register(1L, cached);
+        PathFindingResponse second = store.register(1L, cached);
+
+        // 캐시에서 공유되는 원본은 그대로 두고 사본마다 다른 id를 붙인다
+        assertNull(cached.getRouteId());
+        assertNotNull(first.getRouteId());
+        assertNotEquals(first.getRouteId(), second.getRouteId());
+        assertSame(first, store.get(1L, first.getRouteId()));
+        assertSame(second, store.get(1L, second.getRouteId()));
+        assertSame(cached.getPath(), first.getPath());
+        assertNull(store.get(2L, first.getRouteId()));
+    }
+
+    @Test
+    void failedResponseIsNotRegistered() {
+        PathFindingResponse failed = PathFindingResponse.fail(PathFailureReason.UNREACHABLE, "unreachable");
+
+        assertSame(failed, store.register(1L, failed));
+        assertNull(failed.getRouteId());
+    }
+}
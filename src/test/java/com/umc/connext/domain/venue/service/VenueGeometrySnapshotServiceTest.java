@@ -0,0 +1,127 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.pathfinding.VenueGeometrySnapshot;
+import com.umc.connext.domain.venue.repository.VenueFacilityRepository;
+import com.umc.connext.domain.venue.repository.VenueRepository;
+import com.umc.connext.domain.venue.repository.VenueSeatRepository;
+import com.umc.connext.domain.venue.repository.VenueSectionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VenueGeometrySnapshotServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final Long SLOW_VENUE = 1L;
+    private static final Long OTHER_VENUE = 2L;
+
+    @Mock
+    private VenueRepository venueRepository;
+
+    @Mock
+    private VenueSectionRepository sectionRepository;
+
+    @Mock
+    private VenueFacilityRepository facilityRepository;
+
+    @Mock
+    private VenueSeatRepository seatRepository;
+
+    @Mock
+    private VenueSectionGeometryService sectionGeometryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private VenueGeometrySnapshotService snapshotService;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @BeforeEach
+    void blockFirstLoadOfSlowVenue() {
+        // 느린 공연장의 첫 적재만 release() 전까지 붙잡아 둔다
+        given(venueRepository.findById(anyLong())).willAnswer(invocation -> {
+            if (SLOW_VENUE.equals(invocation.getArgument(0)) && started.getCount() > 0) {
+                started.countDown();
+                assertTrue(released.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "load was not released");
+            }
+            return Optional.empty();
+        });
+    }
+
+    @AfterEach
+    void shutdown() {
+        released.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentGetsForSameVenueLoadOnce() throws Exception {
+        Future<VenueGeometrySnapshot> first = executor.submit(() -> snapshotService.get(SLOW_VENUE));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Future<VenueGeometrySnapshot> second = executor.submit(() -> snapshotService.get(SLOW_VENUE));
+
+        released.countDown();
+
+        assertSame(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertSame(first.get(), snapshotService.get(SLOW_VENUE));
+        verify(sectionRepository, times(1)).findAllByVenueId(SLOW_VENUE);
+    }
+
+    @Test
+    void slowLoadDoesNotBlockOtherVenues() throws Exception {
+        Future<VenueGeometrySnapshot> slow = executor.submit(() -> snapshotService.get(SLOW_VENUE));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // 다른 공연장은 느린 적재가 끝나기 전에 적재된다
+        Future<VenueGeometrySnapshot> other = executor.submit(() -> snapshotService.get(OTHER_VENUE));
+        assertEquals(OTHER_VENUE, other.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).venueId());
+        assertFalse(slow.isDone());
+
+        released.countDown();
+        assertEquals(SLOW_VENUE, slow.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).venueId());
+    }
+
+    @Test
+    void snapshotLoadedAcrossInvalidateIsNotPublished() throws Exception {
+        Future<VenueGeometrySnapshot> stale = executor.submit(() -> snapshotService.get(SLOW_VENUE));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        snapshotService.invalidate(SLOW_VENUE);
+        released.countDown();
+
+        // 적재 중에 무효화되었으므로 다음 요청은 새로 적재한다
+        VenueGeometrySnapshot staleSnapshot = stale.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        VenueGeometrySnapshot fresh = snapshotService.get(SLOW_VENUE);
+        assertNotSame(staleSnapshot, fresh);
+        assertTrue(fresh.version() > staleSnapshot.version());
+        assertSame(fresh, snapshotService.get(SLOW_VENUE));
+        verify(sectionRepository, times(2)).findAllByVenueId(SLOW_VENUE);
+    }
+}
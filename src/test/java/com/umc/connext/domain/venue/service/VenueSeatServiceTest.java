@@ -0,0 +1,68 @@
+package com.umc.connext.domain.venue.service;
+
+import com.umc.connext.domain.venue.dto.PathFindingAdminDTO;
+import com.umc.connext.domain.venue.entity.VenueSeat;
+import com.umc.connext.domain.venue.repository.VenueRepository;
+import com.umc.connext.domain.venue.repository.VenueSeatRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VenueSeatServiceTest {
+
+    private static final Long VENUE_ID = 1L;
+
+    @Mock
+    private VenueRepository venueRepository;
+
+    @Mock
+    private VenueSeatRepository seatRepository;
+
+    @Mock
+    private VenueGeometrySnapshotService snapshotService;
+
+    @InjectMocks
+    private VenueSeatService venueSeatService;
+
+    @Captor
+    private ArgumentCaptor<List<VenueSeat>> savedSeats;
+
+    @Test
+    void sameSeatOnTwoFloorsIsImportedTwice() {
+        given(venueRepository.existsById(VENUE_ID)).willReturn(true);
+        MockMultipartFile file = csv("""
+                floor,section,row,seat,x,y
+                1,A,12,7,10.0,20.0
+                2,A,12,7,10.0,60.0
+                2,A구역,12열,7,11.0,61.0
+                """);
+
+        PathFindingAdminDTO.SeatImportResult result = venueSeatService.importSeats(VENUE_ID, file);
+
+        // 층이 다르면 다른 좌석, 같은 층에서 표기만 다른 줄은 중복
+        assertEquals(2, result.imported());
+        assertEquals(1, result.duplicates());
+        assertEquals(0, result.invalidLines());
+        verify(seatRepository).saveAll(savedSeats.capture());
+        List<VenueSeat> seats = savedSeats.getValue();
+        assertEquals(List.of(1, 2), seats.stream().map(VenueSeat::getFloor).toList());
+        verify(snapshotService).invalidate(VENUE_ID);
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "seats.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
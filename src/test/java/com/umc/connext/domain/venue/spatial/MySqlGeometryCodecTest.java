@@ -0,0 +1,62 @@
+package com.umc.connext.domain.venue.spatial;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySqlGeometryCodecTest {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    @Test
+    void encodesSridPrefixFollowedByLittleEndianWkb() {
+        Polygon square = GEOMETRY_FACTORY.createPolygon(new Coordinate[]{
+                new Coordinate(0, 0), new Coordinate(10, 0), new Coordinate(10, 10),
+                new Coordinate(0, 10), new Coordinate(0, 0)});
+
+        byte[] value = MySqlGeometryCodec.encode(square);
+
+        ByteBuffer buffer = ByteBuffer.wrap(value).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(MySqlGeometryCodec.SRID, buffer.getInt(0));
+        // WKB: 바이트 순서 1(리틀 엔디언), 타입 3(Polygon), 링 1개, 점 5개, 첫 점 (0, 0)
+        assertEquals(1, value[4]);
+        assertEquals(3, buffer.getInt(5));
+        assertEquals(1, buffer.getInt(9));
+        assertEquals(5, buffer.getInt(13));
+        assertEquals(10.0, buffer.getDouble(17 + 16), 0.0);
+        assertEquals(4 + 1 + 4 + 4 + 4 + 5 * 16, value.length);
+    }
+
+    @Test
+    void roundTripKeepsPolygonWithHole() {
+        LinearRing shell = GEOMETRY_FACTORY.createLinearRing(new Coordinate[]{
+                new Coordinate(0, 0), new Coordinate(40.5, 0), new Coordinate(40.5, 30.25),
+                new Coordinate(0, 30.25), new Coordinate(0, 0)});
+        LinearRing hole = GEOMETRY_FACTORY.createLinearRing(new Coordinate[]{
+                new Coordinate(10, 10), new Coordinate(10, 20), new Coordinate(20, 20),
+                new Coordinate(20, 10), new Coordinate(10, 10)});
+        Polygon polygon = GEOMETRY_FACTORY.createPolygon(shell, new LinearRing[]{hole});
+
+        Geometry decoded = MySqlGeometryCodec.decode(MySqlGeometryCodec.encode(polygon));
+
+        assertTrue(decoded instanceof Polygon);
+        assertTrue(polygon.equalsExact(decoded));
+    }
+
+    @Test
+    void emptyOrCorruptValueDecodesToNull() {
+        assertNull(MySqlGeometryCodec.decode(null));
+        assertNull(MySqlGeometryCodec.decode(new byte[4]));
+        assertNull(MySqlGeometryCodec.decode(new byte[]{0, 0, 0, 0, 1, 3, 0, 0, 0}));
+    }
+}
@@ -0,0 +1,95 @@
+package com.umc.connext.domain.venue.spatial;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SectionGeometryCleanerTest {
+
+    private static final double EPSILON = 1e-6;
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    @Test
+    void selfIntersectingRingIsRepaired() {
+        // 위쪽 변에서 바늘처럼 튀어나왔다 되돌아오는 링
+        Polygon raw = polygon(0, 0, 10, 0, 10, 10, 5, 10, 5, 15, 5, 10, 0, 10, 0, 0);
+        assertFalse(raw.isValid());
+
+        SectionGeometryCleaner.Cleaned cleaned = SectionGeometryCleaner.clean(raw, 0.0, 1.0);
+
+        assertEquals(SectionGeometryCleaner.Outcome.REPAIRED, cleaned.outcome());
+        assertTrue(cleaned.polygon().isValid());
+        assertEquals(100.0, cleaned.polygon().getArea(), EPSILON);
+    }
+
+    @Test
+    void bowTieKeepsLargestPart() {
+        // 두 변이 (20/3, 8/3)에서 교차하는 나비 모양: 왼쪽 조각 80/3, 오른쪽 조각 20/3
+        Polygon raw = polygon(0, 0, 10, 4, 10, 0, 0, 8, 0, 0);
+        assertFalse(raw.isValid());
+
+        SectionGeometryCleaner.Cleaned cleaned = SectionGeometryCleaner.clean(raw, 0.0, 1.0);
+
+        assertEquals(SectionGeometryCleaner.Outcome.REPAIRED, cleaned.outcome());
+        assertTrue(cleaned.polygon().isValid());
+        assertEquals(80.0 / 3, cleaned.polygon().getArea(), EPSILON);
+        assertTrue(cleaned.polygon().getEnvelopeInternal().getMaxX() < 7.0);
+    }
+
+    @Test
+    void polygonBelowMinAreaIsDropped() {
+        SectionGeometryCleaner.Cleaned tiny = SectionGeometryCleaner.clean(polygon(0, 0, 0.5, 0, 0.5, 0.5, 0, 0.5, 0, 0), 0.0, 1.0);
+
+        assertEquals(SectionGeometryCleaner.Outcome.DROPPED, tiny.outcome());
+        assertNull(tiny.polygon());
+        assertEquals(5, tiny.verticesBefore());
+        assertEquals(0, tiny.verticesAfter());
+
+        // 한 줄로 겹쳐 면적이 없는 링은 고쳐도 남는 폴리곤이 없다
+        SectionGeometryCleaner.Cleaned flat = SectionGeometryCleaner.clean(polygon(0, 0, 10, 0, 5, 0, 0, 0), 0.0, 1.0);
+        assertEquals(SectionGeometryCleaner.Outcome.DROPPED, flat.outcome());
+    }
+
+    @Test
+    void validPolygonIsSimplifiedWithinTolerance() {
+        // 거의 일직선인 점이 섞인 사각형
+        Polygon raw = polygon(0, 0, 5, 0.1, 10, 0, 10.1, 5, 10, 10, 5, 9.9, 0, 10, 0.1, 5, 0, 0);
+
+        SectionGeometryCleaner.Cleaned unchanged = SectionGeometryCleaner.clean(raw, 0.0, 1.0);
+        assertEquals(SectionGeometryCleaner.Outcome.VALID, unchanged.outcome());
+        assertSame(raw, unchanged.polygon());
+
+        SectionGeometryCleaner.Cleaned simplified = SectionGeometryCleaner.clean(raw, 0.5, 1.0);
+        assertEquals(SectionGeometryCleaner.Outcome.VALID, simplified.outcome());
+        assertEquals(9, simplified.verticesBefore());
+        assertEquals(5, simplified.verticesAfter());
+        assertEquals(100.0, simplified.polygon().getArea(), EPSILON);
+    }
+
+    @Test
+    void statsCountOutcomes() {
+        SectionGeometryCleaner.Stats stats = new SectionGeometryCleaner.Stats();
+        stats.add(SectionGeometryCleaner.clean(polygon(0, 0, 10, 0, 10, 10, 0, 10, 0, 0), 0.0, 1.0));
+        stats.add(SectionGeometryCleaner.clean(polygon(0, 0, 10, 4, 10, 0, 0, 8, 0, 0), 0.0, 1.0));
+        stats.add(SectionGeometryCleaner.clean(polygon(0, 0, 0.5, 0, 0.5, 0.5, 0, 0), 0.0, 1.0));
+        stats.addUnparsable();
+
+        assertEquals(4, stats.sections());
+        assertEquals(1, stats.repaired());
+        assertEquals(2, stats.dropped());
+        assertEquals(14, stats.verticesBefore());
+    }
+
+    private static Polygon polygon(double... xy) {
+        Coordinate[] ring = new Coordinate[xy.length / 2];
+        for (int i = 0; i < ring.length; i++) ring[i] = new Coordinate(xy[2 * i], xy[2 * i + 1]);
+        return GEOMETRY_FACTORY.createPolygon(ring);
+    }
+}
@@ -0,0 +1,94 @@
+package com.umc.connext.domain.venue.spatial;
+
+import com.umc.connext.common.enums.SectionType;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VenueSpatialIndexTest {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    // 1층: 홀 전체 안에 좌석 블록, 좌석 블록 안에 더 작은 VIP 블록이 겹쳐 있다. 2층은 오른쪽 절반만 있다.
+    // 멀리 떨어진 별관은 1층과 3층에만 구역이 있다.
+    private final VenueSpatialIndex.Section hall = section(1L, "HALL", 1, SectionType.CORRIDOR, 0, 0, 100, 60);
+    private final VenueSpatialIndex.Section block = section(2L, "A", 1, SectionType.SEAT, 10, 10, 40, 40);
+    private final VenueSpatialIndex.Section vip = section(3L, "VIP", 1, SectionType.SEAT, 20, 20, 30, 30);
+    private final VenueSpatialIndex.Section balcony = section(4L, "B", 2, SectionType.SEAT, 50, 0, 100, 60);
+    private final VenueSpatialIndex.Section annex = section(5L, "ANNEX", 1, SectionType.CORRIDOR, 200, 0, 210, 20);
+    private final VenueSpatialIndex.Section annexUpper = section(6L, "C", 3, SectionType.SEAT, 200, 0, 220, 20);
+    private final VenueSpatialIndex index = VenueSpatialIndex.build(List.of(hall, balcony, block, annexUpper, vip, annex));
+
+    @Test
+    void overlappingSectionsAreOrderedBySmallestAreaFirst() {
+        assertEquals(List.of(vip, block, hall), index.sectionsAt(25, 25));
+        assertEquals(List.of(block, hall), index.sectionsAt(15, 15));
+        assertEquals(List.of(hall), index.sectionsAt(5, 5));
+        // 층을 가리지 않으면 다른 층의 더 작은 구역도 면적 순으로 섞인다
+        assertEquals(List.of(balcony, hall), index.sectionsAt(70, 30));
+        assertEquals(List.of(hall), index.sectionsAt(70, 30, 1));
+        assertTrue(index.sectionsAt(150, 30).isEmpty());
+    }
+
+    @Test
+    void boundaryPointBelongsToBothSections() {
+        assertEquals(List.of(vip, block, hall), index.sectionsAt(20, 20));
+    }
+
+    @Test
+    void resolveFloorKeepsRequestedFloorWhenCovered() {
+        assertEquals(1, index.resolveFloor(70, 30, 1));
+        assertEquals(2, index.resolveFloor(70, 30, 2));
+    }
+
+    @Test
+    void resolveFloorMovesToNearestCoveringFloor() {
+        // 2층에 없는 좌표는 포함하는 층(1층)으로
+        assertEquals(1, index.resolveFloor(25, 25, 2));
+        // 3층에서 요청했지만 1층과 2층 모두 포함: 더 가까운 2층
+        assertEquals(2, index.resolveFloor(70, 30, 3));
+        // 2층에서 요청했는데 1층과 3층이 같은 거리면 낮은 층
+        assertEquals(1, index.resolveFloor(205, 10, 2));
+        assertEquals(3, index.resolveFloor(215, 10, 1));
+        // 어느 층에도 없으면 요청 층 그대로
+        assertEquals(2, index.resolveFloor(150, 30, 2));
+    }
+
+    @Test
+    void floorsAndViewportQueries() {
+        assertEquals(Set.of(1, 2), index.floorsAt(70, 30));
+        assertEquals(List.of(1, 2, 3), List.copyOf(index.floors()));
+        assertTrue(index.isOnFloor(70, 30, 2));
+        assertFalse(index.isOnFloor(25, 25, 2));
+
+        List<VenueSpatialIndex.Section> viewport = index.sectionsIntersecting(new Envelope(35, 45, 35, 45), 1);
+        assertEquals(Set.of(hall, block), Set.copyOf(viewport));
+        assertEquals(Set.of(hall, block, balcony),
+                Set.copyOf(index.sectionsIntersecting(new Envelope(35, 55, 35, 45), null)));
+    }
+
+    @Test
+    void vertexArrayIsExteriorRingWithoutClosingPoint() {
+        assertArrayEquals(new double[]{20, 20, 20, 30, 30, 30, 30, 20}, index.vertexArray(3L));
+        assertSame(index.vertexArray(3L), index.vertexArray(3L));
+        assertNull(index.vertexArray(99L));
+    }
+
+    private static VenueSpatialIndex.Section section(Long id, String sectionId, int floor, SectionType type,
+                                                     double minX, double minY, double maxX, double maxY) {
+        Polygon polygon = (Polygon) GEOMETRY_FACTORY.toGeometry(new Envelope(minX, maxX, minY, maxY));
+        return new VenueSpatialIndex.Section(id, sectionId, floor, type,
+                (minX + maxX) / 2, (minY + maxY) / 2, polygon);
+    }
+}